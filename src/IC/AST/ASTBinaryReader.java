@@ -0,0 +1,308 @@
+package IC.AST;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.*;
+
+import IC.BinaryOps;
+import IC.DataTypes;
+import IC.LiteralTypes;
+import IC.UnaryOps;
+
+import static IC.AST.ASTBinaryWriter.*;
+
+/**
+ * ASTBinaryReader
+ * ===============
+ * reads a binary AST file (see ASTBinaryWriter for the format), and builds the program's AST
+ * - the file is memory-mapped
+ * - every name is created once (when the names table is read), so all the nodes with the same name share
+ *   the same String instance, as the lexer's names do
+ * - every node is built by its constructor, as by the parser, so its line is set as the parser sets it
+ */
+public class ASTBinaryReader {
+
+	private ByteBuffer buffer;
+	private int pos = 0;
+
+	private String[] names;
+
+	private static final DataTypes[] dataTypes = DataTypes.values();
+	private static final LiteralTypes[] literalTypes = LiteralTypes.values();
+	private static final BinaryOps[] binaryOps = BinaryOps.values();
+	private static final UnaryOps[] unaryOps = UnaryOps.values();
+
+	private ASTBinaryReader(ByteBuffer buffer){
+		this.buffer = buffer;
+	}
+
+	/**
+	 * reads the program from the given binary AST file
+	 * @param fileName
+	 * @return
+	 * @throws IOException if the file cannot be read or is not a binary AST file (of this format version)
+	 */
+	public static Program read(String fileName) throws IOException {
+		FileChannel channel = new FileInputStream(fileName).getChannel();
+		try {
+			// the mapping stays valid after the channel is closed
+			return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+		} finally {
+			channel.close();
+		}
+	}
+
+	/**
+	 * reads the program from the given binary AST encoding
+	 * @param buffer
+	 * @return
+	 * @throws IOException if the buffer does not hold a binary AST (of this format version)
+	 */
+	public static Program read(ByteBuffer buffer) throws IOException {
+		ASTBinaryReader reader = new ASTBinaryReader(buffer);
+		try {
+			reader.readHeader();
+			return reader.readProgram();
+		} catch (RuntimeException e){ // the buffer ends early, or holds a wrong index or tag
+			throw new IOException("broken binary AST: "+e);
+		}
+	}
+
+	/**
+	 * returns true iff the given file name has the binary AST extension (.icab)
+	 */
+	public static boolean isBinaryAST(String fileName){
+		return fileName.endsWith(".icab");
+	}
+
+	private void readHeader() throws IOException {
+		for (byte b: magic){
+			if (buffer.get(pos++) != b) throw new IOException("not a binary AST");
+		}
+		if (readVarint() != version) throw new IOException("binary AST of another format version");
+		names = new String[readCount()];
+		for (int i = 0; i < names.length; i++){
+			int length = readCount();
+			char[] chars = new char[length];
+			for (int j = 0; j < length; j++){
+				chars[j] = (char) (buffer.get(pos++) & 0xff);
+			}
+			names[i] = new String(chars);
+		}
+	}
+
+	private Program readProgram(){
+		int count = readCount();
+		List<ICClass> classes = new ArrayList<ICClass>(count);
+		for (int i = 0; i < count; i++){
+			classes.add(readClass());
+		}
+		return new Program(classes);
+	}
+
+	private ICClass readClass(){
+		int line = readVarint();
+		String name = readName();
+		int superClass = readVarint();
+		int count = readCount();
+		List<Field> fields = new ArrayList<Field>(count);
+		for (int i = 0; i < count; i++){
+			Type type = readType();
+			fields.add(new Field(type, readName()));
+		}
+		count = readCount();
+		List<Method> methods = new ArrayList<Method>(count);
+		for (int i = 0; i < count; i++){
+			methods.add(readMethod());
+		}
+		if (superClass == 0) return new ICClass(line, name, fields, methods);
+		return new ICClass(line, name, names[superClass-1], fields, methods);
+	}
+
+	private Method readMethod(){
+		int kind = readVarint();
+		Type type = readType();
+		String name = readName();
+		int count = readCount();
+		List<Formal> formals = new ArrayList<Formal>(count);
+		for (int i = 0; i < count; i++){
+			Type formalType = readType();
+			formals.add(new Formal(formalType, readName()));
+		}
+		switch (kind){
+		case VIRTUAL_METHOD: return new VirtualMethod(type, name, formals, readStatements());
+		case STATIC_METHOD: return new StaticMethod(type, name, formals, readStatements());
+		case LIBRARY_METHOD: return new LibraryMethod(type, name, formals);
+		default: throw new IllegalStateException("unknown method kind "+kind);
+		}
+	}
+
+	private Type readType(){
+		int kind = readVarint();
+		String name = kind == 0 ? readName() : null;
+		int dimension = readVarint();
+		int line = readVarint();
+		Type type = kind == 0 ? new UserType(line, name) : new PrimitiveType(line, dataTypes[kind-1]);
+		for (int i = 0; i < dimension; i++){
+			type.incrementDimension();
+		}
+		return type;
+	}
+
+	private List<Statement> readStatements(){
+		int count = readCount();
+		List<Statement> statements = new ArrayList<Statement>(count);
+		for (int i = 0; i < count; i++){
+			statements.add((Statement) readNode());
+		}
+		return statements;
+	}
+
+	private List<Expression> readArguments(){
+		int count = readCount();
+		List<Expression> arguments = new ArrayList<Expression>(count);
+		for (int i = 0; i < count; i++){
+			arguments.add((Expression) readNode());
+		}
+		return arguments;
+	}
+
+	private Expression readExpression(){
+		return (Expression) readNode();
+	}
+
+	private boolean readFlag(){
+		return readVarint() != 0;
+	}
+
+	/**
+	 * reads a statement or an expression
+	 */
+	private ASTNode readNode(){
+		int tag = readVarint();
+		switch (tag){
+		case ASSIGNMENT: {
+			Location variable = (Location) readNode();
+			return new Assignment(variable, readExpression());
+		}
+		case CALL_STATEMENT:
+			return new CallStatement((Call) readNode());
+		case RETURN: {
+			int line = readVarint();
+			return readFlag() ? new Return(line, readExpression()) : new Return(line);
+		}
+		case IF: {
+			Expression condition = readExpression();
+			Statement operation = (Statement) readNode();
+			return readFlag() ? new If(condition, operation, (Statement) readNode()) : new If(condition, operation);
+		}
+		case WHILE: {
+			Expression condition = readExpression();
+			return new While(condition, (Statement) readNode());
+		}
+		case BREAK:
+			return new Break(readVarint());
+		case CONTINUE:
+			return new Continue(readVarint());
+		case STATEMENTS_BLOCK: {
+			int line = readVarint();
+			return new StatementsBlock(line, readStatements());
+		}
+		case LOCAL_VARIABLE: {
+			Type type = readType();
+			String name = readName();
+			return readFlag() ? new LocalVariable(type, name, readExpression()) : new LocalVariable(type, name);
+		}
+		case VARIABLE_LOCATION: {
+			int line = readVarint();
+			String name = readName();
+			return readFlag() ? new VariableLocation(line, readExpression(), name) : new VariableLocation(line, name);
+		}
+		case ARRAY_LOCATION: {
+			Expression array = readExpression();
+			return new ArrayLocation(array, readExpression());
+		}
+		case STATIC_CALL: {
+			int line = readVarint();
+			String className = readName();
+			String name = readName();
+			return new StaticCall(line, className, name, readArguments());
+		}
+		case VIRTUAL_CALL: {
+			int line = readVarint();
+			String name = readName();
+			if (readFlag()){
+				Expression location = readExpression();
+				return new VirtualCall(line, location, name, readArguments());
+			}
+			return new VirtualCall(line, name, readArguments());
+		}
+		case THIS:
+			return new This(readVarint());
+		case NEW_CLASS: {
+			int line = readVarint();
+			return new NewClass(line, readName());
+		}
+		case NEW_ARRAY: {
+			Type type = readType();
+			return new NewArray(type, readExpression());
+		}
+		case LENGTH:
+			return new Length(readExpression());
+		case MATH_BINARY_OP:
+		case LOGICAL_BINARY_OP: {
+			BinaryOps operator = binaryOps[readVarint()];
+			Expression operand1 = readExpression();
+			Expression operand2 = readExpression();
+			if (tag == MATH_BINARY_OP) return new MathBinaryOp(operand1, operator, operand2);
+			return new LogicalBinaryOp(operand1, operator, operand2);
+		}
+		case MATH_UNARY_OP:
+			return new MathUnaryOp(unaryOps[readVarint()], readExpression());
+		case LOGICAL_UNARY_OP:
+			return new LogicalUnaryOp(unaryOps[readVarint()], readExpression());
+		case LITERAL: {
+			int line = readVarint();
+			LiteralTypes type = literalTypes[readVarint()];
+			if (type == LiteralTypes.INTEGER){
+				int value = readVarint();
+				return new Literal(line, type, Integer.valueOf((value >>> 1) ^ -(value & 1)));
+			} else if (type == LiteralTypes.STRING){
+				return new Literal(line, type, readName());
+			}
+			return new Literal(line, type);
+		}
+		case EXPRESSION_BLOCK:
+			return new ExpressionBlock(readExpression());
+		default:
+			throw new IllegalStateException("unknown node tag "+tag);
+		}
+	}
+
+	private String readName(){
+		return names[readVarint()];
+	}
+
+	/**
+	 * reads the number of elements of a list, names table or name
+	 * (every element takes at least a byte, so a count beyond the buffer's end is broken data)
+	 */
+	private int readCount(){
+		int count = readVarint();
+		if (count < 0 || count > buffer.limit()-pos) throw new IllegalStateException("count out of range "+count);
+		return count;
+	}
+
+	/**
+	 * reads an unsigned varint
+	 */
+	private int readVarint(){
+		int value = 0;
+		for (int shift = 0; ; shift += 7){
+			int b = buffer.get(pos++);
+			value |= (b & 0x7f) << shift;
+			if ((b & 0x80) == 0) return value;
+		}
+	}
+}
@@ -0,0 +1,394 @@
+package IC.AST;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.util.*;
+
+import IC.DataTypes;
+import IC.LiteralTypes;
+
+/**
+ * ASTBinaryWriter
+ * ===============
+ * writes a program's AST in the compact binary AST format (.icab), read by ASTBinaryReader
+ * all numbers are unsigned varints (7 bits per byte, low bits first, high bit set on all but the last byte,
+ * as in the binary LIR format), and all names are indices into the names table:
+ * - header: "ICAB", format version
+ * - names table: count, then length and ISO-8859-1 bytes of each name
+ *   (classes, fields, methods, formals and variables names, and string literals)
+ * - the program: classes count, then every class in preorder:
+ *   - class: line, name, super class name + 1 (0 for none), fields count, fields, methods count, methods
+ *   - field, formal: type, name
+ *   - method: kind (virtual / static / library method), return type, name, formals count, formals,
+ *     then (not for library methods) statements count and statements
+ *   - type: kind (0 for a class type, DataTypes ordinal+1 for a primitive type), class name (class types only),
+ *     dimension and line
+ *   - statements and expressions: node tag (see below), then the node's line if its constructor takes it
+ *     (the line of any other node is the line of its first child), then its attributes and children;
+ *     an optional child (else operation, returned value, init value, external location) is preceded by
+ *     a 0 / 1 flag
+ * - integer literals are zigzag encoded, string literals are names
+ * the writer is a visitor: each visit writes its node, and visits its children
+ */
+public class ASTBinaryWriter implements Visitor {
+
+	public static final byte[] magic = {'I', 'C', 'A', 'B'};
+	public static final int version = 1;
+
+	// methods kinds
+	static final int VIRTUAL_METHOD = 0, STATIC_METHOD = 1, LIBRARY_METHOD = 2;
+
+	// statements and expressions tags
+	static final int ASSIGNMENT = 0, CALL_STATEMENT = 1, RETURN = 2, IF = 3, WHILE = 4, BREAK = 5, CONTINUE = 6,
+		STATEMENTS_BLOCK = 7, LOCAL_VARIABLE = 8, VARIABLE_LOCATION = 9, ARRAY_LOCATION = 10, STATIC_CALL = 11,
+		VIRTUAL_CALL = 12, THIS = 13, NEW_CLASS = 14, NEW_ARRAY = 15, LENGTH = 16, MATH_BINARY_OP = 17,
+		LOGICAL_BINARY_OP = 18, MATH_UNARY_OP = 19, LOGICAL_UNARY_OP = 20, LITERAL = 21, EXPRESSION_BLOCK = 22;
+
+	private static final Charset latin1 = Charset.forName("ISO-8859-1");
+
+	// names table: name -> index
+	private Map<String,Integer> names = new LinkedHashMap<String,Integer>();
+
+	// the tree encoding
+	private ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+	private ASTBinaryWriter(){}
+
+	/**
+	 * writes the program to the given file
+	 * @param program
+	 * @param fileName
+	 * @throws IOException
+	 */
+	public static void write(Program program, String fileName) throws IOException {
+		OutputStream file = new BufferedOutputStream(new FileOutputStream(fileName));
+		try {
+			file.write(toByteArray(program));
+		} finally {
+			file.close();
+		}
+	}
+
+	/**
+	 * returns the binary AST encoding of the program
+	 * @param program
+	 * @return
+	 */
+	public static byte[] toByteArray(Program program){
+		ASTBinaryWriter writer = new ASTBinaryWriter();
+		// tree first, to collect the names
+		program.accept(writer);
+
+		ByteArrayOutputStream data = new ByteArrayOutputStream();
+		data.write(magic, 0, magic.length);
+		writeVarint(data, version);
+		writeVarint(data, writer.names.size());
+		for (String name: writer.names.keySet()){
+			byte[] bytes = name.getBytes(latin1);
+			writeVarint(data, bytes.length);
+			data.write(bytes, 0, bytes.length);
+		}
+		byte[] tree = writer.out.toByteArray();
+		data.write(tree, 0, tree.length);
+		return data.toByteArray();
+	}
+
+	public Object visit(Program program) {
+		writeVarint(out, program.getClasses().size());
+		for (ICClass c: program.getClasses()){
+			c.accept(this);
+		}
+		return null;
+	}
+
+	public Object visit(ICClass icClass) {
+		writeVarint(out, icClass.getLine());
+		writeName(icClass.getName());
+		if (icClass.hasSuperClass()){
+			writeVarint(out, nameIndex(icClass.getSuperClassName())+1);
+		} else {
+			writeVarint(out, 0);
+		}
+		writeVarint(out, icClass.getFields().size());
+		for (Field f: icClass.getFields()){
+			f.accept(this);
+		}
+		writeVarint(out, icClass.getMethods().size());
+		for (Method m: icClass.getMethods()){
+			m.accept(this);
+		}
+		return null;
+	}
+
+	public Object visit(Field field) {
+		field.getType().accept(this);
+		writeName(field.getName());
+		return null;
+	}
+
+	/**
+	 * writes the method's return type, name, formals and (unless it is a library method) statements
+	 */
+	private void writeMethod(Method method, int kind){
+		writeVarint(out, kind);
+		method.getType().accept(this);
+		writeName(method.getName());
+		writeVarint(out, method.getFormals().size());
+		for (Formal f: method.getFormals()){
+			f.accept(this);
+		}
+		if (kind != LIBRARY_METHOD) writeStatements(method.getStatements());
+	}
+
+	public Object visit(VirtualMethod method) {
+		writeMethod(method, VIRTUAL_METHOD);
+		return null;
+	}
+
+	public Object visit(StaticMethod method) {
+		writeMethod(method, STATIC_METHOD);
+		return null;
+	}
+
+	public Object visit(LibraryMethod method) {
+		writeMethod(method, LIBRARY_METHOD);
+		return null;
+	}
+
+	public Object visit(Formal formal) {
+		formal.getType().accept(this);
+		writeName(formal.getName());
+		return null;
+	}
+
+	public Object visit(PrimitiveType type) {
+		writeVarint(out, DataTypes.valueOf(type.getName().toUpperCase()).ordinal()+1);
+		writeVarint(out, type.getDimension());
+		writeVarint(out, type.getLine());
+		return null;
+	}
+
+	public Object visit(UserType type) {
+		writeVarint(out, 0);
+		writeName(type.getName());
+		writeVarint(out, type.getDimension());
+		writeVarint(out, type.getLine());
+		return null;
+	}
+
+	public Object visit(Assignment assignment) {
+		writeVarint(out, ASSIGNMENT);
+		assignment.getVariable().accept(this);
+		assignment.getAssignment().accept(this);
+		return null;
+	}
+
+	public Object visit(CallStatement callStatement) {
+		writeVarint(out, CALL_STATEMENT);
+		callStatement.getCall().accept(this);
+		return null;
+	}
+
+	public Object visit(Return returnStatement) {
+		writeVarint(out, RETURN);
+		writeVarint(out, returnStatement.getLine());
+		writeVarint(out, returnStatement.hasValue() ? 1 : 0);
+		if (returnStatement.hasValue()) returnStatement.getValue().accept(this);
+		return null;
+	}
+
+	public Object visit(If ifStatement) {
+		writeVarint(out, IF);
+		ifStatement.getCondition().accept(this);
+		ifStatement.getOperation().accept(this);
+		writeVarint(out, ifStatement.hasElse() ? 1 : 0);
+		if (ifStatement.hasElse()) ifStatement.getElseOperation().accept(this);
+		return null;
+	}
+
+	public Object visit(While whileStatement) {
+		writeVarint(out, WHILE);
+		whileStatement.getCondition().accept(this);
+		whileStatement.getOperation().accept(this);
+		return null;
+	}
+
+	public Object visit(Break breakStatement) {
+		writeVarint(out, BREAK);
+		writeVarint(out, breakStatement.getLine());
+		return null;
+	}
+
+	public Object visit(Continue continueStatement) {
+		writeVarint(out, CONTINUE);
+		writeVarint(out, continueStatement.getLine());
+		return null;
+	}
+
+	public Object visit(StatementsBlock statementsBlock) {
+		writeVarint(out, STATEMENTS_BLOCK);
+		writeVarint(out, statementsBlock.getLine());
+		writeStatements(statementsBlock.getStatements());
+		return null;
+	}
+
+	private void writeStatements(List<Statement> statements){
+		writeVarint(out, statements.size());
+		for (Statement s: statements){
+			s.accept(this);
+		}
+	}
+
+	public Object visit(LocalVariable localVariable) {
+		writeVarint(out, LOCAL_VARIABLE);
+		localVariable.getType().accept(this);
+		writeName(localVariable.getName());
+		writeVarint(out, localVariable.hasInitValue() ? 1 : 0);
+		if (localVariable.hasInitValue()) localVariable.getInitValue().accept(this);
+		return null;
+	}
+
+	public Object visit(VariableLocation location) {
+		writeVarint(out, VARIABLE_LOCATION);
+		writeVarint(out, location.getLine());
+		writeName(location.getName());
+		writeVarint(out, location.isExternal() ? 1 : 0);
+		if (location.isExternal()) location.getLocation().accept(this);
+		return null;
+	}
+
+	public Object visit(ArrayLocation location) {
+		writeVarint(out, ARRAY_LOCATION);
+		location.getArray().accept(this);
+		location.getIndex().accept(this);
+		return null;
+	}
+
+	private void writeArguments(Call call){
+		writeVarint(out, call.getArguments().size());
+		for (Expression e: call.getArguments()){
+			e.accept(this);
+		}
+	}
+
+	public Object visit(StaticCall call) {
+		writeVarint(out, STATIC_CALL);
+		writeVarint(out, call.getLine());
+		writeName(call.getClassName());
+		writeName(call.getName());
+		writeArguments(call);
+		return null;
+	}
+
+	public Object visit(VirtualCall call) {
+		writeVarint(out, VIRTUAL_CALL);
+		writeVarint(out, call.getLine());
+		writeName(call.getName());
+		writeVarint(out, call.isExternal() ? 1 : 0);
+		if (call.isExternal()) call.getLocation().accept(this);
+		writeArguments(call);
+		return null;
+	}
+
+	public Object visit(This thisExpression) {
+		writeVarint(out, THIS);
+		writeVarint(out, thisExpression.getLine());
+		return null;
+	}
+
+	public Object visit(NewClass newClass) {
+		writeVarint(out, NEW_CLASS);
+		writeVarint(out, newClass.getLine());
+		writeName(newClass.getName());
+		return null;
+	}
+
+	public Object visit(NewArray newArray) {
+		writeVarint(out, NEW_ARRAY);
+		newArray.getType().accept(this);
+		newArray.getSize().accept(this);
+		return null;
+	}
+
+	public Object visit(Length length) {
+		writeVarint(out, LENGTH);
+		length.getArray().accept(this);
+		return null;
+	}
+
+	private void writeBinaryOp(BinaryOp binaryOp, int tag){
+		writeVarint(out, tag);
+		writeVarint(out, binaryOp.getOperator().ordinal());
+		binaryOp.getFirstOperand().accept(this);
+		binaryOp.getSecondOperand().accept(this);
+	}
+
+	public Object visit(MathBinaryOp binaryOp) {
+		writeBinaryOp(binaryOp, MATH_BINARY_OP);
+		return null;
+	}
+
+	public Object visit(LogicalBinaryOp binaryOp) {
+		writeBinaryOp(binaryOp, LOGICAL_BINARY_OP);
+		return null;
+	}
+
+	private void writeUnaryOp(UnaryOp unaryOp, int tag){
+		writeVarint(out, tag);
+		writeVarint(out, unaryOp.getOperator().ordinal());
+		unaryOp.getOperand().accept(this);
+	}
+
+	public Object visit(MathUnaryOp unaryOp) {
+		writeUnaryOp(unaryOp, MATH_UNARY_OP);
+		return null;
+	}
+
+	public Object visit(LogicalUnaryOp unaryOp) {
+		writeUnaryOp(unaryOp, LOGICAL_UNARY_OP);
+		return null;
+	}
+
+	public Object visit(Literal literal) {
+		writeVarint(out, LITERAL);
+		writeVarint(out, literal.getLine());
+		writeVarint(out, literal.getType().ordinal());
+		if (literal.getType() == LiteralTypes.INTEGER){
+			int value = ((Number) literal.getValue()).intValue();
+			writeVarint(out, (value << 1) ^ (value >> 31));
+		} else if (literal.getType() == LiteralTypes.STRING){
+			writeName((String) literal.getValue());
+		}
+		return null;
+	}
+
+	public Object visit(ExpressionBlock expressionBlock) {
+		writeVarint(out, EXPRESSION_BLOCK);
+		expressionBlock.getExpression().accept(this);
+		return null;
+	}
+
+	private void writeName(String name){
+		writeVarint(out, nameIndex(name));
+	}
+
+	private int nameIndex(String name){
+		Integer index = names.get(name);
+		if (index == null){
+			index = names.size();
+			names.put(name, index);
+		}
+		return index;
+	}
+
+	/**
+	 * writes an unsigned varint
+	 */
+	private static void writeVarint(ByteArrayOutputStream out, int value){
+		while ((value & ~0x7f) != 0){
+			out.write((value & 0x7f) | 0x80);
+			value >>>= 7;
+		}
+		out.write(value);
+	}
+}
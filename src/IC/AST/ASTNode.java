@@ -26,6 +26,20 @@ public abstract class ASTNode {
 		this.requiredRegs = requiredRegs;
 	}
 
+	/**
+	 * will hold the side effects of evaluating the ASTNode
+	 * (a combination of the flags in RegCounterVisitor, e.g. reads heap / may fail)
+	 */
+	private int sideEffects;
+
+	public int getSideEffects() {
+		return sideEffects;
+	}
+
+	public void setSideEffects(int sideEffects) {
+		this.sideEffects = sideEffects;
+	}
+
 	/** reference to symbol table of enclosing scope **/
 	  private SymbolTable enclosingScope;
 	
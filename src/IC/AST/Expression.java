@@ -7,6 +7,19 @@ package IC.AST;
  */
 public abstract class Expression extends ASTNode {
 
+	/**
+	 * will hold the static type of the expression, recorded by the type checker (see DefTypeSemanticChecker)
+	 */
+	private IC.TypeTable.Type staticType;
+
+	public IC.TypeTable.Type getStaticType() {
+		return staticType;
+	}
+
+	public void setStaticType(IC.TypeTable.Type staticType) {
+		this.staticType = staticType;
+	}
+
 	/**
 	 * Constructs a new expression node. Used by subclasses.
 	 * 
@@ -18,6 +18,8 @@ public class ICClass extends ASTNode {
 
 	private List<Method> methods;
 
+	private String sourceFile = null;
+
 	public Object accept(Visitor visitor) {
 		return visitor.visit(this);
 	}
@@ -85,4 +87,16 @@ public class ICClass extends ASTNode {
 	public List<Method> getMethods() {
 		return methods;
 	}
+
+	/**
+	 * Returns the source file the class is declared in, set only for a program of
+	 * several source files (null otherwise).
+	 */
+	public String getSourceFile() {
+		return sourceFile;
+	}
+
+	public void setSourceFile(String sourceFile) {
+		this.sourceFile = sourceFile;
+	}
 }
@@ -0,0 +1,857 @@
+package IC.C;
+
+import java.util.*;
+
+import IC.BinaryOps;
+import IC.AST.*;
+import IC.LIR.ClassLayout;
+import IC.SymbolTable.*;
+import IC.Visitors.DefTypeSemanticChecker;
+
+/**
+ * Translates a type-checked IC program to C source, to be compiled by the system's C compiler
+ * and linked with the runtime of the native backend (IC/X86/X86Runtime)
+ *
+ * - every class gets a struct mirroring its ClassLayout (dispatch vector, then fields by offset)
+ * - every class gets a function pointer dispatch table mirroring ClassLayout.getDispatchTable()
+ * - methods become C functions over 8 byte words, virtual methods get "self" as first parameter
+ * - expressions are evaluated into temporaries, keeping IC's left to right evaluation order
+ * - the LIR's runtime checks are inlined, integer arithmetic wraps around at 32 bits as in the LIR
+ */
+public class CTranslator implements Visitor {
+
+	private String ICFilePath;
+	private GlobalSymbolTable global;
+
+	/**
+	 * constructor
+	 * @param ICFilePath: the path + name of the IC file being compiled
+	 * @param global
+	 */
+	public CTranslator(String ICFilePath, GlobalSymbolTable global){
+		this.ICFilePath = ICFilePath;
+		this.global = global;
+	}
+
+	// types, runtime declarations and inlined runtime checks
+	private static final String prelude =
+		"#include <stdio.h>\n" +
+		"#include <stdlib.h>\n" +
+		"#include <stdint.h>\n\n" +
+		"typedef long word;\n\n" +
+		"typedef struct {\n" +
+		"\tword length;\n" +
+		"\tchar chars[];\n" +
+		"} ic_string;\n\n" +
+		"typedef void (*ic_method)(void);\n\n" +
+		"/* runtime */\n" +
+		"void *__allocateObject(word lirBytes);\n" +
+		"word *__allocateArray(word lirBytes);\n" +
+		"ic_string *__stringCat(ic_string *a, ic_string *b);\n\n" +
+		"/* runtime checks */\n" +
+		"static void ic_error(const char *message) {\n" +
+		"\tputs(message);\n" +
+		"\texit(1);\n" +
+		"}\n\n" +
+		"static inline void ic_check_null(word a) {\n" +
+		"\tif (a == 0) ic_error(\"Runtime Error: Null pointer dereference!\");\n" +
+		"}\n\n" +
+		"static inline void ic_check_array_access(word a, word i) {\n" +
+		"\tif (i < 0 || i >= ((word *) a)[-1]) ic_error(\"Runtime Error: Array index out of bounds!\");\n" +
+		"}\n\n" +
+		"static inline word ic_check_size(word n) {\n" +
+		"\tif (n < 0) ic_error(\"Runtime Error: Array allocation with negative array size!\");\n" +
+		"\treturn n;\n" +
+		"}\n\n" +
+		"static inline word ic_check_zero(word b) {\n" +
+		"\tif (b == 0) ic_error(\"Runtime Error: Division by zero!\");\n" +
+		"\treturn b;\n" +
+		"}\n\n" +
+		"/* 32 bit integer arithmetic */\n" +
+		"static inline word ic_add(word a, word b) { return (int32_t) ((uint32_t) a + (uint32_t) b); }\n" +
+		"static inline word ic_sub(word a, word b) { return (int32_t) ((uint32_t) a - (uint32_t) b); }\n" +
+		"static inline word ic_mul(word a, word b) { return (int32_t) ((uint32_t) a * (uint32_t) b); }\n" +
+		"static inline word ic_neg(word a) { return (int32_t) (0u - (uint32_t) a); }\n" +
+		"static inline word ic_div(word a, word b) { return b == -1 ? ic_neg(a) : (int32_t) a / (int32_t) b; }\n" +
+		"static inline word ic_mod(word a, word b) { return b == -1 ? 0 : (int32_t) a % (int32_t) b; }\n\n";
+
+	// class layouts, in declaration order
+	private Map<String,ClassLayout> classLayouts = new LinkedHashMap<String,ClassLayout>();
+	// the Library class, if given
+	private ICClass libraryClass = null;
+	// string literals, each literal is mapped to the format 'ic_str<i>'
+	private Map<String,String> stringLiterals = new LinkedHashMap<String,String>();
+	// functions prototypes
+	private List<String> prototypes = new ArrayList<String>();
+
+	// current class
+	private String currClassName = "";
+	// current method's body, its local variables and temporaries counter
+	private StringBuffer code;
+	private Set<String> locals;
+	private int tempCounter;
+	// indentation depth inside the current method
+	private int depth;
+	// true iff the location being visited is assigned to
+	private boolean isAssignedLocation = false;
+	// true iff the call being visited is a call statement
+	private boolean isCallStatement = false;
+
+	/**
+	 * Program visitor:
+	 * - creates the class layouts
+	 * - translates all classes
+	 * - returns the C source: prelude, structs, string literals, prototypes,
+	 *   dispatch tables, functions and the entry point called by the runtime
+	 */
+	public Object visit(Program program){
+		for (ICClass c: program.getClasses()){
+			if (c.getName().equals("Library")){
+				libraryClass = c;
+				continue;
+			}
+			// super-class layout is created before its subclasses
+			ClassLayout classLayout = c.hasSuperClass() ?
+					new ClassLayout(c, classLayouts.get(c.getSuperClassName())) : new ClassLayout(c);
+			classLayouts.put(c.getName(), classLayout);
+		}
+
+		// translate all classes
+		StringBuffer functions = new StringBuffer();
+		for (ICClass c: program.getClasses()){
+			if (c != libraryClass) functions.append(c.accept(this));
+		}
+
+		StringBuffer output = new StringBuffer();
+		output.append("/* C translation of "+ICFilePath+" */\n");
+		output.append(prelude);
+
+		// (1) library methods, implemented by the runtime
+		if (libraryClass != null){
+			output.append("/* Library class */\n");
+			for (Method m: libraryClass.getMethods()){
+				output.append(getLibraryPrototype(m)+";\n");
+			}
+			output.append("\n");
+		}
+
+		// (2) class layouts
+		output.append("/* class layouts */\n");
+		for (ClassLayout classLayout: classLayouts.values()){
+			output.append(getStruct(classLayout)+"\n");
+		}
+
+		// (3) string literals
+		output.append("/* string literals */\n");
+		for (String strLiteral: stringLiterals.keySet()){
+			output.append("static struct { word length; char chars["+(strLiteral.length()+1)+"]; } ");
+			output.append(stringLiterals.get(strLiteral)+" = { "+strLiteral.length()+", "+
+					getCStringLiteral(strLiteral)+" };\n");
+		}
+		output.append("\n");
+
+		// (4) methods prototypes
+		output.append("/* methods */\n");
+		for (String prototype: prototypes){
+			output.append(prototype+";\n");
+		}
+		output.append("\n");
+
+		// (5) class dispatch tables
+		output.append("/* class dispatch tables */\n");
+		for (ClassLayout classLayout: classLayouts.values()){
+			output.append(getDispatchTable(classLayout)+"\n");
+		}
+		output.append("\n");
+
+		// (6) methods
+		output.append(functions);
+
+		// (7) entry point
+		output.append("void __ic_start(word *args) {\n");
+		output.append("\tic_main((word) args);\n");
+		output.append("}\n");
+
+		return output.toString();
+	}
+
+	/**
+	 * ICClass visitor:
+	 * - translates all methods of the class
+	 * - returns the functions definitions
+	 */
+	public Object visit(ICClass icClass){
+		currClassName = icClass.getName();
+
+		StringBuffer output = new StringBuffer();
+		for (Method m: icClass.getMethods()){
+			output.append(m.accept(this));
+		}
+
+		return output.toString();
+	}
+
+	/**
+	 * Field visitor: never called
+	 */
+	public Object visit(Field field){
+		return "";
+	}
+
+	/**
+	 * VirtualMethod visitor:
+	 * see methodVisitHelper documentation
+	 */
+	public Object visit(VirtualMethod method){
+		return methodVisitHelper(method, false);
+	}
+
+	/**
+	 * StaticMethod visitor:
+	 * see methodVisitHelper documentation
+	 */
+	public Object visit(StaticMethod method){
+		// check if this method is the program's main method
+		boolean isMain = method.getName().equals("main") &&
+						 method.getType().getName().equals("void") &&
+						 method.getFormals().size() == 1 &&
+						 method.getFormals().get(0).getType().getFullName().equals("string[]");
+		return methodVisitHelper(method, isMain);
+	}
+
+	/**
+	 * Virtual / Static method visitor helper
+	 * - translates the method's statements
+	 * - declares the method's local variables (initialized to 0) at the beginning of the function,
+	 *   as the LIR keeps a single variable per name and depth for the whole method
+	 * - adds the function's prototype and returns its definition
+	 * @param method
+	 * @param isMain
+	 * @return
+	 */
+	private String methodVisitHelper(Method method, boolean isMain){
+		String header = "word "+getFunctionName(method, isMain)+"(";
+		if (!method.isStatic()) header += "word self, ";
+		for (Formal f: method.getFormals()){
+			header += "word v_"+f.getNameDepth()+", ";
+		}
+		if (header.endsWith(", ")) header = header.substring(0, header.length()-2);
+		else header += "void";
+		header += ")";
+		prototypes.add(header);
+
+		// translate the method's statements
+		code = new StringBuffer();
+		locals = new LinkedHashSet<String>();
+		tempCounter = 0;
+		depth = 1;
+		for (Statement s: method.getStatements()){
+			s.accept(this);
+		}
+		emit("return 0;");
+
+		StringBuffer output = new StringBuffer(header+" {\n");
+		for (String local: locals){
+			output.append("\tword "+local+" = 0;\n");
+		}
+		output.append(code);
+		output.append("}\n\n");
+
+		return output.toString();
+	}
+
+	/**
+	 * LibraryMethod visitor: never called, library methods are implemented by the runtime
+	 */
+	public Object visit(LibraryMethod method){
+		return "";
+	}
+
+	/**
+	 * Formal visitor: never called
+	 */
+	public Object visit(Formal formal){
+		return "";
+	}
+
+	/**
+	 * PrimitiveType visitor: never called
+	 */
+	public Object visit(PrimitiveType type){
+		return "";
+	}
+
+	/**
+	 * UserType visitor: never called
+	 */
+	public Object visit(UserType type){
+		return "";
+	}
+
+	/**
+	 * Assignment visitor:
+	 * - translates the assigned value, then the variable (as the LIR does)
+	 * - emits the assignment
+	 */
+	public Object visit(Assignment assignment){
+		String value = translate(assignment.getAssignment());
+		isAssignedLocation = true;
+		String variable = translate(assignment.getVariable());
+		emit(variable+" = "+value+";");
+		return null;
+	}
+
+	/**
+	 * CallStatement visitor:
+	 * - translates the call, discarding its value
+	 */
+	public Object visit(CallStatement callStatement){
+		isCallStatement = true;
+		callStatement.getCall().accept(this);
+		return null;
+	}
+
+	/**
+	 * Return visitor:
+	 * - translates the returned value and emits the return statement
+	 */
+	public Object visit(Return returnStatement){
+		String value = returnStatement.hasValue() ? translate(returnStatement.getValue()) : "0";
+		emit("return "+value+";");
+		return null;
+	}
+
+	/**
+	 * If visitor:
+	 * - translates the condition, then the then / else statements in blocks
+	 */
+	public Object visit(If ifStatement){
+		String condition = translate(ifStatement.getCondition());
+		emit("if ("+condition+") {");
+		translateBlock(ifStatement.getOperation());
+		if (ifStatement.hasElse()){
+			emit("} else {");
+			translateBlock(ifStatement.getElseOperation());
+		}
+		emit("}");
+		return null;
+	}
+
+	/**
+	 * While visitor:
+	 * - the condition is translated inside the loop, so "continue" evaluates it again
+	 */
+	public Object visit(While whileStatement){
+		emit("while (1) {");
+		depth++;
+		String condition = translate(whileStatement.getCondition());
+		emit("if (!"+condition+") break;");
+		depth--;
+		translateBlock(whileStatement.getOperation());
+		emit("}");
+		return null;
+	}
+
+	/**
+	 * Break visitor
+	 */
+	public Object visit(Break breakStatement){
+		emit("break;");
+		return null;
+	}
+
+	/**
+	 * Continue visitor
+	 */
+	public Object visit(Continue continueStatement){
+		emit("continue;");
+		return null;
+	}
+
+	/**
+	 * StatementsBlock visitor:
+	 * - translates all statements in the block
+	 */
+	public Object visit(StatementsBlock statementsBlock){
+		for (Statement s: statementsBlock.getStatements()){
+			s.accept(this);
+		}
+		return null;
+	}
+
+	/**
+	 * LocalVariable visitor:
+	 * - adds the variable to the method's locals and assigns its init value
+	 */
+	public Object visit(LocalVariable localVariable){
+		String variable = "v_"+localVariable.getNameDepth();
+		locals.add(variable);
+		if (localVariable.hasInitValue()){
+			String value = translate(localVariable.getInitValue());
+			emit(variable+" = "+value+";");
+		}
+		return null;
+	}
+
+	/**
+	 * VariableLocation visitor:
+	 * - local variables are returned by name
+	 * - fields are accessed through the struct of the location's class, after a null check
+	 * - returns the field itself if assigned to, otherwise a temporary holding its value
+	 */
+	public Object visit(VariableLocation location){
+		boolean isAssigned = isAssignedLocation;
+		isAssignedLocation = false;
+
+		String field;
+		if (location.isExternal()){
+			String object = translate(location.getLocation());
+			emit("ic_check_null("+object+");");
+			String className = getExpressionType(location.getLocation()).getName();
+			field = getFieldAccess(object, className, location.getName());
+		} else if (((BlockSymbolTable)location.getEnclosingScope()).isVarField(location.getName())){
+			field = getFieldAccess("self", currClassName, location.getName());
+		} else {
+			return "v_"+location.getNameDepth();
+		}
+
+		return isAssigned ? field : newTemp(field);
+	}
+
+	/**
+	 * ArrayLocation visitor:
+	 * - translates the array, checks it, then the index and checks the access
+	 * - returns the element itself if assigned to, otherwise a temporary holding its value
+	 */
+	public Object visit(ArrayLocation location){
+		boolean isAssigned = isAssignedLocation;
+		isAssignedLocation = false;
+
+		String array = translate(location.getArray());
+		emit("ic_check_null("+array+");");
+		String index = translate(location.getIndex());
+		emit("ic_check_array_access("+array+", "+index+");");
+		String element = "((word *) "+array+")["+index+"]";
+
+		return isAssigned ? element : newTemp(element);
+	}
+
+	/**
+	 * StaticCall visitor:
+	 * - translates the arguments from left to right
+	 * - library methods are called with their runtime types, other methods with words
+	 */
+	public Object visit(StaticCall call){
+		boolean isStatement = isCallStatement;
+		isCallStatement = false;
+		List<String> args = translateArguments(call.getArguments());
+
+		// library method
+		if (call.getClassName().equals("Library")){
+			Method m = getLibraryMethod(call.getName());
+			String callStr = "__"+call.getName()+"(";
+			for (int i = 0; i < args.size(); i++){
+				String type = getCType(m.getFormals().get(i).getType().getFullName());
+				callStr += (type.equals("word") ? "" : "("+type+") ")+args.get(i)+", ";
+			}
+			if (callStr.endsWith(", ")) callStr = callStr.substring(0, callStr.length()-2);
+			callStr += ")";
+
+			if (isStatement || m.getType().getFullName().equals("void")){
+				emit(callStr+";");
+				return "0";
+			}
+			return newTemp("(word) "+callStr);
+		}
+
+		Method m = classLayouts.get(call.getClassName()).getMethodFromName(call.getName());
+		String callStr = getFunctionName(m, false)+"("+join(args)+")";
+		return translateCall(callStr, isStatement);
+	}
+
+	/**
+	 * VirtualCall visitor:
+	 * - translates the object (checking it) and the arguments from left to right
+	 * - calls through the object's dispatch vector, at the method's offset in the class layout
+	 */
+	public Object visit(VirtualCall call){
+		boolean isStatement = isCallStatement;
+		isCallStatement = false;
+
+		String object;
+		String className;
+		if (call.isExternal()){
+			object = translate(call.getLocation());
+			emit("ic_check_null("+object+");");
+			className = getExpressionType(call.getLocation()).getName();
+		} else {
+			object = "self";
+			className = currClassName;
+		}
+		List<String> args = translateArguments(call.getArguments());
+
+		ClassLayout classLayout = classLayouts.get(className);
+		int offset = classLayout.getMethodOffset(classLayout.getMethodFromName(call.getName()));
+
+		String functionType = "word (*)(word";
+		for (int i = 0; i < args.size(); i++) functionType += ", word";
+		functionType += ")";
+
+		args.add(0, object);
+		String callStr = "(("+functionType+") (("+getStructName(className)+" *) "+object+")->dv["+offset+"])("+join(args)+")";
+		return translateCall(callStr, isStatement);
+	}
+
+	/**
+	 * This visitor
+	 */
+	public Object visit(This thisExpression){
+		return "self";
+	}
+
+	/**
+	 * NewClass visitor:
+	 * - allocates the object and sets its dispatch vector
+	 */
+	public Object visit(NewClass newClass){
+		ClassLayout classLayout = classLayouts.get(newClass.getName());
+		String object = newTemp("(word) __allocateObject("+classLayout.getAllocSize()+")");
+		emit("(("+getStructName(newClass.getName())+" *) "+object+")->dv = ic_DV_"+newClass.getName()+";");
+		return object;
+	}
+
+	/**
+	 * NewArray visitor:
+	 * - checks the size and allocates the array
+	 */
+	public Object visit(NewArray newArray){
+		String size = translate(newArray.getSize());
+		return newTemp("(word) __allocateArray(4 * ic_check_size("+size+"))");
+	}
+
+	/**
+	 * Length visitor:
+	 * - checks the array and reads its length
+	 */
+	public Object visit(Length length){
+		String array = translate(length.getArray());
+		emit("ic_check_null("+array+");");
+		return newTemp("((word *) "+array+")[-1]");
+	}
+
+	/**
+	 * MathBinaryOp visitor:
+	 * - translates the operands from left to right
+	 * - integer operations wrap around at 32 bits, division and modulo check for zero
+	 * - string addition concatenates
+	 */
+	public Object visit(MathBinaryOp binaryOp){
+		String operand1 = translate(binaryOp.getFirstOperand());
+		String operand2 = translate(binaryOp.getSecondOperand());
+
+		switch (binaryOp.getOperator()){
+		case PLUS:
+			if (getExpressionType(binaryOp.getFirstOperand()).getName().equals("string"))
+				return newTemp("(word) __stringCat((ic_string *) "+operand1+", (ic_string *) "+operand2+")");
+			return newTemp("ic_add("+operand1+", "+operand2+")");
+		case MINUS:
+			return newTemp("ic_sub("+operand1+", "+operand2+")");
+		case MULTIPLY:
+			return newTemp("ic_mul("+operand1+", "+operand2+")");
+		case DIVIDE:
+			return newTemp("ic_div("+operand1+", ic_check_zero("+operand2+"))");
+		default: // MOD
+			return newTemp("ic_mod("+operand1+", ic_check_zero("+operand2+"))");
+		}
+	}
+
+	/**
+	 * LogicalBinaryOp visitor:
+	 * - && and || evaluate their second operand only if needed
+	 * - comparisons compare the words (references for objects, arrays and strings)
+	 */
+	public Object visit(LogicalBinaryOp binaryOp){
+		BinaryOps op = binaryOp.getOperator();
+
+		if (op == BinaryOps.LAND || op == BinaryOps.LOR){
+			String result = newTemp(translate(binaryOp.getFirstOperand()));
+			emit("if ("+(op == BinaryOps.LAND ? "" : "!")+result+") {");
+			depth++;
+			String operand2 = translate(binaryOp.getSecondOperand());
+			emit(result+" = "+operand2+";");
+			depth--;
+			emit("}");
+			return result;
+		}
+
+		String operand1 = translate(binaryOp.getFirstOperand());
+		String operand2 = translate(binaryOp.getSecondOperand());
+		return newTemp(operand1+" "+op.getOperatorString()+" "+operand2);
+	}
+
+	/**
+	 * MathUnaryOp visitor
+	 */
+	public Object visit(MathUnaryOp unaryOp){
+		return newTemp("ic_neg("+translate(unaryOp.getOperand())+")");
+	}
+
+	/**
+	 * LogicalUnaryOp visitor
+	 */
+	public Object visit(LogicalUnaryOp unaryOp){
+		return newTemp("!"+translate(unaryOp.getOperand()));
+	}
+
+	/**
+	 * Literal visitor:
+	 * - string literals are static strings in the runtime's representation
+	 */
+	public Object visit(Literal literal){
+		switch (literal.getType()){
+		case STRING:
+			String strVal = (String) literal.getValue();
+			if (!stringLiterals.containsKey(strVal))
+				stringLiterals.put(strVal, "ic_str"+stringLiterals.size());
+			return "((word) &"+stringLiterals.get(strVal)+")";
+		case INTEGER:
+			return literal.getValue().toString();
+		case TRUE:
+			return "1";
+		default: // FALSE, NULL
+			return "0";
+		}
+	}
+
+	/**
+	 * ExpressionBlock visitor
+	 */
+	public Object visit(ExpressionBlock expressionBlock){
+		return translate(expressionBlock.getExpression());
+	}
+
+	//////////////
+	//	helpers	//
+	//////////////
+
+	/**
+	 * translates the given expression, emitting the code that evaluates it
+	 * @param expr
+	 * @return a C expression for its value: a literal, a variable or a temporary
+	 */
+	private String translate(Expression expr){
+		return (String) expr.accept(this);
+	}
+
+	/**
+	 * translates the given arguments from left to right
+	 * @param arguments
+	 * @return
+	 */
+	private List<String> translateArguments(List<Expression> arguments){
+		List<String> args = new ArrayList<String>();
+		for (Expression arg: arguments){
+			args.add(translate(arg));
+		}
+		return args;
+	}
+
+	/**
+	 * emits the given call, as a statement or into a temporary
+	 * @param callStr
+	 * @param isStatement
+	 * @return
+	 */
+	private String translateCall(String callStr, boolean isStatement){
+		if (isStatement){
+			emit(callStr+";");
+			return "0";
+		}
+		return newTemp(callStr);
+	}
+
+	/**
+	 * translates the given statement as a C block
+	 * @param statement
+	 */
+	private void translateBlock(Statement statement){
+		depth++;
+		statement.accept(this);
+		depth--;
+	}
+
+	/**
+	 * emits the given line into the current method
+	 * @param line
+	 */
+	private void emit(String line){
+		for (int i = 0; i < depth; i++) code.append("\t");
+		code.append(line+"\n");
+	}
+
+	/**
+	 * emits a new temporary holding the given value
+	 * @param value
+	 * @return the temporary's name
+	 */
+	private String newTemp(String value){
+		String temp = "t"+(tempCounter++);
+		emit("word "+temp+" = "+value+";");
+		return temp;
+	}
+
+	/**
+	 * returns the static type of the given expression
+	 * @param expr
+	 * @return
+	 */
+	private IC.TypeTable.Type getExpressionType(Expression expr){
+		return (IC.TypeTable.Type) expr.accept(new DefTypeSemanticChecker(global));
+	}
+
+	/**
+	 * returns the C function name for the given method
+	 * @param method
+	 * @param isMain
+	 * @return
+	 */
+	private String getFunctionName(Method method, boolean isMain){
+		if (isMain) return "ic_main";
+		return "ic_"+((ClassSymbolTable) method.getEnclosingScope()).getMySymbol().getName()+"_"+method.getName();
+	}
+
+	/**
+	 * returns the struct type name for the given class
+	 * @param className
+	 * @return
+	 */
+	private String getStructName(String className){
+		return "struct ic_"+className;
+	}
+
+	/**
+	 * returns the access to the given field of the given object
+	 * @param object
+	 * @param className: the object's static class
+	 * @param fieldName
+	 * @return
+	 */
+	private String getFieldAccess(String object, String className, String fieldName){
+		return "(("+getStructName(className)+" *) "+object+")->f_"+fieldName;
+	}
+
+	/**
+	 * returns the struct definition for the given class layout:
+	 * the dispatch vector followed by the fields ordered by their offsets
+	 * @param classLayout
+	 * @return
+	 */
+	private String getStruct(ClassLayout classLayout){
+		Map<Field,Integer> fieldToOffset = classLayout.getFieldToOffsetMap();
+		Field[] fields = new Field[fieldToOffset.size()+1];
+		for (Field f: fieldToOffset.keySet()){
+			fields[fieldToOffset.get(f)] = f;
+		}
+
+		String struct = getStructName(classLayout.getClassName())+" {\n";
+		struct += "\tic_method *dv;\n";
+		for (int i = 1; i < fields.length; i++){
+			struct += "\tword f_"+fields[i].getName()+";\n";
+		}
+		struct += "};\n";
+		return struct;
+	}
+
+	/**
+	 * returns the dispatch table for the given class layout,
+	 * with the methods of ClassLayout.getDispatchTable() in the same order
+	 * @param classLayout
+	 * @return
+	 */
+	private String getDispatchTable(ClassLayout classLayout){
+		// '_DV_<class name>: [<method1>,<method2>,...]'
+		String lirTable = classLayout.getDispatchTable();
+		String labels = lirTable.substring(lirTable.indexOf('[')+1, lirTable.indexOf(']'));
+
+		List<String> methods = new ArrayList<String>();
+		if (labels.length() > 0){
+			for (String label: labels.split(",")){
+				methods.add("(ic_method) ic"+label);
+			}
+		} else {
+			methods.add("0");
+		}
+		return "static ic_method ic_DV_"+classLayout.getClassName()+"[] = { "+join(methods)+" };";
+	}
+
+	/**
+	 * returns the Library class method with the given name
+	 * @param name
+	 * @return
+	 */
+	private Method getLibraryMethod(String name){
+		for (Method m: libraryClass.getMethods()){
+			if (m.getName().equals(name)) return m;
+		}
+		return null;
+	}
+
+	/**
+	 * returns the prototype of the runtime function implementing the given library method
+	 * @param method
+	 * @return
+	 */
+	private String getLibraryPrototype(Method method){
+		String returnType = getCType(method.getType().getFullName());
+		String prototype = returnType+(returnType.endsWith("*") ? "" : " ")+"__"+method.getName()+"(";
+		for (Formal f: method.getFormals()){
+			prototype += getCType(f.getType().getFullName())+", ";
+		}
+		if (prototype.endsWith(", ")) prototype = prototype.substring(0, prototype.length()-2);
+		else prototype += "void";
+		return prototype+")";
+	}
+
+	/**
+	 * returns the runtime's C type for the given IC type
+	 * @param typeName: the type's full name
+	 * @return
+	 */
+	private String getCType(String typeName){
+		if (typeName.equals("void")) return "void";
+		if (typeName.equals("string")) return "ic_string *";
+		if (typeName.endsWith("[]")) return "word *";
+		return "word";
+	}
+
+	/**
+	 * returns the given string as a C string literal,
+	 * characters other than printable ASCII are written as octal escapes
+	 * @param str
+	 * @return
+	 */
+	private String getCStringLiteral(String str){
+		StringBuffer literal = new StringBuffer("\"");
+		for (char c: str.toCharArray()){
+			if (c >= ' ' && c <= '~' && c != '"' && c != '\\' && c != '?'){
+				literal.append(c);
+			} else {
+				literal.append(String.format("\\%03o", c & 0xff));
+			}
+		}
+		return literal.append("\"").toString();
+	}
+
+	/**
+	 * joins the given strings with commas
+	 * @param strings
+	 * @return
+	 */
+	private String join(List<String> strings){
+		String joined = "";
+		for (String s: strings){
+			joined += (joined.length() > 0 ? ", " : "")+s;
+		}
+		return joined;
+	}
+}
@@ -1,15 +1,31 @@
 package IC;
 
 import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
 
+import IC.C.CTranslator;
+import IC.JVM.JVMTranslator;
+import IC.JVM.JarBuilder;
+import IC.LIR.LIRBinaryWriter;
+import IC.LIR.LIRInstruction;
+import IC.LIR.LIRLineMap;
+import IC.LIR.LIRLoader;
+import IC.LIR.LIRMethod;
+import IC.LIR.LIRPassManager;
+import IC.LIR.LIRProgram;
+import IC.LIR.LIRStats;
+import IC.LIR.OptRemarks;
 import IC.LIR.OptTranslatePropagatingVisitor;
-import IC.LIR.RegCounterVisitor;
 import IC.LIR.TranslatePropagatingVisitor;
 import IC.Parser.*;
 import IC.AST.*;
 import IC.SymbolTable.GlobalSymbolTable;
+import IC.TypeTable.SemanticErrors;
 import IC.TypeTable.TypeTable;
 import IC.Visitors.*;
+import IC.X86.X86Linker;
+import IC.X86.X86Translator;
 
 /*
  * The compiler class
@@ -18,22 +34,72 @@ public class Compiler {
 	private static boolean printast = false;
 	private static boolean dumpsymtab = false;
 	private static String libic_path;
+	private static String libcache_path = null;
 	private static boolean libic_flag = false;
+	private static boolean rdparser_flag = false;
+	private static boolean dumptokens_flag = false;
 	private static boolean printlir_flag = false;
-	private static boolean optlir_flag = false;
+	private static int opt_level = -1; // -1 when not given (same as -O0)
+	private static List<String> enabled_passes = new ArrayList<String>();
+	private static List<String> disabled_passes = new ArrayList<String>();
+	private static boolean timepasses_flag = false;
+	private static boolean verifylir_flag = false;
+	private static boolean lirbin_flag = false;
+	private static boolean astbin_flag = false;
+	private static boolean optremarks_flag = false;
+	private static boolean lirstats_flag = false;
+	private static boolean lirlines_flag = false;
+	private static boolean x86_flag = false;
+	private static boolean c_flag = false;
+	private static boolean jvm_flag = false;
+	private static int max_errors = -1;
+	private static List<String> source_files = new ArrayList<String>();
+	// stack size of the compiler's threads, in MB
+	private static int stack_size = -1;
 	
 	/** 
 	 * Reads an IC-program, parses (builds an AST) and checks for lexical, syntactic and semantic errors
 	 * eventually parses translates to LIR code
 	 * optional library-file add, pretty-printing of the program's AST and printing of the Symbol and Type tables
 	 * @param args[0]: contains the input ic program file path
+	 * @param optional: <file.ic> ... more source files of the program: the files are parsed concurrently and their
+	 * classes are merged in the files order (as if the files were concatenated), errors are prefixed by their file
 	 * @param optional: -L<library_path> where library_path is the library-file path 
+	 * @param optional: -lib-cache=<dir> to keep the parsed library class in the cache directory <dir>, and read it
+	 * from there (instead of parsing the library file) while the library file is not changed
+	 * @param optional: -rd-parser to parse the program with the hand-written recursive descent parser
+	 * instead of the CUP generated parser (both build the same AST, but only the CUP generated parser recovers
+	 * from errors and reports all the lexical and syntax errors of the program, the other stops at the first one)
+	 * @param optional: -dump-tokens to print the program's tokens, a token per line with its source line
+	 * (in the test/PA1 format), and stop: the program is not parsed
+	 * @param optional: -stack-size=<MB> the stack size of the compiler's threads (512MB by default): the passes
+	 * over the AST are recursive, so the stack they use grows with the nesting depth of the program's statements
+	 * and expressions (about 1-2MB per 1000 nesting levels)
+	 * @param optional: -max-errors=<n> the maximal number of errors reported by the parser, and by the semantic
+	 * checks (20 by default): the semantic checks report all the errors of the program, sorted by line
 	 * @param optional: -print-ast to pretty-print the ast (with library class in it, if given)
 	 * @param optional: -dump-symtab to print the symbol and type tables 
 	 * @param optional: -print-lir to print the LIR translation of the IC code
-	 * @param optional: -opt-lir to translate the LIR code with optimizations
+	 * @param optional: -O0 / -O1 / -O2 the LIR optimization level: -O0 (default) translates without optimizations,
+	 * -O1 translates with optimizations, -O2 also runs all the optimization passes over the translation
+	 * @param optional: -opt-lir same as -O1
+	 * @param optional: -enable-pass=<pass>,... / -disable-pass=<pass>,... to add / remove optimization passes
+	 * @param optional: -time-passes to print every pass's run time and instruction count delta
+	 * @param optional: -verify-lir to verify the LIR translation before and after every pass
+	 * @param optional: -opt-remarks to write the optimization remarks of the translation (needs -O1 or -O2) to <file>.remarks
+	 * @param optional: -lir-stats to write static statistics of the LIR translation (per method instruction counts
+	 * by opcode class, maximal register index and number of labels) to <file>.lirstats
+	 * @param optional: -lir-lines to annotate the LIR translation with source lines, and write the map of
+	 * every method's instructions to their source lines to <file>.lirmap
+	 * @param optional: -lir-bin to write the LIR translation in the binary LIR format (.lirb)
+	 * @param optional: -ast-bin to write the AST of every source file (and of the library file) in the binary AST
+	 * format (.icab); a source file (or library file) with the .icab extension is read as a binary AST instead
+	 * of being parsed
+	 * @param optional: -x86 to translate the LIR code to x86-64 assembly and build a native executable
+	 * @param optional: -c to translate the program to C and build a native executable
+	 * @param optional: -jvm to translate the program to JVM class files and package them in a runnable jar
 	 */
-	public static void main(String[] args) {
+	public static void main(final String[] args) {
 		
 		////////////////////////////
 		// check input parameters //
@@ -47,6 +113,7 @@ public class Compiler {
 		}
 		
 		// check for options
+		source_files.add(args[0]);
 		for (int i = 1; i < args.length; i++){
 			String s = args[i];
 			if (s.equals("-print-ast")){ // -print-ast flag is on
@@ -71,24 +138,184 @@ public class Compiler {
 					libic_flag = true;
 					libic_path = s.substring(2);
 				}
+			} else if (s.startsWith("-lib-cache=")){ // library cache directory is given
+				if (libcache_path != null){ // already given library cache directory
+					System.out.println("Error: Wrong usage, -lib-cache is given more than once");
+					printUsage();
+					System.exit(-1);
+				} else libcache_path = s.substring("-lib-cache=".length());
+			} else if (s.equals("-rd-parser")){ // -rd-parser flag is on
+				if (rdparser_flag){ // already given "-rd-parser"
+					System.out.println("Error: Wrong usage, -rd-parser flag is given more than once");
+					printUsage();
+					System.exit(-1);
+				} else rdparser_flag = true;
+			} else if (s.equals("-dump-tokens")){ // -dump-tokens flag is on
+				if (dumptokens_flag){ // already given "-dump-tokens"
+					System.out.println("Error: Wrong usage, -dump-tokens flag is given more than once");
+					printUsage();
+					System.exit(-1);
+				} else dumptokens_flag = true;
 			} else if (s.equals("-print-lir")){ // -print-lir flag is on 
 				if (printlir_flag){ // already given "-print-lir"
 					System.out.println("Error: Wrong usage, -print-lir flag is given more than once");
 					printUsage();
 					System.exit(-1);
 				} else printlir_flag = true;
-			} else if (s.equals("-opt-lir")){ // -opt-lir flag is on
-				if (optlir_flag){ // already given "-opt-lir"
-					System.out.println("Error: Wrong usage, -opt-lir flag is given more than once");
+			} else if (s.equals("-opt-lir") || s.equals("-O0") || s.equals("-O1") || s.equals("-O2")){ // optimization level
+				if (opt_level >= 0){ // already given optimization level
+					System.out.println("Error: Wrong usage, optimization level is given more than once");
+					printUsage();
+					System.exit(-1);
+				} else opt_level = s.equals("-opt-lir") ? 1 : s.charAt(2)-'0';
+			} else if (s.startsWith("-stack-size=")){ // stack size of the compiler's threads
+				if (stack_size >= 0){ // already given stack size
+					System.out.println("Error: Wrong usage, -stack-size is given more than once");
+					printUsage();
+					System.exit(-1);
+				}
+				try {
+					stack_size = Integer.parseInt(s.substring("-stack-size=".length()));
+				} catch (NumberFormatException e){}
+				if (stack_size <= 0){
+					System.out.println("Error: Wrong usage, -stack-size needs a positive number of MB");
 					printUsage();
 					System.exit(-1);
-				} else optlir_flag = true;
+				}
+			} else if (s.startsWith("-max-errors=")){ // maximal number of errors reported
+				if (max_errors >= 0){ // already given maximal number of errors
+					System.out.println("Error: Wrong usage, -max-errors is given more than once");
+					printUsage();
+					System.exit(-1);
+				}
+				try {
+					max_errors = Integer.parseInt(s.substring("-max-errors=".length()));
+				} catch (NumberFormatException e){}
+				if (max_errors <= 0){
+					System.out.println("Error: Wrong usage, -max-errors needs a positive number");
+					printUsage();
+					System.exit(-1);
+				}
+			} else if (s.startsWith("-enable-pass=") || s.startsWith("-disable-pass=")){ // passes are enabled / disabled
+				for (String name: s.substring(s.indexOf('=')+1).split(",")){
+					if (LIRPassManager.getPass(name) == null){
+						System.out.println("Error: Unknown optimization pass: "+name);
+						printUsage();
+						System.exit(-1);
+					}
+					if (s.startsWith("-enable-pass=")) enabled_passes.add(name);
+					else disabled_passes.add(name);
+				}
+			} else if (s.equals("-time-passes")){ // -time-passes flag is on
+				if (timepasses_flag){ // already given "-time-passes"
+					System.out.println("Error: Wrong usage, -time-passes flag is given more than once");
+					printUsage();
+					System.exit(-1);
+				} else timepasses_flag = true;
+			} else if (s.equals("-verify-lir")){ // -verify-lir flag is on
+				if (verifylir_flag){ // already given "-verify-lir"
+					System.out.println("Error: Wrong usage, -verify-lir flag is given more than once");
+					printUsage();
+					System.exit(-1);
+				} else verifylir_flag = true;
+			} else if (s.equals("-lir-bin")){ // -lir-bin flag is on
+				if (lirbin_flag){ // already given "-lir-bin"
+					System.out.println("Error: Wrong usage, -lir-bin flag is given more than once");
+					printUsage();
+					System.exit(-1);
+				} else lirbin_flag = true;
+			} else if (s.equals("-ast-bin")){ // -ast-bin flag is on
+				if (astbin_flag){ // already given "-ast-bin"
+					System.out.println("Error: Wrong usage, -ast-bin flag is given more than once");
+					printUsage();
+					System.exit(-1);
+				} else astbin_flag = true;
+			} else if (s.equals("-opt-remarks")){ // -opt-remarks flag is on
+				if (optremarks_flag){ // already given "-opt-remarks"
+					System.out.println("Error: Wrong usage, -opt-remarks flag is given more than once");
+					printUsage();
+					System.exit(-1);
+				} else optremarks_flag = true;
+			} else if (s.equals("-lir-stats")){ // -lir-stats flag is on
+				if (lirstats_flag){ // already given "-lir-stats"
+					System.out.println("Error: Wrong usage, -lir-stats flag is given more than once");
+					printUsage();
+					System.exit(-1);
+				} else lirstats_flag = true;
+			} else if (s.equals("-lir-lines")){ // -lir-lines flag is on
+				if (lirlines_flag){ // already given "-lir-lines"
+					System.out.println("Error: Wrong usage, -lir-lines flag is given more than once");
+					printUsage();
+					System.exit(-1);
+				} else lirlines_flag = true;
+			} else if (s.equals("-x86")){ // -x86 flag is on
+				if (x86_flag){ // already given "-x86"
+					System.out.println("Error: Wrong usage, -x86 flag is given more than once");
+					printUsage();
+					System.exit(-1);
+				} else x86_flag = true;
+			} else if (s.equals("-c")){ // -c flag is on
+				if (c_flag){ // already given "-c"
+					System.out.println("Error: Wrong usage, -c flag is given more than once");
+					printUsage();
+					System.exit(-1);
+				} else c_flag = true;
+			} else if (s.equals("-jvm")){ // -jvm flag is on
+				if (jvm_flag){ // already given "-jvm"
+					System.out.println("Error: Wrong usage, -jvm flag is given more than once");
+					printUsage();
+					System.exit(-1);
+				} else jvm_flag = true;
+			} else if (!s.startsWith("-")){ // another source file of the program
+				source_files.add(s);
 			} else {
 				System.out.println("Error: Wrong usage");
 				printUsage();
 				System.exit(-1);
 			}
 		}
+		// both -x86 and -c build the same executable
+		if (x86_flag && c_flag){
+			System.out.println("Error: Wrong usage, -x86 and -c flags are given together");
+			printUsage();
+			System.exit(-1);
+		}
+		if (max_errors < 0) max_errors = 20;
+		ParseErrors.setMaxErrors(max_errors);
+		// the remarks are made by the optimizing translator
+		if (optremarks_flag && opt_level < 1){
+			System.out.println("Error: Wrong usage, -opt-remarks requires -O1 or -O2");
+			printUsage();
+			System.exit(-1);
+		}
+		if (stack_size < 0) stack_size = 512;
+		
+		// the compilation runs on a thread of the given stack size (the main thread's stack is too small
+		// for deeply nested programs)
+		Thread compiler = newThread(new Runnable(){
+			public void run(){
+				compile(args);
+			}
+		}, "compiler");
+		compiler.start();
+		try {
+			compiler.join();
+		} catch (InterruptedException e){
+			System.exit(-1);
+		}
+	}
+	
+	/**
+	 * compiles the program (see main), on a thread of the compiler's stack size
+	 * @param args: the arguments of main
+	 */
+	private static void compile(String[] args){
+		
+		// with -dump-tokens, only the tokens of the source files are printed
+		if (dumptokens_flag){
+			dumpTokens(source_files);
+			return;
+		}
 		
 		/////////////////////////////////////////
 		// lexical and syntactic parsing phase //
@@ -101,33 +328,36 @@ public class Compiler {
 		java_cup.runtime.Symbol parseLibrarySymbol = new java_cup.runtime.Symbol(0);
 		if (libic_flag) {
 			try{
-				FileReader libFile = new FileReader(libic_path); // may throw i/o exception
-				Lexer libraryLexer = new Lexer(libFile);
-				LibraryParser libraryParser = new LibraryParser(libraryLexer);
-				parseLibrarySymbol = libraryParser.parse(); // may throw LexicalError or SyntaxError
+				if (ASTBinaryReader.isBinaryAST(libic_path)){
+					// a pre-parsed library: the program of the library class alone
+					parseLibrarySymbol = new java_cup.runtime.Symbol(0, ASTBinaryReader.read(libic_path).getClasses().get(0));
+				} else if (libcache_path != null){
+					// the library class is parsed only if it is not in the cache
+					parseLibrarySymbol = new java_cup.runtime.Symbol(0, new LibraryCache(libcache_path).load(libic_path));
+				} else {
+					Reader libFile = MappedFileReader.open(libic_path); // may throw i/o exception
+					Lexer libraryLexer = new Lexer(libFile);
+					LibraryParser libraryParser = new LibraryParser(libraryLexer);
+					parseLibrarySymbol = libraryParser.parse(); // may throw LexicalError or SyntaxError
+				}
 			} catch (Exception e) {
 				System.err.print(e);
 				System.exit(-1);
 			}
 			System.out.println("Parsed " + libic_path + " successfully!");
 			libraryRoot = (ICClass) parseLibrarySymbol.value;
+			if (astbin_flag && !ASTBinaryReader.isBinaryAST(libic_path)){
+				// a pre-parsed library: the program of the library class alone
+				writeBinaryAST(libic_path, new Program(new ArrayList<ICClass>(Collections.singletonList(libraryRoot))));
+			}
+			if (source_files.size() > 1) libraryRoot.setSourceFile(libic_path);
 		}
 		
-		// Parse the input ic program file
-		// the following is initialized only to prevent error message,
-		// real value is given in the try-catch block ahead
-		java_cup.runtime.Symbol parseSymbol = new java_cup.runtime.Symbol(1);
-		try{
-			FileReader txtFile = new FileReader(args[0]); // may throw i/o exception
-			Lexer lexer = new Lexer(txtFile);
-			Parser parser = new Parser(lexer);
-			parseSymbol = parser.parse(); // may throw LexicalError or SyntaxError
-		} catch (Exception e){
-			System.err.println(e);
-			System.exit(-1);
-		}
-		System.out.println("Parsed " + args[0] + " successfully!");
-		Program root = (Program) parseSymbol.value;
+		// Parse the input ic program files, and merge them into one program
+		Program root = parseFiles(source_files);
+		
+		// the output files are named after the input file (after the source file, for a binary AST input)
+		String outFileName = ASTBinaryReader.isBinaryAST(args[0]) ? args[0].substring(0,args[0].length()-4)+"ic" : args[0];
 		
 		// insert library class as another class in the input ic program, if exists
 		if (libic_flag) root.addClass(libraryRoot);
@@ -143,20 +373,28 @@ public class Compiler {
 		
 		// build symbol tables and type table
 		// semantic checks for illegal definitions and existence and uniqueness of "main" method
-		SymbolTableBuilder symbolTableBuilder = new SymbolTableBuilder(args[0]);
+		// all the semantic errors found are recorded in semanticErrors, and reported together
+		SemanticErrors semanticErrors = new SemanticErrors(max_errors);
+		SymbolTableBuilder symbolTableBuilder = new SymbolTableBuilder(args[0], semanticErrors);
 		Object globalSymTab = root.accept(symbolTableBuilder);
-		if (globalSymTab == null) System.exit(-1); // in case of an error while building symbol table
+		if (globalSymTab == null){ // in case of an error in the classes definitions, the tables can't be checked
+			System.err.println(semanticErrors);
+			System.exit(-1);
+		}
 		
-		if (dumpsymtab){
+		if (dumpsymtab && semanticErrors.isEmpty()){
 			System.out.println("\n"+globalSymTab);
 			System.out.println(TypeTable.staticToString());
 		}
 		
 		// other semantic checks: variables usage correctness, type checks, scoping rules
-		DefTypeSemanticChecker defTypeSemanticChecker = new DefTypeSemanticChecker((GlobalSymbolTable)globalSymTab);
+		// (errors of the symbol tables alone are reported as before the type checks: without the type-checking line)
+		int symbolTableErrors = semanticErrors.size();
+		DefTypeSemanticChecker defTypeSemanticChecker = new DefTypeSemanticChecker((GlobalSymbolTable)globalSymTab, semanticErrors);
 		Object semanticChecks = root.accept(defTypeSemanticChecker);
 		if (semanticChecks == null) {
-			System.out.println("Encountered an error while type-checking");
+			System.err.println(semanticErrors);
+			if (semanticErrors.size() > symbolTableErrors) System.out.println("Encountered an error while type-checking");
 			System.exit(-1); // in case of a semantic error
 		} else {
 			System.out.println("Passed type-checking");
@@ -166,41 +404,380 @@ public class Compiler {
 		//	LIR code translation phase	//
 		//////////////////////////////////
 		
-		if (printlir_flag){
+		if (printlir_flag || lirbin_flag || lirstats_flag || lirlines_flag || optremarks_flag || x86_flag){
 			GlobalSymbolTable global = (GlobalSymbolTable)globalSymTab;
 			// build translating visitor - standard or optimized
-			TranslatePropagatingVisitor translator = optlir_flag ? new OptTranslatePropagatingVisitor(global):
+			TranslatePropagatingVisitor translator = opt_level >= 1 ? new OptTranslatePropagatingVisitor(global):
 				new TranslatePropagatingVisitor(global);
 			
-			// if in optimized mode, set ASTNodes weights in registers
-			if (optlir_flag){
-				int progWeight = (Integer) root.accept(new RegCounterVisitor()); 
-			}
+			// optimization passes over the translation
+			LIRPassManager passManager = LIRPassManager.forLevel(opt_level);
+			for (String name: enabled_passes) passManager.enable(name);
+			for (String name: disabled_passes) passManager.disable(name);
+			
+			// the passes' remarks need the source lines of the instructions
+			boolean passesRemarks = optremarks_flag && !passManager.isEmpty();
+			translator.setAnnotatingLines(lirlines_flag || passesRemarks);
 			
 			String tr = root.accept(translator, 0).getLIRCode();
+			OptRemarks remarks = optremarks_flag ? ((OptTranslatePropagatingVisitor) translator).getRemarks() : null;
+			passManager.setRemarks(remarks);
+			if (!passManager.isEmpty() || verifylir_flag) tr = optimizeLIR(tr, passManager);
+			if (optremarks_flag) writeRemarks(outFileName, remarks);
+			
+			if (printlir_flag) printLIR(outFileName, tr);
+			if (lirbin_flag) writeBinaryLIR(outFileName, tr);
+			if (lirstats_flag) writeLIRStats(outFileName, tr);
+			if (lirlines_flag) writeLIRLineMap(outFileName, tr);
 			
-			// print LIR translation to file
-			String lirFileName = args[0].substring(0,args[0].length()-2)+"lir";
+			//////////////////////////////////////
+			//	x86-64 code generation phase	//
+			//////////////////////////////////////
+			
+			if (x86_flag){
+				String baseName = outFileName.substring(0,outFileName.length()-3);
+				X86Translator x86Translator = new X86Translator(X86Translator.getMethodsFormals(root));
+				String asm = x86Translator.translate(tr);
+				
+				// write assembly to file, and build the executable
+				String asmFileName = baseName+".s";
+				buildExecutable(asmFileName, asm, baseName);
+			}
+		}
+		
+		//////////////////////////////
+		//	C code generation phase	//
+		//////////////////////////////
+		
+		if (c_flag){
+			String baseName = outFileName.substring(0,outFileName.length()-3);
+			CTranslator cTranslator = new CTranslator(outFileName, (GlobalSymbolTable)globalSymTab);
+			String c = (String) root.accept(cTranslator);
+			
+			// write C source to file, and build the executable
+			buildExecutable(baseName+".c", c, baseName);
+		}
+		
+		//////////////////////////////////
+		//	JVM code generation phase	//
+		//////////////////////////////////
+		
+		if (jvm_flag){
+			String jarFileName = outFileName.substring(0,outFileName.length()-2)+"jar";
+			JVMTranslator jvmTranslator = new JVMTranslator(outFileName);
+			@SuppressWarnings("unchecked")
+			Map<String,byte[]> classFiles = (Map<String,byte[]>) root.accept(jvmTranslator);
+			
+			if (!JarBuilder.build(jarFileName, classFiles, jvmTranslator.getMainClassName())){
+				System.exit(-1);
+			}
+			System.out.println("Built jar "+jarFileName);
+		}
+	}
+	
+	/**
+	 * Writes the given assembly / C source to a file, and builds the executable from it
+	 * exits on failure
+	 * @param sourceFileName: the source file path
+	 * @param source: the source
+	 * @param exeFileName: the executable file path
+	 */
+	private static void buildExecutable(String sourceFileName, String source, String exeFileName){
+		try {
+			BufferedWriter buff = new BufferedWriter(new FileWriter(sourceFileName));
+			buff.write(source);
+			buff.flush();
+			buff.close();
+		} catch (IOException e) {
+			System.err.println("Failed writing to file: "+sourceFileName);
+			e.printStackTrace();
+			System.exit(-1);
+		}
+		if (!X86Linker.link(sourceFileName, exeFileName)){
+			System.err.println("Failed building executable: "+exeFileName);
+			System.exit(-1);
+		}
+		System.out.println("Built executable "+exeFileName);
+	}
+	
+	/**
+	 * Writes the LIR translation to a file next to the input file, and prints it to System.out
+	 * @param icFileName: the input ic program file path
+	 * @param tr: the LIR translation
+	 */
+	private static void printLIR(String icFileName, String tr){
+		// print LIR translation to file
+		String lirFileName = icFileName.substring(0,icFileName.length()-2)+"lir";
+		try {
+			BufferedWriter buff = new BufferedWriter(new FileWriter(lirFileName));
+			buff.write(tr);
+			buff.flush();
+			buff.close();
+		} catch (IOException e) {
+			System.err.println("Failed writing to file: "+lirFileName);
+			e.printStackTrace();
+		}
+		System.out.println("LIR translation");
+		System.out.println("===============");
+		System.out.println(tr);
+	}
+	
+	/**
+	 * Runs the optimization passes over the LIR translation
+	 * exits on verification failure
+	 * @param tr: the LIR translation
+	 * @param passManager: the optimization passes
+	 * @return the optimized LIR translation
+	 */
+	private static String optimizeLIR(String tr, LIRPassManager passManager){
+		// the following is initialized only to prevent error message,
+		// real value is given in the try-catch block ahead
+		LIRProgram program = null;
+		try {
+			program = LIRLoader.parse(tr); // may throw LIRSyntaxError
+		} catch (Exception e) {
+			System.err.println(e);
+			System.exit(-1);
+		}
+		passManager.setTiming(timepasses_flag);
+		passManager.setVerifying(verifylir_flag);
+		if (!passManager.run(program)) System.exit(-1); // in case of a verification error
+		if (timepasses_flag) System.out.println(passManager.getReport());
+		if (!lirlines_flag){ // the lines were annotated for the passes' remarks only
+			for (LIRMethod method: program.getMethods()){
+				for (LIRInstruction instruction: method.getInstructions()){
+					instruction.setLine(0);
+				}
+			}
+		}
+		return program.toString();
+	}
+	
+	/**
+	 * Writes the AST of a source file (or library file) in the binary AST format to a file next to it
+	 * exits on failure
+	 * @param icFileName: the source file path
+	 * @param program: the source file's AST
+	 */
+	private static void writeBinaryAST(String icFileName, Program program){
+		int extension = icFileName.lastIndexOf('.');
+		String icabFileName = (extension > icFileName.lastIndexOf(File.separatorChar) ? icFileName.substring(0,extension) : icFileName)+".icab";
+		try {
+			ASTBinaryWriter.write(program, icabFileName);
+		} catch (Exception e) {
+			System.err.println("Failed writing to file: "+icabFileName);
+			e.printStackTrace();
+			System.exit(-1);
+		}
+		System.out.println("Wrote binary AST " + icabFileName);
+	}
+	
+	/**
+	 * Writes the LIR translation in the binary LIR format to a file next to the input file
+	 * exits on failure
+	 * @param icFileName: the input ic program file path
+	 * @param tr: the LIR translation
+	 */
+	private static void writeBinaryLIR(String icFileName, String tr){
+		String lirbFileName = icFileName.substring(0,icFileName.length()-2)+"lirb";
+		try {
+			LIRBinaryWriter.write(LIRLoader.parse(tr), lirbFileName);
+		} catch (Exception e) {
+			System.err.println("Failed writing to file: "+lirbFileName);
+			e.printStackTrace();
+			System.exit(-1);
+		}
+		System.out.println("Wrote binary LIR " + lirbFileName);
+	}
+	
+	/**
+	 * Writes the static statistics of the LIR translation to a file next to the input file
+	 * @param icFileName: the input ic program file path
+	 * @param tr: the LIR translation
+	 */
+	private static void writeLIRStats(String icFileName, String tr){
+		String statsFileName = icFileName.substring(0,icFileName.length()-2)+"lirstats";
+		try {
+			BufferedWriter buff = new BufferedWriter(new FileWriter(statsFileName));
+			buff.write(new LIRStats(LIRLoader.parse(tr)).toString(icFileName));
+			buff.flush();
+			buff.close();
+		} catch (Exception e) {
+			System.err.println("Failed writing to file: "+statsFileName);
+			e.printStackTrace();
+		}
+		System.out.println("Wrote LIR statistics " + statsFileName);
+	}
+	
+	/**
+	 * Writes the map of the LIR translation's instructions to their source lines to a file next to the input file
+	 * @param icFileName: the input ic program file path
+	 * @param tr: the LIR translation, with line annotations
+	 */
+	private static void writeLIRLineMap(String icFileName, String tr){
+		String mapFileName = icFileName.substring(0,icFileName.length()-2)+"lirmap";
+		try {
+			BufferedWriter buff = new BufferedWriter(new FileWriter(mapFileName));
+			buff.write(new LIRLineMap(LIRLoader.parse(tr)).toString(icFileName));
+			buff.flush();
+			buff.close();
+		} catch (Exception e) {
+			System.err.println("Failed writing to file: "+mapFileName);
+			e.printStackTrace();
+		}
+		System.out.println("Wrote LIR line map " + mapFileName);
+	}
+	
+	/**
+	 * Writes the optimization remarks to a file next to the input file
+	 * @param icFileName: the input ic program file path
+	 * @param remarks: the optimization remarks of the translation
+	 */
+	private static void writeRemarks(String icFileName, OptRemarks remarks){
+		String remarksFileName = icFileName.substring(0,icFileName.length()-2)+"remarks";
+		try {
+			BufferedWriter buff = new BufferedWriter(new FileWriter(remarksFileName));
+			buff.write(remarks.toString(icFileName));
+			buff.flush();
+			buff.close();
+		} catch (IOException e) {
+			System.err.println("Failed writing to file: "+remarksFileName);
+			e.printStackTrace();
+		}
+		System.out.println("Wrote " + remarks.size() + " optimization remarks to " + remarksFileName);
+	}
+	
+	private static final String stackOverflowMessage =
+		"Error: the program is nested too deeply for the compiler's stack, use a larger -stack-size";
+	
+	/**
+	 * returns a new thread of the compiler's stack size (see -stack-size)
+	 * - a stack overflow stops the compiler with an error message
+	 * - any other uncaught exception stops the compiler (after its stack trace is printed)
+	 */
+	private static Thread newThread(Runnable r, String name){
+		Thread thread = new Thread(null, r, name, (long) stack_size << 20);
+		thread.setUncaughtExceptionHandler(new Thread.UncaughtExceptionHandler(){
+			public void uncaughtException(Thread t, Throwable e){
+				if (e instanceof StackOverflowError){
+					System.err.println(stackOverflowMessage);
+				} else {
+					System.err.print("Exception in thread \""+t.getName()+"\" ");
+					e.printStackTrace();
+				}
+				System.exit(-1);
+			}
+		});
+		return thread;
+	}
+	
+	/**
+	 * parses the given source files and merges their classes into one program, in the files order
+	 * - every file is parsed by its own lexer and parser, as a task on a pool of threads (a thread per processor),
+	 *   so the files are parsed concurrently
+	 * - the errors of all the files are reported (prefixed by the file name, for several files) and then the run
+	 *   is killed
+	 * - for several files, every class is marked with its source file, for the semantic errors
+	 * @param files
+	 * @return the program
+	 */
+	private static Program parseFiles(List<String> files){
+		int threads = Math.min(files.size(), Runtime.getRuntime().availableProcessors());
+		ExecutorService pool = Executors.newFixedThreadPool(threads, new ThreadFactory(){
+			public Thread newThread(Runnable r){
+				return Compiler.newThread(r, "parser");
+			}
+		});
+		List<Future<Program>> units = new ArrayList<Future<Program>>();
+		for (final String file: files){
+			units.add(pool.submit(new Callable<Program>(){
+				public Program call() throws Exception {
+					return parseFile(file);
+				}
+			}));
+		}
+		pool.shutdown();
+		
+		Program root = null;
+		boolean parseErrors = false;
+		for (int i = 0; i < files.size(); i++){
+			String file = files.get(i);
+			Program unit = null;
+			try{
+				unit = units.get(i).get();
+			} catch (Exception e){
+				Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+				String error = cause instanceof StackOverflowError ? stackOverflowMessage : cause.toString();
+				if (files.size() > 1) error = file+": "+error.replace("\n", "\n"+file+": ");
+				System.err.println(error);
+				parseErrors = true;
+				continue;
+			}
+			System.out.println("Parsed " + file + " successfully!");
+			if (astbin_flag && !ASTBinaryReader.isBinaryAST(file)) writeBinaryAST(file, unit);
+			if (files.size() > 1){
+				for (ICClass c: unit.getClasses()) c.setSourceFile(file);
+			}
+			if (root == null) root = unit;
+			else for (ICClass c: unit.getClasses()) root.addClass(c);
+		}
+		if (parseErrors) System.exit(-1);
+		return root;
+	}
+	
+	/**
+	 * parses the given source file
+	 * a binary AST file (.icab) is read, not parsed
+	 * @param file
+	 * @return the file's program
+	 * @throws Exception: an i/o exception, LexicalError or SyntaxError with -rd-parser, ParseErrors otherwise
+	 */
+	private static Program parseFile(String file) throws Exception {
+		if (ASTBinaryReader.isBinaryAST(file)) return ASTBinaryReader.read(file); // may throw i/o exception
+		Reader txtFile = MappedFileReader.open(file); // may throw i/o exception
+		Lexer lexer = new Lexer(txtFile);
+		if (rdparser_flag){
+			RecursiveDescentParser parser = new RecursiveDescentParser(lexer);
+			return parser.parse(); // may throw LexicalError or SyntaxError
+		} else {
+			Parser parser = new Parser(lexer);
+			return (Program) parser.parse_all().value; // may throw ParseErrors
+		}
+	}
+	
+	/**
+	 * prints the tokens of the given source files (see TokenBuffer.dump), a file after the other
+	 * a lexical error ends the file's tokens, it is reported (prefixed by the file name, for several files)
+	 * and the run is killed after the last file
+	 * @param files
+	 */
+	private static void dumpTokens(List<String> files){
+		Writer out = new BufferedWriter(new OutputStreamWriter(System.out));
+		boolean lexicalErrors = false;
+		for (String file: files){
+			String error = null;
 			try {
-				BufferedWriter buff = new BufferedWriter(new FileWriter(lirFileName));
-				buff.write(tr);
-				buff.flush();
-				buff.close();
-			} catch (IOException e) {
-				System.err.println("Failed writing to file: "+lirFileName);
-				e.printStackTrace();
+				TokenBuffer tokens = new TokenBuffer(new Lexer(MappedFileReader.open(file))); // may throw i/o exception
+				tokens.dump(out);
+				tokens.readAll(); // may throw LexicalError
+			} catch (Exception e){
+				error = e.toString();
+			}
+			if (error != null){
+				System.err.println(files.size() > 1 ? file+": "+error : error);
+				lexicalErrors = true;
 			}
-			System.out.println("LIR translation");
-			System.out.println("===============");
-			System.out.println(tr);
 		}
+		if (lexicalErrors) System.exit(-1);
 	}
 	
 	/**
 	 * Prints usage information about this application to System.out
 	 */
 	public static void printUsage() {
-		System.out.println("Usage: IC.Compiler <file.ic> [-L<library_path>] [-print-ast] [-dump-symtab] "+
-				"[-print-lir] [-opt-lir]");
+		System.out.println("Usage: IC.Compiler <file.ic> [<file.ic> ...] [-L<library_path>] [-lib-cache=<dir>] [-rd-parser] [-dump-tokens] [-max-errors=<n>] [-stack-size=<MB>] [-print-ast] [-dump-symtab] "+
+				"[-print-lir] [-O0|-O1|-O2|-opt-lir] [-enable-pass=<pass>,...] [-disable-pass=<pass>,...] "+
+				"[-time-passes] [-verify-lir] [-opt-remarks] [-lir-stats] [-lir-lines] [-lir-bin] [-ast-bin] [-x86] [-c] [-jvm]");
+		System.out.println("Optimization passes: "+LIRPassManager.getAllPassesNames());
 	}
 }
\ No newline at end of file
@@ -0,0 +1,213 @@
+package IC.JVM;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Writes a JVM class file (version 49, so no stack map frames are needed):
+ * a constant pool, fields and methods with their code
+ */
+public class ClassFileWriter {
+
+	// class file version 49.0 (Java 5), verified by type inference
+	private static final int majorVersion = 49;
+
+	// access flags
+	public static final int ACC_PUBLIC = 0x0001;
+	public static final int ACC_STATIC = 0x0008;
+	public static final int ACC_SUPER = 0x0020;
+
+	// constant pool tags
+	private static final int CONSTANT_Utf8 = 1;
+	private static final int CONSTANT_Integer = 3;
+	private static final int CONSTANT_Class = 7;
+	private static final int CONSTANT_String = 8;
+	private static final int CONSTANT_Fieldref = 9;
+	private static final int CONSTANT_Methodref = 10;
+	private static final int CONSTANT_NameAndType = 12;
+
+	private String className;
+	private String superClassName;
+	private String sourceFileName;
+
+	// constant pool entries, and the index of each entry by its key
+	private ByteArrayOutputStream constantPool = new ByteArrayOutputStream();
+	private Map<String,Integer> constantIndex = new HashMap<String,Integer>();
+	private int constantCounter = 1;
+
+	// fields and methods
+	private ByteArrayOutputStream members = new ByteArrayOutputStream();
+	private int fieldsCounter = 0;
+	private List<byte[]> methods = new ArrayList<byte[]>();
+
+	/**
+	 * constructor
+	 * @param className: internal name of the class (e.g. "A")
+	 * @param superClassName: internal name of the super-class (e.g. "java/lang/Object")
+	 * @param sourceFileName: the source file, for stack traces
+	 */
+	public ClassFileWriter(String className, String superClassName, String sourceFileName){
+		this.className = className;
+		this.superClassName = superClassName;
+		this.sourceFileName = sourceFileName;
+	}
+
+	public String getClassName(){
+		return className;
+	}
+
+	public String getSuperClassName(){
+		return superClassName;
+	}
+
+	//////////////////////
+	//	constant pool	//
+	//////////////////////
+
+	/**
+	 * returns the index of the constant with the given key, adding it with the given bytes if needed
+	 */
+	private int constant(String key, byte[] entry){
+		Integer index = constantIndex.get(key);
+		if (index != null) return index;
+
+		constantPool.write(entry, 0, entry.length);
+		constantIndex.put(key, constantCounter);
+		return constantCounter++;
+	}
+
+	/**
+	 * returns the bytes of a constant pool entry made of a tag and u2 indices
+	 */
+	private static byte[] entry(int tag, int... indices){
+		byte[] entry = new byte[1+2*indices.length];
+		entry[0] = (byte) tag;
+		for (int i = 0; i < indices.length; i++){
+			entry[1+2*i] = (byte) (indices[i] >> 8);
+			entry[2+2*i] = (byte) indices[i];
+		}
+		return entry;
+	}
+
+	public int utf8(String value){
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try {
+			DataOutputStream out = new DataOutputStream(bytes);
+			out.writeByte(CONSTANT_Utf8);
+			out.writeUTF(value);
+		} catch (IOException e) {} // never thrown by a byte array stream
+		return constant("Utf8:"+value, bytes.toByteArray());
+	}
+
+	public int integer(int value){
+		byte[] entry = {(byte) CONSTANT_Integer, (byte) (value >> 24), (byte) (value >> 16), (byte) (value >> 8), (byte) value};
+		return constant("Integer:"+value, entry);
+	}
+
+	public int classRef(String internalName){
+		return constant("Class:"+internalName, entry(CONSTANT_Class, utf8(internalName)));
+	}
+
+	public int string(String value){
+		return constant("String:"+value, entry(CONSTANT_String, utf8(value)));
+	}
+
+	private int nameAndType(String name, String descriptor){
+		return constant("NameAndType:"+name+":"+descriptor, entry(CONSTANT_NameAndType, utf8(name), utf8(descriptor)));
+	}
+
+	public int fieldRef(String owner, String name, String descriptor){
+		return constant("Fieldref:"+owner+"."+name+":"+descriptor,
+				entry(CONSTANT_Fieldref, classRef(owner), nameAndType(name, descriptor)));
+	}
+
+	public int methodRef(String owner, String name, String descriptor){
+		return constant("Methodref:"+owner+"."+name+":"+descriptor,
+				entry(CONSTANT_Methodref, classRef(owner), nameAndType(name, descriptor)));
+	}
+
+	//////////////////////////
+	//	fields and methods	//
+	//////////////////////////
+
+	/**
+	 * adds a field
+	 * @param access
+	 * @param name
+	 * @param descriptor
+	 */
+	public void addField(int access, String name, String descriptor){
+		DataOutputStream out = new DataOutputStream(members);
+		try {
+			out.writeShort(access);
+			out.writeShort(utf8(name));
+			out.writeShort(utf8(descriptor));
+			out.writeShort(0); // no attributes
+		} catch (IOException e) {} // never thrown by a byte array stream
+		fieldsCounter++;
+	}
+
+	/**
+	 * adds a method with the given code
+	 * @param access
+	 * @param name
+	 * @param descriptor
+	 * @param code
+	 */
+	public void addMethod(int access, String name, String descriptor, MethodCode code){
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		byte[] bytecode = code.toByteArray();
+		try {
+			out.writeShort(access);
+			out.writeShort(utf8(name));
+			out.writeShort(utf8(descriptor));
+			out.writeShort(1); // Code attribute
+			out.writeShort(utf8("Code"));
+			out.writeInt(12+bytecode.length);
+			out.writeShort(code.getMaxStack());
+			out.writeShort(code.getMaxLocals());
+			out.writeInt(bytecode.length);
+			out.write(bytecode);
+			out.writeShort(0); // no exception handlers
+			out.writeShort(0); // no attributes
+		} catch (IOException e) {} // never thrown by a byte array stream
+		methods.add(bytes.toByteArray());
+	}
+
+	/**
+	 * returns the class file
+	 * @return
+	 */
+	public byte[] toByteArray(){
+		int thisIndex = classRef(className);
+		int superIndex = classRef(superClassName);
+		int sourceFileAttribute = utf8("SourceFile");
+		int sourceFileIndex = utf8(sourceFileName);
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		try {
+			out.writeInt(0xCAFEBABE);
+			out.writeShort(0);
+			out.writeShort(majorVersion);
+			out.writeShort(constantCounter);
+			constantPool.writeTo(out);
+			out.writeShort(ACC_PUBLIC | ACC_SUPER);
+			out.writeShort(thisIndex);
+			out.writeShort(superIndex);
+			out.writeShort(0); // no interfaces
+			out.writeShort(fieldsCounter);
+			members.writeTo(out);
+			out.writeShort(methods.size());
+			for (byte[] method: methods){
+				out.write(method);
+			}
+			out.writeShort(1); // SourceFile attribute
+			out.writeShort(sourceFileAttribute);
+			out.writeInt(2);
+			out.writeShort(sourceFileIndex);
+		} catch (IOException e) {} // never thrown by a byte array stream
+		return bytes.toByteArray();
+	}
+}
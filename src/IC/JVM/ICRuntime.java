@@ -0,0 +1,191 @@
+package IC.JVM;
+
+import java.io.*;
+import java.util.Random;
+
+/**
+ * Runtime support for IC programs compiled to JVM class files by IC.JVM.JVMTranslator,
+ * packaged in the program's jar
+ *
+ * - the Library class methods, with the signatures of the IC library declaration
+ * - the runtime checks of the LIR translation, with the same error messages
+ *
+ * IC strings are java.lang.String objects whose chars are bytes, so the standard streams
+ * are used as ISO-8859-1 (the output is buffered and flushed when the program ends)
+ */
+public class ICRuntime {
+
+	private static final PrintStream out = newOutput();
+	private static final PushbackInputStream in = new PushbackInputStream(new BufferedInputStream(System.in));
+	private static final Random random = new Random();
+	private static final long startTime = System.currentTimeMillis();
+
+	static {
+		Runtime.getRuntime().addShutdownHook(new OutputFlusher());
+	}
+
+	/**
+	 * flushes the output when the program ends
+	 */
+	private static class OutputFlusher extends Thread {
+		public void run(){
+			out.flush();
+		}
+	}
+
+	private static PrintStream newOutput(){
+		OutputStream stdout = new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), 1 << 16);
+		try {
+			return new PrintStream(stdout, false, "ISO-8859-1");
+		} catch (UnsupportedEncodingException e) {
+			return new PrintStream(stdout, false);
+		}
+	}
+
+	//////////////////////
+	//	runtime checks	//
+	//////////////////////
+
+	private static void error(String message){
+		out.println(message);
+		out.flush();
+		System.exit(1);
+	}
+
+	public static void checkNullRef(Object a){
+		if (a == null) error("Runtime Error: Null pointer dereference!");
+	}
+
+	public static void checkArrayAccess(int[] a, int i){
+		if (i < 0 || i >= a.length) error("Runtime Error: Array index out of bounds!");
+	}
+
+	public static void checkArrayAccess(boolean[] a, int i){
+		if (i < 0 || i >= a.length) error("Runtime Error: Array index out of bounds!");
+	}
+
+	public static void checkArrayAccess(Object[] a, int i){
+		if (i < 0 || i >= a.length) error("Runtime Error: Array index out of bounds!");
+	}
+
+	public static void checkSize(int n){
+		if (n < 0) error("Runtime Error: Array allocation with negative array size!");
+	}
+
+	public static void checkZero(int b){
+		if (b == 0) error("Runtime Error: Division by zero!");
+	}
+
+	public static String stringCat(String a, String b){
+		return a.concat(b);
+	}
+
+	//////////////////////
+	//	Library class	//
+	//////////////////////
+
+	public static void println(String s){
+		out.println(s);
+	}
+
+	public static void print(String s){
+		out.print(s);
+	}
+
+	public static void printi(int i){
+		out.print(i);
+	}
+
+	public static void printb(boolean b){
+		out.print(b);
+	}
+
+	public static int readi(){
+		out.flush();
+		try {
+			int c = in.read();
+			while (c != -1 && Character.isWhitespace(c)) c = in.read();
+
+			boolean isNegative = c == '-';
+			if (c == '-' || c == '+') c = in.read();
+			if (c < '0' || c > '9'){
+				if (c != -1) in.unread(c);
+				return 0;
+			}
+
+			int i = 0;
+			while (c >= '0' && c <= '9'){
+				i = 10*i+(c-'0');
+				c = in.read();
+			}
+			if (c != -1) in.unread(c);
+			return isNegative ? -i : i;
+		} catch (IOException e) {
+			return 0;
+		}
+	}
+
+	public static String readln(){
+		out.flush();
+		StringBuilder line = new StringBuilder();
+		try {
+			int c;
+			while ((c = in.read()) != -1 && c != '\n'){
+				line.append((char) c);
+			}
+		} catch (IOException e) {}
+		return line.toString();
+	}
+
+	public static boolean eof(){
+		try {
+			int c = in.read();
+			if (c == -1) return true;
+			in.unread(c);
+			return false;
+		} catch (IOException e) {
+			return true;
+		}
+	}
+
+	public static int stoi(String s, int n){
+		try {
+			return Integer.parseInt(s);
+		} catch (NumberFormatException e) {
+			return n;
+		}
+	}
+
+	public static String itos(int i){
+		return Integer.toString(i);
+	}
+
+	public static int[] stoa(String s){
+		int[] a = new int[s.length()];
+		for (int i = 0; i < a.length; i++){
+			a[i] = s.charAt(i);
+		}
+		return a;
+	}
+
+	public static String atos(int[] a){
+		char[] chars = new char[a.length];
+		for (int i = 0; i < a.length; i++){
+			chars[i] = (char) (a[i] & 0xff);
+		}
+		return new String(chars);
+	}
+
+	public static int random(int i){
+		return i > 0 ? random.nextInt(i) : 0;
+	}
+
+	public static int time(){
+		return (int) (System.currentTimeMillis()-startTime);
+	}
+
+	public static void exit(int i){
+		out.flush();
+		System.exit(i);
+	}
+}
@@ -0,0 +1,832 @@
+package IC.JVM;
+
+import java.io.File;
+import java.util.*;
+
+import IC.BinaryOps;
+import IC.AST.*;
+import IC.LIR.ClassLayout;
+import IC.SymbolTable.*;
+
+import static IC.JVM.MethodCode.*;
+
+/**
+ * Translates a type-checked IC program to JVM class files, one class per IC class
+ *
+ * - classes extend their IC super-class (or java.lang.Object), fields and methods are public
+ * - virtual methods are JVM virtual methods, static methods are JVM static methods,
+ *   the program's main method is the JVM entry point
+ * - Library calls and the LIR's runtime checks are calls to IC.JVM.ICRuntime
+ * - expressions are evaluated left to right, values are assigned after being evaluated, as in the LIR
+ *
+ * every expression visitor pushes the expression's value and returns its type name (e.g. "int[]")
+ */
+public class JVMTranslator implements Visitor {
+
+	private static final String runtimeClass = "IC/JVM/ICRuntime";
+
+	// java.lang.Object methods, IC methods with these names are renamed
+	private static final Set<String> objectMethods = new HashSet<String>(Arrays.asList(
+			"clone", "equals", "finalize", "getClass", "hashCode", "notify", "notifyAll", "toString", "wait"));
+
+	private String sourceFileName;
+
+	/**
+	 * constructor
+	 * @param ICFilePath: the path + name of the IC file being compiled
+	 */
+	public JVMTranslator(String ICFilePath){
+		this.sourceFileName = new File(ICFilePath).getName();
+	}
+
+	// class layouts
+	private Map<String,ClassLayout> classLayouts = new HashMap<String,ClassLayout>();
+	// the Library class, if given
+	private ICClass libraryClass = null;
+	// class files by class name
+	private Map<String,byte[]> classFiles = new LinkedHashMap<String,byte[]>();
+	// the class of the program's main method
+	private String mainClassName = null;
+
+	// current class, class file and method code
+	private String currClassName = "";
+	private ClassFileWriter classFile;
+	private MethodCode code;
+	// current method's local variables slots and types, by name and depth
+	private Map<String,Integer> localSlots;
+	private Map<String,String> localTypes;
+	// labels of the enclosing loops: continue and break targets
+	private Stack<Label> whileLabels = new Stack<Label>();
+	private Stack<Label> endLabels = new Stack<Label>();
+
+	/**
+	 * returns the class of the program's main method, valid after visiting the program
+	 * @return
+	 */
+	public String getMainClassName(){
+		return mainClassName;
+	}
+
+	/**
+	 * Program visitor:
+	 * - creates the class layouts
+	 * - translates all classes
+	 * - returns the class files, mapped by class name
+	 */
+	public Object visit(Program program){
+		for (ICClass c: program.getClasses()){
+			if (c.getName().equals("Library")){
+				libraryClass = c;
+				continue;
+			}
+			// super-class layout is created before its subclasses
+			ClassLayout classLayout = c.hasSuperClass() ?
+					new ClassLayout(c, classLayouts.get(c.getSuperClassName())) : new ClassLayout(c);
+			classLayouts.put(c.getName(), classLayout);
+		}
+
+		for (ICClass c: program.getClasses()){
+			if (c != libraryClass) c.accept(this);
+		}
+
+		return classFiles;
+	}
+
+	/**
+	 * ICClass visitor:
+	 * - creates the class file with the class's fields, a default constructor and methods
+	 */
+	public Object visit(ICClass icClass){
+		currClassName = icClass.getName();
+		String superClassName = icClass.hasSuperClass() ? icClass.getSuperClassName() : "java/lang/Object";
+		classFile = new ClassFileWriter(currClassName, superClassName, sourceFileName);
+
+		for (Field f: icClass.getFields()){
+			f.accept(this);
+		}
+
+		// default constructor, fields are initialized to 0 / null
+		code = new MethodCode(1);
+		code.local(ALOAD, 0, 1);
+		code.op2(INVOKESPECIAL, classFile.methodRef(superClassName, "<init>", "()V"), -1);
+		code.op(RETURN, 0);
+		classFile.addMethod(ClassFileWriter.ACC_PUBLIC, "<init>", "()V", code);
+
+		for (Method m: icClass.getMethods()){
+			m.accept(this);
+		}
+
+		classFiles.put(currClassName, classFile.toByteArray());
+		return null;
+	}
+
+	/**
+	 * Field visitor:
+	 * - adds the field to the class file
+	 */
+	public Object visit(Field field){
+		classFile.addField(ClassFileWriter.ACC_PUBLIC, field.getName(), getDescriptor(field.getType().getFullName()));
+		return null;
+	}
+
+	/**
+	 * VirtualMethod visitor:
+	 * see methodVisitHelper documentation
+	 */
+	public Object visit(VirtualMethod method){
+		methodVisitHelper(method);
+		return null;
+	}
+
+	/**
+	 * StaticMethod visitor:
+	 * see methodVisitHelper documentation
+	 */
+	public Object visit(StaticMethod method){
+		// check if this method is the program's main method
+		boolean isMain = method.getName().equals("main") &&
+						 method.getType().getName().equals("void") &&
+						 method.getFormals().size() == 1 &&
+						 method.getFormals().get(0).getType().getFullName().equals("string[]");
+		if (isMain) mainClassName = currClassName;
+		methodVisitHelper(method);
+		return null;
+	}
+
+	/**
+	 * Virtual / Static method visitor helper
+	 * - allocates the formals, then the local variables (one slot per name, depth and type,
+	 *   initialized to 0 / null on entry as in the LIR)
+	 * - translates the method's statements, followed by a default return
+	 * - adds the method to the class file
+	 * @param method
+	 */
+	private void methodVisitHelper(Method method){
+		code = new MethodCode(method.isStatic() ? 0 : 1);
+		localSlots = new HashMap<String,Integer>();
+		localTypes = new HashMap<String,String>();
+
+		for (Formal f: method.getFormals()){
+			localSlots.put(f.getNameDepth(), code.newLocal());
+			localTypes.put(f.getNameDepth(), f.getType().getFullName());
+		}
+
+		// local variables
+		List<LocalVariable> localVariables = new ArrayList<LocalVariable>();
+		collectLocalVariables(method.getStatements(), localVariables);
+		Map<String,Integer> slots = new HashMap<String,Integer>();
+		for (LocalVariable v: localVariables){
+			String type = v.getType().getFullName();
+			String key = v.getNameDepth()+":"+type;
+			if (slots.containsKey(key)) continue;
+
+			int slot = code.newLocal();
+			slots.put(key, slot);
+			if (isReference(type)){
+				code.op(ACONST_NULL, 1);
+				code.local(ASTORE, slot, -1);
+			} else {
+				code.op(ICONST_0, 1);
+				code.local(ISTORE, slot, -1);
+			}
+		}
+		localSlots.putAll(slots);
+
+		for (Statement s: method.getStatements()){
+			s.accept(this);
+		}
+
+		// default return
+		String returnType = method.getType().getFullName();
+		if (returnType.equals("void")){
+			code.op(RETURN, 0);
+		} else if (isReference(returnType)){
+			code.op(ACONST_NULL, 1);
+			code.op(ARETURN, -1);
+		} else {
+			code.op(ICONST_0, 1);
+			code.op(IRETURN, -1);
+		}
+
+		int access = ClassFileWriter.ACC_PUBLIC | (method.isStatic() ? ClassFileWriter.ACC_STATIC : 0);
+		classFile.addMethod(access, getMethodName(method.getName()), getDescriptor(method), code);
+	}
+
+	/**
+	 * collects the local variables declared in the given statements
+	 * @param statements
+	 * @param localVariables: the list to fill
+	 */
+	private void collectLocalVariables(List<Statement> statements, List<LocalVariable> localVariables){
+		for (Statement s: statements){
+			collectLocalVariables(s, localVariables);
+		}
+	}
+
+	private void collectLocalVariables(Statement s, List<LocalVariable> localVariables){
+		if (s instanceof LocalVariable){
+			localVariables.add((LocalVariable) s);
+		} else if (s instanceof StatementsBlock){
+			collectLocalVariables(((StatementsBlock) s).getStatements(), localVariables);
+		} else if (s instanceof If){
+			collectLocalVariables(((If) s).getOperation(), localVariables);
+			if (((If) s).hasElse()) collectLocalVariables(((If) s).getElseOperation(), localVariables);
+		} else if (s instanceof While){
+			collectLocalVariables(((While) s).getOperation(), localVariables);
+		}
+	}
+
+	/**
+	 * LibraryMethod visitor: never called, library methods are implemented by ICRuntime
+	 */
+	public Object visit(LibraryMethod method){
+		return null;
+	}
+
+	/**
+	 * Formal visitor: never called
+	 */
+	public Object visit(Formal formal){
+		return null;
+	}
+
+	/**
+	 * PrimitiveType visitor: never called
+	 */
+	public Object visit(PrimitiveType type){
+		return null;
+	}
+
+	/**
+	 * UserType visitor: never called
+	 */
+	public Object visit(UserType type){
+		return null;
+	}
+
+	/**
+	 * Assignment visitor:
+	 * - translates the assigned value, then the variable (as the LIR does)
+	 * - fields and array elements are stored after bringing the value above the object / array and index
+	 */
+	public Object visit(Assignment assignment){
+		assignment.getAssignment().accept(this);
+
+		if (assignment.getVariable() instanceof ArrayLocation){
+			ArrayLocation location = (ArrayLocation) assignment.getVariable();
+			String arrayType = translateArrayAccess(location);
+			// value, array, index -> array, index, value
+			code.op(DUP2_X1, 2);
+			code.op(POP2, -2);
+			code.op(getArrayStore(getElementType(arrayType)), -3);
+			return null;
+		}
+
+		VariableLocation location = (VariableLocation) assignment.getVariable();
+		if (location.isExternal()){
+			String className = translateObject(location.getLocation());
+			code.op(SWAP, 0);
+			putField(className, location.getName());
+		} else if (((BlockSymbolTable)location.getEnclosingScope()).isVarField(location.getName())){
+			code.local(ALOAD, 0, 1);
+			code.op(SWAP, 0);
+			putField(currClassName, location.getName());
+		} else {
+			String type = localTypes.get(location.getNameDepth());
+			code.local(isReference(type) ? ASTORE : ISTORE, localSlots.get(location.getNameDepth()), -1);
+		}
+		return null;
+	}
+
+	/**
+	 * CallStatement visitor:
+	 * - translates the call, discarding its value
+	 */
+	public Object visit(CallStatement callStatement){
+		String type = (String) callStatement.getCall().accept(this);
+		if (!type.equals("void")) code.op(POP, -1);
+		return null;
+	}
+
+	/**
+	 * Return visitor
+	 */
+	public Object visit(Return returnStatement){
+		if (returnStatement.hasValue()){
+			String type = (String) returnStatement.getValue().accept(this);
+			code.op(isReference(type) ? ARETURN : IRETURN, -1);
+		} else {
+			code.op(RETURN, 0);
+		}
+		return null;
+	}
+
+	/**
+	 * If visitor
+	 */
+	public Object visit(If ifStatement){
+		Label falseLabel = code.newLabel();
+		Label endLabel = code.newLabel();
+
+		ifStatement.getCondition().accept(this);
+		code.jump(IFEQ, falseLabel, -1);
+		ifStatement.getOperation().accept(this);
+		if (ifStatement.hasElse()){
+			code.jump(GOTO, endLabel, 0);
+			code.mark(falseLabel);
+			ifStatement.getElseOperation().accept(this);
+		} else {
+			code.mark(falseLabel);
+		}
+		code.mark(endLabel);
+		return null;
+	}
+
+	/**
+	 * While visitor
+	 */
+	public Object visit(While whileStatement){
+		Label whileLabel = code.newLabel();
+		Label endLabel = code.newLabel();
+		whileLabels.push(whileLabel);
+		endLabels.push(endLabel);
+
+		code.mark(whileLabel);
+		whileStatement.getCondition().accept(this);
+		code.jump(IFEQ, endLabel, -1);
+		whileStatement.getOperation().accept(this);
+		code.jump(GOTO, whileLabel, 0);
+		code.mark(endLabel);
+
+		whileLabels.pop();
+		endLabels.pop();
+		return null;
+	}
+
+	/**
+	 * Break visitor
+	 */
+	public Object visit(Break breakStatement){
+		code.jump(GOTO, endLabels.peek(), 0);
+		return null;
+	}
+
+	/**
+	 * Continue visitor
+	 */
+	public Object visit(Continue continueStatement){
+		code.jump(GOTO, whileLabels.peek(), 0);
+		return null;
+	}
+
+	/**
+	 * StatementsBlock visitor
+	 */
+	public Object visit(StatementsBlock statementsBlock){
+		for (Statement s: statementsBlock.getStatements()){
+			s.accept(this);
+		}
+		return null;
+	}
+
+	/**
+	 * LocalVariable visitor:
+	 * - binds the variable's name to its slot, and assigns its init value
+	 */
+	public Object visit(LocalVariable localVariable){
+		String type = localVariable.getType().getFullName();
+		int slot = localSlots.get(localVariable.getNameDepth()+":"+type);
+		localSlots.put(localVariable.getNameDepth(), slot);
+		localTypes.put(localVariable.getNameDepth(), type);
+
+		if (localVariable.hasInitValue()){
+			localVariable.getInitValue().accept(this);
+			code.local(isReference(type) ? ASTORE : ISTORE, slot, -1);
+		}
+		return null;
+	}
+
+	/**
+	 * VariableLocation visitor:
+	 * - pushes the local variable, or the field of the (checked) object
+	 */
+	public Object visit(VariableLocation location){
+		if (location.isExternal()){
+			String className = translateObject(location.getLocation());
+			return getField(className, location.getName());
+		} else if (((BlockSymbolTable)location.getEnclosingScope()).isVarField(location.getName())){
+			code.local(ALOAD, 0, 1);
+			return getField(currClassName, location.getName());
+		} else {
+			String type = localTypes.get(location.getNameDepth());
+			code.local(isReference(type) ? ALOAD : ILOAD, localSlots.get(location.getNameDepth()), 1);
+			return type;
+		}
+	}
+
+	/**
+	 * ArrayLocation visitor:
+	 * - pushes the element of the (checked) array
+	 */
+	public Object visit(ArrayLocation location){
+		String elementType = getElementType(translateArrayAccess(location));
+		code.op(getArrayLoad(elementType), -1);
+		return elementType;
+	}
+
+	/**
+	 * StaticCall visitor:
+	 * - pushes the arguments and calls the method (library methods are ICRuntime's)
+	 */
+	public Object visit(StaticCall call){
+		for (Expression arg: call.getArguments()){
+			arg.accept(this);
+		}
+
+		Method m;
+		String owner;
+		String name;
+		if (call.getClassName().equals("Library")){
+			m = getLibraryMethod(call.getName());
+			owner = runtimeClass;
+			name = m.getName();
+		} else {
+			m = classLayouts.get(call.getClassName()).getMethodFromName(call.getName());
+			owner = ((ClassSymbolTable) m.getEnclosingScope()).getMySymbol().getName();
+			name = getMethodName(m.getName());
+		}
+
+		String returnType = m.getType().getFullName();
+		int stackDelta = -call.getArguments().size()+(returnType.equals("void") ? 0 : 1);
+		code.op2(INVOKESTATIC, classFile.methodRef(owner, name, getDescriptor(m)), stackDelta);
+		return returnType;
+	}
+
+	/**
+	 * VirtualCall visitor:
+	 * - pushes the (checked) object and the arguments, and calls the method virtually
+	 */
+	public Object visit(VirtualCall call){
+		String className;
+		if (call.isExternal()){
+			className = translateObject(call.getLocation());
+		} else {
+			code.local(ALOAD, 0, 1);
+			className = currClassName;
+		}
+
+		for (Expression arg: call.getArguments()){
+			arg.accept(this);
+		}
+
+		Method m = classLayouts.get(className).getMethodFromName(call.getName());
+		String returnType = m.getType().getFullName();
+		int stackDelta = -call.getArguments().size()-1+(returnType.equals("void") ? 0 : 1);
+		code.op2(INVOKEVIRTUAL, classFile.methodRef(className, getMethodName(m.getName()), getDescriptor(m)), stackDelta);
+		return returnType;
+	}
+
+	/**
+	 * This visitor
+	 */
+	public Object visit(This thisExpression){
+		code.local(ALOAD, 0, 1);
+		return currClassName;
+	}
+
+	/**
+	 * NewClass visitor:
+	 * - creates the object with the default constructor
+	 */
+	public Object visit(NewClass newClass){
+		code.op2(NEW, classFile.classRef(newClass.getName()), 1);
+		code.op(DUP, 1);
+		code.op2(INVOKESPECIAL, classFile.methodRef(newClass.getName(), "<init>", "()V"), -1);
+		return newClass.getName();
+	}
+
+	/**
+	 * NewArray visitor:
+	 * - checks the size and creates the array
+	 */
+	public Object visit(NewArray newArray){
+		newArray.getSize().accept(this);
+		code.op(DUP, 1);
+		code.op2(INVOKESTATIC, classFile.methodRef(runtimeClass, "checkSize", "(I)V"), -1);
+
+		String elementType = newArray.getType().getFullName();
+		if (elementType.equals("int")) code.op1(NEWARRAY, T_INT, 0);
+		else if (elementType.equals("boolean")) code.op1(NEWARRAY, T_BOOLEAN, 0);
+		else code.op2(ANEWARRAY, classFile.classRef(getInternalName(elementType)), 0);
+		return elementType+"[]";
+	}
+
+	/**
+	 * Length visitor:
+	 * - pushes the length of the (checked) array
+	 */
+	public Object visit(Length length){
+		translateObject(length.getArray());
+		code.op(ARRAYLENGTH, 0);
+		return "int";
+	}
+
+	/**
+	 * MathBinaryOp visitor:
+	 * - pushes the operands, division and modulo check the second operand for zero
+	 * - string addition concatenates
+	 */
+	public Object visit(MathBinaryOp binaryOp){
+		String type = (String) binaryOp.getFirstOperand().accept(this);
+		binaryOp.getSecondOperand().accept(this);
+
+		switch (binaryOp.getOperator()){
+		case PLUS:
+			if (type.equals("string")){
+				code.op2(INVOKESTATIC, classFile.methodRef(runtimeClass, "stringCat",
+						"(Ljava/lang/String;Ljava/lang/String;)Ljava/lang/String;"), -1);
+				return "string";
+			}
+			code.op(IADD, -1);
+			break;
+		case MINUS:
+			code.op(ISUB, -1);
+			break;
+		case MULTIPLY:
+			code.op(IMUL, -1);
+			break;
+		case DIVIDE:
+			checkZero();
+			code.op(IDIV, -1);
+			break;
+		default: // MOD
+			checkZero();
+			code.op(IREM, -1);
+		}
+		return "int";
+	}
+
+	/**
+	 * LogicalBinaryOp visitor:
+	 * - && and || evaluate their second operand only if needed
+	 * - comparisons push 1 or 0, references are compared by identity
+	 */
+	public Object visit(LogicalBinaryOp binaryOp){
+		BinaryOps op = binaryOp.getOperator();
+		Label endLabel = code.newLabel();
+
+		if (op == BinaryOps.LAND || op == BinaryOps.LOR){
+			binaryOp.getFirstOperand().accept(this);
+			code.op(DUP, 1);
+			code.jump(op == BinaryOps.LAND ? IFEQ : IFNE, endLabel, -1);
+			code.op(POP, -1);
+			binaryOp.getSecondOperand().accept(this);
+			code.mark(endLabel);
+			return "boolean";
+		}
+
+		String type1 = (String) binaryOp.getFirstOperand().accept(this);
+		String type2 = (String) binaryOp.getSecondOperand().accept(this);
+		boolean isReferences = isReference(type1) || isReference(type2);
+
+		int jump;
+		switch (op){
+		case LT: jump = IF_ICMPLT; break;
+		case LTE: jump = IF_ICMPLE; break;
+		case GT: jump = IF_ICMPGT; break;
+		case GTE: jump = IF_ICMPGE; break;
+		case EQUAL: jump = isReferences ? IF_ACMPEQ : IF_ICMPEQ; break;
+		default: jump = isReferences ? IF_ACMPNE : IF_ICMPNE; // NEQUAL
+		}
+
+		Label trueLabel = code.newLabel();
+		code.jump(jump, trueLabel, -2);
+		int stack = code.getStack();
+		code.op(ICONST_0, 1);
+		code.jump(GOTO, endLabel, 0);
+		code.mark(trueLabel);
+		code.setStack(stack);
+		code.op(ICONST_1, 1);
+		code.mark(endLabel);
+		return "boolean";
+	}
+
+	/**
+	 * MathUnaryOp visitor
+	 */
+	public Object visit(MathUnaryOp unaryOp){
+		unaryOp.getOperand().accept(this);
+		code.op(INEG, 0);
+		return "int";
+	}
+
+	/**
+	 * LogicalUnaryOp visitor
+	 */
+	public Object visit(LogicalUnaryOp unaryOp){
+		unaryOp.getOperand().accept(this);
+		code.op(ICONST_1, 1);
+		code.op(IXOR, -1);
+		return "boolean";
+	}
+
+	/**
+	 * Literal visitor
+	 */
+	public Object visit(Literal literal){
+		switch (literal.getType()){
+		case STRING:
+			code.constant(classFile.string((String) literal.getValue()));
+			return "string";
+		case INTEGER:
+			// 2147483648 is only legal when negated, and wraps around as in the LIR
+			code.intConstant((int) Long.parseLong(literal.getValue().toString()), classFile);
+			return "int";
+		case TRUE:
+			code.op(ICONST_1, 1);
+			return "boolean";
+		case FALSE:
+			code.op(ICONST_0, 1);
+			return "boolean";
+		default: // NULL
+			code.op(ACONST_NULL, 1);
+			return "null";
+		}
+	}
+
+	/**
+	 * ExpressionBlock visitor
+	 */
+	public Object visit(ExpressionBlock expressionBlock){
+		return expressionBlock.getExpression().accept(this);
+	}
+
+	//////////////
+	//	helpers	//
+	//////////////
+
+	/**
+	 * pushes the given object / array expression and checks it for null
+	 * @param expr
+	 * @return the expression's type
+	 */
+	private String translateObject(Expression expr){
+		String type = (String) expr.accept(this);
+		code.op(DUP, 1);
+		code.op2(INVOKESTATIC, classFile.methodRef(runtimeClass, "checkNullRef", "(Ljava/lang/Object;)V"), -1);
+		return type;
+	}
+
+	/**
+	 * pushes the array (checked for null) and the index (checked against the array's bounds)
+	 * @param location
+	 * @return the array's type
+	 */
+	private String translateArrayAccess(ArrayLocation location){
+		String arrayType = translateObject(location.getArray());
+		location.getIndex().accept(this);
+
+		String elementType = getElementType(arrayType);
+		String arrayDescriptor = elementType.equals("int") || elementType.equals("boolean") ?
+				getDescriptor(arrayType) : "[Ljava/lang/Object;";
+		code.op(DUP2, 2);
+		code.op2(INVOKESTATIC, classFile.methodRef(runtimeClass, "checkArrayAccess", "("+arrayDescriptor+"I)V"), -2);
+		return arrayType;
+	}
+
+	/**
+	 * checks the int on the top of the stack for zero
+	 */
+	private void checkZero(){
+		code.op(DUP, 1);
+		code.op2(INVOKESTATIC, classFile.methodRef(runtimeClass, "checkZero", "(I)V"), -1);
+	}
+
+	/**
+	 * replaces the object on the top of the stack with its field
+	 * @param className: the object's static class
+	 * @param fieldName
+	 * @return the field's type
+	 */
+	private String getField(String className, String fieldName){
+		String type = getFieldType(className, fieldName);
+		code.op2(GETFIELD, classFile.fieldRef(className, fieldName, getDescriptor(type)), 0);
+		return type;
+	}
+
+	/**
+	 * stores the value on the top of the stack into the field of the object below it
+	 * @param className: the object's static class
+	 * @param fieldName
+	 */
+	private void putField(String className, String fieldName){
+		String type = getFieldType(className, fieldName);
+		code.op2(PUTFIELD, classFile.fieldRef(className, fieldName, getDescriptor(type)), -2);
+	}
+
+	/**
+	 * returns the type of the given field of the given class (or its super-classes)
+	 * @param className
+	 * @param fieldName
+	 * @return
+	 */
+	private String getFieldType(String className, String fieldName){
+		for (Field f: classLayouts.get(className).getFieldToOffsetMap().keySet()){
+			if (f.getName().equals(fieldName)) return f.getType().getFullName();
+		}
+		return null;
+	}
+
+	/**
+	 * returns the Library class method with the given name
+	 * @param name
+	 * @return
+	 */
+	private Method getLibraryMethod(String name){
+		for (Method m: libraryClass.getMethods()){
+			if (m.getName().equals(name)) return m;
+		}
+		return null;
+	}
+
+	/**
+	 * returns the JVM name of the given IC method name,
+	 * renaming methods that would clash with java.lang.Object's
+	 * @param name
+	 * @return
+	 */
+	private static String getMethodName(String name){
+		return objectMethods.contains(name) ? "ic$"+name : name;
+	}
+
+	/**
+	 * returns the method descriptor of the given method, e.g. "(I[Ljava/lang/String;)Z"
+	 * @param method
+	 * @return
+	 */
+	private static String getDescriptor(Method method){
+		String descriptor = "(";
+		for (Formal f: method.getFormals()){
+			descriptor += getDescriptor(f.getType().getFullName());
+		}
+		return descriptor+")"+getDescriptor(method.getType().getFullName());
+	}
+
+	/**
+	 * returns the field descriptor of the given type, e.g. "[I" for "int[]"
+	 * @param typeName
+	 * @return
+	 */
+	private static String getDescriptor(String typeName){
+		String descriptor = "";
+		while (typeName.endsWith("[]")){
+			descriptor += "[";
+			typeName = typeName.substring(0, typeName.length()-2);
+		}
+		if (typeName.equals("int")) return descriptor+"I";
+		if (typeName.equals("boolean")) return descriptor+"Z";
+		if (typeName.equals("void")) return descriptor+"V";
+		return descriptor+"L"+getInternalName(typeName)+";";
+	}
+
+	/**
+	 * returns the internal name of the given class / array type, as in CONSTANT_Class entries
+	 * @param typeName
+	 * @return
+	 */
+	private static String getInternalName(String typeName){
+		if (typeName.endsWith("[]")) return getDescriptor(typeName);
+		if (typeName.equals("string")) return "java/lang/String";
+		return typeName;
+	}
+
+	/**
+	 * returns the element type of the given array type
+	 * @param arrayType
+	 * @return
+	 */
+	private static String getElementType(String arrayType){
+		return arrayType.substring(0, arrayType.length()-2);
+	}
+
+	/**
+	 * returns true iff values of the given type are references
+	 * @param typeName
+	 * @return
+	 */
+	private static boolean isReference(String typeName){
+		return !typeName.equals("int") && !typeName.equals("boolean");
+	}
+
+	private static int getArrayLoad(String elementType){
+		if (elementType.equals("int")) return IALOAD;
+		if (elementType.equals("boolean")) return BALOAD;
+		return AALOAD;
+	}
+
+	private static int getArrayStore(String elementType){
+		if (elementType.equals("int")) return IASTORE;
+		if (elementType.equals("boolean")) return BASTORE;
+		return AASTORE;
+	}
+}
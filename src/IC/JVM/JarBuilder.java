@@ -0,0 +1,56 @@
+package IC.JVM;
+
+import java.io.*;
+import java.util.Map;
+import java.util.jar.*;
+
+/**
+ * Packages the class files of an IC program, with the runtime classes (IC.JVM.ICRuntime),
+ * into a runnable jar
+ */
+public class JarBuilder {
+
+	// runtime classes, found next to this class
+	private static final String[] runtimeClasses = {"ICRuntime.class", "ICRuntime$OutputFlusher.class"};
+	private static final String runtimePackage = "IC/JVM/";
+
+	/**
+	 * writes the given class files and the runtime classes into a jar, running the given main class
+	 * @param jarFileName
+	 * @param classFiles: class files mapped by class name
+	 * @param mainClassName
+	 * @return true iff the jar was written
+	 */
+	public static boolean build(String jarFileName, Map<String,byte[]> classFiles, String mainClassName){
+		Manifest manifest = new Manifest();
+		manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		manifest.getMainAttributes().put(Attributes.Name.MAIN_CLASS, mainClassName);
+
+		try {
+			JarOutputStream jar = new JarOutputStream(new FileOutputStream(jarFileName), manifest);
+			for (String className: classFiles.keySet()){
+				jar.putNextEntry(new JarEntry(className+".class"));
+				jar.write(classFiles.get(className));
+				jar.closeEntry();
+			}
+			for (String runtimeClass: runtimeClasses){
+				InputStream in = JarBuilder.class.getResourceAsStream(runtimeClass);
+				if (in == null) throw new IOException(runtimeClass+" not found in the class path");
+
+				jar.putNextEntry(new JarEntry(runtimePackage+runtimeClass));
+				byte[] buffer = new byte[4096];
+				int n;
+				while ((n = in.read(buffer)) > 0){
+					jar.write(buffer, 0, n);
+				}
+				in.close();
+				jar.closeEntry();
+			}
+			jar.close();
+			return true;
+		} catch (IOException e) {
+			System.err.println("Failed writing jar: "+jarFileName+" ("+e.getMessage()+")");
+			return false;
+		}
+	}
+}
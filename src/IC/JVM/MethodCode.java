@@ -0,0 +1,243 @@
+package IC.JVM;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Bytecode of a single method: instructions, labels for jumps,
+ * and the bookkeeping of the operand stack depth and the number of locals
+ */
+public class MethodCode {
+
+	// opcodes
+	public static final int ACONST_NULL = 0x01;
+	public static final int ICONST_0 = 0x03;
+	public static final int ICONST_1 = 0x04;
+	public static final int BIPUSH = 0x10;
+	public static final int SIPUSH = 0x11;
+	public static final int LDC = 0x12;
+	public static final int LDC_W = 0x13;
+	public static final int ILOAD = 0x15;
+	public static final int ALOAD = 0x19;
+	public static final int IALOAD = 0x2e;
+	public static final int AALOAD = 0x32;
+	public static final int BALOAD = 0x33;
+	public static final int ISTORE = 0x36;
+	public static final int ASTORE = 0x3a;
+	public static final int IASTORE = 0x4f;
+	public static final int AASTORE = 0x53;
+	public static final int BASTORE = 0x54;
+	public static final int POP = 0x57;
+	public static final int POP2 = 0x58;
+	public static final int DUP = 0x59;
+	public static final int DUP2 = 0x5c;
+	public static final int DUP2_X1 = 0x5d;
+	public static final int SWAP = 0x5f;
+	public static final int IADD = 0x60;
+	public static final int ISUB = 0x64;
+	public static final int IMUL = 0x68;
+	public static final int IDIV = 0x6c;
+	public static final int IREM = 0x70;
+	public static final int INEG = 0x74;
+	public static final int IXOR = 0x82;
+	public static final int IFEQ = 0x99;
+	public static final int IFNE = 0x9a;
+	public static final int IF_ICMPEQ = 0x9f;
+	public static final int IF_ICMPNE = 0xa0;
+	public static final int IF_ICMPLT = 0xa1;
+	public static final int IF_ICMPGE = 0xa2;
+	public static final int IF_ICMPGT = 0xa3;
+	public static final int IF_ICMPLE = 0xa4;
+	public static final int IF_ACMPEQ = 0xa5;
+	public static final int IF_ACMPNE = 0xa6;
+	public static final int GOTO = 0xa7;
+	public static final int IRETURN = 0xac;
+	public static final int ARETURN = 0xb0;
+	public static final int RETURN = 0xb1;
+	public static final int GETFIELD = 0xb4;
+	public static final int PUTFIELD = 0xb5;
+	public static final int INVOKEVIRTUAL = 0xb6;
+	public static final int INVOKESPECIAL = 0xb7;
+	public static final int INVOKESTATIC = 0xb8;
+	public static final int NEW = 0xbb;
+	public static final int NEWARRAY = 0xbc;
+	public static final int ANEWARRAY = 0xbd;
+	public static final int ARRAYLENGTH = 0xbe;
+	public static final int WIDE = 0xc4;
+
+	// newarray element types
+	public static final int T_BOOLEAN = 4;
+	public static final int T_INT = 10;
+
+	/**
+	 * a jump target
+	 */
+	public static class Label {
+		// position in the code, -1 until marked
+		private int position = -1;
+		// positions of the jumps to this label: {jump instruction, offset operand}
+		private List<int[]> jumps = new ArrayList<int[]>();
+	}
+
+	private ByteArrayOutputStream code = new ByteArrayOutputStream();
+	private List<Label> labels = new ArrayList<Label>();
+	private int stack = 0;
+	private int maxStack = 0;
+	private int maxLocals;
+
+	/**
+	 * constructor
+	 * @param parametersSize: the number of locals taken by the parameters (including "this")
+	 */
+	public MethodCode(int parametersSize){
+		maxLocals = parametersSize;
+	}
+
+	public int getMaxStack(){
+		return maxStack;
+	}
+
+	public int getMaxLocals(){
+		return maxLocals;
+	}
+
+	/**
+	 * allocates a new local variable
+	 * @return its index
+	 */
+	public int newLocal(){
+		return maxLocals++;
+	}
+
+	/**
+	 * returns the current operand stack depth
+	 */
+	public int getStack(){
+		return stack;
+	}
+
+	/**
+	 * sets the operand stack depth, at a label reached only by jumps
+	 * @param stack
+	 */
+	public void setStack(int stack){
+		this.stack = stack;
+	}
+
+	/**
+	 * updates the operand stack depth by the given number of words
+	 * @param delta
+	 */
+	private void adjustStack(int delta){
+		stack += delta;
+		if (stack > maxStack) maxStack = stack;
+	}
+
+	/**
+	 * emits an instruction without operands
+	 * @param opcode
+	 * @param stackDelta: the instruction's effect on the operand stack depth
+	 */
+	public void op(int opcode, int stackDelta){
+		code.write(opcode);
+		adjustStack(stackDelta);
+	}
+
+	/**
+	 * emits an instruction with a one byte operand
+	 */
+	public void op1(int opcode, int operand, int stackDelta){
+		code.write(opcode);
+		code.write(operand);
+		adjustStack(stackDelta);
+	}
+
+	/**
+	 * emits an instruction with a two bytes operand
+	 */
+	public void op2(int opcode, int operand, int stackDelta){
+		code.write(opcode);
+		code.write(operand >> 8);
+		code.write(operand);
+		adjustStack(stackDelta);
+	}
+
+	/**
+	 * emits a local variable load / store
+	 */
+	public void local(int opcode, int index, int stackDelta){
+		if (index <= 255){
+			op1(opcode, index, stackDelta);
+		} else {
+			code.write(WIDE);
+			op2(opcode, index, stackDelta);
+		}
+	}
+
+	/**
+	 * emits a jump to the given label
+	 * @param opcode
+	 * @param target
+	 * @param stackDelta
+	 */
+	public void jump(int opcode, Label target, int stackDelta){
+		target.jumps.add(new int[] {code.size(), code.size()+1});
+		op2(opcode, 0, stackDelta);
+	}
+
+	/**
+	 * creates a new label
+	 * @return
+	 */
+	public Label newLabel(){
+		Label label = new Label();
+		labels.add(label);
+		return label;
+	}
+
+	/**
+	 * marks the current position with the given label
+	 * @param label
+	 */
+	public void mark(Label label){
+		label.position = code.size();
+	}
+
+	/**
+	 * emits an int constant, with the shortest instruction
+	 * @param value
+	 * @param classFile: for constants in the constant pool
+	 */
+	public void intConstant(int value, ClassFileWriter classFile){
+		if (value >= -1 && value <= 5) op(ICONST_0+value, 1);
+		else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) op1(BIPUSH, value, 1);
+		else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) op2(SIPUSH, value, 1);
+		else constant(classFile.integer(value));
+	}
+
+	/**
+	 * emits a load of the given constant pool entry
+	 * @param index
+	 */
+	public void constant(int index){
+		if (index <= 255) op1(LDC, index, 1);
+		else op2(LDC_W, index, 1);
+	}
+
+	/**
+	 * returns the code, with the jumps resolved
+	 * @return
+	 */
+	public byte[] toByteArray(){
+		byte[] bytes = code.toByteArray();
+		for (Label label: labels){
+			for (int[] jump: label.jumps){
+				int offset = label.position-jump[0];
+				if (offset != (short) offset) throw new IllegalStateException("method too large");
+				bytes[jump[1]] = (byte) (offset >> 8);
+				bytes[jump[1]+1] = (byte) offset;
+			}
+		}
+		return bytes;
+	}
+}
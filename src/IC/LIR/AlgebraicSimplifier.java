@@ -0,0 +1,471 @@
+package IC.LIR;
+
+import java.util.*;
+
+import IC.BinaryOps;
+import IC.LiteralTypes;
+import IC.UnaryOps;
+import IC.AST.*;
+import IC.SymbolTable.*;
+
+/**
+ * Algebraic simplifier for arithmetic expressions
+ * used by the optimizing translator before translating a MathBinaryOp:
+ * - folds constant expressions
+ * - reassociates sums and products so all their constant terms fold into one
+ * - removes identity operations (x+0, x-0, x*1, x/1) and cancelling terms (x-x)
+ * - replaces x*0, x%1 (for side effect free x) by 0, and x*-1, x/-1, 0-x by a negation
+ * - flattens string concatenation chains and concatenates adjacent string literals
+ * the rewritten expression is built from new AST nodes over the original operands,
+ * so the original AST is never changed
+ */
+public class AlgebraicSimplifier {
+
+	// used to set the number of required registers and side effects of new AST nodes
+	private RegCounterVisitor regCounter;
+
+	// operations already simplified, mapped to their simplified expressions
+	// (the operations inside a chain that needs no simplification, and inside a rebuilt chain, are mapped to themselves,
+	// so translating a chain operation by operation does not simplify the whole chain below every operation again)
+	private Map<MathBinaryOp,Expression> simplified = new IdentityHashMap<MathBinaryOp,Expression>();
+
+	/**
+	 * constructor
+	 * @param regCounter: the register counter that visited the program
+	 */
+	public AlgebraicSimplifier(RegCounterVisitor regCounter){
+		this.regCounter = regCounter;
+	}
+
+	/**
+	 * returns a simplified expression equivalent to the given math binary operation,
+	 * or the given operation itself if it cannot be simplified
+	 * @param binaryOp
+	 * @return
+	 */
+	public Expression simplify(MathBinaryOp binaryOp){
+		Expression result = simplified.get(binaryOp);
+		if (result == null){
+			result = simplifyOperation(binaryOp);
+			simplified.put(binaryOp, result);
+		}
+		return result;
+	}
+
+	/**
+	 * simplifies the given math binary operation, see simplify
+	 * @param binaryOp
+	 * @return
+	 */
+	private Expression simplifyOperation(MathBinaryOp binaryOp){
+		// string concatenation is not arithmetic
+		if (!isIntOperation(binaryOp)) return binaryOp;
+
+		// constant expression
+		Integer constValue = getConstantValue(binaryOp);
+		if (constValue != null) return newLiteral(constValue, binaryOp);
+
+		switch (binaryOp.getOperator()){
+		case PLUS:
+		case MINUS:
+			return simplifySum(binaryOp);
+		case MULTIPLY:
+			return simplifyProduct(binaryOp);
+		case DIVIDE:
+		case MOD:
+			return simplifyDivision(binaryOp);
+		default:
+			return binaryOp;
+		}
+	}
+
+	/**
+	 * returns the operands of a chain of string concatenations in evaluation order,
+	 * with adjacent string literals concatenated into a single literal
+	 * @param binaryOp: a string concatenation
+	 * @return
+	 */
+	public List<Expression> getConcatenationOperands(MathBinaryOp binaryOp){
+		List<Expression> operands = new ArrayList<Expression>();
+		collectConcatenationOperands(binaryOp, operands);
+
+		List<Expression> folded = new ArrayList<Expression>();
+		for (Expression operand: operands){
+			int last = folded.size()-1;
+			if (last >= 0 && isStringLiteral(operand) && isStringLiteral(folded.get(last))){
+				String value = (String) ((Literal) folded.get(last)).getValue() + (String) ((Literal) operand).getValue();
+				folded.set(last, initNode(new Literal(binaryOp.getLine(), LiteralTypes.STRING, value), binaryOp));
+			} else {
+				folded.add(operand);
+			}
+		}
+		return folded;
+	}
+
+	/**
+	 * simplifies a chain of integer additions and subtractions:
+	 * all constant terms are folded into a single constant added at the end of the chain,
+	 * terms of the same local variable with opposite signs cancel each other,
+	 * the order of the non constant terms is kept
+	 * @param binaryOp
+	 * @return
+	 */
+	private Expression simplifySum(MathBinaryOp binaryOp){
+		List<Expression> terms = new ArrayList<Expression>();
+		List<Boolean> negated = new ArrayList<Boolean>();
+		boolean termsSimplified = collectTerms(binaryOp, false, terms, negated);
+
+		// fold constant terms
+		int constSum = 0;
+		int constCount = 0;
+		for (int i = terms.size()-1; i >= 0; i--){
+			Integer value = getConstantValue(terms.get(i));
+			if (value == null) continue;
+			constSum += negated.get(i) ? -value : value;
+			constCount++;
+			terms.remove(i);
+			negated.remove(i);
+		}
+
+		// cancel terms of the same local variable with opposite signs
+		boolean cancelled = false;
+		for (int i = 0; i < terms.size(); i++){
+			for (int j = i+1; j < terms.size(); j++){
+				if (negated.get(i) != negated.get(j) && isSameLocalVariable(terms.get(i), terms.get(j))){
+					terms.remove(j);
+					negated.remove(j);
+					terms.remove(i);
+					negated.remove(i);
+					cancelled = true;
+					i--;
+					break;
+				}
+			}
+		}
+
+		// nothing to gain (for the sub chains of this chain as well)
+		if (!termsSimplified && !cancelled && (constCount == 0 || (constCount == 1 && constSum != 0))){
+			markChain(binaryOp, true);
+			return binaryOp;
+		}
+
+		if (terms.isEmpty()) return newLiteral(constSum, binaryOp);
+
+		// rebuild the chain
+		Expression sum = negated.get(0) ? newNegation(terms.get(0), binaryOp) : terms.get(0);
+		for (int i = 1; i < terms.size(); i++){
+			sum = newBinaryOp(sum, negated.get(i) ? BinaryOps.MINUS : BinaryOps.PLUS, terms.get(i), binaryOp);
+		}
+		if (constSum > 0) sum = newBinaryOp(sum, BinaryOps.PLUS, newLiteral(constSum, binaryOp), binaryOp);
+		else if (constSum < 0 && constSum != Integer.MIN_VALUE) sum = newBinaryOp(sum, BinaryOps.MINUS, newLiteral(-constSum, binaryOp), binaryOp);
+		else if (constSum < 0) sum = newBinaryOp(sum, BinaryOps.PLUS, newLiteral(constSum, binaryOp), binaryOp);
+
+		markChain(sum, true);
+		return sum;
+	}
+
+	/**
+	 * simplifies a chain of integer multiplications:
+	 * all constant factors are folded into a single constant factor at the end of the chain,
+	 * a factor of 1 is removed, a factor of -1 becomes a negation,
+	 * and a factor of 0 makes the product 0 if the other factors are side effect free
+	 * @param binaryOp
+	 * @return
+	 */
+	private Expression simplifyProduct(MathBinaryOp binaryOp){
+		List<Expression> factors = new ArrayList<Expression>();
+		boolean factorsSimplified = collectFactors(binaryOp, factors);
+
+		// fold constant factors
+		int constProduct = 1;
+		int constCount = 0;
+		boolean allPure = true;
+		for (int i = factors.size()-1; i >= 0; i--){
+			Integer value = getConstantValue(factors.get(i));
+			if (value == null){
+				allPure = allPure && isPure(factors.get(i));
+				continue;
+			}
+			constProduct *= value;
+			constCount++;
+			factors.remove(i);
+		}
+
+		if (constProduct == 0 && allPure) return newLiteral(0, binaryOp);
+
+		// nothing to gain (for the sub chains of this chain as well, unless a sub chain is a pure product by 0)
+		if (!factorsSimplified && (constCount == 0 || (constCount == 1 && constProduct != 1 && constProduct != -1))){
+			if (constProduct != 0) markChain(binaryOp, false);
+			return binaryOp;
+		}
+
+		// all the factors are constant
+		if (factors.isEmpty()) return newLiteral(constProduct, binaryOp);
+
+		// rebuild the chain
+		Expression product = factors.get(0);
+		for (int i = 1; i < factors.size(); i++){
+			product = newBinaryOp(product, BinaryOps.MULTIPLY, factors.get(i), binaryOp);
+		}
+		if (constProduct == -1) product = newNegation(product, binaryOp);
+		else if (constProduct != 1) product = newBinaryOp(product, BinaryOps.MULTIPLY, newLiteral(constProduct, binaryOp), binaryOp);
+
+		markChain(product, false);
+		return product;
+	}
+
+	/**
+	 * simplifies a division or modulo by 1 or -1
+	 * @param binaryOp
+	 * @return
+	 */
+	private Expression simplifyDivision(MathBinaryOp binaryOp){
+		Integer divisor = getConstantValue(binaryOp.getSecondOperand());
+		if (divisor == null || (divisor != 1 && divisor != -1)) return binaryOp;
+
+		Expression dividend = binaryOp.getFirstOperand();
+		if (binaryOp.getOperator() == BinaryOps.MOD){
+			// x % 1 == x % -1 == 0
+			return isPure(dividend) ? newLiteral(0, binaryOp) : binaryOp;
+		}
+		return (divisor == 1) ? dividend : newNegation(dividend, binaryOp);
+	}
+
+	/////////////
+	// helpers //
+	/////////////
+
+	/**
+	 * marks the operations of the chain of additions and subtractions (or of multiplications) at the given expression
+	 * as needing no simplification
+	 * @param e
+	 * @param sum: true for a chain of additions and subtractions, false for a chain of multiplications
+	 */
+	private void markChain(Expression e, boolean sum){
+		e = stripBlocks(e);
+		if (sum && e instanceof MathUnaryOp){
+			markChain(((MathUnaryOp) e).getOperand(), sum);
+			return;
+		}
+		if (!(e instanceof MathBinaryOp)) return;
+		MathBinaryOp op = (MathBinaryOp) e;
+		boolean inChain = sum ? (op.getOperator() == BinaryOps.PLUS || op.getOperator() == BinaryOps.MINUS)
+				: op.getOperator() == BinaryOps.MULTIPLY;
+		if (!inChain || simplified.containsKey(op)) return;
+		simplified.put(op, op);
+		markChain(op.getFirstOperand(), sum);
+		markChain(op.getSecondOperand(), sum);
+	}
+
+	/**
+	 * returns true iff the operation is on integers (not a string concatenation)
+	 * @param binaryOp
+	 * @return
+	 */
+	public boolean isIntOperation(MathBinaryOp binaryOp){
+		if (binaryOp.getOperator() != BinaryOps.PLUS) return true;
+		// the type recorded by the type checker (or by initNode for a new node)
+		return binaryOp.getStaticType().subtypeOf(IC.TypeTable.TypeTable.getUniquePrimitiveTypes().get("int"));
+	}
+
+	/**
+	 * collects the terms of a chain of integer additions and subtractions,
+	 * terms that are other operations are simplified first
+	 * @param e: the current expression
+	 * @param isNegated: true iff the current expression is subtracted
+	 * @param terms: the list of terms to fill
+	 * @param negated: the list of terms signs to fill (true for subtracted terms)
+	 * @return true iff some term was simplified
+	 */
+	private boolean collectTerms(Expression e, boolean isNegated, List<Expression> terms, List<Boolean> negated){
+		e = stripBlocks(e);
+		if (e instanceof MathBinaryOp){
+			MathBinaryOp op = (MathBinaryOp) e;
+			if (op.getOperator() == BinaryOps.PLUS || op.getOperator() == BinaryOps.MINUS){
+				boolean simplified = collectTerms(op.getFirstOperand(), isNegated, terms, negated);
+				return collectTerms(op.getSecondOperand(), (op.getOperator() == BinaryOps.MINUS) ? !isNegated : isNegated, terms, negated) || simplified;
+			}
+			Expression simplifiedTerm = simplify(op);
+			if (simplifiedTerm != op){
+				collectTerms(simplifiedTerm, isNegated, terms, negated);
+				return true;
+			}
+		}
+		if (e instanceof MathUnaryOp){
+			return collectTerms(((MathUnaryOp) e).getOperand(), !isNegated, terms, negated);
+		}
+		terms.add(e);
+		negated.add(isNegated);
+		return false;
+	}
+
+	/**
+	 * collects the operands of a chain of string concatenations
+	 * (every addition inside a string concatenation is a string concatenation)
+	 * @param e
+	 * @param operands
+	 */
+	private void collectConcatenationOperands(Expression e, List<Expression> operands){
+		e = stripBlocks(e);
+		if (e instanceof MathBinaryOp && ((MathBinaryOp) e).getOperator() == BinaryOps.PLUS){
+			collectConcatenationOperands(((MathBinaryOp) e).getFirstOperand(), operands);
+			collectConcatenationOperands(((MathBinaryOp) e).getSecondOperand(), operands);
+			return;
+		}
+		operands.add(e);
+	}
+
+	/**
+	 * returns true iff the given expression is a string literal
+	 * @param e
+	 * @return
+	 */
+	private static boolean isStringLiteral(Expression e){
+		return (e instanceof Literal) && ((Literal) e).getType() == LiteralTypes.STRING;
+	}
+
+	/**
+	 * collects the factors of a chain of integer multiplications,
+	 * factors that are other operations are simplified first
+	 * @param e
+	 * @param factors
+	 * @return true iff some factor was simplified
+	 */
+	private boolean collectFactors(Expression e, List<Expression> factors){
+		e = stripBlocks(e);
+		if (e instanceof MathBinaryOp){
+			MathBinaryOp op = (MathBinaryOp) e;
+			if (op.getOperator() == BinaryOps.MULTIPLY){
+				boolean simplified = collectFactors(op.getFirstOperand(), factors);
+				return collectFactors(op.getSecondOperand(), factors) || simplified;
+			}
+			Expression simplifiedFactor = simplify(op);
+			if (simplifiedFactor != op){
+				collectFactors(simplifiedFactor, factors);
+				return true;
+			}
+		}
+		factors.add(e);
+		return false;
+	}
+
+	/**
+	 * returns the value of the given integer expression if it is a constant,
+	 * or null otherwise (also for a division by a constant zero, that must fail at runtime)
+	 * @param e
+	 * @return
+	 */
+	public static Integer getConstantValue(Expression e){
+		e = stripBlocks(e);
+		if (e instanceof Literal){
+			Literal l = (Literal) e;
+			return (l.getType() == LiteralTypes.INTEGER) ? (Integer) l.getValue() : null;
+		}
+		if (e instanceof MathUnaryOp){
+			Integer value = getConstantValue(((MathUnaryOp) e).getOperand());
+			return (value == null) ? null : -value;
+		}
+		if (e instanceof MathBinaryOp){
+			MathBinaryOp op = (MathBinaryOp) e;
+			// second operand first: chains are left deep, so a non constant chain is found in constant time
+			Integer v2 = getConstantValue(op.getSecondOperand());
+			if (v2 == null) return null;
+			Integer v1 = getConstantValue(op.getFirstOperand());
+			if (v1 == null) return null;
+			switch (op.getOperator()){
+			case PLUS: return v1 + v2;
+			case MINUS: return v1 - v2;
+			case MULTIPLY: return v1 * v2;
+			case DIVIDE: return (v2 == 0) ? null : v1 / v2;
+			case MOD: return (v2 == 0) ? null : v1 % v2;
+			default: return null;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * returns true iff evaluating the given expression has no side effects and can not fail
+	 * (so it can be dropped from the translation), by the side effects set by the register counter
+	 * @param e
+	 * @return
+	 */
+	public static boolean isPure(Expression e){
+		return (e.getSideEffects() & (RegCounterVisitor.WRITES | RegCounterVisitor.MAY_FAIL)) == 0;
+	}
+
+	/**
+	 * returns true iff both expressions are the same local variable (not a field),
+	 * that can not change between their evaluations within one expression
+	 * @param e1
+	 * @param e2
+	 * @return
+	 */
+	private static boolean isSameLocalVariable(Expression e1, Expression e2){
+		e1 = stripBlocks(e1);
+		e2 = stripBlocks(e2);
+		if (!(e1 instanceof VariableLocation) || !(e2 instanceof VariableLocation)) return false;
+		VariableLocation v1 = (VariableLocation) e1;
+		VariableLocation v2 = (VariableLocation) e2;
+		if (v1.isExternal() || v2.isExternal()) return false;
+		if (((BlockSymbolTable) v1.getEnclosingScope()).isVarField(v1.getName())) return false;
+		return v1.getNameDepth().equals(v2.getNameDepth());
+	}
+
+	/**
+	 * returns the expression inside the given expression blocks
+	 * @param e
+	 * @return
+	 */
+	public static Expression stripBlocks(Expression e){
+		while (e instanceof ExpressionBlock){
+			e = ((ExpressionBlock) e).getExpression();
+		}
+		return e;
+	}
+
+	/**
+	 * creates a new integer literal node in place of the given node
+	 * @param value
+	 * @param origin
+	 * @return
+	 */
+	private Expression newLiteral(int value, Expression origin){
+		return initNode(new Literal(origin.getLine(), LiteralTypes.INTEGER, value), origin);
+	}
+
+	/**
+	 * creates a new negation node in place of the given node
+	 * @param operand
+	 * @param origin
+	 * @return
+	 */
+	private Expression newNegation(Expression operand, Expression origin){
+		return initNode(new MathUnaryOp(UnaryOps.UMINUS, operand), origin);
+	}
+
+	/**
+	 * creates a new math binary operation node in place of the given node
+	 * @param operand1
+	 * @param operator
+	 * @param operand2
+	 * @param origin
+	 * @return
+	 */
+	private Expression newBinaryOp(Expression operand1, BinaryOps operator, Expression operand2, Expression origin){
+		return initNode(new MathBinaryOp(operand1, operator, operand2), origin);
+	}
+
+	/**
+	 * sets the enclosing scope, the static type, the number of required registers and the side effects of a new node
+	 * @param node
+	 * @param origin
+	 * @return
+	 */
+	private Expression initNode(Expression node, Expression origin){
+		node.setEnclosingScope(origin.getEnclosingScope());
+		node.setStaticType(origin.getStaticType());
+		node.accept(regCounter);
+		return node;
+	}
+}
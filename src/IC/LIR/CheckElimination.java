@@ -0,0 +1,161 @@
+package IC.LIR;
+
+import java.util.*;
+
+/**
+ * CheckElimination
+ * ================
+ * removes runtime checks (static calls to __checkNullRef, __checkArrayAccess, __checkSize
+ * and __checkZero) that are known to pass:
+ * - a check repeated with the same arguments, when none of them was written since
+ *   (checks are tracked along straight line code, and forgotten at labels)
+ * - a null reference check of "this", a string literal, or a newly allocated object / array / string
+ * - a size check of a non negative constant, and a zero check of a non zero constant
+ * every removed check is remarked on its source line, if remarks are collected (see setRemarks)
+ */
+public class CheckElimination implements LIRPass {
+
+	private static final String checkNullRef = "__checkNullRef";
+	private static final String checkArrayAccess = "__checkArrayAccess";
+	private static final String checkSize = "__checkSize";
+	private static final String checkZero = "__checkZero";
+
+	// library methods returning a new (non null) reference
+	private static final Set<String> allocations = new HashSet<String>(Arrays.asList(
+			"__allocateObject", "__allocateArray", "__stringCat"));
+
+	// the remarks on the removed checks (null if not collected)
+	private OptRemarks remarks = null;
+
+	public String getName(){
+		return "check-elimination";
+	}
+
+	/**
+	 * sets the remarks the removed checks are remarked in
+	 * (they replace the translator's remarks on these checks, see OptRemarks.replaceMissed)
+	 * @param remarks
+	 */
+	public void setRemarks(OptRemarks remarks){
+		this.remarks = remarks;
+	}
+
+	public boolean run(LIRProgram program){
+		boolean changed = false;
+		for (LIRMethod method: program.getMethods()){
+			changed |= optimize(method);
+		}
+		return changed;
+	}
+
+	/**
+	 * removes the checks known to pass in the given method
+	 * @param method
+	 * @return true iff the method was changed
+	 */
+	private boolean optimize(LIRMethod method){
+		// checks known to pass, and their arguments
+		List<String> checks = new ArrayList<String>();
+		List<List<LIROperand>> checksArguments = new ArrayList<List<LIROperand>>();
+		List<LIRInstruction> code = new ArrayList<LIRInstruction>();
+
+		for (LIRInstruction instruction: method.getInstructions()){
+			if (instruction.isLabel()){
+				checks.clear();
+				checksArguments.clear();
+				code.add(instruction);
+				continue;
+			}
+
+			if (isCheck(instruction)){
+				String check = instruction.getCallee().getName();
+				List<LIROperand> arguments = instruction.getArguments();
+				if (isPassing(check, arguments)){
+					remark(instruction, "it passes for any value");
+					continue;
+				}
+				if (isKnown(check, arguments, checks, checksArguments)){
+					remark(instruction, "it is known to pass here");
+					continue;
+				}
+				checks.add(check);
+				checksArguments.add(new ArrayList<LIROperand>(arguments));
+				code.add(instruction);
+				continue;
+			}
+
+			// forget the checks of written operands
+			LIROperand def = instruction.getDefinition();
+			if (def != null){
+				for (int i = checks.size()-1; i >= 0; i--){
+					if (checksArguments.get(i).contains(def)){
+						checks.remove(i);
+						checksArguments.remove(i);
+					}
+				}
+
+				// new references are not null
+				boolean isNew = instruction.getOpcode() == LIROpcode.LIBRARY &&
+					allocations.contains(instruction.getCallee().getName());
+				boolean isString = instruction.getOpcode() == LIROpcode.MOVE &&
+					instruction.getOperand(0).getKind() == LIROperand.Kind.STRING;
+				if (isNew || isString){
+					checks.add(checkNullRef);
+					checksArguments.add(Collections.singletonList(def));
+				}
+			}
+			code.add(instruction);
+		}
+
+		boolean changed = code.size() < method.getInstructions().size();
+		method.setInstructions(code);
+		return changed;
+	}
+
+	/**
+	 * remarks that the given check is removed
+	 */
+	private void remark(LIRInstruction instruction, String reason){
+		if (remarks == null) return;
+		String check = instruction.getCallee().getName();
+		String subject = check.equals(checkNullRef) ? "null reference check" :
+			check.equals(checkArrayAccess) ? "array bounds check" :
+			check.equals(checkSize) ? "array size check" : "division by zero check";
+		remarks.replaceMissed(instruction.getLine(), getName(), subject, subject+" is removed by the LIR pass: "+reason);
+	}
+
+	/**
+	 * returns true iff the instruction calls a runtime check
+	 */
+	private static boolean isCheck(LIRInstruction instruction){
+		if (instruction.getOpcode() != LIROpcode.STATIC_CALL) return false;
+		String callee = instruction.getCallee().getName();
+		return callee.equals(checkNullRef) || callee.equals(checkArrayAccess) ||
+			callee.equals(checkSize) || callee.equals(checkZero);
+	}
+
+	/**
+	 * returns true iff the check passes for any state
+	 */
+	private static boolean isPassing(String check, List<LIROperand> arguments){
+		LIROperand argument = arguments.get(0);
+		if (check.equals(checkNullRef)){
+			return (argument.isVariable() && argument.getName().equals("this")) ||
+				argument.getKind() == LIROperand.Kind.STRING;
+		}
+		if (check.equals(checkSize)) return argument.isImmediate() && argument.getValue() >= 0;
+		if (check.equals(checkZero)) return argument.isImmediate() && argument.getValue() != 0;
+		return false;
+	}
+
+	/**
+	 * returns true iff the check was already made with the same arguments
+	 */
+	private static boolean isKnown(String check, List<LIROperand> arguments,
+			List<String> checks, List<List<LIROperand>> checksArguments){
+		for (int i = 0; i < checks.size(); i++){
+			if (checks.get(i).equals(check) && checksArguments.get(i).equals(arguments)) return true;
+		}
+		return false;
+	}
+}
@@ -26,9 +26,9 @@ public class ClassLayout {
 	public ClassLayout(ICClass icClass){
 		this.icClass = icClass;
 		
-		// put methods
+		// put methods (only virtual methods have an offset in the dispatch table)
 		for(Method m: icClass.getMethods()){
-			methodToOffset.put(m, methodCounter++);
+			if (!m.isStatic()) methodToOffset.put(m, methodCounter++);
 		}
 		
 		// put fields
@@ -37,7 +37,7 @@ public class ClassLayout {
 		}
 		
 		// create string to method
-		for(Method m: methodToOffset.keySet()){
+		for(Method m: icClass.getMethods()){
 			nameToMethod.put(m.getName(), m);
 		}
 	}
@@ -52,13 +52,17 @@ public class ClassLayout {
 		// start with super-class layout methods and fields offsets
 		methodToOffset = (HashMap<Method, Integer>)((HashMap<Method, Integer>)superLayout.getMethodToOffsetMap()).clone();
 		fieldToOffset = (HashMap<Field, Integer>)((HashMap<Field, Integer>)superLayout.getFieldToOffsetMap()).clone();
+		nameToMethod = (HashMap<String, Method>)((HashMap<String, Method>)superLayout.getNameToMethodMap()).clone();
 		
-		// set offsets
+		// set offsets (field offset 0 is reserved for the dispatch vector)
 		methodCounter = methodToOffset.size();
-		fieldCounter = fieldToOffset.size();
+		fieldCounter = fieldToOffset.size()+1;
 		
 		// add new methods and override exiting ones
 		for (Method m: icClass.getMethods()){
+			// static methods are not in the dispatch table
+			if (m.isStatic()) continue;
+			
 			boolean isOverriden = false;
 			
 			for (Method existingMethod: methodToOffset.keySet()){
@@ -82,7 +86,7 @@ public class ClassLayout {
 		}
 		
 		// create string to method
-		for(Method m: methodToOffset.keySet()){
+		for(Method m: icClass.getMethods()){
 			nameToMethod.put(m.getName(), m);
 		}
 	}
@@ -205,6 +209,18 @@ public class ClassLayout {
 	 * returns the string representation for the class dispatch table
 	 */
 	public String getDispatchTable(){
+		return getDispatchTable(null, null);
+	}
+	
+	/**
+	 * returns the string representation for the class dispatch table,
+	 * where methods that are not in the given set of live methods are replaced
+	 * by the given label (offsets of the live methods are kept)
+	 * @param liveMethods: the live methods, or null if all methods are live
+	 * @param deadMethodLabel: the label to use for methods that are not live
+	 * @return
+	 */
+	public String getDispatchTable(Set<Method> liveMethods, String deadMethodLabel){
 		String dispatch = "_DV_"+icClass.getName()+": [";
 		
 		// insert methods' labels ordered by increasing offset
@@ -215,6 +231,10 @@ public class ClassLayout {
 				
 				// if the offset is correct, insert method label
 				if (methodToOffset.get(m) == i){
+					if (liveMethods != null && !liveMethods.contains(m)){
+						dispatch += deadMethodLabel+",";
+						break;
+					}
 					dispatch += "_";
 					dispatch += ((ClassSymbolTable) m.getEnclosingScope()).getMySymbol().getName();
 					dispatch += "_"+m.getName()+",";
@@ -0,0 +1,167 @@
+package IC.LIR;
+
+import java.util.*;
+
+import IC.LIR.LIROperand.Kind;
+
+/**
+ * CopyPropagation
+ * ===============
+ * replaces reads of registers and variables by the values copied into them
+ * (Move x,R1 / Add R1,R2 => Add x,R2), and removes moves of an operand to itself
+ * - copies are tracked along straight line code, and forgotten at labels
+ * - a copy is forgotten once its destination or its source is written
+ *   (registers and variables are local to their method, so calls keep the copies)
+ * - an operand is replaced only where LIR allows the copied kind of operand,
+ *   e.g. array bases stay registers and a move never gets two variables
+ * the moves made useless are left for dead code removal
+ */
+public class CopyPropagation implements LIRPass {
+
+	private static final EnumSet<Kind> registers = EnumSet.of(Kind.REGISTER);
+	private static final EnumSet<Kind> registersImmediates = EnumSet.of(Kind.REGISTER, Kind.IMMEDIATE);
+	private static final EnumSet<Kind> values = EnumSet.of(Kind.REGISTER, Kind.IMMEDIATE, Kind.VARIABLE);
+	private static final EnumSet<Kind> allValues = EnumSet.of(Kind.REGISTER, Kind.IMMEDIATE, Kind.VARIABLE, Kind.STRING);
+
+	public String getName(){
+		return "copy-propagation";
+	}
+
+	public boolean run(LIRProgram program){
+		boolean changed = false;
+		for (LIRMethod method: program.getMethods()){
+			changed |= optimize(method);
+		}
+		return changed;
+	}
+
+	/**
+	 * propagates the copies in the given method
+	 * @param method
+	 * @return true iff the method was changed
+	 */
+	private boolean optimize(LIRMethod method){
+		boolean changed = false;
+		// destination -> copied value
+		Map<LIROperand,LIROperand> copies = new HashMap<LIROperand,LIROperand>();
+		List<LIRInstruction> code = new ArrayList<LIRInstruction>();
+
+		for (LIRInstruction instruction: method.getInstructions()){
+			if (instruction.isLabel()){
+				copies.clear();
+				code.add(instruction);
+				continue;
+			}
+
+			changed |= substitute(instruction, copies);
+
+			LIROperand def = instruction.getDefinition();
+			if (instruction.getOpcode() == LIROpcode.MOVE && instruction.getOperand(0).equals(def)){
+				// Move x,x
+				changed = true;
+				continue;
+			}
+			if (def != null){
+				copies.remove(def);
+				Iterator<LIROperand> it = copies.values().iterator();
+				while (it.hasNext()){
+					if (it.next().equals(def)) it.remove();
+				}
+			}
+			if (instruction.getOpcode() == LIROpcode.MOVE && def != null && !instruction.getOperand(0).isMemory()){
+				copies.put(def, instruction.getOperand(0));
+			}
+			code.add(instruction);
+		}
+
+		method.setInstructions(code);
+		return changed;
+	}
+
+	/**
+	 * replaces the operands read by the instruction by their copied values
+	 * @param instruction
+	 * @param copies
+	 * @return true iff an operand was replaced
+	 */
+	private boolean substitute(LIRInstruction instruction, Map<LIROperand,LIROperand> copies){
+		boolean changed = false;
+		LIROpcode opcode = instruction.getOpcode();
+		int last = instruction.getOperands().size()-1;
+
+		switch (opcode){
+		case MOVE:
+			// no moves between variables
+			changed |= replace(instruction, 0, instruction.getOperand(1).isRegister() ? allValues : registersImmediates, copies);
+			break;
+		case MOVE_ARRAY:
+		case MOVE_FIELD:
+			for (int i = 0; i <= 1; i++){
+				LIROperand operand = instruction.getOperand(i);
+				if (operand.isMemory()){
+					LIROperand base = lookup(operand.getBase(), registers, copies);
+					LIROperand index = operand.getIndex() == null ? null :
+						lookup(operand.getIndex(), registersImmediates, copies);
+					if (base != operand.getBase() || index != operand.getIndex()){
+						instruction.setOperand(i, opcode == LIROpcode.MOVE_ARRAY ?
+								LIROperand.array(base, index) : LIROperand.field(base, operand.getValue()));
+						changed = true;
+					}
+				} else if (i == 0){
+					// stored value
+					changed |= replace(instruction, 0, registersImmediates, copies);
+				}
+			}
+			break;
+		case ARRAY_LENGTH:
+			changed |= replace(instruction, 0, registers, copies);
+			break;
+		case COMPARE:
+			changed |= replace(instruction, 1, registers, copies);
+			changed |= replace(instruction, 0, values, copies);
+			break;
+		case RETURN:
+			changed |= replace(instruction, 0, values, copies);
+			break;
+		case LIBRARY:
+		case STATIC_CALL:
+		case VIRTUAL_CALL:
+			for (int i = 1; i < last; i++){
+				changed |= replace(instruction, i, allValues, copies);
+			}
+			LIROperand callee = instruction.getCallee();
+			if (callee.isMemory()){
+				LIROperand base = lookup(callee.getBase(), registers, copies);
+				if (base != callee.getBase()){
+					instruction.setOperand(0, LIROperand.field(base, callee.getValue()));
+					changed = true;
+				}
+			}
+			break;
+		default:
+			if (opcode.isBinaryOperation()) changed |= replace(instruction, 0, values, copies);
+		}
+		return changed;
+	}
+
+	/**
+	 * replaces the i'th operand of the instruction by its copied value, if it has one of the allowed kinds
+	 * @return true iff replaced
+	 */
+	private static boolean replace(LIRInstruction instruction, int i, EnumSet<Kind> allowed,
+			Map<LIROperand,LIROperand> copies){
+		LIROperand operand = instruction.getOperand(i);
+		LIROperand value = lookup(operand, allowed, copies);
+		if (value == operand) return false;
+		instruction.setOperand(i, value);
+		return true;
+	}
+
+	/**
+	 * returns the value copied into the operand if it has one of the allowed kinds, otherwise the operand
+	 */
+	private static LIROperand lookup(LIROperand operand, EnumSet<Kind> allowed, Map<LIROperand,LIROperand> copies){
+		LIROperand value = copies.get(operand);
+		return value != null && allowed.contains(value.getKind()) ? value : operand;
+	}
+}
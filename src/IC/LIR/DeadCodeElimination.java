@@ -0,0 +1,183 @@
+package IC.LIR;
+
+import java.util.*;
+
+/**
+ * DeadCodeElimination
+ * ===================
+ * removes code that has no effect on the program:
+ * - methods that are never called: not in a dispatch table, not a static call target and not _ic_main
+ *   (e.g. unused runtime checks)
+ * - labels that are not jump targets, and code not reached from the start of its method
+ * - moves, loads and operations writing a register or variable that is not read later
+ *   (by liveness analysis over the method's code; calls are always kept)
+ */
+public class DeadCodeElimination implements LIRPass {
+
+	private static final String mainLabel = "_ic_main";
+
+	public String getName(){
+		return "dead-code";
+	}
+
+	public boolean run(LIRProgram program){
+		boolean changed = removeUnusedMethods(program);
+		Set<String> targets = getJumpTargets(program);
+		for (LIRMethod method: program.getMethods()){
+			changed |= removeUnreachableCode(method, targets);
+			changed |= removeDeadDefinitions(method);
+		}
+		return changed;
+	}
+
+	/**
+	 * returns the labels of all jump instructions in the program
+	 * @param program
+	 * @return
+	 */
+	private static Set<String> getJumpTargets(LIRProgram program){
+		Set<String> targets = new HashSet<String>();
+		for (LIRMethod method: program.getMethods()){
+			for (LIRInstruction instruction: method.getInstructions()){
+				if (instruction.getOpcode().isJump()) targets.add(instruction.getLabel());
+			}
+		}
+		return targets;
+	}
+
+	/**
+	 * removes the methods that are never called
+	 * (methods with a label jumped to from another method are kept)
+	 * @param program
+	 * @return true iff a method was removed
+	 */
+	private boolean removeUnusedMethods(LIRProgram program){
+		Set<String> used = new HashSet<String>();
+		used.add(mainLabel);
+		for (List<String> methodsLabels: program.getDispatchTables().values()){
+			used.addAll(methodsLabels);
+		}
+		for (LIRMethod method: program.getMethods()){
+			for (LIRInstruction instruction: method.getInstructions()){
+				if (instruction.getOpcode() == LIROpcode.STATIC_CALL) used.add(instruction.getCallee().getName());
+			}
+		}
+
+		boolean changed = false;
+		Iterator<LIRMethod> it = program.getMethods().iterator();
+		while (it.hasNext()){
+			LIRMethod method = it.next();
+			if (used.contains(method.getLabel()) || isJumpedInto(method, program)) continue;
+			it.remove();
+			changed = true;
+		}
+		return changed;
+	}
+
+	/**
+	 * returns true iff a label inside the method is jumped to from another method
+	 */
+	private static boolean isJumpedInto(LIRMethod method, LIRProgram program){
+		Set<String> labels = new HashSet<String>();
+		for (LIRInstruction instruction: method.getInstructions()){
+			if (instruction.isLabel()) labels.add(instruction.getLabel());
+		}
+		for (LIRMethod other: program.getMethods()){
+			if (other == method) continue;
+			for (LIRInstruction instruction: other.getInstructions()){
+				if (instruction.getOpcode().isJump() && labels.contains(instruction.getLabel())) return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * removes the labels that are not jump targets, and the code after a Jump / Return
+	 * up to the next jump target
+	 * @param method
+	 * @param targets
+	 * @return true iff the method was changed
+	 */
+	private boolean removeUnreachableCode(LIRMethod method, Set<String> targets){
+		List<LIRInstruction> code = new ArrayList<LIRInstruction>();
+		boolean isReachable = true;
+		for (LIRInstruction instruction: method.getInstructions()){
+			if (instruction.isLabel()){
+				if (!targets.contains(instruction.getLabel())) continue;
+				isReachable = true;
+			} else if (!isReachable) continue;
+			else if (instruction.isTerminator()) isReachable = false;
+			code.add(instruction);
+		}
+
+		boolean changed = code.size() < method.getInstructions().size();
+		method.setInstructions(code);
+		return changed;
+	}
+
+	/**
+	 * removes the instructions (other than calls) whose result is never read
+	 * @param method
+	 * @return true iff the method was changed
+	 */
+	private boolean removeDeadDefinitions(LIRMethod method){
+		List<LIRInstruction> instructions = method.getInstructions();
+		int size = instructions.size();
+
+		// label -> index in the method
+		Map<String,Integer> labels = new HashMap<String,Integer>();
+		for (int i = 0; i < size; i++){
+			if (instructions.get(i).isLabel()) labels.put(instructions.get(i).getLabel(), i);
+		}
+
+		// successors of each instruction (jumps out of the method exit the program)
+		List<List<Integer>> successors = new ArrayList<List<Integer>>();
+		for (int i = 0; i < size; i++){
+			LIRInstruction instruction = instructions.get(i);
+			List<Integer> next = new ArrayList<Integer>();
+			if (instruction.getOpcode().isJump() && labels.containsKey(instruction.getLabel())){
+				next.add(labels.get(instruction.getLabel()));
+			}
+			if (!instruction.isTerminator() && i+1 < size) next.add(i+1);
+			successors.add(next);
+		}
+
+		// live registers and variables after each instruction, computed backwards to a fixed point
+		List<Set<LIROperand>> liveOut = new ArrayList<Set<LIROperand>>();
+		List<Set<LIROperand>> liveIn = new ArrayList<Set<LIROperand>>();
+		for (int i = 0; i < size; i++){
+			liveOut.add(new HashSet<LIROperand>());
+			liveIn.add(new HashSet<LIROperand>());
+		}
+		boolean isChanged = true;
+		while (isChanged){
+			isChanged = false;
+			for (int i = size-1; i >= 0; i--){
+				Set<LIROperand> out = liveOut.get(i);
+				for (int next: successors.get(i)){
+					out.addAll(liveIn.get(next));
+				}
+				Set<LIROperand> in = new HashSet<LIROperand>(out);
+				LIROperand def = instructions.get(i).getDefinition();
+				if (def != null) in.remove(def);
+				in.addAll(instructions.get(i).getUses());
+				if (!in.equals(liveIn.get(i))){
+					liveIn.set(i, in);
+					isChanged = true;
+				}
+			}
+		}
+
+		List<LIRInstruction> code = new ArrayList<LIRInstruction>();
+		for (int i = 0; i < size; i++){
+			LIRInstruction instruction = instructions.get(i);
+			LIROperand def = instruction.getDefinition();
+			if (def != null && !instruction.getOpcode().isCall() && !liveOut.get(i).contains(def)) continue;
+			code.add(instruction);
+		}
+
+		boolean changed = code.size() < size;
+		method.setInstructions(code);
+		return changed;
+	}
+}
@@ -0,0 +1,122 @@
+package IC.LIR;
+
+import java.util.*;
+
+/**
+ * JumpThreading
+ * =============
+ * shortens the paths taken by jumps:
+ * - a jump to a label followed by "Jump L" jumps directly to L (following chains of jumps)
+ * - a conditional jump over a "Jump L" is inverted to jump to L:
+ *   JumpTrue L1 / Jump L2 / L1: => JumpFalse L2 / L1:
+ * - a jump to the label right after it is removed
+ * labels left unused are removed by dead code removal
+ */
+public class JumpThreading implements LIRPass {
+
+	public String getName(){
+		return "jump-threading";
+	}
+
+	public boolean run(LIRProgram program){
+		// label -> the first instruction after it (null if none)
+		Map<String,LIRInstruction> labelTargets = new HashMap<String,LIRInstruction>();
+		for (LIRMethod method: program.getMethods()){
+			List<LIRInstruction> instructions = method.getInstructions();
+			for (int i = 0; i < instructions.size(); i++){
+				if (instructions.get(i).isLabel()){
+					labelTargets.put(instructions.get(i).getLabel(), getNextInstruction(instructions, i));
+				}
+			}
+		}
+
+		boolean changed = false;
+		for (LIRMethod method: program.getMethods()){
+			changed |= optimize(method, labelTargets);
+		}
+		return changed;
+	}
+
+	/**
+	 * threads the jumps of the given method
+	 * @param method
+	 * @param labelTargets
+	 * @return true iff the method was changed
+	 */
+	private boolean optimize(LIRMethod method, Map<String,LIRInstruction> labelTargets){
+		boolean changed = false;
+		List<LIRInstruction> instructions = method.getInstructions();
+
+		// retarget jumps to jumps
+		for (LIRInstruction instruction: instructions){
+			if (!instruction.getOpcode().isJump()) continue;
+			String target = getFinalTarget(instruction.getLabel(), labelTargets);
+			if (!target.equals(instruction.getLabel())){
+				instruction.setOperand(0, LIROperand.label(target));
+				changed = true;
+			}
+		}
+
+		List<LIRInstruction> code = new ArrayList<LIRInstruction>();
+		for (int i = 0; i < instructions.size(); i++){
+			LIRInstruction instruction = instructions.get(i);
+			LIROpcode opcode = instruction.getOpcode();
+
+			if (opcode.isConditionalJump() && i+1 < instructions.size() &&
+					instructions.get(i+1).getOpcode() == LIROpcode.JUMP &&
+					isFollowedByLabel(instructions, i+1, instruction.getLabel())){
+				// conditional jump over a jump
+				LIRInstruction inverse = new LIRInstruction(opcode.getInverse(), instructions.get(i+1).getOperand(0));
+				inverse.setLine(instruction.getLine());
+				code.add(inverse);
+				i++;
+				changed = true;
+			} else if (opcode.isJump() && isFollowedByLabel(instructions, i, instruction.getLabel())){
+				// jump to the next instruction
+				changed = true;
+			} else {
+				code.add(instruction);
+			}
+		}
+
+		method.setInstructions(code);
+		return changed;
+	}
+
+	/**
+	 * returns the label finally reached by jumping to the given label,
+	 * following the unconditional jumps found right after labels
+	 * @param label
+	 * @param labelTargets
+	 * @return
+	 */
+	private static String getFinalTarget(String label, Map<String,LIRInstruction> labelTargets){
+		Set<String> visited = new HashSet<String>();
+		while (visited.add(label)){
+			LIRInstruction next = labelTargets.get(label);
+			if (next == null || next.getOpcode() != LIROpcode.JUMP) break;
+			label = next.getLabel();
+		}
+		return label;
+	}
+
+	/**
+	 * returns the first instruction after index i that is not a label, or null if there is none
+	 */
+	private static LIRInstruction getNextInstruction(List<LIRInstruction> instructions, int i){
+		for (int j = i+1; j < instructions.size(); j++){
+			if (!instructions.get(j).isLabel()) return instructions.get(j);
+		}
+		return null;
+	}
+
+	/**
+	 * returns true iff the given label is among the labels right after index i
+	 */
+	private static boolean isFollowedByLabel(List<LIRInstruction> instructions, int i, String label){
+		for (int j = i+1; j < instructions.size() && instructions.get(j).isLabel(); j++){
+			if (instructions.get(j).getLabel().equals(label)) return true;
+		}
+		return false;
+	}
+}
@@ -0,0 +1,241 @@
+package IC.LIR;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.*;
+
+/**
+ * LIRBinaryReader
+ * ===============
+ * reads a binary LIR file (see LIRBinaryWriter for the format)
+ * - the file is memory-mapped; the names, string literals, dispatch tables and methods index
+ *   are read when the file is opened
+ * - a method's code is decoded only when the method is first requested
+ */
+public class LIRBinaryReader {
+
+	private ByteBuffer buffer;
+	private int pos = 0;
+
+	private String[] names;
+	private Map<String,String> stringLiterals = new LinkedHashMap<String,String>();
+	private Map<String,List<String>> dispatchTables = new LinkedHashMap<String,List<String>>();
+	// methods index: label -> code offset in the buffer
+	private Map<String,Integer> methodsOffsets = new LinkedHashMap<String,Integer>();
+	// decoded methods
+	private Map<String,LIRMethod> methods = new HashMap<String,LIRMethod>();
+
+	private LIRBinaryReader(ByteBuffer buffer){
+		this.buffer = buffer;
+	}
+
+	/**
+	 * opens the given binary LIR file
+	 * @param fileName
+	 * @return
+	 * @throws IOException if the file cannot be read or is not a binary LIR file
+	 */
+	public static LIRBinaryReader open(String fileName) throws IOException {
+		FileChannel channel = new FileInputStream(fileName).getChannel();
+		try {
+			// the mapping stays valid after the channel is closed
+			LIRBinaryReader reader = new LIRBinaryReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+			reader.readHeader(fileName);
+			return reader;
+		} finally {
+			channel.close();
+		}
+	}
+
+	/**
+	 * returns true iff the given file name has the binary LIR extension (.lirb)
+	 */
+	public static boolean isBinaryLIR(String fileName){
+		return fileName.endsWith(".lirb");
+	}
+
+	public Map<String,String> getStringLiterals(){
+		return stringLiterals;
+	}
+
+	public Map<String,List<String>> getDispatchTables(){
+		return dispatchTables;
+	}
+
+	/**
+	 * returns the labels of the methods, in order
+	 */
+	public Set<String> getMethodsLabels(){
+		return methodsOffsets.keySet();
+	}
+
+	/**
+	 * returns the method with the given label (decoding it on its first request),
+	 * or null if there is none
+	 * @param label
+	 * @return
+	 * @throws IOException if the method's code is corrupted
+	 */
+	public LIRMethod getMethod(String label) throws IOException {
+		LIRMethod method = methods.get(label);
+		if (method != null || !methodsOffsets.containsKey(label)) return method;
+
+		pos = methodsOffsets.get(label);
+		try {
+			int count = readCount();
+			List<LIRInstruction> instructions = new ArrayList<LIRInstruction>(count);
+			for (int i = 0; i < count; i++){
+				instructions.add(readInstruction());
+			}
+			method = new LIRMethod(label, instructions);
+		} catch (RuntimeException e){
+			throw new IOException("Corrupted binary LIR code of method "+label);
+		}
+		methods.put(label, method);
+		return method;
+	}
+
+	/**
+	 * decodes the whole program
+	 * @return
+	 * @throws IOException if the code is corrupted
+	 */
+	public LIRProgram getProgram() throws IOException {
+		LIRProgram program = new LIRProgram();
+		for (String label: stringLiterals.keySet()){
+			program.addStringLiteral(label, stringLiterals.get(label));
+		}
+		for (String label: dispatchTables.keySet()){
+			program.addDispatchTable(label, dispatchTables.get(label));
+		}
+		for (String label: getMethodsLabels()){
+			program.addMethod(getMethod(label));
+		}
+		return program;
+	}
+
+	//////////////
+	//	header	//
+	//////////////
+
+	private void readHeader(String fileName) throws IOException {
+		try {
+			for (byte b: LIRBinaryWriter.magic){
+				if (buffer.get(pos++) != b) throw new IOException("Not a binary LIR file: "+fileName);
+			}
+			if (readVarint() != LIRBinaryWriter.version){
+				throw new IOException("Unsupported binary LIR version: "+fileName);
+			}
+
+			names = new String[readCount()];
+			for (int i = 0; i < names.length; i++){
+				char[] name = new char[readCount()];
+				for (int j = 0; j < name.length; j++){
+					name[j] = (char) (buffer.get(pos++) & 0xff);
+				}
+				names[i] = new String(name);
+			}
+
+			for (int count = readCount(); count > 0; count--){
+				String label = readName();
+				stringLiterals.put(label, readName());
+			}
+			for (int count = readCount(); count > 0; count--){
+				String label = readName();
+				List<String> methodsLabels = new ArrayList<String>();
+				for (int n = readVarint(); n > 0; n--){
+					methodsLabels.add(readName());
+				}
+				dispatchTables.put(label, methodsLabels);
+			}
+
+			// code offsets are given from the code start, right after the index
+			List<String> labels = new ArrayList<String>();
+			List<Integer> offsets = new ArrayList<Integer>();
+			for (int count = readCount(); count > 0; count--){
+				labels.add(readName());
+				offsets.add(readVarint());
+				readVarint(); // code length
+			}
+			for (int i = 0; i < labels.size(); i++){
+				methodsOffsets.put(labels.get(i), pos+offsets.get(i));
+			}
+		} catch (RuntimeException e){
+			throw new IOException("Corrupted binary LIR file: "+fileName);
+		}
+	}
+
+	//////////////
+	//	code	//
+	//////////////
+
+	private LIRInstruction readInstruction(){
+		LIROpcode opcode = LIROpcode.values()[readVarint()];
+		if (opcode.isCall()){
+			LIROperand callee = readOperand();
+			int count = readCount();
+			List<String> argumentNames = opcode == LIROpcode.LIBRARY ? null : new ArrayList<String>(count);
+			List<LIROperand> arguments = new ArrayList<LIROperand>(count);
+			for (int i = 0; i < count; i++){
+				if (argumentNames != null) argumentNames.add(readName());
+				arguments.add(readOperand());
+			}
+			return new LIRInstruction(opcode, callee, argumentNames, arguments, readOperand());
+		}
+
+		LIROperand[] operands = new LIROperand[readCount()];
+		for (int i = 0; i < operands.length; i++){
+			operands[i] = readOperand();
+		}
+		return new LIRInstruction(opcode, operands);
+	}
+
+	private LIROperand readOperand(){
+		switch (LIROperand.Kind.values()[readVarint()]){
+		case IMMEDIATE:
+			int value = readVarint();
+			return LIROperand.immediate((value >>> 1) ^ -(value & 1));
+		case REGISTER:
+			return LIROperand.register(readName());
+		case VARIABLE:
+			return LIROperand.variable(readName());
+		case STRING:
+			return LIROperand.string(readName());
+		case LABEL:
+			return LIROperand.label(readName());
+		case ARRAY:
+			LIROperand base = readOperand();
+			return LIROperand.array(base, readOperand());
+		default:
+			base = readOperand();
+			return LIROperand.field(base, readVarint());
+		}
+	}
+
+	private String readName(){
+		return names[readVarint()];
+	}
+
+	/**
+	 * reads the number of elements of a list or name
+	 * (every element takes at least a byte, so a count beyond the buffer's end is corrupted data)
+	 */
+	private int readCount(){
+		int count = readVarint();
+		if (count < 0 || count > buffer.limit()-pos) throw new IllegalStateException("count out of range "+count);
+		return count;
+	}
+
+	/**
+	 * reads an unsigned varint
+	 */
+	private int readVarint(){
+		int value = 0;
+		for (int shift = 0; ; shift += 7){
+			int b = buffer.get(pos++);
+			value |= (b & 0x7f) << shift;
+			if ((b & 0x80) == 0) return value;
+		}
+	}
+}
@@ -0,0 +1,172 @@
+package IC.LIR;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.util.*;
+
+/**
+ * LIRBinaryWriter
+ * ===============
+ * writes a LIR program in the compact binary LIR format (.lirb), read by LIRBinaryReader
+ * all numbers are unsigned varints (7 bits per byte, low bits first, high bit set on all but the last byte),
+ * and all names are indices into the names table:
+ * - header: "LIRB", format version
+ * - names table: count, then length and ISO-8859-1 bytes of each name
+ *   (labels, registers, variables, formals and string literals)
+ * - string literals: count, then label and literal of each
+ * - dispatch tables: count, then label, methods count and methods labels of each
+ * - methods index: count, then label, code offset (from the code start) and code length of each
+ * - code: the instructions of each method: count, then each instruction:
+ *   opcode, then for calls: callee, arguments count, (formal name for static / virtual calls) and operand
+ *   of each argument, result; for other instructions: operands count and operands
+ * - operands: kind, then the value (zigzag encoded immediates), name, base and index / offset
+ */
+public class LIRBinaryWriter {
+
+	public static final byte[] magic = {'L', 'I', 'R', 'B'};
+	public static final int version = 1;
+
+	// names table: name -> index
+	private Map<String,Integer> names = new LinkedHashMap<String,Integer>();
+
+	private LIRBinaryWriter(){}
+
+	/**
+	 * writes the program to the given file
+	 * @param program
+	 * @param fileName
+	 * @throws IOException
+	 */
+	public static void write(LIRProgram program, String fileName) throws IOException {
+		OutputStream out = new BufferedOutputStream(new FileOutputStream(fileName));
+		try {
+			out.write(toByteArray(program));
+		} finally {
+			out.close();
+		}
+	}
+
+	/**
+	 * returns the binary LIR encoding of the program
+	 * @param program
+	 * @return
+	 */
+	public static byte[] toByteArray(LIRProgram program){
+		return new LIRBinaryWriter().encode(program);
+	}
+
+	private byte[] encode(LIRProgram program){
+		// code first, to collect the names and the methods offsets
+		ByteArrayOutputStream code = new ByteArrayOutputStream();
+		int[] offsets = new int[program.getMethods().size()];
+		int[] lengths = new int[program.getMethods().size()];
+		for (int i = 0; i < offsets.length; i++){
+			offsets[i] = code.size();
+			List<LIRInstruction> instructions = program.getMethods().get(i).getInstructions();
+			writeVarint(code, instructions.size());
+			for (LIRInstruction instruction: instructions){
+				writeInstruction(code, instruction);
+			}
+			lengths[i] = code.size()-offsets[i];
+		}
+
+		ByteArrayOutputStream data = new ByteArrayOutputStream();
+		writeVarint(data, program.getStringLiterals().size());
+		for (Map.Entry<String,String> literal: program.getStringLiterals().entrySet()){
+			writeName(data, literal.getKey());
+			writeName(data, literal.getValue());
+		}
+		writeVarint(data, program.getDispatchTables().size());
+		for (Map.Entry<String,List<String>> table: program.getDispatchTables().entrySet()){
+			writeName(data, table.getKey());
+			writeVarint(data, table.getValue().size());
+			for (String method: table.getValue()){
+				writeName(data, method);
+			}
+		}
+		writeVarint(data, offsets.length);
+		for (int i = 0; i < offsets.length; i++){
+			writeName(data, program.getMethods().get(i).getLabel());
+			writeVarint(data, offsets[i]);
+			writeVarint(data, lengths[i]);
+		}
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		out.write(magic, 0, magic.length);
+		writeVarint(out, version);
+		writeVarint(out, names.size());
+		for (String name: names.keySet()){
+			byte[] bytes = toBytes(name);
+			writeVarint(out, bytes.length);
+			out.write(bytes, 0, bytes.length);
+		}
+		byte[] bytes = data.toByteArray();
+		out.write(bytes, 0, bytes.length);
+		bytes = code.toByteArray();
+		out.write(bytes, 0, bytes.length);
+		return out.toByteArray();
+	}
+
+	private void writeInstruction(ByteArrayOutputStream out, LIRInstruction instruction){
+		LIROpcode opcode = instruction.getOpcode();
+		writeVarint(out, opcode.ordinal());
+		if (opcode.isCall()){
+			writeOperand(out, instruction.getCallee());
+			List<LIROperand> arguments = instruction.getArguments();
+			writeVarint(out, arguments.size());
+			for (int i = 0; i < arguments.size(); i++){
+				if (opcode != LIROpcode.LIBRARY) writeName(out, instruction.getArgumentNames().get(i));
+				writeOperand(out, arguments.get(i));
+			}
+			writeOperand(out, instruction.getResult());
+		} else {
+			writeVarint(out, instruction.getOperands().size());
+			for (LIROperand operand: instruction.getOperands()){
+				writeOperand(out, operand);
+			}
+		}
+	}
+
+	private void writeOperand(ByteArrayOutputStream out, LIROperand operand){
+		writeVarint(out, operand.getKind().ordinal());
+		switch (operand.getKind()){
+		case IMMEDIATE:
+			writeVarint(out, (operand.getValue() << 1) ^ (operand.getValue() >> 31));
+			break;
+		case ARRAY:
+			writeOperand(out, operand.getBase());
+			writeOperand(out, operand.getIndex());
+			break;
+		case FIELD:
+			writeOperand(out, operand.getBase());
+			writeVarint(out, operand.getValue());
+			break;
+		default:
+			writeName(out, operand.getName());
+		}
+	}
+
+	private void writeName(ByteArrayOutputStream out, String name){
+		Integer index = names.get(name);
+		if (index == null){
+			index = names.size();
+			names.put(name, index);
+		}
+		writeVarint(out, index);
+	}
+
+	/**
+	 * writes an unsigned varint
+	 */
+	private static void writeVarint(ByteArrayOutputStream out, int value){
+		while ((value & ~0x7f) != 0){
+			out.write((value & 0x7f) | 0x80);
+			value >>>= 7;
+		}
+		out.write(value);
+	}
+
+	private static byte[] toBytes(String s){
+		return s.getBytes(Charset.forName("ISO-8859-1"));
+	}
+}
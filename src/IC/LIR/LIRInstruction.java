@@ -0,0 +1,202 @@
+package IC.LIR;
+
+import java.util.*;
+
+/**
+ * LIRInstruction
+ * ==============
+ * a single LIR instruction (or a label in a method's code)
+ * - operands are kept in LIR order, e.g. Move src,dst / Compare a,b / Jump label
+ * - calls keep the callee, the arguments and the result register as operands:
+ *   Library __f(args),Rd / StaticCall _A_f(formal=arg,...),Rd / VirtualCall Rb.offset(formal=arg,...),Rd
+ *   (static and virtual calls also keep the formals' names)
+ */
+public class LIRInstruction {
+
+	private LIROpcode opcode;
+	// for calls: callee, arguments..., result
+	private List<LIROperand> operands;
+	// for static and virtual calls: the formals' names, by argument
+	private List<String> argumentNames;
+	// the source line the instruction was translated from (0 if unknown)
+	private int line = 0;
+
+	/**
+	 * constructor for non-call instructions
+	 * @param opcode
+	 * @param operands
+	 */
+	public LIRInstruction(LIROpcode opcode, LIROperand... operands){
+		this.opcode = opcode;
+		this.operands = new ArrayList<LIROperand>(Arrays.asList(operands));
+	}
+
+	/**
+	 * constructor for calls
+	 * @param opcode: LIBRARY / STATIC_CALL / VIRTUAL_CALL
+	 * @param callee: library method / method label, or the dispatch vector entry for virtual calls
+	 * @param argumentNames: the formals' names (null for library calls)
+	 * @param arguments
+	 * @param result
+	 */
+	public LIRInstruction(LIROpcode opcode, LIROperand callee, List<String> argumentNames,
+			List<LIROperand> arguments, LIROperand result){
+		this.opcode = opcode;
+		this.operands = new ArrayList<LIROperand>();
+		this.operands.add(callee);
+		this.operands.addAll(arguments);
+		this.operands.add(result);
+		this.argumentNames = argumentNames;
+	}
+
+	/**
+	 * returns a label pseudo instruction
+	 * @param label
+	 * @return
+	 */
+	public static LIRInstruction newLabel(String label){
+		return new LIRInstruction(LIROpcode.LABEL, LIROperand.label(label));
+	}
+
+	//////////////
+	//	getters	//
+	//////////////
+
+	public LIROpcode getOpcode(){
+		return opcode;
+	}
+
+	public List<LIROperand> getOperands(){
+		return operands;
+	}
+
+	public LIROperand getOperand(int i){
+		return operands.get(i);
+	}
+
+	public void setOperand(int i, LIROperand operand){
+		operands.set(i, operand);
+	}
+
+	public int getLine(){
+		return line;
+	}
+
+	public void setLine(int line){
+		this.line = line;
+	}
+
+	public boolean isLabel(){
+		return opcode == LIROpcode.LABEL;
+	}
+
+	/**
+	 * returns the label of a label pseudo instruction, or the target of a jump
+	 */
+	public String getLabel(){
+		return operands.get(0).getName();
+	}
+
+	/**
+	 * returns the callee of a call
+	 */
+	public LIROperand getCallee(){
+		return operands.get(0);
+	}
+
+	/**
+	 * returns the arguments of a call
+	 */
+	public List<LIROperand> getArguments(){
+		return operands.subList(1, operands.size()-1);
+	}
+
+	/**
+	 * returns the formals' names of a static / virtual call
+	 */
+	public List<String> getArgumentNames(){
+		return argumentNames;
+	}
+
+	/**
+	 * returns the result register of a call
+	 */
+	public LIROperand getResult(){
+		return operands.get(operands.size()-1);
+	}
+
+	/**
+	 * returns true iff the code after the instruction is not reached from it (Jump / Return)
+	 */
+	public boolean isTerminator(){
+		return opcode == LIROpcode.JUMP || opcode == LIROpcode.RETURN;
+	}
+
+	/**
+	 * returns the register or variable written by the instruction,
+	 * or null if there is none (e.g. memory stores)
+	 */
+	public LIROperand getDefinition(){
+		LIROperand def;
+		if (opcode.isCall() || opcode == LIROpcode.MOVE || opcode == LIROpcode.MOVE_ARRAY ||
+				opcode == LIROpcode.MOVE_FIELD || opcode == LIROpcode.ARRAY_LENGTH){
+			def = operands.get(operands.size()-1);
+		} else if (opcode.isBinaryOperation()){
+			def = operands.get(1);
+		} else if (opcode.isUnaryOperation()){
+			def = operands.get(0);
+		} else return null;
+		return def.isRegister() || def.isVariable() ? def : null;
+	}
+
+	/**
+	 * returns the registers and variables read by the instruction,
+	 * including the bases and indices of the memory locations it accesses
+	 */
+	public List<LIROperand> getUses(){
+		List<LIROperand> uses = new ArrayList<LIROperand>();
+		// a definition by a move or a call is not read (operations read their result operand)
+		boolean isWriteOnly = !opcode.isBinaryOperation() && !opcode.isUnaryOperation();
+		LIROperand def = getDefinition();
+		for (int i = 0; i < operands.size(); i++){
+			if (isWriteOnly && def != null && i == operands.size()-1) continue;
+			addUses(operands.get(i), uses);
+		}
+		return uses;
+	}
+
+	private static void addUses(LIROperand operand, List<LIROperand> uses){
+		if (operand.isRegister() || operand.isVariable()){
+			uses.add(operand);
+		} else if (operand.isMemory()){
+			addUses(operand.getBase(), uses);
+			if (operand.getIndex() != null) addUses(operand.getIndex(), uses);
+		}
+	}
+
+	/**
+	 * returns the LIR representation of the instruction
+	 */
+	public String toString(){
+		if (isLabel()) return getLabel()+":";
+
+		StringBuffer instruction = new StringBuffer(opcode.getName());
+		instruction.append(" ");
+		if (opcode.isCall()){
+			instruction.append(getCallee()).append("(");
+			List<LIROperand> arguments = getArguments();
+			for (int i = 0; i < arguments.size(); i++){
+				if (i > 0) instruction.append(",");
+				if (argumentNames != null) instruction.append(argumentNames.get(i)).append("=");
+				instruction.append(arguments.get(i));
+			}
+			instruction.append("),").append(getResult());
+		} else {
+			for (int i = 0; i < operands.size(); i++){
+				if (i > 0) instruction.append(",");
+				instruction.append(operands.get(i));
+			}
+		}
+		return instruction.toString();
+	}
+}
@@ -0,0 +1,70 @@
+package IC.LIR;
+
+import java.util.*;
+
+/**
+ * LIRLineMap
+ * ==========
+ * maps the instructions of a LIR program back to the source lines they were translated from
+ * (see LIRInstruction.getLine), by method and instruction index
+ * - instructions are indexed from 0 in each method, labels excluded
+ * - the map is written as a side table, a line per run of consecutive instructions of a method
+ *   with the same source line, as tab separated fields:
+ *   <method label>	<first instruction index>	<source line>
+ *   where source line 0 stands for an unknown line
+ */
+public class LIRLineMap {
+
+	// source lines by method label, by instruction index
+	private Map<String,int[]> methodsLines = new LinkedHashMap<String,int[]>();
+
+	/**
+	 * constructor: collects the source lines of the given program's instructions
+	 * @param program
+	 */
+	public LIRLineMap(LIRProgram program){
+		for (LIRMethod method: program.getMethods()){
+			List<Integer> lines = new ArrayList<Integer>();
+			for (LIRInstruction instruction: method.getInstructions()){
+				if (!instruction.isLabel()) lines.add(instruction.getLine());
+			}
+			int[] methodLines = new int[lines.size()];
+			for (int i = 0; i < methodLines.length; i++){
+				methodLines[i] = lines.get(i);
+			}
+			methodsLines.put(method.getLabel(), methodLines);
+		}
+	}
+
+	/**
+	 * returns the source line of the given instruction, or 0 if it is unknown
+	 * @param methodLabel
+	 * @param index: the instruction index in the method (labels excluded)
+	 * @return
+	 */
+	public int getLine(String methodLabel, int index){
+		int[] methodLines = methodsLines.get(methodLabel);
+		if (methodLines == null || index < 0 || index >= methodLines.length) return 0;
+		return methodLines[index];
+	}
+
+	/**
+	 * returns the side table
+	 * @param fileName: the source file name, written in the header
+	 * @return
+	 */
+	public String toString(String fileName){
+		StringBuffer map = new StringBuffer();
+		map.append("# LIR line map for "+fileName+"\n");
+		map.append("# method\tindex\tline\n");
+		for (String label: methodsLines.keySet()){
+			int[] methodLines = methodsLines.get(label);
+			for (int i = 0; i < methodLines.length; i++){
+				if (i == 0 || methodLines[i] != methodLines[i-1]){
+					map.append(label).append("\t").append(i).append("\t").append(methodLines[i]).append("\n");
+				}
+			}
+		}
+		return map.toString();
+	}
+}
@@ -0,0 +1,393 @@
+package IC.LIR;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.*;
+
+/**
+ * LIRLoader
+ * =========
+ * reads LIR text (as written by the translators) back into a LIRProgram
+ * - files are memory-mapped and scanned once, byte by byte (LIR text is ASCII)
+ * - comments and empty lines are skipped, except line annotations ("# line <n>"): the instructions
+ *   following an annotation get its source line (see LIRInstruction.getLine)
+ * - the code is split into methods at the methods' labels: dispatch table entries,
+ *   static calls targets, the runtime checks, the main method (_ic_main) and the first label, all other
+ *   labels stay inside methods
+ */
+public class LIRLoader {
+
+	private static final String mainLabel = "_ic_main";
+	// labels of the runtime checks methods (emitted by the translators even if never called)
+	private static final List<String> checkLabels =
+		Arrays.asList("__checkNullRef", "__checkArrayAccess", "__checkSize", "__checkZero");
+	// prefix of a line annotation comment, followed by the source line
+	public static final String lineAnnotation = "# line ";
+
+	private ByteBuffer buffer;
+	private int pos = 0;
+	private int line = 1;
+	// the source line of the last line annotation (0 if none)
+	private int sourceLine = 0;
+
+	private LIRProgram program = new LIRProgram();
+	// all instructions and labels, in order
+	private List<LIRInstruction> code = new ArrayList<LIRInstruction>();
+	// labels starting a method
+	private Set<String> methodLabels = new HashSet<String>();
+
+	private LIRLoader(ByteBuffer buffer){
+		this.buffer = buffer;
+	}
+
+	/**
+	 * loads the given LIR file
+	 * @param fileName
+	 * @return
+	 * @throws IOException
+	 * @throws LIRSyntaxError
+	 */
+	public static LIRProgram load(String fileName) throws IOException, LIRSyntaxError {
+		FileChannel channel = new FileInputStream(fileName).getChannel();
+		try {
+			return new LIRLoader(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())).parse();
+		} finally {
+			channel.close();
+		}
+	}
+
+	/**
+	 * parses the given LIR code
+	 * @param lirCode
+	 * @return
+	 * @throws LIRSyntaxError
+	 */
+	public static LIRProgram parse(String lirCode) throws LIRSyntaxError {
+		return new LIRLoader(ByteBuffer.wrap(lirCode.getBytes(Charset.forName("ISO-8859-1")))).parse();
+	}
+
+	/**
+	 * parses the whole buffer: string literals, dispatch tables, labels and instructions
+	 * @return
+	 * @throws LIRSyntaxError
+	 */
+	private LIRProgram parse() throws LIRSyntaxError {
+		while (pos < buffer.limit()){
+			skipSpaces();
+			int c = peek();
+			if (c == '\n'){
+				pos++;
+				line++;
+				continue;
+			}
+			if (c == '\r'){
+				pos++;
+				continue;
+			}
+			if (c == '#'){
+				readComment();
+				continue;
+			}
+
+			String name = readName();
+			skipSpaces();
+			if (peek() == ':'){
+				pos++;
+				skipSpaces();
+				if (peek() == '"'){
+					program.addStringLiteral(name, readStringLiteral());
+				} else if (peek() == '['){
+					List<String> methods = readDispatchTable();
+					program.addDispatchTable(name, methods);
+					methodLabels.addAll(methods);
+				} else {
+					code.add(LIRInstruction.newLabel(name));
+				}
+			} else {
+				LIROpcode opcode = LIROpcode.fromName(name);
+				if (opcode == null || opcode == LIROpcode.LABEL) throw error("Unknown instruction", name);
+				LIRInstruction instruction = readInstruction(opcode);
+				instruction.setLine(sourceLine);
+				code.add(instruction);
+			}
+			expectEndOfLine();
+		}
+
+		splitMethods();
+		return program;
+	}
+
+	/**
+	 * splits the code into the program's methods
+	 * @throws LIRSyntaxError
+	 */
+	private void splitMethods() throws LIRSyntaxError {
+		methodLabels.add(mainLabel);
+		methodLabels.addAll(checkLabels);
+
+		List<LIRInstruction> methodCode = null;
+		for (LIRInstruction instruction: code){
+			if (instruction.isLabel() && (methodCode == null || methodLabels.contains(instruction.getLabel()))){
+				methodCode = new ArrayList<LIRInstruction>();
+				program.addMethod(new LIRMethod(instruction.getLabel(), methodCode));
+			} else if (methodCode == null){
+				throw new LIRSyntaxError("Code outside of a method", -1, instruction.toString());
+			} else {
+				methodCode.add(instruction);
+			}
+		}
+	}
+
+	//////////////////////
+	//	instructions	//
+	//////////////////////
+
+	/**
+	 * reads the operands of an instruction
+	 * @param opcode
+	 * @return
+	 * @throws LIRSyntaxError
+	 */
+	private LIRInstruction readInstruction(LIROpcode opcode) throws LIRSyntaxError {
+		switch (opcode){
+		case LIBRARY:
+			return readCall(opcode, LIROperand.label(readName()), false);
+		case STATIC_CALL:
+			String target = readName();
+			methodLabels.add(target);
+			return readCall(opcode, LIROperand.label(target), true);
+		case VIRTUAL_CALL:
+			return readCall(opcode, readOperand(), true);
+		default:
+			List<LIROperand> operands = new ArrayList<LIROperand>();
+			do {
+				skipSpaces();
+				operands.add(readOperand());
+				skipSpaces();
+			} while (accept(','));
+			if (operands.size() != opcode.getOperandsCount()) throw error("Wrong number of operands", opcode.getName());
+			return new LIRInstruction(opcode, operands.toArray(new LIROperand[operands.size()]));
+		}
+	}
+
+	/**
+	 * reads the arguments and result of a call: (args),result
+	 * @param opcode
+	 * @param callee
+	 * @param hasNames: true iff the arguments are given as formal=argument
+	 * @return
+	 * @throws LIRSyntaxError
+	 */
+	private LIRInstruction readCall(LIROpcode opcode, LIROperand callee, boolean hasNames) throws LIRSyntaxError {
+		List<String> names = hasNames ? new ArrayList<String>() : null;
+		List<LIROperand> arguments = new ArrayList<LIROperand>();
+
+		expect('(');
+		if (!accept(')')){
+			do {
+				if (hasNames){
+					names.add(readName());
+					expect('=');
+				}
+				arguments.add(readOperand());
+			} while (accept(','));
+			expect(')');
+		}
+		expect(',');
+
+		return new LIRInstruction(opcode, callee, names, arguments, readOperand());
+	}
+
+	/**
+	 * reads an operand: immediate, register, variable, string literal, label,
+	 * array element (base[index]) or field (base.offset)
+	 * @return
+	 * @throws LIRSyntaxError
+	 */
+	private LIROperand readOperand() throws LIRSyntaxError {
+		int c = peek();
+		if (c == '-' || isDigit(c)) return LIROperand.immediate(readInt());
+
+		String name = readName();
+		LIROperand operand;
+		if (LIROperand.isRegisterName(name)) operand = LIROperand.register(name);
+		else if (name.charAt(0) == '_') operand = LIROperand.label(name);
+		else if (program.getStringLiterals().containsKey(name)) operand = LIROperand.string(name);
+		else operand = LIROperand.variable(name);
+
+		if (accept('[')){
+			LIROperand index = readOperand();
+			expect(']');
+			return LIROperand.array(operand, index);
+		}
+		if (accept('.')){
+			return LIROperand.field(operand, readInt());
+		}
+		return operand;
+	}
+
+	/**
+	 * reads a string literal, keeping its escape sequences
+	 * @return the literal, without the quotes
+	 * @throws LIRSyntaxError
+	 */
+	private String readStringLiteral() throws LIRSyntaxError {
+		expect('"');
+		StringBuffer literal = new StringBuffer();
+		while (true){
+			int c = peek();
+			if (c == -1 || c == '\n') throw error("Unterminated string literal", literal.toString());
+			pos++;
+			if (c == '"') return literal.toString();
+			literal.append((char) c);
+			if (c == '\\' && peek() != -1 && peek() != '\n'){
+				literal.append((char) peek());
+				pos++;
+			}
+		}
+	}
+
+	/**
+	 * reads a dispatch table: [label,label,...]
+	 * @return the methods labels
+	 * @throws LIRSyntaxError
+	 */
+	private List<String> readDispatchTable() throws LIRSyntaxError {
+		List<String> methods = new ArrayList<String>();
+		expect('[');
+		skipSpaces();
+		if (!accept(']')){
+			do {
+				skipSpaces();
+				methods.add(readName());
+				skipSpaces();
+			} while (accept(','));
+			expect(']');
+		}
+		return methods;
+	}
+
+	//////////////////
+	//	scanning	//
+	//////////////////
+
+	/**
+	 * returns the current character, or -1 at the end of the buffer
+	 */
+	private int peek(){
+		return pos < buffer.limit() ? buffer.get(pos) & 0xff : -1;
+	}
+
+	/**
+	 * skips the given character if it is the current one
+	 * @param c
+	 * @return true iff skipped
+	 */
+	private boolean accept(char c){
+		if (peek() != c) return false;
+		pos++;
+		return true;
+	}
+
+	private void expect(char c) throws LIRSyntaxError {
+		if (!accept(c)) throw error("Expected '"+c+"'", currentText());
+	}
+
+	private void expectEndOfLine() throws LIRSyntaxError {
+		skipSpaces();
+		int c = peek();
+		if (c != -1 && c != '\n' && c != '\r' && c != '#') throw error("Unexpected text", currentText());
+	}
+
+	private void skipSpaces(){
+		while (peek() == ' ' || peek() == '\t') pos++;
+	}
+
+	private void skipComment(){
+		while (peek() != -1 && peek() != '\n') pos++;
+	}
+
+	/**
+	 * skips a comment, reading the source line if it is a line annotation
+	 */
+	private void readComment(){
+		boolean isAnnotation = pos+lineAnnotation.length() < buffer.limit();
+		for (int i = 0; isAnnotation && i < lineAnnotation.length(); i++){
+			isAnnotation = buffer.get(pos+i) == lineAnnotation.charAt(i);
+		}
+		if (isAnnotation && isDigit(buffer.get(pos+lineAnnotation.length()))){
+			pos += lineAnnotation.length();
+			sourceLine = 0;
+			while (isDigit(peek())){
+				sourceLine = sourceLine*10+(peek()-'0');
+				pos++;
+			}
+		}
+		skipComment();
+	}
+
+	/**
+	 * reads a name: letters, digits, '_' and '$'
+	 * @return
+	 * @throws LIRSyntaxError
+	 */
+	private String readName() throws LIRSyntaxError {
+		int start = pos;
+		while (isNameChar(peek())) pos++;
+		if (pos == start) throw error("Expected a name", currentText());
+
+		char[] name = new char[pos-start];
+		for (int i = 0; i < name.length; i++){
+			name[i] = (char) (buffer.get(start+i) & 0xff);
+		}
+		return new String(name);
+	}
+
+	/**
+	 * reads an integer: an optional '-' followed by digits, in the range of int
+	 * @return
+	 * @throws LIRSyntaxError
+	 */
+	private int readInt() throws LIRSyntaxError {
+		int start = pos;
+		boolean isNegative = accept('-');
+		if (!isDigit(peek())) throw error("Expected a number", currentText());
+
+		long max = isNegative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+		long value = 0;
+		while (isDigit(peek())){
+			value = value*10+(peek()-'0');
+			if (value > max){
+				pos = start;
+				throw error("Number out of range", currentText());
+			}
+			pos++;
+		}
+		return (int) (isNegative ? -value : value);
+	}
+
+	private static boolean isDigit(int c){
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isNameChar(int c){
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isDigit(c) || c == '_' || c == '$';
+	}
+
+	/**
+	 * returns the rest of the current line, for error messages
+	 */
+	private String currentText(){
+		StringBuffer text = new StringBuffer();
+		for (int i = pos; i < buffer.limit() && buffer.get(i) != '\n' && buffer.get(i) != '\r'; i++){
+			text.append((char) (buffer.get(i) & 0xff));
+		}
+		return text.toString();
+	}
+
+	private LIRSyntaxError error(String message, String value){
+		return new LIRSyntaxError(message, line, value);
+	}
+}
@@ -0,0 +1,53 @@
+package IC.LIR;
+
+import java.util.*;
+
+/**
+ * LIRMethod
+ * =========
+ * the LIR code of a method: its label, and its instructions and internal labels in order
+ */
+public class LIRMethod {
+
+	private String label;
+	private List<LIRInstruction> instructions;
+
+	/**
+	 * constructor
+	 * @param label
+	 * @param instructions
+	 */
+	public LIRMethod(String label, List<LIRInstruction> instructions){
+		this.label = label;
+		this.instructions = instructions;
+	}
+
+	public String getLabel(){
+		return label;
+	}
+
+	public List<LIRInstruction> getInstructions(){
+		return instructions;
+	}
+
+	public void setInstructions(List<LIRInstruction> instructions){
+		this.instructions = instructions;
+	}
+
+	/**
+	 * returns the LIR representation of the method
+	 * (with a line annotation before every instruction whose source line differs from the previous one's)
+	 */
+	public String toString(){
+		StringBuffer method = new StringBuffer(label+":\n");
+		int line = 0;
+		for (LIRInstruction instruction: instructions){
+			if (!instruction.isLabel() && instruction.getLine() != 0 && instruction.getLine() != line){
+				line = instruction.getLine();
+				method.append(LIRLoader.lineAnnotation).append(line).append("\n");
+			}
+			method.append(instruction).append("\n");
+		}
+		return method.toString();
+	}
+}
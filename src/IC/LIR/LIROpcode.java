@@ -0,0 +1,117 @@
+package IC.LIR;
+
+import java.util.*;
+
+/**
+ * enumerator for the LIR instructions, with their LIR names
+ * (LABEL is a pseudo instruction marking a label in a method's code)
+ */
+public enum LIROpcode {
+
+	MOVE("Move"),
+	MOVE_ARRAY("MoveArray"),
+	MOVE_FIELD("MoveField"),
+	ARRAY_LENGTH("ArrayLength"),
+	ADD("Add"),
+	SUB("Sub"),
+	MUL("Mul"),
+	DIV("Div"),
+	MOD("Mod"),
+	INC("Inc"),
+	DEC("Dec"),
+	NEG("Neg"),
+	NOT("Not"),
+	AND("And"),
+	OR("Or"),
+	XOR("Xor"),
+	COMPARE("Compare"),
+	JUMP("Jump"),
+	JUMP_TRUE("JumpTrue"),
+	JUMP_FALSE("JumpFalse"),
+	JUMP_G("JumpG"),
+	JUMP_GE("JumpGE"),
+	JUMP_L("JumpL"),
+	JUMP_LE("JumpLE"),
+	LIBRARY("Library"),
+	STATIC_CALL("StaticCall"),
+	VIRTUAL_CALL("VirtualCall"),
+	RETURN("Return"),
+	LABEL(null);
+
+	private String name;
+
+	private LIROpcode(String name) {
+		this.name = name;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public boolean isJump() {
+		return this == JUMP || isConditionalJump();
+	}
+
+	public boolean isConditionalJump() {
+		return this == JUMP_TRUE || this == JUMP_FALSE || this == JUMP_G ||
+			this == JUMP_GE || this == JUMP_L || this == JUMP_LE;
+	}
+
+	public boolean isCall() {
+		return this == LIBRARY || this == STATIC_CALL || this == VIRTUAL_CALL;
+	}
+
+	/**
+	 * returns true for the binary operations (op a,b: b = b op a)
+	 */
+	public boolean isBinaryOperation() {
+		return this == ADD || this == SUB || this == MUL || this == DIV || this == MOD ||
+			this == AND || this == OR || this == XOR;
+	}
+
+	/**
+	 * returns true for the unary operations (op a: a = op a)
+	 */
+	public boolean isUnaryOperation() {
+		return this == INC || this == DEC || this == NEG || this == NOT;
+	}
+
+	/**
+	 * returns the number of operands of the instruction (not for the calls, whose arguments vary)
+	 */
+	public int getOperandsCount() {
+		return (isJump() || isUnaryOperation() || this == RETURN) ? 1 : 2;
+	}
+
+	/**
+	 * returns the conditional jump taken exactly when this conditional jump is not taken
+	 */
+	public LIROpcode getInverse() {
+		switch (this){
+		case JUMP_TRUE: return JUMP_FALSE;
+		case JUMP_FALSE: return JUMP_TRUE;
+		case JUMP_G: return JUMP_LE;
+		case JUMP_GE: return JUMP_L;
+		case JUMP_L: return JUMP_GE;
+		case JUMP_LE: return JUMP_G;
+		default: return null;
+		}
+	}
+
+	// instructions by LIR name
+	private static final Map<String,LIROpcode> byName = new HashMap<String,LIROpcode>();
+	static {
+		for (LIROpcode op: values()){
+			if (op.name != null) byName.put(op.name, op);
+		}
+	}
+
+	/**
+	 * returns the instruction with the given LIR name, or null if there is none
+	 * @param name
+	 * @return
+	 */
+	public static LIROpcode fromName(String name) {
+		return byName.get(name);
+	}
+}
@@ -0,0 +1,173 @@
+package IC.LIR;
+
+/**
+ * LIROperand
+ * ==========
+ * an operand of a LIR instruction:
+ * - IMMEDIATE: an integer constant (e.g. 5)
+ * - REGISTER: a register (e.g. R3, Rdummy)
+ * - VARIABLE: a local variable or parameter (e.g. x1, this)
+ * - STRING: a string literal label (e.g. str0)
+ * - LABEL: a code label, method, library method or dispatch table label (e.g. _end_label3, _DV_A)
+ * - ARRAY: an array element, base[index] (e.g. R1[R2])
+ * - FIELD: an object field or dispatch vector entry, base.offset (e.g. R1.2)
+ */
+public class LIROperand {
+
+	public enum Kind {
+		IMMEDIATE, REGISTER, VARIABLE, STRING, LABEL, ARRAY, FIELD
+	}
+
+	private Kind kind;
+	// name of a register / variable / string / label
+	private String name;
+	// value of an immediate, offset of a field
+	private int value;
+	// base of an array element / field
+	private LIROperand base;
+	// index of an array element
+	private LIROperand index;
+
+	private LIROperand(Kind kind, String name, int value, LIROperand base, LIROperand index){
+		this.kind = kind;
+		this.name = name;
+		this.value = value;
+		this.base = base;
+		this.index = index;
+	}
+
+	//////////////////
+	//	factories	//
+	//////////////////
+
+	public static LIROperand immediate(int value){
+		return new LIROperand(Kind.IMMEDIATE, null, value, null, null);
+	}
+
+	public static LIROperand register(String name){
+		return new LIROperand(Kind.REGISTER, name, 0, null, null);
+	}
+
+	public static LIROperand variable(String name){
+		return new LIROperand(Kind.VARIABLE, name, 0, null, null);
+	}
+
+	public static LIROperand string(String name){
+		return new LIROperand(Kind.STRING, name, 0, null, null);
+	}
+
+	public static LIROperand label(String name){
+		return new LIROperand(Kind.LABEL, name, 0, null, null);
+	}
+
+	public static LIROperand array(LIROperand base, LIROperand index){
+		return new LIROperand(Kind.ARRAY, null, 0, base, index);
+	}
+
+	public static LIROperand field(LIROperand base, int offset){
+		return new LIROperand(Kind.FIELD, null, offset, base, null);
+	}
+
+	/**
+	 * returns true iff the given name is a register name: R<n>, Rc<n> or Rdummy
+	 * @param name
+	 * @return
+	 */
+	public static boolean isRegisterName(String name){
+		if (name.length() < 2 || name.charAt(0) != 'R') return false;
+		if (name.equals("Rdummy")) return true;
+		int start = name.charAt(1) == 'c' ? 2 : 1;
+		if (start == name.length()) return false;
+		for (int i = start; i < name.length(); i++){
+			if (name.charAt(i) < '0' || name.charAt(i) > '9') return false;
+		}
+		return true;
+	}
+
+	//////////////
+	//	getters	//
+	//////////////
+
+	public Kind getKind(){
+		return kind;
+	}
+
+	public String getName(){
+		return name;
+	}
+
+	public int getValue(){
+		return value;
+	}
+
+	public LIROperand getBase(){
+		return base;
+	}
+
+	public LIROperand getIndex(){
+		return index;
+	}
+
+	public boolean isImmediate(){
+		return kind == Kind.IMMEDIATE;
+	}
+
+	public boolean isRegister(){
+		return kind == Kind.REGISTER;
+	}
+
+	public boolean isVariable(){
+		return kind == Kind.VARIABLE;
+	}
+
+	/**
+	 * returns true iff the operand is a memory location: an array element or a field
+	 */
+	public boolean isMemory(){
+		return kind == Kind.ARRAY || kind == Kind.FIELD;
+	}
+
+	/**
+	 * returns true iff the operand uses the given register or variable,
+	 * directly or as the base / index of a memory location
+	 * @param operand: a register or variable
+	 * @return
+	 */
+	public boolean uses(LIROperand operand){
+		if (equals(operand)) return true;
+		return (base != null && base.uses(operand)) || (index != null && index.uses(operand));
+	}
+
+	public boolean equals(Object o){
+		if (!(o instanceof LIROperand)) return false;
+		LIROperand other = (LIROperand) o;
+		if (kind != other.kind || value != other.value) return false;
+		if (name == null ? other.name != null : !name.equals(other.name)) return false;
+		if (base == null ? other.base != null : !base.equals(other.base)) return false;
+		return index == null ? other.index == null : index.equals(other.index);
+	}
+
+	public int hashCode(){
+		int hash = kind.hashCode()*31+value;
+		if (name != null) hash = hash*31+name.hashCode();
+		if (base != null) hash = hash*31+base.hashCode();
+		if (index != null) hash = hash*31+index.hashCode();
+		return hash;
+	}
+
+	/**
+	 * returns the LIR representation of the operand
+	 */
+	public String toString(){
+		switch (kind){
+		case IMMEDIATE:
+			return Integer.toString(value);
+		case ARRAY:
+			return base+"["+index+"]";
+		case FIELD:
+			return base+"."+value;
+		default:
+			return name;
+		}
+	}
+}
@@ -0,0 +1,19 @@
+package IC.LIR;
+
+/**
+ * an optimization pass over a LIR program
+ */
+public interface LIRPass {
+
+	/**
+	 * returns the name of the pass (as given in the optimizer's -passes option)
+	 */
+	public String getName();
+
+	/**
+	 * optimizes the given program in place
+	 * @param program
+	 * @return true iff the program was changed
+	 */
+	public boolean run(LIRProgram program);
+}
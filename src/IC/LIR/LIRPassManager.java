@@ -0,0 +1,204 @@
+package IC.LIR;
+
+import java.util.*;
+
+/**
+ * LIRPassManager
+ * ==============
+ * runs a sequence of optimization passes over a LIR program
+ * - the sequence is run repeatedly, until the program does not change (at most maxRounds times)
+ * - passes can be disabled or enabled by name
+ * - optionally collects every pass's run time and instruction count delta (see getReport)
+ * - optionally verifies the program after every pass (see LIRVerifier)
+ * - optionally remarks the optimizations made by the passes (see setRemarks)
+ */
+public class LIRPassManager {
+
+	// maximal number of times the passes sequence is run
+	private static final int maxRounds = 10;
+
+	private List<LIRPass> passes;
+	private boolean isTiming = false;
+	private boolean isVerifying = false;
+	private OptRemarks remarks = null;
+
+	// statistics by pass name: runs, total time (ns), total instruction count delta
+	private Map<String,long[]> stats = new LinkedHashMap<String,long[]>();
+	private int instructionsBefore = -1, instructionsAfter = -1;
+
+	/**
+	 * constructor
+	 * @param passes: the passes to run, in order
+	 */
+	public LIRPassManager(List<LIRPass> passes){
+		this.passes = new ArrayList<LIRPass>(passes);
+	}
+
+	/**
+	 * returns a pass manager with the passes of the given optimization level:
+	 * -O0 and -O1 run no passes (-O1 optimizes during the translation), -O2 runs all the passes
+	 * @param level
+	 * @return
+	 */
+	public static LIRPassManager forLevel(int level){
+		return new LIRPassManager(level >= 2 ? getAllPasses() : new ArrayList<LIRPass>());
+	}
+
+	/**
+	 * returns all the optimization passes, in their default order
+	 */
+	public static List<LIRPass> getAllPasses(){
+		List<LIRPass> all = new ArrayList<LIRPass>();
+		all.add(new CheckElimination());
+		all.add(new CopyPropagation());
+		all.add(new JumpThreading());
+		all.add(new DeadCodeElimination());
+		return all;
+	}
+
+	/**
+	 * returns the optimization pass with the given name, or null if there is none
+	 * @param name
+	 * @return
+	 */
+	public static LIRPass getPass(String name){
+		for (LIRPass pass: getAllPasses()){
+			if (pass.getName().equals(name)) return pass;
+		}
+		return null;
+	}
+
+	/**
+	 * returns the names of all the optimization passes
+	 */
+	public static List<String> getAllPassesNames(){
+		List<String> names = new ArrayList<String>();
+		for (LIRPass pass: getAllPasses()){
+			names.add(pass.getName());
+		}
+		return names;
+	}
+
+	/**
+	 * removes the pass with the given name from the sequence
+	 * @param name
+	 */
+	public void disable(String name){
+		Iterator<LIRPass> it = passes.iterator();
+		while (it.hasNext()){
+			if (it.next().getName().equals(name)) it.remove();
+		}
+	}
+
+	/**
+	 * adds the pass with the given name to the sequence, if not in it
+	 * (the passes keep their default order)
+	 * @param name
+	 */
+	public void enable(String name){
+		Set<String> names = new HashSet<String>();
+		for (LIRPass pass: passes){
+			names.add(pass.getName());
+		}
+		if (names.contains(name)) return;
+		names.add(name);
+
+		List<LIRPass> enabled = new ArrayList<LIRPass>();
+		for (LIRPass pass: getAllPasses()){
+			if (names.contains(pass.getName())) enabled.add(pass);
+		}
+		passes = enabled;
+	}
+
+	/**
+	 * returns true iff there are no passes to run
+	 */
+	public boolean isEmpty(){
+		return passes.isEmpty();
+	}
+
+	public void setTiming(boolean isTiming){
+		this.isTiming = isTiming;
+	}
+
+	public void setVerifying(boolean isVerifying){
+		this.isVerifying = isVerifying;
+	}
+
+	/**
+	 * sets the remarks the passes add their remarks to (the removed runtime checks, see CheckElimination),
+	 * by the source lines of the instructions (see LIRInstruction.getLine)
+	 * @param remarks
+	 */
+	public void setRemarks(OptRemarks remarks){
+		this.remarks = remarks;
+	}
+
+	/**
+	 * runs the passes over the given program
+	 * @param program
+	 * @return false iff the program failed verification (the errors are printed to System.err)
+	 */
+	public boolean run(LIRProgram program){
+		if (isVerifying && !verify(program, "before optimization")) return false;
+		if (isTiming) instructionsBefore = program.getInstructionsCount();
+		for (LIRPass pass: passes){
+			if (pass instanceof CheckElimination) ((CheckElimination) pass).setRemarks(remarks);
+		}
+
+		boolean changed = true;
+		for (int round = 0; changed && round < maxRounds; round++){
+			changed = false;
+			for (LIRPass pass: passes){
+				long[] passStats = stats.get(pass.getName());
+				if (passStats == null){
+					passStats = new long[3];
+					stats.put(pass.getName(), passStats);
+				}
+				int before = isTiming ? program.getInstructionsCount() : 0;
+
+				long start = System.nanoTime();
+				changed |= pass.run(program);
+				passStats[0]++;
+				passStats[1] += System.nanoTime()-start;
+				if (isTiming) passStats[2] += program.getInstructionsCount()-before;
+
+				if (isVerifying && !verify(program, "after "+pass.getName())) return false;
+			}
+		}
+
+		if (isTiming) instructionsAfter = program.getInstructionsCount();
+		return true;
+	}
+
+	/**
+	 * verifies the program, and prints the errors
+	 * @return true iff the program is well formed
+	 */
+	private static boolean verify(LIRProgram program, String when){
+		List<String> errors = LIRVerifier.verify(program);
+		for (String error: errors){
+			System.err.println("LIR verification failed "+when+": "+error);
+		}
+		return errors.isEmpty();
+	}
+
+	/**
+	 * returns the timing report: every pass's runs, total time and instruction count delta
+	 */
+	public String getReport(){
+		StringBuffer report = new StringBuffer();
+		report.append("Optimization passes\n");
+		report.append("===================\n");
+		report.append(String.format("%-20s %5s %10s %12s\n", "pass", "runs", "time (ms)", "instructions"));
+		long totalTime = 0;
+		for (String name: stats.keySet()){
+			long[] passStats = stats.get(name);
+			totalTime += passStats[1];
+			report.append(String.format("%-20s %5d %10.3f %+12d\n", name, passStats[0], passStats[1]/1e6, passStats[2]));
+		}
+		report.append(String.format("%-20s %5s %10.3f %12s\n", "total", "", totalTime/1e6,
+				instructionsBefore+" -> "+instructionsAfter));
+		return report.toString();
+	}
+}
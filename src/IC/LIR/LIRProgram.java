@@ -0,0 +1,99 @@
+package IC.LIR;
+
+import java.util.*;
+
+/**
+ * LIRProgram
+ * ==========
+ * a structured LIR program:
+ * - string literals: label -> literal (as written in the LIR, without the quotes)
+ * - class dispatch tables: label -> methods labels
+ * - methods, in order (the code of the last method ends with the _error_exit label)
+ */
+public class LIRProgram {
+
+	private Map<String,String> stringLiterals = new LinkedHashMap<String,String>();
+	private Map<String,List<String>> dispatchTables = new LinkedHashMap<String,List<String>>();
+	private List<LIRMethod> methods = new ArrayList<LIRMethod>();
+
+	public Map<String,String> getStringLiterals(){
+		return stringLiterals;
+	}
+
+	public Map<String,List<String>> getDispatchTables(){
+		return dispatchTables;
+	}
+
+	public List<LIRMethod> getMethods(){
+		return methods;
+	}
+
+	public void addStringLiteral(String label, String literal){
+		stringLiterals.put(label, literal);
+	}
+
+	public void addDispatchTable(String label, List<String> methodsLabels){
+		dispatchTables.put(label, methodsLabels);
+	}
+
+	public void addMethod(LIRMethod method){
+		methods.add(method);
+	}
+
+	/**
+	 * returns the method with the given label, or null if there is none
+	 * @param label
+	 * @return
+	 */
+	public LIRMethod getMethod(String label){
+		for (LIRMethod m: methods){
+			if (m.getLabel().equals(label)) return m;
+		}
+		return null;
+	}
+
+	/**
+	 * returns the number of instructions in the program (labels excluded)
+	 */
+	public int getInstructionsCount(){
+		int count = 0;
+		for (LIRMethod m: methods){
+			for (LIRInstruction instruction: m.getInstructions()){
+				if (!instruction.isLabel()) count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * returns the LIR representation of the program
+	 */
+	public String toString(){
+		StringBuffer lir = new StringBuffer();
+
+		lir.append("# string literals\n");
+		for (String label: stringLiterals.keySet()){
+			lir.append(label+": \""+stringLiterals.get(label)+"\"\n");
+		}
+		lir.append("\n");
+
+		lir.append("# class dispatch tables\n");
+		for (String label: dispatchTables.keySet()){
+			lir.append(label+": [");
+			List<String> methodsLabels = dispatchTables.get(label);
+			for (int i = 0; i < methodsLabels.size(); i++){
+				if (i > 0) lir.append(",");
+				lir.append(methodsLabels.get(i));
+			}
+			lir.append("]\n");
+		}
+		lir.append("\n");
+
+		lir.append("# methods\n");
+		for (LIRMethod m: methods){
+			lir.append(m).append("\n");
+		}
+
+		return lir.toString();
+	}
+}
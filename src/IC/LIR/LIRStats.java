@@ -0,0 +1,187 @@
+package IC.LIR;
+
+import java.util.*;
+
+/**
+ * LIRStats
+ * ========
+ * static cost metrics of a LIR program, per method and in total:
+ * - the number of instructions (labels excluded), by opcode class:
+ *   moves, memory moves (field / array moves and array length), arithmetic (including logical operations),
+ *   branches (compares and jumps), calls (static and virtual calls, runtime checks excluded),
+ *   runtime checks (static calls to the __check methods), library calls and returns
+ * - the maximal register index used (-1 if none), and the number of labels
+ */
+public class LIRStats {
+
+	public enum OpcodeClass {
+		MOVES("moves"),
+		MEMORY("memory"),
+		ARITHMETIC("arith"),
+		BRANCHES("branches"),
+		CALLS("calls"),
+		CHECKS("checks"),
+		LIBRARY("library"),
+		RETURNS("returns");
+
+		private String name;
+
+		private OpcodeClass(String name){
+			this.name = name;
+		}
+
+		public String toString(){
+			return name;
+		}
+	}
+
+	// prefix of the runtime checks methods labels
+	private static final String checkPrefix = "__check";
+
+	// statistics of a single method
+	private static class MethodStats {
+		int[] counts = new int[OpcodeClass.values().length];
+		int instructions = 0;
+		int maxRegister = -1;
+		int labels = 0;
+
+		void add(MethodStats other){
+			for (int i = 0; i < counts.length; i++){
+				counts[i] += other.counts[i];
+			}
+			instructions += other.instructions;
+			maxRegister = Math.max(maxRegister, other.maxRegister);
+			labels += other.labels;
+		}
+	}
+
+	private Map<String,MethodStats> methodsStats = new LinkedHashMap<String,MethodStats>();
+	private MethodStats total = new MethodStats();
+
+	/**
+	 * constructor: collects the statistics of the given program
+	 * @param program
+	 */
+	public LIRStats(LIRProgram program){
+		for (LIRMethod method: program.getMethods()){
+			MethodStats stats = new MethodStats();
+			for (LIRInstruction instruction: method.getInstructions()){
+				count(instruction, stats);
+			}
+			methodsStats.put(method.getLabel(), stats);
+			total.add(stats);
+		}
+	}
+
+	/**
+	 * returns the class of the given instruction's opcode
+	 * @param instruction: an instruction (not a label)
+	 * @return
+	 */
+	public static OpcodeClass getOpcodeClass(LIRInstruction instruction){
+		switch (instruction.getOpcode()){
+		case MOVE:
+			return OpcodeClass.MOVES;
+		case MOVE_ARRAY:
+		case MOVE_FIELD:
+		case ARRAY_LENGTH:
+			return OpcodeClass.MEMORY;
+		case COMPARE:
+			return OpcodeClass.BRANCHES;
+		case LIBRARY:
+			return OpcodeClass.LIBRARY;
+		case STATIC_CALL:
+			return instruction.getCallee().getName().startsWith(checkPrefix) ? OpcodeClass.CHECKS : OpcodeClass.CALLS;
+		case VIRTUAL_CALL:
+			return OpcodeClass.CALLS;
+		case RETURN:
+			return OpcodeClass.RETURNS;
+		default:
+			return instruction.getOpcode().isJump() ? OpcodeClass.BRANCHES : OpcodeClass.ARITHMETIC;
+		}
+	}
+
+	private static void count(LIRInstruction instruction, MethodStats stats){
+		if (instruction.isLabel()){
+			stats.labels++;
+			return;
+		}
+		stats.instructions++;
+		stats.counts[getOpcodeClass(instruction).ordinal()]++;
+
+		List<LIROperand> operands = new ArrayList<LIROperand>(instruction.getOperands());
+		if (instruction.getOpcode().isCall()){
+			operands.add(instruction.getCallee());
+			operands.addAll(instruction.getArguments());
+			operands.add(instruction.getResult());
+		}
+		for (LIROperand operand: operands){
+			stats.maxRegister = Math.max(stats.maxRegister, getMaxRegister(operand));
+		}
+	}
+
+	/**
+	 * returns the maximal register index used by the given operand, or -1 if none
+	 * (R<n> and Rc<n> have index n, Rdummy is not counted)
+	 */
+	private static int getMaxRegister(LIROperand operand){
+		if (operand == null) return -1;
+		if (operand.isMemory()){
+			return Math.max(getMaxRegister(operand.getBase()), getMaxRegister(operand.getIndex()));
+		}
+		if (!operand.isRegister() || operand.getName().equals("Rdummy")) return -1;
+		String name = operand.getName();
+		return Integer.parseInt(name.substring(name.charAt(1) == 'c' ? 2 : 1));
+	}
+
+	/**
+	 * returns the total number of instructions of the given class
+	 * @param opcodeClass
+	 * @return
+	 */
+	public int getCount(OpcodeClass opcodeClass){
+		return total.counts[opcodeClass.ordinal()];
+	}
+
+	/**
+	 * returns the total number of instructions (labels excluded)
+	 */
+	public int getInstructionsCount(){
+		return total.instructions;
+	}
+
+	/**
+	 * returns the maximal register index used in the program (-1 if none)
+	 */
+	public int getMaxRegister(){
+		return total.maxRegister;
+	}
+
+	/**
+	 * returns the statistics report: a line per method (in the program's order) and a total line
+	 * @param fileName: the source file name, written in the header
+	 * @return
+	 */
+	public String toString(String fileName){
+		StringBuffer report = new StringBuffer();
+		report.append("# static LIR statistics for "+fileName+"\n");
+		report.append(String.format("%-30s %8s", "method", "instrs"));
+		for (OpcodeClass opcodeClass: OpcodeClass.values()){
+			report.append(String.format(" %8s", opcodeClass));
+		}
+		report.append(String.format(" %8s %8s\n", "maxreg", "labels"));
+		for (String label: methodsStats.keySet()){
+			append(report, label, methodsStats.get(label));
+		}
+		append(report, "total", total);
+		return report.toString();
+	}
+
+	private static void append(StringBuffer report, String name, MethodStats stats){
+		report.append(String.format("%-30s %8d", name, stats.instructions));
+		for (int count: stats.counts){
+			report.append(String.format(" %8d", count));
+		}
+		report.append(String.format(" %8d %8d\n", stats.maxRegister, stats.labels));
+	}
+}
@@ -0,0 +1,27 @@
+package IC.LIR;
+
+/**
+ * The error class thrown by the LIR loader in case of malformed LIR code
+ * this exception class contains the error's line number, a message and the text
+ * that caused the error
+ */
+public class LIRSyntaxError extends Exception {
+	private static final long serialVersionUID = 4466392167815839502L;
+
+	private int line;
+	private String value;
+
+	public LIRSyntaxError(String message, int line, String value){
+		super(message);
+		this.line = line;
+		this.value = value;
+	}
+
+	/**
+	 * returns a string representation for the error with line number, message and the text that
+	 * caused the error
+	 */
+	public String toString(){
+		return "LIR syntax error at line "+line+": "+this.getMessage()+": "+value;
+	}
+}
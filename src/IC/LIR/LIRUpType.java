@@ -9,9 +9,19 @@ public class LIRUpType {
 	private LIRFlagEnum LIRInstType;
 	private String targetRegister;
 
+	/**
+	 * constructor for the up-type of a statement or an expression,
+	 * its LIR code is appended to the translating visitor's code of the current method
+	 * @param astType: the return type of AST node translation
+	 * @param targetRegister: the address (in registers) for the current node
+	 */
+	public LIRUpType(LIRFlagEnum astType, String targetRegister) {
+		this("", astType, targetRegister);
+	}
+
 	/**
 	 * constructor for the up-type
-	 * @param lIRCode: representation of the LIR code for the current node
+	 * @param lIRCode: representation of the LIR code for the current node (the program's code)
 	 * @param astType: the return type of AST node translation
 	 * @param targetRegister: the address (in registers) for the current node
 	 */
@@ -0,0 +1,123 @@
+package IC.LIR;
+
+import java.util.*;
+
+/**
+ * LIRVerifier
+ * ===========
+ * checks that a LIR program is well formed (used by the pass manager between passes):
+ * - method labels and code labels are defined once, and every jump target is defined
+ * - static call targets and dispatch table entries are methods of the program
+ * - string operands are defined string literals
+ * - every instruction has the right number and kinds of operands
+ */
+public class LIRVerifier {
+
+	private List<String> errors = new ArrayList<String>();
+
+	private LIRVerifier(){}
+
+	/**
+	 * verifies the given program
+	 * @param program
+	 * @return the errors found (empty if the program is well formed)
+	 */
+	public static List<String> verify(LIRProgram program){
+		LIRVerifier verifier = new LIRVerifier();
+		verifier.verifyProgram(program);
+		return verifier.errors;
+	}
+
+	private void verifyProgram(LIRProgram program){
+		Set<String> methods = new HashSet<String>();
+		Set<String> labels = new HashSet<String>();
+		for (LIRMethod method: program.getMethods()){
+			if (!methods.add(method.getLabel()) || !labels.add(method.getLabel())){
+				errors.add("label "+method.getLabel()+" is defined more than once");
+			}
+			for (LIRInstruction instruction: method.getInstructions()){
+				if (instruction.isLabel() && !labels.add(instruction.getLabel())){
+					errors.add("label "+instruction.getLabel()+" is defined more than once");
+				}
+			}
+		}
+
+		for (String table: program.getDispatchTables().keySet()){
+			for (String method: program.getDispatchTables().get(table)){
+				if (!methods.contains(method)) errors.add(table+": undefined method "+method);
+			}
+		}
+
+		for (LIRMethod method: program.getMethods()){
+			for (LIRInstruction instruction: method.getInstructions()){
+				String error = verifyInstruction(instruction, program, methods, labels);
+				if (error != null) errors.add(method.getLabel()+": "+instruction+": "+error);
+			}
+		}
+	}
+
+	/**
+	 * returns the error in the given instruction, or null if it is well formed
+	 */
+	private String verifyInstruction(LIRInstruction instruction, LIRProgram program,
+			Set<String> methods, Set<String> labels){
+		LIROpcode opcode = instruction.getOpcode();
+		List<LIROperand> operands = instruction.getOperands();
+
+		for (LIROperand operand: operands){
+			if (operand.getKind() == LIROperand.Kind.STRING && !program.getStringLiterals().containsKey(operand.getName())){
+				return "undefined string literal "+operand.getName();
+			}
+		}
+
+		if (opcode == LIROpcode.LABEL || opcode.isJump()){
+			if (operands.size() != 1 || operands.get(0).getKind() != LIROperand.Kind.LABEL) return "expected a label";
+			if (opcode.isJump() && !labels.contains(instruction.getLabel())) return "undefined label";
+			return null;
+		}
+
+		if (opcode.isCall()){
+			LIROperand callee = instruction.getCallee();
+			if (opcode == LIROpcode.VIRTUAL_CALL ? callee.getKind() != LIROperand.Kind.FIELD :
+					callee.getKind() != LIROperand.Kind.LABEL) return "bad call target";
+			if (opcode == LIROpcode.STATIC_CALL && !methods.contains(callee.getName())) return "undefined method";
+			if (opcode != LIROpcode.LIBRARY && (instruction.getArgumentNames() == null ||
+					instruction.getArgumentNames().size() != instruction.getArguments().size())) return "missing formals";
+			for (LIROperand argument: instruction.getArguments()){
+				if (argument.isMemory() || argument.getKind() == LIROperand.Kind.LABEL) return "bad argument";
+			}
+			if (!instruction.getResult().isRegister()) return "the result must be a register";
+			return null;
+		}
+
+		int count = opcode.isUnaryOperation() || opcode == LIROpcode.RETURN ? 1 : 2;
+		if (operands.size() != count) return "expected "+count+" operands";
+
+		int memory = 0;
+		for (int i = 0; i < count; i++){
+			if (operands.get(i).isMemory()) memory++;
+			// only moves (and dispatch vector stores) take labels, as their source
+			if (operands.get(i).getKind() == LIROperand.Kind.LABEL &&
+					(i > 0 || (opcode != LIROpcode.MOVE && opcode != LIROpcode.MOVE_FIELD))) return "unexpected label";
+		}
+		LIROperand last = operands.get(count-1);
+		switch (opcode){
+		case MOVE_ARRAY:
+		case MOVE_FIELD:
+			LIROperand.Kind kind = opcode == LIROpcode.MOVE_ARRAY ? LIROperand.Kind.ARRAY : LIROperand.Kind.FIELD;
+			if (memory != 1 || (operands.get(0).getKind() != kind && last.getKind() != kind)) return "expected one "+kind+" operand";
+			if (!last.isMemory() && !last.isRegister()) return "the result must be a register";
+			return null;
+		case MOVE:
+			if (memory > 0) return "unexpected memory operand";
+			if (operands.get(0).isVariable() && last.isVariable()) return "move between variables";
+			break;
+		case RETURN:
+			return memory > 0 ? "unexpected memory operand" : null;
+		default:
+			if (memory > 0) return "unexpected memory operand";
+		}
+		if (opcode != LIROpcode.COMPARE && !last.isRegister() && !last.isVariable()) return "the result must be a register or variable";
+		return null;
+	}
+}
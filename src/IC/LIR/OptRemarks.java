@@ -0,0 +1,108 @@
+package IC.LIR;
+
+import java.util.*;
+
+/**
+ * OptRemarks
+ * ==========
+ * remarks on the optimizations made and missed by the optimizing translator and the LIR passes
+ * run after it (see LIRPassManager.setRemarks), by source line
+ * the remarks are written one per line, ordered by source line, as tab separated fields:
+ * <line>	<kind>	<optimization>	<message>
+ * where kind is one of:
+ * - passed: the optimization was made
+ * - missed: the optimization was not made, the message gives the reason
+ * - analysis: information that explains the optimizer's choices
+ */
+public class OptRemarks {
+
+	public enum Kind {
+		PASSED, MISSED, ANALYSIS;
+
+		public String toString(){
+			return name().toLowerCase();
+		}
+	}
+
+	// remarks, in the order they were made
+	private List<Integer> lines = new ArrayList<Integer>();
+	private List<String> remarks = new ArrayList<String>();
+	// number of times each remark was made: a repeated remark is written once
+	private Map<String,Integer> made = new HashMap<String,Integer>();
+
+	/**
+	 * adds a remark
+	 * @param line: the source line
+	 * @param kind
+	 * @param optimization: the optimization's name
+	 * @param message
+	 */
+	public void add(int line, Kind kind, String optimization, String message){
+		String remark = line+"\t"+kind+"\t"+optimization+"\t"+message;
+		Integer times = made.get(remark);
+		made.put(remark, times == null ? 1 : times+1);
+		if (times != null) return;
+		lines.add(line);
+		remarks.add(remark);
+	}
+
+	/**
+	 * records an optimization made by a LIR pass: the first missed remark of the optimization on the line
+	 * whose message starts with the given subject (made by the translator) is replaced by a passed remark
+	 * (a missed remark made several times, for several instructions, is kept until it is replaced as many times)
+	 * @param line: the source line (0 if unknown: no remark is made)
+	 * @param optimization: the optimization's name
+	 * @param subject: the start of the missed remark's message
+	 * @param message: the passed remark's message
+	 */
+	public void replaceMissed(int line, String optimization, String subject, String message){
+		if (line == 0) return;
+		String missed = line+"\t"+Kind.MISSED+"\t"+optimization+"\t"+subject;
+		for (int i = 0; i < remarks.size(); i++){
+			String remark = remarks.get(i);
+			if (remark.startsWith(missed)){
+				int times = made.get(remark)-1;
+				made.put(remark, times);
+				if (times == 0){
+					lines.remove(i);
+					remarks.remove(i);
+				}
+				break;
+			}
+		}
+		add(line, Kind.PASSED, optimization, message);
+	}
+
+	/**
+	 * returns the number of remarks
+	 */
+	public int size(){
+		return remarks.size();
+	}
+
+	/**
+	 * returns the remarks, ordered by source line (remarks on the same line keep their order)
+	 * @param fileName: the source file name, written in the header
+	 * @return
+	 */
+	public String toString(String fileName){
+		Integer[] order = new Integer[remarks.size()];
+		for (int i = 0; i < order.length; i++){
+			order[i] = i;
+		}
+		// a stable sort by line
+		Arrays.sort(order, new Comparator<Integer>(){
+			public int compare(Integer i, Integer j){
+				return lines.get(i).compareTo(lines.get(j));
+			}
+		});
+
+		StringBuffer text = new StringBuffer();
+		text.append("# optimization remarks for "+fileName+"\n");
+		text.append("# line\tkind\toptimization\tmessage\n");
+		for (int i: order){
+			text.append(remarks.get(i)).append("\n");
+		}
+		return text.toString();
+	}
+}
@@ -3,7 +3,6 @@ package IC.LIR;
 import IC.BinaryOps;
 import IC.AST.*;
 import IC.SymbolTable.*;
-import IC.Visitors.DefTypeSemanticChecker;
 import IC.LIR.LIRFlagEnum;
 import java.util.*;
 
@@ -23,6 +22,42 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 	
 	private ClassLayout libicLayout = null;
 	
+	// reachability analysis of the program, used to drop unreachable code (tree shaking)
+	private ReachabilityVisitor reachability = null;
+	
+	// register counter, also holds the side effects summaries of the program's methods
+	private RegCounterVisitor regCounter = null;
+	
+	// algebraic simplifier for arithmetic expressions
+	private AlgebraicSimplifier simplifier = null;
+	
+	// remarks on the optimizations made and missed
+	private OptRemarks remarks = new OptRemarks();
+	
+	// method currently translated (null for main)
+	private Method currMethod = null;
+	// label of the current method's entry point, target of self tail calls
+	private String currMethodEntryLabel = "";
+	// true iff a self tail call was translated in the current method
+	private boolean hasSelfTailCall = false;
+	// call statements in tail position of the current (void) method
+	private Set<CallStatement> tailCallStatements = new HashSet<CallStatement>();
+	// local variables of the current method declared without an init value, reset by a self tail call
+	private List<LocalVariable> uninitializedLocals = new ArrayList<LocalVariable>();
+	// true iff a call to the runtime check was translated (only the used checks are emitted)
+	private boolean usesCheckNullRef = false;
+	private boolean usesCheckArrayAccess = false;
+	private boolean usesCheckSize = false;
+	private boolean usesCheckZero = false;
+	
+	// label used in dispatch tables instead of methods that are never called
+	protected String deadMethodLabel = "__deadMethod";
+	
+	// dead method stub, dispatch table entries of methods that are never called point to it
+	protected String deadMethodCode =
+		"__deadMethod:\n" +
+		"Jump _error_exit\n\n";
+	
 	
 	/**
 	 * Program propagating visitor:
@@ -32,6 +67,9 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 	 * 		- class dispatch tables
 	 * 		- methods
 	 * 		- main method
+	 * only code reachable from the main method is translated:
+	 * unreachable methods, dispatch tables of classes that are never instantiated,
+	 * unused runtime checks and their error messages are not part of the translation
 	 * @param program
 	 * @param d
 	 * @return
@@ -55,9 +93,40 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 			}
 			// insert to classLayouts
 			classLayouts.put(c.getName(), classLayout);
-			// insert class dispatch table representation
-			classDispatchTable.add(classLayout.getDispatchTable());
-
+		}
+		
+		// set the AST nodes weights in registers and side effects
+		regCounter = new RegCounterVisitor();
+		program.accept(regCounter);
+		simplifier = new AlgebraicSimplifier(regCounter);
+		
+		// find all methods reachable from main
+		reachability = new ReachabilityVisitor(classLayouts);
+		program.accept(reachability);
+		for (ICClass c: program.getClasses()){
+			if (c.getName().equals("Library")) continue;
+			if (!reachability.isInstantiated(c.getName())){
+				remarks.add(c.getLine(), OptRemarks.Kind.PASSED, "dead-class",
+						"class "+c.getName()+" is never instantiated, its dispatch table is dropped");
+			}
+			for (Method m: c.getMethods()){
+				if (!reachability.isReachable(m)){
+					remarks.add(m.getLine(), OptRemarks.Kind.PASSED, "dead-method",
+							"method "+c.getName()+"."+m.getName()+" is never called, it is not translated");
+				}
+			}
+		}
+		
+		// insert class dispatch table representation, only for instantiated classes
+		boolean hasDeadMethods = false;
+		for(ICClass c: program.getClasses()){
+			if (c.getName().equals("Library") || !reachability.isInstantiated(c.getName())) continue;
+			
+			ClassLayout classLayout = classLayouts.get(c.getName());
+			for (Method m: classLayout.getMethodToOffsetMap().keySet()){
+				if (!reachability.isReachable(m)) hasDeadMethods = true;
+			}
+			classDispatchTable.add(classLayout.getDispatchTable(reachability.getReachableMethods(), deadMethodLabel));
 		}
 		
 		// visit all classes recursively
@@ -67,53 +136,59 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 		}
 		
 		// return LIR representation for the IC program
-		String lirBuffer = "";
+		StringBuilder lirBuffer = new StringBuilder();
 		
-		lirBuffer += "# this is the optimized lir translation\n";
+		lirBuffer.append("# this is the optimized lir translation\n");
 		
 		// (1) insert all string literals
-		lirBuffer += "# string literals\n";
-		// insert error messages strings
-		lirBuffer += "str_null_ref: \"Runtime Error: Null pointer dereference!\"\n";
-		lirBuffer += "str_array_access: \"Runtime Error: Array index out of bounds!\"\n";
-		lirBuffer += "str_size: \"Runtime Error: Array allocation with negative array size!\"\n";
-		lirBuffer += "str_zero: \"Runtime Error: Division by zero!\"\n";
+		lirBuffer.append("# string literals\n");
+		// insert error messages strings of the used runtime checks
+		if (usesCheckNullRef) lirBuffer.append(nullRefErrorString);
+		if (usesCheckArrayAccess) lirBuffer.append(arrayAccessErrorString);
+		if (usesCheckSize) lirBuffer.append(sizeErrorString);
+		if (usesCheckZero) lirBuffer.append(zeroErrorString);
 		
 		for (String strLiteral: this.stringLiterals.keySet()){
-			lirBuffer += this.getStringLiterals().get(strLiteral)+": \""+strLiteral+"\"\n";
+			lirBuffer.append(this.getStringLiterals().get(strLiteral)+": \""+strLiteral+"\"\n");
 		}
-		lirBuffer += "\n";
+		lirBuffer.append("\n");
 		
 		// (2) insert class dispatch tables
-		lirBuffer += "# class dispatch tables\n";
+		lirBuffer.append("# class dispatch tables\n");
 		for (String classDisTab: this.classDispatchTable){
-			lirBuffer += classDisTab+"\n";
+			lirBuffer.append(classDisTab+"\n");
 		}
-		lirBuffer += "\n";
+		lirBuffer.append("\n");
 		
 		// (3) insert all methods
-		// insert runtime check methods
-		lirBuffer += runtimeChecks;
+		// insert used runtime check methods
+		lirBuffer.append("# Runtime checks:\n");
+		if (usesCheckNullRef) lirBuffer.append(checkNullRefCode);
+		if (usesCheckArrayAccess) lirBuffer.append(checkArrayAccessCode);
+		if (usesCheckSize) lirBuffer.append(checkSizeCode);
+		if (usesCheckZero) lirBuffer.append(checkZeroCode);
+		// insert the dead method stub, if used by a dispatch table
+		if (hasDeadMethods) lirBuffer.append(deadMethodCode);
 		// insert all user methods
-		lirBuffer += "# methods\n";
+		lirBuffer.append("# methods\n");
 		for (String methodStr: this.methods){
-			lirBuffer += methodStr+"\n";
+			lirBuffer.append(methodStr+"\n");
 		}
 		
 		// (4) insert main method
-		lirBuffer += "# main method\n";
-		lirBuffer += this.mainMethod;
+		lirBuffer.append("# main method\n");
+		lirBuffer.append(this.mainMethod);
 		
 		// (5) insert error exit label
-		lirBuffer += "\n_error_exit:\n";
+		lirBuffer.append("\n_error_exit:\n");
 		
-		return new LIRUpType(lirBuffer, LIRFlagEnum.EXPLICIT,"");
+		return new LIRUpType(lirBuffer.toString(), LIRFlagEnum.EXPLICIT,"");
 	}
 
 	/**
 	 * ICClass propagating visitor:
 	 * - updates class dispatch tables
-	 * - recursive calls to all methods in the class
+	 * - recursive calls to all reachable methods in the class
 	 * @param icClass
 	 * @param d
 	 * @return
@@ -124,20 +199,23 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 		
 		// recursive calls to methods
 		for(Method m: icClass.getMethods()){
+			// skip methods that are never called
+			if (!reachability.isReachable(m)) continue;
+			
 			m.accept(this,0);
 			// each method will be responsible to insert its string rep. to the methods list
 		}
 
 		// fields: no need for recursive calls
 		
-		return new LIRUpType("", LIRFlagEnum.EXPLICIT,"");
+		return new LIRUpType(LIRFlagEnum.EXPLICIT,"");
 	}
 
 	/**
 	 * Field propagating visitor: never called
 	 */
 	public LIRUpType visit(Field field, Integer d){
-		return new LIRUpType("", LIRFlagEnum.EXPLICIT,"");
+		return new LIRUpType(LIRFlagEnum.EXPLICIT,"");
 	}
 
 	/**
@@ -149,7 +227,7 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 	 */
 	public LIRUpType visit(VirtualMethod method, Integer d){
 		methodVisitHelper(method, d, false);
-		return new LIRUpType("", LIRFlagEnum.EXPLICIT,"");
+		return new LIRUpType(LIRFlagEnum.EXPLICIT,"");
 	}
 
 	/**
@@ -166,13 +244,14 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 						 method.getFormals().size() == 1 &&
 						 method.getFormals().get(0).getType().getFullName().equals("string[]");
 		methodVisitHelper(method, d, isMain);
-		return new LIRUpType("", LIRFlagEnum.EXPLICIT,"");
+		return new LIRUpType(LIRFlagEnum.EXPLICIT,"");
 	}
 	
 	/**
 	 * Virtual / Static method visitor helper
 	 * - creates LIR representation for the method code and updates methods list
 	 * - includes recursive calls to all method's statements
+	 * - self tail calls are translated into a jump back to the method's entry point
 	 * @param method
 	 * @param d
 	 * @return
@@ -185,13 +264,25 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 		methodLabel += isMain ? "ic" : ((ClassSymbolTable) method.getEnclosingScope()).getMySymbol().getName();
 		methodLabel += "_"+method.getName();
 		
-		methodLIRCode += methodLabel+":\n";
+		// prepare the tail calls translation
+		currMethod = isMain ? null : method;
+		currMethodEntryLabel = "_method_entry_label"+(labelCounter++);
+		hasSelfTailCall = false;
+		tailCallStatements.clear();
+		if (method.getType().getName().equals("void")) collectTailCallStatements(method.getStatements());
+		uninitializedLocals.clear();
+		collectUninitializedLocals(method.getStatements());
 		
 		// insert method's code recursively
+		code = new StringBuilder();
 		for (Statement s: method.getStatements()){
-			methodLIRCode += s.accept(this,0).getLIRCode();
+			translateStatement(s, 0);
 		}
 		
+		methodLIRCode += methodLabel+":\n";
+		if (hasSelfTailCall) methodLIRCode += currMethodEntryLabel+":\n";
+		methodLIRCode += code.toString();
+		
 		// if method is void (but not main), concatenate a "return 9999"
 		if(method.getType().getName().equals("void") && !isMain){
 			methodLIRCode += "Return 9999\n";
@@ -204,7 +295,7 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 			methods.add(methodLIRCode);
 		}
 		
-		return new LIRUpType("", LIRFlagEnum.EXPLICIT,"");
+		return new LIRUpType(LIRFlagEnum.EXPLICIT,"");
 	}
 
 	/**
@@ -212,28 +303,28 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 	 * does nothing since its LIR implementation is provided externally
 	 */
 	public LIRUpType visit(LibraryMethod method, Integer d){
-		return new LIRUpType("", LIRFlagEnum.EXPLICIT,"");
+		return new LIRUpType(LIRFlagEnum.EXPLICIT,"");
 	}
 
 	/**
 	 * Formal propagating visitor: never called
 	 */
 	public LIRUpType visit(Formal formal, Integer d){
-		return new LIRUpType("", LIRFlagEnum.EXPLICIT,"");
+		return new LIRUpType(LIRFlagEnum.EXPLICIT,"");
 	}
 
 	/**
 	 * PrimitiveType propagating visitor: never called
 	 */
 	public LIRUpType visit(PrimitiveType type, Integer d){
-		return new LIRUpType("", LIRFlagEnum.EXPLICIT,"");
+		return new LIRUpType(LIRFlagEnum.EXPLICIT,"");
 	}
 
 	/**
 	 * UserType propagating visitor: never called
 	 */
 	public LIRUpType visit(UserType type, Integer d){
-		return new LIRUpType("", LIRFlagEnum.EXPLICIT,"");
+		return new LIRUpType(LIRFlagEnum.EXPLICIT,"");
 	}
 
 	/**
@@ -242,32 +333,28 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 	 * - concatenate the translations to the LIR assignment instruction
 	 */
 	public LIRUpType visit(Assignment assignment, Integer d){
-		String tr = "";
-		
 		LIRUpType assign = assignment.getAssignment().accept(this, d);
+		int varCodeStart = code.length();
 		LIRUpType var = assignment.getVariable().accept(this, d+1);
 		
-		// translate assignment
-		tr += assign.getLIRCode();
+		// translate assignment (its move depends on the variable's translation, it is inserted before the variable's code)
 		if (assign.getLIRInstType() != LIRFlagEnum.REGISTER &&
 				assign.getLIRInstType() != LIRFlagEnum.LITERAL){
 			if (!(assign.getLIRInstType() == LIRFlagEnum.LOC_VAR_LOCATION && 
 					var.getLIRInstType() == LIRFlagEnum.REGISTER)){
-				tr += getMoveCommand(assign.getLIRInstType());
-				tr += assign.getTargetRegister()+",R"+d+"\n";
+				code.insert(varCodeStart, getMoveCommand(assign.getLIRInstType())+assign.getTargetRegister()+",R"+d+"\n");
 				assign.setTargetRegister("R"+d);
 				assign.setLIRInstType(LIRFlagEnum.REGISTER);
 			}
 		}
 		
 		// translate variable
-		tr += var.getLIRCode();
 				
 		// handle all variable cases
-		tr += getMoveCommand(var.getLIRInstType());
-		tr += assign.getTargetRegister()+","+var.getTargetRegister()+"\n";
+		code.append(getMoveCommand(var.getLIRInstType()));
+		code.append(assign.getTargetRegister()+","+var.getTargetRegister()+"\n");
 		
-		return new LIRUpType(tr, LIRFlagEnum.STATEMENT,"");
+		return new LIRUpType(LIRFlagEnum.STATEMENT,"");
 	}
 
 	/**
@@ -296,17 +383,12 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 	 * - concatenate the translations to the LIR location update instruction
 	 */
 	public LIRUpType visit(VariableLocation location, Integer d){
-		String tr = "";
-		
 		if (location.isExternal()){
 			// translate the location
 			LIRUpType loc = location.getLocation().accept(this, d);
-			// add code to translation
-			tr += loc.getLIRCode();
 			
 			// get the ClassLayout for the location
-			IC.TypeTable.Type locationClassType = 
-				(IC.TypeTable.Type)location.getLocation().accept(new IC.Visitors.DefTypeSemanticChecker(global));
+			IC.TypeTable.Type locationClassType = location.getLocation().getStaticType();
 			ClassLayout locationClassLayout = classLayouts.get(locationClassType.getName());
 			
 			// get the field offset for the variable
@@ -318,16 +400,19 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 			// translate this step
 			String locReg = "R"+d;
 			if (loc.getLIRInstType() != LIRFlagEnum.REGISTER){
-				tr += getMoveCommand(loc.getLIRInstType());
-				tr += loc.getTargetRegister()+","+locReg+"\n";
+				code.append(getMoveCommand(loc.getLIRInstType()));
+				code.append(loc.getTargetRegister()+","+locReg+"\n");
 				loc.setTargetRegister(locReg);
 				loc.setLIRInstType(LIRFlagEnum.REGISTER);
 			}
 			
 			// check external location null reference
-			tr += "StaticCall __checkNullRef(a=R"+d+"),Rdummy\n";
+			code.append("StaticCall __checkNullRef(a=R"+d+"),Rdummy\n");
+			usesCheckNullRef = true;
+			remarks.add(location.getLine(), OptRemarks.Kind.MISSED, "check-elimination",
+					"null reference check of field "+location.getName()+" access is kept: the object may be null");
 			
-			return new LIRUpType(tr, LIRFlagEnum.EXT_VAR_LOCATION, locReg+"."+fieldOffset);
+			return new LIRUpType(LIRFlagEnum.EXT_VAR_LOCATION, locReg+"."+fieldOffset);
 		}else{
 			// check if the variable is a field
 			if (((BlockSymbolTable)location.getEnclosingScope()).isVarField(location.getName())){
@@ -341,15 +426,15 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 				// get the field offset
 				int fieldOffset = locationClassLayout.getFieldOffset(f);
 				
-				tr += "Move this,R"+d+"\n";
+				code.append("Move this,R"+d+"\n");
 				String tgtLoc = "R"+d+"."+fieldOffset;
 				
 				// translate only the variable name
-				return new LIRUpType(tr,LIRFlagEnum.EXT_VAR_LOCATION,tgtLoc);
+				return new LIRUpType(LIRFlagEnum.EXT_VAR_LOCATION,tgtLoc);
 
 			} else {
 				// translate only the variable name
-				return new LIRUpType("",LIRFlagEnum.LOC_VAR_LOCATION,location.getNameDepth());
+				return new LIRUpType(LIRFlagEnum.LOC_VAR_LOCATION,location.getNameDepth());
 			}
 		}
 	}
@@ -360,75 +445,82 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 	 * - concatenate the translations to the LIR array location update instruction
 	 */
 	public LIRUpType visit(ArrayLocation location, Integer d){
-		String tr = "";
-		
-		// decide which block will be first by the Setti Ullman method
-		boolean suBool = location.getArray().getRequiredRegs() >= location.getIndex().getRequiredRegs();  
+		// decide which block will be first by the Setti Ullman method,
+		// the index is evaluated first only if it is not observable (the array's null check may fail)
+		boolean suBool = location.getArray().getRequiredRegs() >= location.getIndex().getRequiredRegs() ||
+			!RegCounterVisitor.canReorder(location.getArray().getSideEffects() | RegCounterVisitor.MAY_FAIL,
+					location.getIndex().getSideEffects());
+		remarkEvaluationOrder(location.getLine(), location.getArray(), location.getIndex(), suBool, "array", "index");
+		remarks.add(location.getLine(), OptRemarks.Kind.MISSED, "check-elimination",
+				"null reference check of array access is kept: the array may be null");
+		remarks.add(location.getLine(), OptRemarks.Kind.MISSED, "check-elimination",
+				"array bounds check is kept: the index is not known to be in bounds");
 		
 		if (suBool){
 			// translate array
 			LIRUpType array = location.getArray().accept(this, d);
-			tr += array.getLIRCode();
 
 			// move result to a single register
 			if (array.getLIRInstType() != LIRFlagEnum.REGISTER){
-				tr += getMoveCommand(array.getLIRInstType());
-				tr += array.getTargetRegister()+",R"+d+"\n";
+				code.append(getMoveCommand(array.getLIRInstType()));
+				code.append(array.getTargetRegister()+",R"+d+"\n");
 				array.setTargetRegister("R"+d);
 				array.setLIRInstType(LIRFlagEnum.REGISTER);
 			}
 
 			// check array null reference
-			tr += "StaticCall __checkNullRef(a=R"+d+"),Rdummy\n";
+			code.append("StaticCall __checkNullRef(a=R"+d+"),Rdummy\n");
+			usesCheckNullRef = true;
 
 			// translate index
 			LIRUpType index = location.getIndex().accept(this, d+1);
-			tr += index.getLIRCode();
 
 			// move result to a single register
 			if (index.getLIRInstType() != LIRFlagEnum.REGISTER){
-				tr += getMoveCommand(index.getLIRInstType());
-				tr += index.getTargetRegister()+",R"+(d+1)+"\n";
+				code.append(getMoveCommand(index.getLIRInstType()));
+				code.append(index.getTargetRegister()+",R"+(d+1)+"\n");
 				index.setTargetRegister("R"+(d+1));
 				index.setLIRInstType(LIRFlagEnum.REGISTER);
 			}
 
 			// check array access
-			tr += "StaticCall __checkArrayAccess(a=R"+d+",i=R"+(d+1)+"),Rdummy\n";
+			code.append("StaticCall __checkArrayAccess(a=R"+d+",i=R"+(d+1)+"),Rdummy\n");
+			usesCheckArrayAccess = true;
 		} else {
 			// translate index
 			LIRUpType index = location.getIndex().accept(this, d);
-			tr += index.getLIRCode();
 
 			// move result to a single register
 			if (index.getLIRInstType() != LIRFlagEnum.REGISTER){
-				tr += getMoveCommand(index.getLIRInstType());
-				tr += index.getTargetRegister()+",R"+d+"\n";
+				code.append(getMoveCommand(index.getLIRInstType()));
+				code.append(index.getTargetRegister()+",R"+d+"\n");
 				index.setTargetRegister("R"+d);
 				index.setLIRInstType(LIRFlagEnum.REGISTER);
 			}
 
-			// check array access
-			tr += "StaticCall __checkArrayAccess(a=R"+d+",i=R"+d+"),Rdummy\n";
-
 			// translate array
 			LIRUpType array = location.getArray().accept(this, d+1);
-			tr += array.getLIRCode();
 
 			// move result to a single register
 			if (array.getLIRInstType() != LIRFlagEnum.REGISTER){
-				tr += getMoveCommand(array.getLIRInstType());
-				tr += array.getTargetRegister()+",R"+(d+1)+"\n";
+				code.append(getMoveCommand(array.getLIRInstType()));
+				code.append(array.getTargetRegister()+",R"+(d+1)+"\n");
 				array.setTargetRegister("R"+(d+1));
 				array.setLIRInstType(LIRFlagEnum.REGISTER);
 			}
 
 			// check array null reference
-			tr += "StaticCall __checkNullRef(a=R"+(d+1)+"),Rdummy\n";
+			code.append("StaticCall __checkNullRef(a=R"+(d+1)+"),Rdummy\n");
+			usesCheckNullRef = true;
 
+			// check array access
+			code.append("StaticCall __checkArrayAccess(a=R"+(d+1)+",i=R"+d+"),Rdummy\n");
+			usesCheckArrayAccess = true;
+			
+			return new LIRUpType(LIRFlagEnum.ARR_LOCATION,"R"+(d+1)+"[R"+d+"]");
 		}
 		
-		return new LIRUpType(tr, LIRFlagEnum.ARR_LOCATION,"R"+d+"[R"+(d+1)+"]");
+		return new LIRUpType(LIRFlagEnum.ARR_LOCATION,"R"+d+"[R"+(d+1)+"]");
 	}
 
 	/**
@@ -436,6 +528,10 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 	 * - translate recursively the call expression and return its translation
 	 */
 	public LIRUpType visit(CallStatement callStatement, Integer d){
+		if (tailCallStatements.contains(callStatement)){
+			if (isSelfCall(callStatement.getCall())) return translateSelfTailCall(callStatement.getCall(), d);
+			remarkMissedTailCall(callStatement.getCall());
+		}
 		return callStatement.getCall().accept(this, d);
 	}
 
@@ -445,16 +541,27 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 	 * - concatenate the translations to the LIR return statement update instruction
 	 */
 	public LIRUpType visit(Return returnStatement, Integer d){
-		String tr = "";
 		if (returnStatement.hasValue()){
+			// returning the value of a call to this method: self tail call
+			Expression value = AlgebraicSimplifier.stripBlocks(returnStatement.getValue());
+			if (value instanceof Call){
+				if (isSelfCall((Call) value)) return translateSelfTailCall((Call) value, d);
+				remarkMissedTailCall((Call) value);
+			}
+			
 			LIRUpType returnVal = returnStatement.getValue().accept(this, d);
-			tr += returnVal.getLIRCode();
-			tr += "Return "+returnVal.getTargetRegister()+"\n";
+			if (returnVal.getLIRInstType() == LIRFlagEnum.EXT_VAR_LOCATION || returnVal.getLIRInstType() == LIRFlagEnum.ARR_LOCATION){
+				// a field or an array element is not a Return operand, move it to a register first
+				code.append(getMoveCommand(returnVal.getLIRInstType()));
+				code.append(returnVal.getTargetRegister()+",R"+d+"\n");
+				returnVal.setTargetRegister("R"+d);
+			}
+			code.append("Return "+returnVal.getTargetRegister()+"\n");
 		} else {
-			tr += "Return 9999\n";
+			code.append("Return 9999\n");
 		}
 		
-		return new LIRUpType(tr, LIRFlagEnum.STATEMENT, "");
+		return new LIRUpType(LIRFlagEnum.STATEMENT, "");
 	}
 
 	/**
@@ -463,41 +570,37 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 	 * - concatenate the translations to the LIR if statement update instruction
 	 */
 	public LIRUpType visit(If ifStatement, Integer d){
-		String tr = "";
 		String falseLabel = "_false_label"+labelCounter;
 		String endLabel = "_end_label"+(labelCounter++);
 		
 		// recursive call the condition expression
 		LIRUpType condExp = ifStatement.getCondition().accept(this, d);
-		tr += condExp.getLIRCode();
 		if (condExp.getLIRInstType() != LIRFlagEnum.REGISTER){
-			tr += getMoveCommand(condExp.getLIRInstType());
-			tr += condExp.getTargetRegister()+",R"+d+"\n";
+			code.append(getMoveCommand(condExp.getLIRInstType()));
+			code.append(condExp.getTargetRegister()+",R"+d+"\n");
 			condExp.setTargetRegister("R"+d);
 			condExp.setLIRInstType(LIRFlagEnum.REGISTER);
 		}
 		
 		// check condition
-		tr += "Compare 0,R"+d+"\n";
-		if (ifStatement.hasElse()) tr += "JumpTrue "+falseLabel+"\n";
-		else tr += "JumpTrue "+endLabel+"\n";
+		code.append("Compare 0,R"+d+"\n");
+		if (ifStatement.hasElse()) code.append("JumpTrue "+falseLabel+"\n");
+		else code.append("JumpTrue "+endLabel+"\n");
 		
 		// recursive call to the then statement
-		LIRUpType thenStat = ifStatement.getOperation().accept(this, d);
-		tr += thenStat.getLIRCode();
+		translateStatement(ifStatement.getOperation(), d);
 		
 		if (ifStatement.hasElse()){
-			tr += "Jump "+endLabel+"\n";
+			code.append("Jump "+endLabel+"\n");
 
 			// recursive call to the else statement
-			tr += falseLabel+":\n";
-			LIRUpType elseStat = ifStatement.getElseOperation().accept(this, d);
-			tr += elseStat.getLIRCode();
+			code.append(falseLabel+":\n");
+			translateStatement(ifStatement.getElseOperation(), d);
 		}
 		
-		tr += endLabel+":\n";
+		code.append(endLabel+":\n");
 		
-		return new LIRUpType(tr, LIRFlagEnum.STATEMENT,"");
+		return new LIRUpType(LIRFlagEnum.STATEMENT,"");
 	}
 
 	/**
@@ -510,33 +613,31 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 		int prevWhileID = currWhileID;
 		currWhileID = labelCounter;
 		
-		String tr = "";
 		String whileLabel = "_while_cond_label"+labelCounter;
 		String endLabel = "_end_label"+(labelCounter++);
 		
-		tr += whileLabel+":\n";
+		code.append(whileLabel+":\n");
 		// recursive call to condition
 		LIRUpType condExp = whileStatement.getCondition().accept(this, d);
-		tr += condExp.getLIRCode();
 		if (condExp.getLIRInstType() != LIRFlagEnum.REGISTER){
-			tr += getMoveCommand(condExp.getLIRInstType());
-			tr += condExp.getTargetRegister()+",R"+d+"\n";
+			code.append(getMoveCommand(condExp.getLIRInstType()));
+			code.append(condExp.getTargetRegister()+",R"+d+"\n");
 			condExp.setTargetRegister("R"+d);
 			condExp.setLIRInstType(LIRFlagEnum.REGISTER);
 		}
 		
 		// check condition
-		tr += "Compare 0,R"+d+"\n";
-		tr += "JumpTrue "+endLabel+"\n";
+		code.append("Compare 0,R"+d+"\n");
+		code.append("JumpTrue "+endLabel+"\n");
 		
 		// recursive call to operation statement
-		tr += whileStatement.getOperation().accept(this,d).getLIRCode();
-		tr += "Jump "+whileLabel+"\n";
-		tr += endLabel+":\n";
+		translateStatement(whileStatement.getOperation(), d);
+		code.append("Jump "+whileLabel+"\n");
+		code.append(endLabel+":\n");
 		
 		// set while id back to previous value
 		currWhileID = prevWhileID;
-		return new LIRUpType(tr, LIRFlagEnum.STATEMENT,"");
+		return new LIRUpType(LIRFlagEnum.STATEMENT,"");
 	}
 
 	/**
@@ -544,8 +645,8 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 	 * - return the break statement
 	 */
 	public LIRUpType visit(Break breakStatement, Integer d){
-		String tr = "Jump _end_label"+currWhileID+"\n";
-		return new LIRUpType(tr, LIRFlagEnum.STATEMENT,"");
+		code.append("Jump _end_label"+currWhileID+"\n");
+		return new LIRUpType(LIRFlagEnum.STATEMENT,"");
 	}
 
 	/**
@@ -553,8 +654,8 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 	 * - return the continue statement
 	 */
 	public LIRUpType visit(Continue continueStatement, Integer d){
-		String tr = "Jump _while_cond_label"+currWhileID+"\n";
-		return new LIRUpType(tr, LIRFlagEnum.STATEMENT,"");
+		code.append("Jump _while_cond_label"+currWhileID+"\n");
+		return new LIRUpType(LIRFlagEnum.STATEMENT,"");
 	}
 
 	/**
@@ -563,14 +664,12 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 	 * - concatenate the translations to the LIR code
 	 */
 	public LIRUpType visit(StatementsBlock statementsBlock, Integer d){
-		String tr = "";
-		
 		// recursive call to all statements in the block
 		for (Statement s: statementsBlock.getStatements()){
-			tr += s.accept(this, d).getLIRCode();
+			translateStatement(s, d);
 		}
 		
-		return new LIRUpType(tr, LIRFlagEnum.STATEMENT,"");
+		return new LIRUpType(LIRFlagEnum.STATEMENT,"");
 	}
 
 	/**
@@ -579,22 +678,19 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 	 * - concatenate the translations to the LIR local variable statement instruction
 	 */
 	public LIRUpType visit(LocalVariable localVariable, Integer d){
-		String tr = "";
-		
 		if (localVariable.hasInitValue()){
 			LIRUpType initVal = localVariable.getInitValue().accept(this, d);
-			tr += initVal.getLIRCode();
 			if (initVal.getLIRInstType() != LIRFlagEnum.REGISTER){
-				tr += getMoveCommand(initVal.getLIRInstType());
-				tr += initVal.getTargetRegister()+",R"+d+"\n";
+				code.append(getMoveCommand(initVal.getLIRInstType()));
+				code.append(initVal.getTargetRegister()+",R"+d+"\n");
 				initVal.setTargetRegister("R"+d);
 				initVal.setLIRInstType(LIRFlagEnum.REGISTER);
 			}
 			// move register into the local var name
-			tr += "Move "+initVal.getTargetRegister()+","+localVariable.getNameDepth()+"\n";
+			code.append("Move "+initVal.getTargetRegister()+","+localVariable.getNameDepth()+"\n");
 		}
 		
-		return new LIRUpType(tr, LIRFlagEnum.STATEMENT,"");
+		return new LIRUpType(LIRFlagEnum.STATEMENT,"");
 	}
 
 	/**
@@ -603,17 +699,14 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 	 * - concatenate the translations to the LIR static call statement instruction
 	 */
 	public LIRUpType visit(StaticCall call, Integer d){
-		String tr = "";
-		
 		// recursive calls to all arguments
 		int i = d;
 		for (Expression arg: call.getArguments()){
+			code.append("# argument #"+(i-d)+":\n");
 			LIRUpType argExp = arg.accept(this, i);
-			tr += "# argument #"+(i-d)+":\n";
-			tr += argExp.getLIRCode();
 			if (argExp.getLIRInstType() != LIRFlagEnum.REGISTER){
-				tr += getMoveCommand(argExp.getLIRInstType());
-				tr += argExp.getTargetRegister()+",R"+i+"\n";
+				code.append(getMoveCommand(argExp.getLIRInstType()));
+				code.append(argExp.getTargetRegister()+",R"+i+"\n");
 				argExp.setTargetRegister("R"+i);
 				argExp.setLIRInstType(LIRFlagEnum.REGISTER);
 			}
@@ -623,26 +716,26 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 		
 		// check if the call is to a library (static) method
 		if (call.getClassName().equals("Library")){
-			return libraryCallVisit(tr,call,d);
+			return libraryCallVisit(call, d);
 		}
 		
 		// call statement
 		ClassLayout thisClassLayout = classLayouts.get(call.getClassName());
 		Method thisMethod = thisClassLayout.getMethodFromName(call.getName());
-		tr += "# call statement:\n";
+		code.append("# call statement:\n");
 		// construct method label
 		String methodName = "_"+((ClassSymbolTable) thisMethod.getEnclosingScope()).getMySymbol().getName()+
 							"_"+call.getName();
-		tr += "StaticCall "+methodName+"(";
+		code.append("StaticCall "+methodName+"(");
 		// insert <formal>=<argument register>
 		for(i = 0; i < call.getArguments().size(); i++){
-			tr += thisMethod.getFormals().get(i).getNameDepth()+"=R"+(d+i)+",";
+			code.append(thisMethod.getFormals().get(i).getNameDepth()+"=R"+(d+i)+",");
 		}
 		// remove last comma
-		if (tr.endsWith(",")) tr = tr.substring(0, tr.length()-1);
-		tr += "),R"+d+"\n";
+		removeLastComma();
+		code.append("),R"+d+"\n");
 		
-		return new LIRUpType(tr, LIRFlagEnum.REGISTER,"R"+d);
+		return new LIRUpType(LIRFlagEnum.REGISTER,"R"+d);
 	}
 	
 	/**
@@ -652,18 +745,17 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 	 * @param d
 	 * @return
 	 */
-	public LIRUpType libraryCallVisit(String argsTr, StaticCall call, Integer d){
-		String tr = argsTr; 
-		tr += "Library __"+call.getName()+"(";
+	public LIRUpType libraryCallVisit(StaticCall call, Integer d){
+		code.append("Library __"+call.getName()+"(");
 		// iterate over values (registers)
 		for(int i = 0; i < call.getArguments().size(); i++){
-			tr += "R"+(i+d)+",";
+			code.append("R"+(i+d)+",");
 		}
 		// remove last comma
-		if (tr.endsWith(",")) tr = tr.substring(0, tr.length()-1);
-		tr += "),R"+d+"\n";
+		removeLastComma();
+		code.append("),R"+d+"\n");
 		
-		return new LIRUpType(tr, LIRFlagEnum.REGISTER,"R"+d);
+		return new LIRUpType(LIRFlagEnum.REGISTER,"R"+d);
 	}
 
 	/**
@@ -672,34 +764,35 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 	 * - concatenate the translations to the LIR virtual call statement instruction
 	 */
 	public LIRUpType visit(VirtualCall call, Integer d){
-		String tr = "# virtual call location:\n";;
+		code.append("# virtual call location:\n");
 		
 		// recursive call to call location
 		if (call.isExternal()){
 			LIRUpType location = call.getLocation().accept(this, d);
-			tr += location.getLIRCode();
 			if (location.getLIRInstType() != LIRFlagEnum.REGISTER){
-				tr += getMoveCommand(location.getLIRInstType());
-				tr += location.getTargetRegister()+",R"+d+"\n";
+				code.append(getMoveCommand(location.getLIRInstType()));
+				code.append(location.getTargetRegister()+",R"+d+"\n");
 				location.setTargetRegister("R"+d);
 				location.setLIRInstType(LIRFlagEnum.REGISTER);
 			}
 			
 			// check location null reference
-			tr += "StaticCall __checkNullRef(a=R"+d+"),Rdummy\n";
+			code.append("StaticCall __checkNullRef(a=R"+d+"),Rdummy\n");
+			usesCheckNullRef = true;
+			remarks.add(call.getLine(), OptRemarks.Kind.MISSED, "check-elimination",
+					"null reference check of call to "+call.getName()+" is kept: the object may be null");
 		} else {
-			tr += "Move this,R"+d+"\n";
+			code.append("Move this,R"+d+"\n");
 		}
 		
 		// recursive call to all arguments
 		int i = d+1;
 		for (Expression arg: call.getArguments()){
+			code.append("# argument #"+(i-d-1)+":\n");
 			LIRUpType argExp = arg.accept(this, i);
-			tr += "# argument #"+(i-d-1)+":\n";
-			tr += argExp.getLIRCode();
 			if (argExp.getLIRInstType() != LIRFlagEnum.REGISTER){
-				tr += getMoveCommand(argExp.getLIRInstType());
-				tr += argExp.getTargetRegister()+",R"+i+"\n";
+				code.append(getMoveCommand(argExp.getLIRInstType()));
+				code.append(argExp.getTargetRegister()+",R"+i+"\n");
 				argExp.setTargetRegister("R"+i);
 				argExp.setLIRInstType(LIRFlagEnum.REGISTER);
 			}
@@ -708,23 +801,24 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 		}
 		
 		// call statement
-		tr += "VirtualCall R"+d+".";
+		code.append("VirtualCall R"+d+".");
 		String className = !call.isExternal() ? currClassName :
-			((IC.TypeTable.ClassType) call.getLocation().accept(new DefTypeSemanticChecker(global))).getName();
+			((IC.TypeTable.ClassType) call.getLocation().getStaticType()).getName();
 		ClassLayout thisClassLayout = classLayouts.get(className);
 		Method thisMethod = thisClassLayout.getMethodFromName(call.getName());
 		int offset = thisClassLayout.getMethodOffset(thisMethod);
+		remarkDevirtualization(call, className);
 		
-		tr += offset+"(";
+		code.append(offset+"(");
 		// insert <formal>=<argument register>
 		for(i = 0; i < call.getArguments().size(); i++){
-			tr += thisMethod.getFormals().get(i).getNameDepth()+"=R"+(d+i+1)+",";
+			code.append(thisMethod.getFormals().get(i).getNameDepth()+"=R"+(d+i+1)+",");
 		}
 		// remove last comma
-		if (tr.endsWith(",")) tr = tr.substring(0, tr.length()-1);
-		tr += "),R"+d+"\n";
+		removeLastComma();
+		code.append("),R"+d+"\n");
 		
-		return new LIRUpType(tr, LIRFlagEnum.REGISTER,"R"+d);
+		return new LIRUpType(LIRFlagEnum.REGISTER,"R"+d);
 	}
 
 	/**
@@ -733,8 +827,8 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 	 * - return translation
 	 */
 	public LIRUpType visit(This thisExpression, Integer d){//TODO
-		String tr = "Move this,R"+d+"\n";
-		return new LIRUpType(tr, LIRFlagEnum.REGISTER,"R"+d);
+		code.append("Move this,R"+d+"\n");
+		return new LIRUpType(LIRFlagEnum.REGISTER,"R"+d);
 	}
 
 	/**
@@ -745,10 +839,10 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 	public LIRUpType visit(NewClass newClass, Integer d){
 		System.out.println(newClass.getName()+"\n\n");
 		ClassLayout thisClassLayout = classLayouts.get(newClass.getName());
-		String tr = "Library __allocateObject("+thisClassLayout.getAllocSize()+"),R"+d+"\n";
-		tr += "MoveField _DV_"+thisClassLayout.getClassName()+",R"+d+".0\n";
+		code.append("Library __allocateObject("+thisClassLayout.getAllocSize()+"),R"+d+"\n");
+		code.append("MoveField _DV_"+thisClassLayout.getClassName()+",R"+d+".0\n");
 		
-		return new LIRUpType(tr, LIRFlagEnum.REGISTER,"R"+d);
+		return new LIRUpType(LIRFlagEnum.REGISTER,"R"+d);
 	}
 
 	/**
@@ -757,28 +851,37 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 	 * - return LIR code
 	 */
 	public LIRUpType visit(NewArray newArray, Integer d){
-		String tr = "";
+		// constant size: allocate the precomputed number of bytes, no size check needed
+		Integer constSize = AlgebraicSimplifier.getConstantValue(newArray.getSize());
+		if (constSize != null && constSize >= 0 && constSize <= Integer.MAX_VALUE / 4){
+			remarks.add(newArray.getLine(), OptRemarks.Kind.PASSED, "check-elimination",
+					"array size check is removed: constant size "+constSize);
+			code.append("Library __allocateArray("+(constSize*4)+"),R"+d+"\n");
+			return new LIRUpType(LIRFlagEnum.REGISTER,"R"+d);
+		}
 		
 		// recursive call to size
 		LIRUpType size = newArray.getSize().accept(this, d);
-		tr += size.getLIRCode();
 		if (size.getLIRInstType() != LIRFlagEnum.REGISTER){
-			tr += getMoveCommand(size.getLIRInstType());
-			tr += size.getTargetRegister()+",R"+d+"\n";
+			code.append(getMoveCommand(size.getLIRInstType()));
+			code.append(size.getTargetRegister()+",R"+d+"\n");
 			size.setTargetRegister("R"+d);
 			size.setLIRInstType(LIRFlagEnum.REGISTER);
 		}
 		
 		// multiply by 4
-		tr += "Mul 4,R"+d+"\n";
+		code.append("Mul 4,R"+d+"\n");
 		
 		// check given size n
-		tr += "StaticCall __checkSize(n=R"+d+"),Rdummy\n";
+		code.append("StaticCall __checkSize(n=R"+d+"),Rdummy\n");
+		usesCheckSize = true;
+		remarks.add(newArray.getLine(), OptRemarks.Kind.MISSED, "check-elimination",
+				"array size check is kept: the size is not a non negative constant");
 		
 		// allocate memory
-		tr += "Library __allocateArray(R"+d+"),R"+d+"\n";
+		code.append("Library __allocateArray(R"+d+"),R"+d+"\n");
 		
-		return new LIRUpType(tr, LIRFlagEnum.REGISTER,"R"+d);
+		return new LIRUpType(LIRFlagEnum.REGISTER,"R"+d);
 	}
 
 	/**
@@ -787,57 +890,99 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 	 * - return LIR code
 	 */
 	public LIRUpType visit(Length length, Integer d){
-		String tr = "";
-		
 		// recursive call to array expression
 		LIRUpType array = length.getArray().accept(this, d);
-		tr += array.getLIRCode();
 		if (array.getLIRInstType() != LIRFlagEnum.REGISTER){
-			tr += getMoveCommand(array.getLIRInstType());
-			tr += array.getTargetRegister()+",R"+d+"\n";
+			code.append(getMoveCommand(array.getLIRInstType()));
+			code.append(array.getTargetRegister()+",R"+d+"\n");
 			array.setTargetRegister("R"+d);
 			array.setLIRInstType(LIRFlagEnum.REGISTER);
 		}
 		
 		// check array null reference
-		tr += "StaticCall __checkNullRef(a=R"+d+"),Rdummy\n";
+		code.append("StaticCall __checkNullRef(a=R"+d+"),Rdummy\n");
+		usesCheckNullRef = true;
+		remarks.add(length.getLine(), OptRemarks.Kind.MISSED, "check-elimination",
+				"null reference check of array length is kept: the array may be null");
 		
 		// get length
-		tr += "ArrayLength R"+d+",R"+d+"\n";
+		code.append("ArrayLength R"+d+",R"+d+"\n");
 		
-		return new LIRUpType(tr, LIRFlagEnum.REGISTER,"R"+d);
+		return new LIRUpType(LIRFlagEnum.REGISTER,"R"+d);
 	}
 
 	/**
 	 * MathBinaryOp propagating visitor:
+	 * - simplify the operation algebraically, translate the simplified expression if changed
 	 * - translate recursively the operator and operands
 	 * - return the LIR code
 	 */
 	public LIRUpType visit(MathBinaryOp binaryOp, Integer d){
-		String tr = "";
-		// decide which block will be first by the Setti-Ullman algorithm
-		boolean suBool = binaryOp.getFirstOperand().getRequiredRegs() >= binaryOp.getSecondOperand().getRequiredRegs(); 
+		// constant folding and algebraic simplification
+		Expression simplified = simplifier.simplify(binaryOp);
+		if (simplified != binaryOp){
+			Integer value = AlgebraicSimplifier.getConstantValue(simplified);
+			if (value != null){
+				remarks.add(binaryOp.getLine(), OptRemarks.Kind.PASSED, "constant-folding",
+						"expression is folded to "+value);
+			} else {
+				remarks.add(binaryOp.getLine(), OptRemarks.Kind.PASSED, "algebraic-simplification",
+						"expression is simplified");
+			}
+			return simplified.accept(this, d);
+		}
+		
+		// string concatenation chain
+		if (binaryOp.getOperator() == BinaryOps.PLUS && !simplifier.isIntOperation(binaryOp)){
+			return translateConcatenation(binaryOp, d);
+		}
+		
+		// strength reduction: multiplication by 2 is an addition of the operand to itself
+		if (binaryOp.getOperator() == BinaryOps.MULTIPLY){
+			Expression other = null;
+			Integer c1 = AlgebraicSimplifier.getConstantValue(binaryOp.getFirstOperand());
+			Integer c2 = AlgebraicSimplifier.getConstantValue(binaryOp.getSecondOperand());
+			if (c2 != null && c2 == 2) other = binaryOp.getFirstOperand();
+			else if (c1 != null && c1 == 2) other = binaryOp.getSecondOperand();
+			
+			if (other != null){
+				remarks.add(binaryOp.getLine(), OptRemarks.Kind.PASSED, "strength-reduction",
+						"multiplication by 2 is translated to an addition");
+				LIRUpType operand = other.accept(this, d);
+				if (operand.getLIRInstType() != LIRFlagEnum.REGISTER || !operand.getTargetRegister().equals("R"+d)){
+					code.append(getMoveCommand(operand.getLIRInstType()));
+					code.append(operand.getTargetRegister()+",R"+d+"\n");
+				}
+				code.append("Add R"+d+",R"+d+"\n");
+				return new LIRUpType(LIRFlagEnum.REGISTER,"R"+d);
+			}
+		}
+		
+		// decide which block will be first by the Setti-Ullman algorithm,
+		// the second operand is evaluated first only if it is not observable
+		boolean suBool = binaryOp.getFirstOperand().getRequiredRegs() >= binaryOp.getSecondOperand().getRequiredRegs() ||
+			!RegCounterVisitor.canReorder(binaryOp.getFirstOperand().getSideEffects(), binaryOp.getSecondOperand().getSideEffects());
+		remarkEvaluationOrder(binaryOp.getLine(), binaryOp.getFirstOperand(), binaryOp.getSecondOperand(), suBool,
+				"first operand", "second operand");
 		LIRUpType operand1 = null;
 		LIRUpType operand2 = null;
 		
 		if (suBool){
 			// recursive call to operands
 			operand1 = binaryOp.getFirstOperand().accept(this, d);
-			tr += operand1.getLIRCode();
 			if (operand1.getLIRInstType() != LIRFlagEnum.REGISTER){
-				tr += getMoveCommand(operand1.getLIRInstType());
-				tr += operand1.getTargetRegister()+",R"+d+"\n";
+				code.append(getMoveCommand(operand1.getLIRInstType()));
+				code.append(operand1.getTargetRegister()+",R"+d+"\n");
 				// update the operand register
 				operand1.setTargetRegister("R"+d);
 				operand1.setLIRInstType(LIRFlagEnum.REGISTER);
 			}
 			
 			operand2 = binaryOp.getSecondOperand().accept(this, d+1);
-			tr += operand2.getLIRCode();
 			if (operand2.getLIRInstType() == LIRFlagEnum.ARR_LOCATION ||
 					operand2.getLIRInstType() == LIRFlagEnum.EXT_VAR_LOCATION){
-				tr += getMoveCommand(operand2.getLIRInstType());
-				tr += operand2.getTargetRegister()+",R"+(d+1)+"\n";
+				code.append(getMoveCommand(operand2.getLIRInstType()));
+				code.append(operand2.getTargetRegister()+",R"+(d+1)+"\n");
 				// update the operand register
 				operand2.setTargetRegister("R"+(d+1));
 				operand2.setLIRInstType(LIRFlagEnum.REGISTER);
@@ -845,20 +990,18 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 		} else {
 			// recursive call to operands
 			operand2 = binaryOp.getSecondOperand().accept(this, d);
-			tr += operand2.getLIRCode();
 			if (operand2.getLIRInstType() == LIRFlagEnum.ARR_LOCATION ||
 					operand2.getLIRInstType() == LIRFlagEnum.EXT_VAR_LOCATION){
-				tr += getMoveCommand(operand2.getLIRInstType());
-				tr += operand2.getTargetRegister()+",R"+d+"\n";
+				code.append(getMoveCommand(operand2.getLIRInstType()));
+				code.append(operand2.getTargetRegister()+",R"+d+"\n");
 				operand2.setTargetRegister("R"+d);
 				operand2.setLIRInstType(LIRFlagEnum.REGISTER);
 			}
 			
 			operand1 = binaryOp.getFirstOperand().accept(this, d+1);
-			tr += operand1.getLIRCode();
 			if (operand1.getLIRInstType() != LIRFlagEnum.REGISTER){
-				tr += getMoveCommand(operand1.getLIRInstType());
-				tr += operand1.getTargetRegister()+",R"+(d+1)+"\n";
+				code.append(getMoveCommand(operand1.getLIRInstType()));
+				code.append(operand1.getTargetRegister()+",R"+(d+1)+"\n");
 				operand1.setTargetRegister("R"+(d+1));
 				operand1.setLIRInstType(LIRFlagEnum.REGISTER);
 			}
@@ -867,72 +1010,80 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 		// operation
 		switch (binaryOp.getOperator()){
 		case PLUS:
-			// check if operation is on strings or on integers
-			IC.TypeTable.Type operandsType = (IC.TypeTable.Type) binaryOp.getFirstOperand().accept(new DefTypeSemanticChecker(global));
+			// check if operation is on strings or on integers (by the type recorded by the type checker)
+			IC.TypeTable.Type operandsType = binaryOp.getFirstOperand().getStaticType();
 			if (operandsType.subtypeOf(IC.TypeTable.TypeTable.getUniquePrimitiveTypes().get("int"))){
-				tr += "Add "+operand2.getTargetRegister()+","+operand1.getTargetRegister()+"\n";
+				code.append("Add "+operand2.getTargetRegister()+","+operand1.getTargetRegister()+"\n");
 				if (!operand1.getTargetRegister().equals("R"+d)){
 					// put result in Rd anyway
-					tr += "Move "+operand1.getTargetRegister()+",R"+d+"\n"; 
+					code.append("Move "+operand1.getTargetRegister()+",R"+d+"\n"); 
 				}
 			} else { // strings - always at this order
-				tr += "Library __stringCat("+operand1.getTargetRegister()+","+operand2.getTargetRegister()+"),R"+d+"\n";
+				code.append("Library __stringCat("+operand1.getTargetRegister()+","+operand2.getTargetRegister()+"),R"+d+"\n");
 			}
 			break;
 		case MINUS:
-			tr += "Sub "+operand2.getTargetRegister()+","+operand1.getTargetRegister()+"\n";
-			if (!suBool) tr += "Move R"+(d+1)+",R"+d+"\n";
+			code.append("Sub "+operand2.getTargetRegister()+","+operand1.getTargetRegister()+"\n");
+			if (!suBool) code.append("Move R"+(d+1)+",R"+d+"\n");
 			break;
 		case MULTIPLY:
-			tr += "Mul "+operand2.getTargetRegister()+","+operand1.getTargetRegister()+"\n";
+			code.append("Mul "+operand2.getTargetRegister()+","+operand1.getTargetRegister()+"\n");
 			if (!operand1.getTargetRegister().equals("R"+d)){
 				// put result in Rd anyway
-				tr += "Move "+operand1.getTargetRegister()+",R"+d+"\n"; 
+				code.append("Move "+operand1.getTargetRegister()+",R"+d+"\n"); 
 			}
 			break;
 		case DIVIDE:
-			// check division by zero
-			if (operand2.getLIRInstType() != LIRFlagEnum.REGISTER){ // operand2 must be in a register
-				String targetReg = operand1.getTargetRegister().equals("R"+d) ?	"R"+(d+1) : "R"+d;
-				// move it into the register
-				tr += getMoveCommand(operand2.getLIRInstType());
-				tr += operand2.getTargetRegister()+","+targetReg+"\n";
-				// update target register
-				operand2.setTargetRegister(targetReg);
-				operand2.setLIRInstType(LIRFlagEnum.REGISTER);
+			// check division by zero, not needed for a non-zero literal divisor
+			remarkZeroCheck(binaryOp, operand2);
+			if (!isNonZeroLiteral(operand2)){
+				if (operand2.getLIRInstType() != LIRFlagEnum.REGISTER){ // operand2 must be in a register
+					String targetReg = operand1.getTargetRegister().equals("R"+d) ?	"R"+(d+1) : "R"+d;
+					// move it into the register
+					code.append(getMoveCommand(operand2.getLIRInstType()));
+					code.append(operand2.getTargetRegister()+","+targetReg+"\n");
+					// update target register
+					operand2.setTargetRegister(targetReg);
+					operand2.setLIRInstType(LIRFlagEnum.REGISTER);
+				}
+				code.append("StaticCall __checkZero(b="+operand2.getTargetRegister()+"),Rdummy\n");
+				usesCheckZero = true;
 			}
-			tr += "StaticCall __checkZero(b="+operand2.getTargetRegister()+"),Rdummy\n";
 			
-			tr += "Div "+operand2.getTargetRegister()+","+operand1.getTargetRegister()+"\n";
+			code.append("Div "+operand2.getTargetRegister()+","+operand1.getTargetRegister()+"\n");
 			if (!operand1.getTargetRegister().equals("R"+d)){
 				// put result in Rd anyway
-				tr += "Move "+operand1.getTargetRegister()+",R"+d+"\n"; 
+				code.append("Move "+operand1.getTargetRegister()+",R"+d+"\n"); 
 			}
 			break;
 		case MOD:
-			// check division by zero
-			if (operand2.getLIRInstType() != LIRFlagEnum.REGISTER){ // operand2 must be in a register
-				String targetReg = operand1.getTargetRegister().equals("R"+d) ?	"R"+(d+1) : "R"+d;
-				// move it into the register
-				tr += getMoveCommand(operand2.getLIRInstType());
-				tr += operand2.getTargetRegister()+","+targetReg+"\n";
-				// update target register
-				operand2.setTargetRegister(targetReg);
-				operand2.setLIRInstType(LIRFlagEnum.REGISTER);
+			// check division by zero, not needed for a non-zero literal divisor
+			remarkZeroCheck(binaryOp, operand2);
+			if (!isNonZeroLiteral(operand2)){
+				if (operand2.getLIRInstType() != LIRFlagEnum.REGISTER){ // operand2 must be in a register
+					String targetReg = operand1.getTargetRegister().equals("R"+d) ?	"R"+(d+1) : "R"+d;
+					// move it into the register
+					code.append(getMoveCommand(operand2.getLIRInstType()));
+					code.append(operand2.getTargetRegister()+","+targetReg+"\n");
+					// update target register
+					operand2.setTargetRegister(targetReg);
+					operand2.setLIRInstType(LIRFlagEnum.REGISTER);
+				}
+				code.append("StaticCall __checkZero(b="+operand2.getTargetRegister()+"),Rdummy\n");
+				usesCheckZero = true;
 			}
-			tr += "StaticCall __checkZero(b="+operand2.getTargetRegister()+"),Rdummy\n";
 			
-			tr += "Mod "+operand2.getTargetRegister()+","+operand1.getTargetRegister()+"\n";
+			code.append("Mod "+operand2.getTargetRegister()+","+operand1.getTargetRegister()+"\n");
 			if (!operand1.getTargetRegister().equals("R"+d)){
 				// put result in Rd anyway
-				tr += "Move "+operand1.getTargetRegister()+",R"+d+"\n"; 
+				code.append("Move "+operand1.getTargetRegister()+",R"+d+"\n"); 
 			}
 			break;
 		default:
 			System.err.println("*** YOUR PARSER SUCKS ***");
 		}
 		
-		return new LIRUpType(tr, LIRFlagEnum.REGISTER,"R"+d);
+		return new LIRUpType(LIRFlagEnum.REGISTER,"R"+d);
 	}
 
 	/**
@@ -944,31 +1095,32 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 		String trueLabel = "_true_label"+labelCounter;
 		String falseLabel = "_false_label"+labelCounter;
 		String endLabel = "_end_label"+(labelCounter++);
-		String tr = "";
-		// decide which block will be first by the Setti-Ullman algorithm
-		boolean suBool = binaryOp.getFirstOperand().getRequiredRegs() >= binaryOp.getSecondOperand().getRequiredRegs(); 
+		// decide which block will be first by the Setti-Ullman algorithm,
+		// the second operand is evaluated first only if it is not observable
+		boolean suBool = binaryOp.getFirstOperand().getRequiredRegs() >= binaryOp.getSecondOperand().getRequiredRegs() ||
+			!RegCounterVisitor.canReorder(binaryOp.getFirstOperand().getSideEffects(), binaryOp.getSecondOperand().getSideEffects());
+		remarkEvaluationOrder(binaryOp.getLine(), binaryOp.getFirstOperand(), binaryOp.getSecondOperand(), suBool,
+				"first operand", "second operand");
 		LIRUpType operand1 = null;
 		LIRUpType operand2 = null;
 		
 		if (suBool){
 			// recursive call to operands
 			operand1 = binaryOp.getFirstOperand().accept(this, d);
-			tr += operand1.getLIRCode();
 			// if the received value is not already a register, place it into one
 			if (operand1.getLIRInstType() != LIRFlagEnum.REGISTER){
-				tr += getMoveCommand(operand1.getLIRInstType());
-				tr += operand1.getTargetRegister()+",R"+d+"\n";
+				code.append(getMoveCommand(operand1.getLIRInstType()));
+				code.append(operand1.getTargetRegister()+",R"+d+"\n");
 				// update target register
 				operand1.setTargetRegister("R"+d);
 				operand1.setLIRInstType(LIRFlagEnum.REGISTER);
 			};
 			
 			operand2 = binaryOp.getSecondOperand().accept(this, d+1);
-			tr += operand2.getLIRCode();
 			if (operand2.getLIRInstType() == LIRFlagEnum.ARR_LOCATION ||
 					operand2.getLIRInstType() == LIRFlagEnum.EXT_VAR_LOCATION){			
-				tr += getMoveCommand(operand2.getLIRInstType());
-				tr += operand2.getTargetRegister()+",R"+(d+1)+"\n";
+				code.append(getMoveCommand(operand2.getLIRInstType()));
+				code.append(operand2.getTargetRegister()+",R"+(d+1)+"\n");
 				// update target register
 				operand2.setTargetRegister("R"+(d+1));
 				operand2.setLIRInstType(LIRFlagEnum.REGISTER);
@@ -976,22 +1128,20 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 		} else {
 			// recursive call to operands
 			operand2 = binaryOp.getSecondOperand().accept(this, d);
-			tr += operand2.getLIRCode();
 			if (operand2.getLIRInstType() == LIRFlagEnum.ARR_LOCATION ||
 					operand2.getLIRInstType() == LIRFlagEnum.EXT_VAR_LOCATION){
-				tr += getMoveCommand(operand2.getLIRInstType());
-				tr += operand2.getTargetRegister()+",R"+d+"\n";
+				code.append(getMoveCommand(operand2.getLIRInstType()));
+				code.append(operand2.getTargetRegister()+",R"+d+"\n");
 				// update target register
 				operand2.setTargetRegister("R"+d);
 				operand2.setLIRInstType(LIRFlagEnum.REGISTER);
 			}
 			
 			operand1 = binaryOp.getFirstOperand().accept(this, d+1);
-			tr += operand1.getLIRCode();
 			// if the received value is not already a register, place it into one
 			if (operand1.getLIRInstType() != LIRFlagEnum.REGISTER){
-				tr += getMoveCommand(operand1.getLIRInstType());
-				tr += operand1.getTargetRegister()+",R"+(d+1)+"\n";
+				code.append(getMoveCommand(operand1.getLIRInstType()));
+				code.append(operand1.getTargetRegister()+",R"+(d+1)+"\n");
 				// update target register
 				operand1.setTargetRegister("R"+(d+1));
 				operand1.setLIRInstType(LIRFlagEnum.REGISTER);
@@ -1001,73 +1151,73 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 		
 		// operation
 		if (binaryOp.getOperator() != BinaryOps.LAND && binaryOp.getOperator() != BinaryOps.LOR){
-			tr += suBool ?
+			code.append(suBool ?
 					"Compare "+operand2.getTargetRegister()+","+operand1.getTargetRegister()+"\n":
-					"Compare "+operand2.getTargetRegister()+","+operand1.getTargetRegister()+"\n";
+					"Compare "+operand2.getTargetRegister()+","+operand1.getTargetRegister()+"\n");
 		}
 		switch (binaryOp.getOperator()){
 		case EQUAL:
-			tr += "JumpTrue "+trueLabel+"\n";
+			code.append("JumpTrue "+trueLabel+"\n");
 			break;
 		case NEQUAL:
-			tr += "JumpFalse "+trueLabel+"\n";
+			code.append("JumpFalse "+trueLabel+"\n");
 			break;
 		case GT:
-			tr += "JumpG "+trueLabel+"\n";
+			code.append("JumpG "+trueLabel+"\n");
 			break;
 		case GTE:
-			tr += "JumpGE "+trueLabel+"\n";
+			code.append("JumpGE "+trueLabel+"\n");
 			break;
 		case LT:
-			tr += "JumpL "+trueLabel+"\n";
+			code.append("JumpL "+trueLabel+"\n");
 			break;
 		case LTE:
-			tr += "JumpLE "+trueLabel+"\n";
+			code.append("JumpLE "+trueLabel+"\n");
 			break;
 		case LAND:
-			tr += "Compare 0,"+operand1.getTargetRegister()+"\n";
-			tr += "JumpTrue "+falseLabel+"\n";
+			code.append("Compare 0,"+operand1.getTargetRegister()+"\n");
+			code.append("JumpTrue "+falseLabel+"\n");
 			// if operand2 not in register, put it in the free one
 			if (operand2.getLIRInstType() != LIRFlagEnum.REGISTER){
 				String targetReg = operand1.getTargetRegister().equals("R"+d) ?	"R"+(d+1) : "R"+d;
 				// move it into the register
-				tr += getMoveCommand(operand2.getLIRInstType());
-				tr += operand2.getTargetRegister()+","+targetReg+"\n";
+				code.append(getMoveCommand(operand2.getLIRInstType()));
+				code.append(operand2.getTargetRegister()+","+targetReg+"\n");
 				// update target register
 				operand2.setTargetRegister(targetReg);
 				operand2.setLIRInstType(LIRFlagEnum.REGISTER);
 			}
-			tr += "Compare 0,"+operand2.getTargetRegister()+"\n";
-			tr += "JumpTrue "+falseLabel+"\n";
-			tr += "Jump "+trueLabel+"\n";
-			tr += falseLabel+":\n"; 
+			code.append("Compare 0,"+operand2.getTargetRegister()+"\n");
+			code.append("JumpTrue "+falseLabel+"\n");
+			code.append("Jump "+trueLabel+"\n");
+			code.append(falseLabel+":\n"); 
 			break;
 		case LOR:
-			tr += "Compare 0,"+operand1.getTargetRegister()+"\n";
-			tr += "JumpFalse "+trueLabel+"\n";
+			code.append("Compare 0,"+operand1.getTargetRegister()+"\n");
+			code.append("JumpFalse "+trueLabel+"\n");
 			// if operand2 not in register, put it in the free one
 			if (operand2.getLIRInstType() != LIRFlagEnum.REGISTER){
 				String targetReg = operand1.getTargetRegister().equals("R"+d) ?	"R"+(d+1) : "R"+d;
 				// move it into the register
-				tr += getMoveCommand(operand2.getLIRInstType());
-				tr += operand2.getTargetRegister()+","+targetReg+"\n";
+				code.append(getMoveCommand(operand2.getLIRInstType()));
+				code.append(operand2.getTargetRegister()+","+targetReg+"\n");
 				// update target register
 				operand2.setTargetRegister(targetReg);
 				operand2.setLIRInstType(LIRFlagEnum.REGISTER);
 			}
-			tr += "Compare 0,"+operand2.getTargetRegister()+"\n";
-			tr += "JumpFalse "+trueLabel+"\n"; 
+			code.append("Compare 0,"+operand2.getTargetRegister()+"\n");
+			code.append("JumpFalse "+trueLabel+"\n"); 
 			break;
 		default:
 			System.err.println("*** YOUR PARSER SUCKS ***");	
 		}
-		tr += "Move 0,R"+d+"\n";
-		tr += "Jump "+endLabel+"\n";
-		tr += trueLabel+":\n";
-		tr += "Move 1,R"+d+"\n";
-		tr += endLabel+":\n";
+		code.append("Move 0,R"+d+"\n");
+		code.append("Jump "+endLabel+"\n");
+		code.append(trueLabel+":\n");
+		code.append("Move 1,R"+d+"\n");
+		code.append(endLabel+":\n");
 		
-		return new LIRUpType(tr, LIRFlagEnum.REGISTER,"R"+d);
+		return new LIRUpType(LIRFlagEnum.REGISTER,"R"+d);
 	}
 
 	/**
@@ -1076,20 +1226,25 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 	 * - return the LIR code
 	 */
 	public LIRUpType visit(MathUnaryOp unaryOp, Integer d){
-		String tr = "";
+		// constant negation
+		Integer constValue = AlgebraicSimplifier.getConstantValue(unaryOp);
+		if (constValue != null) return new LIRUpType(LIRFlagEnum.LITERAL,constValue.toString());
+		
+		// double negation
+		Expression operandExp = AlgebraicSimplifier.stripBlocks(unaryOp.getOperand());
+		if (operandExp instanceof MathUnaryOp) return ((MathUnaryOp) operandExp).getOperand().accept(this, d);
 		
 		// recursive call to operand
 		LIRUpType operand = unaryOp.getOperand().accept(this, d);
-		tr += operand.getLIRCode();
 		
 		// if the received value is not already a register, place it into one
 		if (operand.getLIRInstType() != LIRFlagEnum.REGISTER){
-			tr += getMoveCommand(operand.getLIRInstType());
-			tr += operand.getTargetRegister()+",R"+d+"\n";
+			code.append(getMoveCommand(operand.getLIRInstType()));
+			code.append(operand.getTargetRegister()+",R"+d+"\n");
 		} // else it is already in register Rd
 		
-		tr += "Neg R"+d+"\n";
-		return new LIRUpType(tr, LIRFlagEnum.REGISTER,"R"+d);
+		code.append("Neg R"+d+"\n");
+		return new LIRUpType(LIRFlagEnum.REGISTER,"R"+d);
 	}
 
 	/**
@@ -1098,29 +1253,27 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 	 * - return the LIR code
 	 */
 	public LIRUpType visit(LogicalUnaryOp unaryOp, Integer d){
-		String tr = "";
 		String trueLabel = "_true_label"+labelCounter;
 		String endLabel = "_end_label"+(labelCounter++);
 		
 		// recursive call to operand
 		LIRUpType operand = unaryOp.getOperand().accept(this, d);
-		tr += operand.getLIRCode();
 		
 		// if the received value is not already a register, place it into one
 		if (operand.getLIRInstType() != LIRFlagEnum.REGISTER){
-			tr += getMoveCommand(operand.getLIRInstType());
-			tr += operand.getTargetRegister()+",R"+d+"\n";
+			code.append(getMoveCommand(operand.getLIRInstType()));
+			code.append(operand.getTargetRegister()+",R"+d+"\n");
 		} // else it is already in register Rd
 		
-		tr += "Compare 0,R"+d+"\n";
-		tr += "JumpTrue "+trueLabel+"\n";
-		tr += "Move 0,R"+d+"\n";
-		tr += "Jump "+endLabel+"\n";
-		tr += trueLabel+":\n";
-		tr += "Move 1,R"+d+"\n";
-		tr += endLabel+":\n";
+		code.append("Compare 0,R"+d+"\n");
+		code.append("JumpTrue "+trueLabel+"\n");
+		code.append("Move 0,R"+d+"\n");
+		code.append("Jump "+endLabel+"\n");
+		code.append(trueLabel+":\n");
+		code.append("Move 1,R"+d+"\n");
+		code.append(endLabel+":\n");
 		
-		return new LIRUpType(tr, LIRFlagEnum.REGISTER,"R"+d);
+		return new LIRUpType(LIRFlagEnum.REGISTER,"R"+d);
 	}
 
 	/**
@@ -1133,7 +1286,7 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 		
 		switch (literal.getType()){
 		case STRING:
-			String strVal = ((String) literal.getValue()).replaceAll("\n", "\\\\n");
+			String strVal = ((String) literal.getValue()).replace("\\", "\\\\").replace("\"", "\\\"").replace("\t", "\\t").replace("\n", "\\n");
 			if (!stringLiterals.containsKey(strVal))
 				stringLiterals.put(strVal, "str"+(stringLiteralsCounter++));
 			litStr = stringLiterals.get(strVal);
@@ -1151,7 +1304,7 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 			litStr = "1";
 		}
 		
-		return new LIRUpType("", LIRFlagEnum.LITERAL,litStr);
+		return new LIRUpType(LIRFlagEnum.LITERAL,litStr);
 	}
 
 	/**
@@ -1163,6 +1316,251 @@ public class OptTranslatePropagatingVisitor extends TranslatePropagatingVisitor{
 		return expressionBlock.accept(this, d);
 	}
 	
+	/////////////
+	// helpers //
+	/////////////
+	
+	/**
+	 * collects the call statements in tail position of a void method's statements list:
+	 * the last statement (before trailing "return;" statements),
+	 * recursively into statement blocks and both branches of an if statement
+	 * @param statements
+	 */
+	private void collectTailCallStatements(List<Statement> statements){
+		for (int i = statements.size()-1; i >= 0; i--){
+			Statement s = statements.get(i);
+			if (s instanceof Return && !((Return) s).hasValue()) continue;
+			
+			if (s instanceof CallStatement){
+				tailCallStatements.add((CallStatement) s);
+			} else if (s instanceof StatementsBlock){
+				collectTailCallStatements(((StatementsBlock) s).getStatements());
+			} else if (s instanceof If){
+				If ifStatement = (If) s;
+				collectTailCallStatements(Arrays.asList(ifStatement.getOperation()));
+				if (ifStatement.hasElse())
+					collectTailCallStatements(Arrays.asList(ifStatement.getElseOperation()));
+			}
+			return;
+		}
+	}
+	
+	/**
+	 * collects the local variables declared without an init value in the given statements,
+	 * recursively into statement blocks, if and while statements
+	 * @param statements
+	 */
+	private void collectUninitializedLocals(List<Statement> statements){
+		for (Statement s: statements){
+			if (s instanceof LocalVariable){
+				if (!((LocalVariable) s).hasInitValue()) uninitializedLocals.add((LocalVariable) s);
+			} else if (s instanceof StatementsBlock){
+				collectUninitializedLocals(((StatementsBlock) s).getStatements());
+			} else if (s instanceof If){
+				If ifStatement = (If) s;
+				collectUninitializedLocals(Arrays.asList(ifStatement.getOperation()));
+				if (ifStatement.hasElse())
+					collectUninitializedLocals(Arrays.asList(ifStatement.getElseOperation()));
+			} else if (s instanceof While){
+				collectUninitializedLocals(Arrays.asList(((While) s).getOperation()));
+			}
+		}
+	}
+	
+	/**
+	 * returns true iff the given call always calls the method currently translated:
+	 * - a static call to it
+	 * - a virtual call to it on this, when no subclass overrides it
+	 * @param call
+	 * @return
+	 */
+	private boolean isSelfCall(Call call){
+		if (currMethod == null) return false;
+		
+		if (call instanceof StaticCall){
+			StaticCall staticCall = (StaticCall) call;
+			if (staticCall.getClassName().equals("Library")) return false;
+			return classLayouts.get(staticCall.getClassName()).getMethodFromName(call.getName()) == currMethod;
+		}
+		
+		VirtualCall virtualCall = (VirtualCall) call;
+		if (currMethod.isStatic()) return false;
+		if (virtualCall.isExternal() && !(AlgebraicSimplifier.stripBlocks(virtualCall.getLocation()) instanceof This)) return false;
+		if (classLayouts.get(currClassName).getMethodFromName(call.getName()) != currMethod) return false;
+		// the call must not be dispatched to an overriding method
+		for (ClassLayout layout: classLayouts.values()){
+			if (reachability.isSubclass(layout.getClassName(), currClassName) &&
+					layout.getMethodFromName(call.getName()) != currMethod) return false;
+		}
+		return true;
+	}
+	
+	/**
+	 * translates a self tail call:
+	 * - evaluate all arguments
+	 * - assign them to the method's formals
+	 * - reset the local variables declared without an init value to 0, as in a new call's frame
+	 * - jump back to the method's entry point
+	 * @param call
+	 * @param d
+	 * @return
+	 */
+	private LIRUpType translateSelfTailCall(Call call, Integer d){
+		code.append("# self tail call:\n");
+		List<Formal> formals = currMethod.getFormals();
+		
+		// recursive calls to all arguments, except those that pass a formal to itself
+		boolean[] unchanged = new boolean[formals.size()];
+		int i = d;
+		for (Expression arg: call.getArguments()){
+			Expression argExp = AlgebraicSimplifier.stripBlocks(arg);
+			Formal formal = formals.get(i-d);
+			unchanged[i-d] = argExp instanceof VariableLocation && !((VariableLocation) argExp).isExternal() &&
+				((VariableLocation) argExp).getNameDepth().equals(formal.getNameDepth());
+			if (!unchanged[i-d]){
+				code.append("# argument #"+(i-d)+":\n");
+				LIRUpType argTr = arg.accept(this, i);
+				if (argTr.getLIRInstType() != LIRFlagEnum.REGISTER || !argTr.getTargetRegister().equals("R"+i)){
+					code.append(getMoveCommand(argTr.getLIRInstType()));
+					code.append(argTr.getTargetRegister()+",R"+i+"\n");
+				}
+			}
+			// increment registers count
+			i++;
+		}
+		
+		// reassign formals
+		for (i = 0; i < formals.size(); i++){
+			if (!unchanged[i]) code.append("Move R"+(d+i)+","+formals.get(i).getNameDepth()+"\n");
+		}
+		
+		// reset uninitialized locals
+		for (LocalVariable local: uninitializedLocals){
+			code.append("Move 0,"+local.getNameDepth()+"\n");
+		}
+		code.append("Jump "+currMethodEntryLabel+"\n");
+		
+		remarks.add(call.getLine(), OptRemarks.Kind.PASSED, "tail-call",
+				"self tail call to "+currMethod.getName()+" is translated to a jump");
+		hasSelfTailCall = true;
+		return new LIRUpType(LIRFlagEnum.STATEMENT, "");
+	}
+	
+	/**
+	 * translates a chain of string concatenations:
+	 * adjacent string literals are concatenated at compile time,
+	 * the other operands are evaluated left to right and appended to a single register
+	 * @param binaryOp
+	 * @param d
+	 * @return
+	 */
+	private LIRUpType translateConcatenation(MathBinaryOp binaryOp, Integer d){
+		List<Expression> operands = simplifier.getConcatenationOperands(binaryOp);
+		
+		// literal only concatenation
+		if (operands.size() == 1) return operands.get(0).accept(this, d);
+		
+		for (int i = 0; i < operands.size(); i++){
+			// the concatenated string is kept in Rd, the next operand is evaluated into Rd+1
+			int reg = (i == 0) ? d : d+1;
+			LIRUpType operand = operands.get(i).accept(this, reg);
+			if (operand.getLIRInstType() != LIRFlagEnum.REGISTER || !operand.getTargetRegister().equals("R"+reg)){
+				code.append(getMoveCommand(operand.getLIRInstType()));
+				code.append(operand.getTargetRegister()+",R"+reg+"\n");
+			}
+			if (i > 0) code.append("Library __stringCat(R"+d+",R"+(d+1)+"),R"+d+"\n");
+		}
+		
+		return new LIRUpType(LIRFlagEnum.REGISTER,"R"+d);
+	}
+	
+	/**
+	 * returns the optimization remarks of the translation
+	 */
+	public OptRemarks getRemarks(){
+		return remarks;
+	}
+	
+	/**
+	 * adds a remark on the evaluation order of two operands chosen by the Sethi-Ullman method
+	 * @param line
+	 * @param first: the operand evaluated first by the program's order
+	 * @param second
+	 * @param isFirstEvaluatedFirst
+	 * @param firstName: the operands names, used in the remark
+	 * @param secondName
+	 */
+	private void remarkEvaluationOrder(int line, Expression first, Expression second, boolean isFirstEvaluatedFirst,
+			String firstName, String secondName){
+		if (!isFirstEvaluatedFirst){
+			remarks.add(line, OptRemarks.Kind.PASSED, "evaluation-order", secondName+" is evaluated first: it needs "+
+					second.getRequiredRegs()+" registers, the "+firstName+" needs "+first.getRequiredRegs());
+		} else if (first.getRequiredRegs() < second.getRequiredRegs()){
+			remarks.add(line, OptRemarks.Kind.MISSED, "evaluation-order", secondName+" needs more registers ("+
+					second.getRequiredRegs()+" > "+first.getRequiredRegs()+") but is evaluated last: "+
+					"reordering would change the program's side effects");
+		}
+	}
+	
+	/**
+	 * adds a remark on the division by zero check of a division / modulo
+	 * @param binaryOp
+	 * @param divisor: the translated divisor
+	 */
+	private void remarkZeroCheck(MathBinaryOp binaryOp, LIRUpType divisor){
+		if (isNonZeroLiteral(divisor)){
+			remarks.add(binaryOp.getLine(), OptRemarks.Kind.PASSED, "check-elimination",
+					"division by zero check is removed: the divisor is the constant "+divisor.getTargetRegister());
+		} else {
+			remarks.add(binaryOp.getLine(), OptRemarks.Kind.MISSED, "check-elimination",
+					"division by zero check is kept: the divisor is not a non zero constant");
+		}
+	}
+	
+	/**
+	 * adds a remark on a call in tail position that is not translated to a jump
+	 * @param call
+	 */
+	private void remarkMissedTailCall(Call call){
+		if (call instanceof StaticCall && ((StaticCall) call).getClassName().equals("Library")) return;
+		remarks.add(call.getLine(), OptRemarks.Kind.MISSED, "tail-call",
+				"call to "+call.getName()+" in tail position is not translated to a jump: only self calls are");
+	}
+	
+	/**
+	 * adds a remark on the implementations a virtual call may be dispatched to
+	 * (virtual calls are never devirtualized, the remark points out the calls that could be)
+	 * @param call
+	 * @param className: the static type of the call's object
+	 */
+	private void remarkDevirtualization(VirtualCall call, String className){
+		Set<String> implementations = new TreeSet<String>();
+		for (ClassLayout layout: classLayouts.values()){
+			if (reachability.isInstantiated(layout.getClassName()) && reachability.isSubclass(layout.getClassName(), className)){
+				Method m = layout.getMethodFromName(call.getName());
+				implementations.add(((ClassSymbolTable) m.getEnclosingScope()).getMySymbol().getName()+"."+m.getName());
+			}
+		}
+		if (implementations.size() == 1){
+			remarks.add(call.getLine(), OptRemarks.Kind.MISSED, "devirtualization",
+					"virtual call to "+call.getName()+" has a single implementation ("+implementations.iterator().next()+
+					") among the instantiated classes, but virtual calls are not devirtualized");
+		} else {
+			remarks.add(call.getLine(), OptRemarks.Kind.ANALYSIS, "devirtualization",
+					"virtual call to "+call.getName()+" may be dispatched to "+implementations.size()+
+					" implementations "+implementations);
+		}
+	}
+	
+	/**
+	 * returns true iff the given translated operand is a non-zero integer literal
+	 * @param operand
+	 * @return
+	 */
+	private boolean isNonZeroLiteral(LIRUpType operand){
+		return operand.getLIRInstType() == LIRFlagEnum.LITERAL && !operand.getTargetRegister().equals("0");
+	}
+	
 	// getters and setters
 	//////////////////////
 
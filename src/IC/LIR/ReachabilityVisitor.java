@@ -0,0 +1,435 @@
+package IC.LIR;
+
+import java.util.*;
+
+import IC.AST.*;
+import IC.SymbolTable.*;
+
+/**
+ * Visitor for the whole-program reachability analysis (tree shaking)
+ * builds the call graph starting from the program's main method:
+ * - static calls are resolved through the class layout of the called class
+ * - virtual calls are resolved through the class layouts of all the instantiated
+ *   classes that are subclasses of the call's static class (rapid type analysis)
+ * methods that are not reachable from main are not translated,
+ * and classes that are never instantiated do not need a dispatch table
+ */
+public class ReachabilityVisitor implements Visitor {
+
+	private Map<String,ClassLayout> classLayouts;
+
+	// methods reachable from main
+	private Set<Method> reachableMethods = new HashSet<Method>();
+	// names of classes instantiated in reachable methods
+	private Set<String> instantiatedClasses = new HashSet<String>();
+	// virtual call sites in reachable methods, each element in the format: '<static class name>.<method name>'
+	private Set<String> virtualCallSites = new HashSet<String>();
+	// reachable methods whose body was not visited yet
+	private List<Method> worklist = new ArrayList<Method>();
+	// name of the class of the method currently visited
+	private String currClassName = "";
+
+	/**
+	 * constructor
+	 * @param classLayouts: the class layouts of all (non-library) classes in the program
+	 */
+	public ReachabilityVisitor(Map<String,ClassLayout> classLayouts){
+		this.classLayouts = classLayouts;
+	}
+
+	/**
+	 * Program visitor:
+	 * - find the main method and visit all methods reachable from it
+	 * - returns the set of reachable methods
+	 */
+	public Object visit(Program program) {
+		for (ICClass c: program.getClasses()){
+			if (c.getName().equals("Library")) continue;
+			for (Method m: c.getMethods()){
+				if (isMainMethod(m)) addReachable(m);
+			}
+		}
+
+		// visit reachable methods until no new method is found
+		while (!worklist.isEmpty()){
+			Method m = worklist.remove(worklist.size()-1);
+			currClassName = ((ClassSymbolTable) m.getEnclosingScope()).getMySymbol().getName();
+			m.accept(this);
+		}
+
+		return reachableMethods;
+	}
+
+	/**
+	 * ICClass visitor: never called
+	 */
+	public Object visit(ICClass icClass) {
+		return null;
+	}
+
+	/**
+	 * Field visitor: never called
+	 */
+	public Object visit(Field field) {
+		return null;
+	}
+
+	/**
+	 * VirtualMethod visitor: visit all statements
+	 */
+	public Object visit(VirtualMethod method) {
+		return methodsHelper(method);
+	}
+
+	/**
+	 * StaticMethod visitor: visit all statements
+	 */
+	public Object visit(StaticMethod method) {
+		return methodsHelper(method);
+	}
+
+	/**
+	 * method visit helper for static and virtual methods
+	 * @param method
+	 * @return
+	 */
+	public Object methodsHelper(Method method){
+		for (Statement s: method.getStatements()){
+			s.accept(this);
+		}
+		return null;
+	}
+
+	/**
+	 * LibraryMethod visitor: nothing to do
+	 */
+	public Object visit(LibraryMethod method) {
+		return null;
+	}
+
+	/**
+	 * Formal visitor: nothing to do
+	 */
+	public Object visit(Formal formal) {
+		return null;
+	}
+
+	/**
+	 * PrimitiveType visitor: nothing to do
+	 */
+	public Object visit(PrimitiveType type) {
+		return null;
+	}
+
+	/**
+	 * UserType visitor: nothing to do
+	 */
+	public Object visit(UserType type) {
+		return null;
+	}
+
+	/**
+	 * Assignment visitor: visit the variable and the assigned value
+	 */
+	public Object visit(Assignment assignment) {
+		assignment.getVariable().accept(this);
+		assignment.getAssignment().accept(this);
+		return null;
+	}
+
+	/**
+	 * CallStatement visitor: visit the call
+	 */
+	public Object visit(CallStatement callStatement) {
+		callStatement.getCall().accept(this);
+		return null;
+	}
+
+	/**
+	 * Return visitor: visit the returned value
+	 */
+	public Object visit(Return returnStatement) {
+		if (returnStatement.hasValue())
+			returnStatement.getValue().accept(this);
+		return null;
+	}
+
+	/**
+	 * If visitor: visit the condition and operations
+	 */
+	public Object visit(If ifStatement) {
+		ifStatement.getCondition().accept(this);
+		ifStatement.getOperation().accept(this);
+		if (ifStatement.hasElse())
+			ifStatement.getElseOperation().accept(this);
+		return null;
+	}
+
+	/**
+	 * While visitor: visit the condition and operation
+	 */
+	public Object visit(While whileStatement) {
+		whileStatement.getCondition().accept(this);
+		whileStatement.getOperation().accept(this);
+		return null;
+	}
+
+	/**
+	 * Break visitor: nothing to do
+	 */
+	public Object visit(Break breakStatement) {
+		return null;
+	}
+
+	/**
+	 * Continue visitor: nothing to do
+	 */
+	public Object visit(Continue continueStatement) {
+		return null;
+	}
+
+	/**
+	 * StatementsBlock visitor: visit all statements
+	 */
+	public Object visit(StatementsBlock statementsBlock) {
+		for (Statement s: statementsBlock.getStatements()){
+			s.accept(this);
+		}
+		return null;
+	}
+
+	/**
+	 * LocalVariable visitor: visit the init value
+	 */
+	public Object visit(LocalVariable localVariable) {
+		if (localVariable.hasInitValue())
+			localVariable.getInitValue().accept(this);
+		return null;
+	}
+
+	/**
+	 * VariableLocation visitor: visit the location
+	 */
+	public Object visit(VariableLocation location) {
+		if (location.isExternal())
+			location.getLocation().accept(this);
+		return null;
+	}
+
+	/**
+	 * ArrayLocation visitor: visit the array and the index
+	 */
+	public Object visit(ArrayLocation location) {
+		location.getArray().accept(this);
+		location.getIndex().accept(this);
+		return null;
+	}
+
+	/**
+	 * StaticCall visitor:
+	 * - visit the arguments
+	 * - the called method is reachable (unless it is a library method)
+	 */
+	public Object visit(StaticCall call) {
+		for (Expression arg: call.getArguments()){
+			arg.accept(this);
+		}
+		if (call.getClassName().equals("Library")) return null;
+
+		ClassLayout calledClassLayout = classLayouts.get(call.getClassName());
+		addReachable(calledClassLayout.getMethodFromName(call.getName()));
+		return null;
+	}
+
+	/**
+	 * VirtualCall visitor:
+	 * - visit the location and the arguments
+	 * - the called method of every instantiated subclass of the location's class is reachable
+	 */
+	public Object visit(VirtualCall call) {
+		String className = currClassName;
+		if (call.isExternal()){
+			call.getLocation().accept(this);
+			className = ((IC.TypeTable.ClassType) call.getLocation().getStaticType()).getName();
+		}
+		for (Expression arg: call.getArguments()){
+			arg.accept(this);
+		}
+
+		// resolve the call site for all classes instantiated so far
+		if (virtualCallSites.add(className+"."+call.getName())){
+			for (String instClassName: instantiatedClasses){
+				resolveVirtualCall(className, call.getName(), instClassName);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * This visitor: nothing to do
+	 */
+	public Object visit(This thisExpression) {
+		return null;
+	}
+
+	/**
+	 * NewClass visitor:
+	 * the class is instantiated, resolve all known virtual call sites for it
+	 */
+	public Object visit(NewClass newClass) {
+		if (instantiatedClasses.add(newClass.getName())){
+			for (String callSite: virtualCallSites){
+				int dot = callSite.indexOf('.');
+				resolveVirtualCall(callSite.substring(0, dot), callSite.substring(dot+1), newClass.getName());
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * NewArray visitor: visit the size
+	 */
+	public Object visit(NewArray newArray) {
+		newArray.getSize().accept(this);
+		return null;
+	}
+
+	/**
+	 * Length visitor: visit the array
+	 */
+	public Object visit(Length length) {
+		length.getArray().accept(this);
+		return null;
+	}
+
+	/**
+	 * MathBinaryOp visitor: visit the operands
+	 */
+	public Object visit(MathBinaryOp binaryOp) {
+		binaryOp.getFirstOperand().accept(this);
+		binaryOp.getSecondOperand().accept(this);
+		return null;
+	}
+
+	/**
+	 * LogicalBinaryOp visitor: visit the operands
+	 */
+	public Object visit(LogicalBinaryOp binaryOp) {
+		binaryOp.getFirstOperand().accept(this);
+		binaryOp.getSecondOperand().accept(this);
+		return null;
+	}
+
+	/**
+	 * MathUnaryOp visitor: visit the operand
+	 */
+	public Object visit(MathUnaryOp unaryOp) {
+		unaryOp.getOperand().accept(this);
+		return null;
+	}
+
+	/**
+	 * LogicalUnaryOp visitor: visit the operand
+	 */
+	public Object visit(LogicalUnaryOp unaryOp) {
+		unaryOp.getOperand().accept(this);
+		return null;
+	}
+
+	/**
+	 * Literal visitor: nothing to do
+	 */
+	public Object visit(Literal literal) {
+		return null;
+	}
+
+	/**
+	 * ExpressionBlock visitor: visit the expression
+	 */
+	public Object visit(ExpressionBlock expressionBlock) {
+		expressionBlock.getExpression().accept(this);
+		return null;
+	}
+
+	/////////////
+	// helpers //
+	/////////////
+
+	/**
+	 * marks the given method as reachable, and adds it to the worklist if it is new
+	 * @param m
+	 */
+	private void addReachable(Method m){
+		if (reachableMethods.add(m)) worklist.add(m);
+	}
+
+	/**
+	 * if the instantiated class is a subclass of the call's static class,
+	 * the method it dispatches to for the given method name is reachable
+	 * @param className: the static class of the call site
+	 * @param methodName
+	 * @param instClassName: the instantiated class
+	 */
+	private void resolveVirtualCall(String className, String methodName, String instClassName){
+		if (!isSubclass(instClassName, className)) return;
+		addReachable(classLayouts.get(instClassName).getMethodFromName(methodName));
+	}
+
+	/**
+	 * returns true iff the class subName is the class superName or one of its subclasses
+	 * @param subName
+	 * @param superName
+	 * @return
+	 */
+	public boolean isSubclass(String subName, String superName){
+		ICClass c = classLayouts.get(subName).getICClass();
+		while (true){
+			if (c.getName().equals(superName)) return true;
+			if (!c.hasSuperClass()) return false;
+			c = classLayouts.get(c.getSuperClassName()).getICClass();
+		}
+	}
+
+	/**
+	 * returns true iff the given method is the program's main method
+	 * @param method
+	 * @return
+	 */
+	public static boolean isMainMethod(Method method){
+		return method.isStatic() &&
+			method.getName().equals("main") &&
+			method.getType().getName().equals("void") &&
+			method.getFormals().size() == 1 &&
+			method.getFormals().get(0).getType().getFullName().equals("string[]");
+	}
+
+	//////////////
+	//	getters	//
+	//////////////
+
+	/**
+	 * returns true iff the given method is reachable from main
+	 * @param m
+	 * @return
+	 */
+	public boolean isReachable(Method m){
+		return reachableMethods.contains(m);
+	}
+
+	/**
+	 * getter for the set of methods reachable from main
+	 * @return
+	 */
+	public Set<Method> getReachableMethods(){
+		return reachableMethods;
+	}
+
+	/**
+	 * returns true iff the given class is instantiated in a reachable method
+	 * @param className
+	 * @return
+	 */
+	public boolean isInstantiated(String className){
+		return instantiatedClasses.contains(className);
+	}
+}
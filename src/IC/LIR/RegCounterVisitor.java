@@ -1,34 +1,84 @@
 package IC.LIR;
 
-import java.lang.reflect.Array;
-import java.util.Arrays;
+import java.util.*;
 
+import IC.BinaryOps;
 import IC.AST.*;
+import IC.SymbolTable.*;
 
 /**
  * Visitor to update the number of registers used in each AST node
  * for the Setti-Ulman optimization
+ * also updates the side effects of each AST node, so the translator reorders
+ * the evaluation of two expressions only when the reordering is not observable:
+ * - READS_HEAP: reads a field, an array element or an array length
+ * - WRITES: writes a field or an array element, or does I/O
+ * - MAY_FAIL: may stop the program with a runtime error
+ * side effects of calls are taken from the side effects summary of every method
+ * the call may be dispatched to, computed for the whole program
  */
 public class RegCounterVisitor implements Visitor {
 
-	
+	// side effects flags
+	public static final int READS_HEAP = 1;
+	public static final int WRITES = 2;
+	public static final int MAY_FAIL = 4;
+	public static final int ALL_EFFECTS = READS_HEAP | WRITES | MAY_FAIL;
+
+	// library methods that have no side effects (atos only reads the given array)
+	private static final Set<String> pureLibraryMethods =
+		new HashSet<String>(Arrays.asList("itos", "stoi", "stoa", "atos"));
+
+	// classes of the program by name
+	private Map<String,ICClass> classes = new HashMap<String,ICClass>();
+	// methods of the program by name, used to resolve the possible targets of virtual calls
+	private Map<String,List<Method>> methodsByName = new HashMap<String,List<Method>>();
+	// true iff the side effects summaries of the program's methods are known
+	private boolean hasSummaries = false;
+
 	/**
 	 * Program visitor:
+	 * - compute the side effects summaries of all methods (until a fixed point is reached)
 	 * - get the maximum number of required registers
 	 * - return the result
 	 */
 	public Object visit(Program program) {
-		int maxRequired = 0;
 		for (ICClass c: program.getClasses()){
-			// update maximum required registers
-			int classReq = (Integer) c.accept(this);
-			maxRequired = Math.max(classReq, maxRequired);
+			classes.put(c.getName(), c);
+			for (Method m: c.getMethods()){
+				if (!methodsByName.containsKey(m.getName()))
+					methodsByName.put(m.getName(), new ArrayList<Method>());
+				methodsByName.get(m.getName()).add(m);
+				m.setSideEffects(0);
+			}
 		}
+		hasSummaries = true;
+
+		int maxRequired;
+		boolean changed;
+		do {
+			maxRequired = 0;
+			changed = false;
+			for (ICClass c: program.getClasses()){
+				// keep the methods summaries of the previous round
+				Map<Method,Integer> prevEffects = new HashMap<Method,Integer>();
+				for (Method m: c.getMethods()) prevEffects.put(m, m.getSideEffects());
+
+				// update maximum required registers
+				int classReq = (Integer) c.accept(this);
+				maxRequired = Math.max(classReq, maxRequired);
+
+				for (Method m: c.getMethods()){
+					changed = changed || (prevEffects.get(m) != m.getSideEffects());
+				}
+			}
+		} while (changed);
+
 		program.setRequiredRegs(maxRequired);
 		return maxRequired;
 	}
 
-	
+
 	/**
 	 * ICClass visitor:
 	 * - get the maximum number of required registers
@@ -45,7 +95,7 @@ public class RegCounterVisitor implements Visitor {
 		return maxRequired;
 	}
 
-	
+
 	/**
 	 * Field visitor: always 0
 	 */
@@ -54,7 +104,7 @@ public class RegCounterVisitor implements Visitor {
 		return 0;
 	}
 
-	
+
 	/**
 	 * VirtualMethod visitor:
 	 * - get the maximum number of required registers
@@ -64,7 +114,7 @@ public class RegCounterVisitor implements Visitor {
 		return methodsHelper(method);
 	}
 
-	
+
 	/**
 	 * StaticMethod visitor:
 	 * - get the maximum number of required registers
@@ -73,33 +123,40 @@ public class RegCounterVisitor implements Visitor {
 	public Object visit(StaticMethod method) {
 		return methodsHelper(method);
 	}
-	
+
 	/**
 	 * method visit helper for static and virtual methods
+	 * the method's side effects summary is the union of its statements side effects
 	 * @param method
 	 * @return
 	 */
 	public Object methodsHelper(Method method){
 		int maxRequired = 0;
+		int effects = 0;
 		for (Statement s: method.getStatements()){
 			// update maximum required registers
 			int statReq = (Integer) s.accept(this);
 			maxRequired = Math.max(statReq, maxRequired);
+			effects |= s.getSideEffects();
 		}
 		method.setRequiredRegs(maxRequired);
+		method.setSideEffects(effects);
 		return maxRequired;
 	}
 
-	
+
 	/**
 	 * LibraryMethod visitor: always 0
+	 * side effects are known by the method's name
 	 */
 	public Object visit(LibraryMethod method) {
 		method.setRequiredRegs(0);
+		method.setSideEffects(pureLibraryMethods.contains(method.getName()) ?
+				(method.getName().equals("atos") ? READS_HEAP : 0) : WRITES);
 		return 0;
 	}
 
-	
+
 	/**
 	 * Formal visitor: always 0
 	 */
@@ -108,7 +165,7 @@ public class RegCounterVisitor implements Visitor {
 		return 0;
 	}
 
-	
+
 	/**
 	 * PrimitiveType visitor: always 0
 	 */
@@ -117,7 +174,7 @@ public class RegCounterVisitor implements Visitor {
 		return 0;
 	}
 
-	
+
 	/**
 	 * UserType visitor: always 0
 	 */
@@ -126,21 +183,26 @@ public class RegCounterVisitor implements Visitor {
 		return 0;
 	}
 
-	
+
 	/**
 	 * Assignment visitor:
 	 * - get the maximum number of required registers
 	 * - return the result
+	 * assigning a field or an array element writes the heap
 	 */
 	public Object visit(Assignment assignment) {
 		int res = getSettiUlmanVal(assignment.getAssignment().accept(this),
 									assignment.getVariable().accept(this));
 		assignment.setRequiredRegs(res);
+
+		int effects = assignment.getAssignment().getSideEffects() | assignment.getVariable().getSideEffects();
+		if (isHeapLocation(assignment.getVariable())) effects |= WRITES;
+		assignment.setSideEffects(effects);
 		return res;
-		
+
 	}
 
-	
+
 	/**
 	 * CallStatement visitor:
 	 * - get the maximum number of required registers
@@ -149,22 +211,29 @@ public class RegCounterVisitor implements Visitor {
 	public Object visit(CallStatement callStatement) {
 		int res = (Integer)callStatement.getCall().accept(this);
 		callStatement.setRequiredRegs(res);
+		callStatement.setSideEffects(callStatement.getCall().getSideEffects());
 		return res;
 	}
 
-	
+
 	/**
 	 * Return visitor:
 	 * - get the maximum number of required registers
 	 * - return the result
 	 */
 	public Object visit(Return returnStatement) {
-		int res = (Integer)returnStatement.getValue().accept(this);
+		int res = 0;
+		int effects = 0;
+		if (returnStatement.hasValue()){
+			res = (Integer)returnStatement.getValue().accept(this);
+			effects = returnStatement.getValue().getSideEffects();
+		}
 		returnStatement.setRequiredRegs(res);
+		returnStatement.setSideEffects(effects);
 		return res;
 	}
 
-	
+
 	/**
 	 * If visitor:
 	 * - get the maximum number of required registers
@@ -173,16 +242,19 @@ public class RegCounterVisitor implements Visitor {
 	public Object visit(If ifStatement) {
 		int res = Math.max((Integer)ifStatement.getCondition().accept(this),
 							(Integer)ifStatement.getOperation().accept(this));
+		int effects = ifStatement.getCondition().getSideEffects() | ifStatement.getOperation().getSideEffects();
 		if (ifStatement.hasElse()){
 			int elseRes = (Integer)ifStatement.getElseOperation().accept(this);
 			res = Math.max(res, elseRes);
+			effects |= ifStatement.getElseOperation().getSideEffects();
 		}
-		
+
 		ifStatement.setRequiredRegs(res);
+		ifStatement.setSideEffects(effects);
 		return res;
 	}
 
-	
+
 	/**
 	 * While visitor:
 	 * - get the maximum number of required registers
@@ -192,10 +264,12 @@ public class RegCounterVisitor implements Visitor {
 		int res = Math.max((Integer)whileStatement.getCondition().accept(this),
 							(Integer)whileStatement.getOperation().accept(this));
 		whileStatement.setRequiredRegs(res);
+		whileStatement.setSideEffects(whileStatement.getCondition().getSideEffects() |
+									whileStatement.getOperation().getSideEffects());
 		return res;
 	}
 
-	
+
 	/**
 	 * Break visitor: always 0
 	 */
@@ -204,7 +278,7 @@ public class RegCounterVisitor implements Visitor {
 		return 0;
 	}
 
-	
+
 	/**
 	 * Continue visitor: always 0
 	 */
@@ -213,7 +287,7 @@ public class RegCounterVisitor implements Visitor {
 		return 0;
 	}
 
-	
+
 	/**
 	 * StatementsBlock visitor:
 	 * - get the maximum number of required registers
@@ -221,16 +295,19 @@ public class RegCounterVisitor implements Visitor {
 	 */
 	public Object visit(StatementsBlock statementsBlock) {
 		int maxRequired = 0;
+		int effects = 0;
 		for (Statement s: statementsBlock.getStatements()){
 			// update maximum required registers
 			int statReq = (Integer) s.accept(this);
 			maxRequired = Math.max(statReq, maxRequired);
+			effects |= s.getSideEffects();
 		}
 		statementsBlock.setRequiredRegs(maxRequired);
+		statementsBlock.setSideEffects(effects);
 		return maxRequired;
 	}
 
-	
+
 	/**
 	 * LocalVariable visitor:
 	 * - get the maximum number of required registers
@@ -240,25 +317,33 @@ public class RegCounterVisitor implements Visitor {
 		int res = localVariable.hasInitValue() ?
 					(Integer)localVariable.getInitValue().accept(this) : 0;
 		localVariable.setRequiredRegs(res);
+		localVariable.setSideEffects(localVariable.hasInitValue() ?
+				localVariable.getInitValue().getSideEffects() : 0);
 		return res;
 	}
 
-	
+
 	/**
 	 * VariableLocation visitor:
 	 * - get the maximum number of required registers
 	 * - return the result
+	 * a field reads the heap, an external field may also fail its null reference check
 	 */
 	public Object visit(VariableLocation location) {
 		int res = 0;
+		int effects = 0;
 		if (location.isExternal()){
 			res = (Integer)location.getLocation().accept(this);
+			effects = location.getLocation().getSideEffects() | READS_HEAP | MAY_FAIL;
+		} else if (isHeapLocation(location)){
+			effects = READS_HEAP;
 		}
 		location.setRequiredRegs(res);
+		location.setSideEffects(effects);
 		return res;
 	}
 
-	
+
 	/**
 	 * ArrayLocation visitor:
 	 * - get the maximum number of required registers
@@ -268,67 +353,93 @@ public class RegCounterVisitor implements Visitor {
 		int res = getSettiUlmanVal(location.getArray().accept(this),
 									location.getIndex().accept(this));
 		location.setRequiredRegs(res);
+		location.setSideEffects(location.getArray().getSideEffects() | location.getIndex().getSideEffects() |
+				READS_HEAP | MAY_FAIL);
 		return res;
 	}
 
-	
+
 	/**
 	 * StaticCall visitor:
-	 * - get the maximum number of required registers
+	 * - get the maximum number of required registers:
+	 *   the i-th argument is evaluated while i registers hold the previous arguments
 	 * - return the result
+	 * the call's side effects are the called method's side effects summary
 	 */
 	public Object visit(StaticCall call) {
-		// returns MAX_VALUE always (to keep original order where called)
-		
-		// get all arguments required registers
-		for (int i=0; i<call.getArguments().size(); i++){
-			call.getArguments().get(i).accept(this);
+		int res = argumentsHelper(call, 0);
+		int effects = call.getSideEffects();
+
+		if (!hasSummaries){
+			effects |= ALL_EFFECTS;
+		} else if (call.getClassName().equals("Library")){
+			effects |= pureLibraryMethods.contains(call.getName()) ?
+					(call.getName().equals("atos") ? READS_HEAP : 0) : WRITES;
+		} else {
+			Method method = getStaticMethod(call.getClassName(), call.getName());
+			effects |= (method == null) ? ALL_EFFECTS : method.getSideEffects();
 		}
-		int res = Integer.MAX_VALUE;
-		
+
 		call.setRequiredRegs(res);
+		call.setSideEffects(effects);
 		return res;
-		
+
 	}
 
-	
+
 	/**
 	 * VirtualCall visitor:
-	 * - get the maximum number of required registers
+	 * - get the maximum number of required registers:
+	 *   the location is evaluated first, the i-th argument is evaluated while
+	 *   i+1 registers hold the location and the previous arguments
 	 * - return the result
+	 * the call's side effects are the side effects summaries of all the methods
+	 * it may be dispatched to, an external call may also fail its null reference check
 	 */
 	public Object visit(VirtualCall call) {
-		// get all arguments required registers
-		for (int i=0; i<call.getArguments().size(); i++){
-			call.getArguments().get(i).accept(this);
+		int res = 0;
+		int effects = 0;
+		if (call.isExternal()){
+			res = (Integer) call.getLocation().accept(this);
+			effects = call.getLocation().getSideEffects() | MAY_FAIL;
 		}
-		if (call.isExternal()) call.getLocation().accept(this);
-		
-		// set the value in the VirtualCall ASTNode as MAX_INT, for keeping the original
-		// order of virtual calls
-		call.setRequiredRegs(Integer.MAX_VALUE);
-		return Integer.MAX_VALUE;
+		res = Math.max(res, argumentsHelper(call, 1));
+		effects |= call.getSideEffects();
+
+		if (!hasSummaries || !methodsByName.containsKey(call.getName())){
+			effects |= ALL_EFFECTS;
+		} else {
+			for (Method m: methodsByName.get(call.getName())){
+				effects |= m.getSideEffects();
+			}
+		}
+
+		call.setRequiredRegs(res);
+		call.setSideEffects(effects);
+		return res;
 	}
-	
-	
+
+
 	/**
 	 * This visitor: always 0
 	 */
 	public Object visit(This thisExpression) {
 		thisExpression.setRequiredRegs(0);
+		thisExpression.setSideEffects(0);
 		return 0;
 	}
 
-	
+
 	/**
 	 * NewClass visitor: always 0
 	 */
 	public Object visit(NewClass newClass) {
 		newClass.setRequiredRegs(0);
+		newClass.setSideEffects(0);
 		return 0;
 	}
 
-	
+
 	/**
 	 * NewArray visitor:
 	 * - get the maximum number of required registers
@@ -337,10 +448,11 @@ public class RegCounterVisitor implements Visitor {
 	public Object visit(NewArray newArray) {
 		int res = (Integer)newArray.getSize().accept(this);
 		newArray.setRequiredRegs(res);
+		newArray.setSideEffects(newArray.getSize().getSideEffects() | MAY_FAIL);
 		return res;
 	}
 
-	
+
 	/**
 	 * Length visitor:
 	 * - get the maximum number of required registers
@@ -349,36 +461,44 @@ public class RegCounterVisitor implements Visitor {
 	public Object visit(Length length) {
 		int res = (Integer)length.getArray().accept(this);
 		length.setRequiredRegs(res);
+		length.setSideEffects(length.getArray().getSideEffects() | READS_HEAP | MAY_FAIL);
 		return res;
 	}
 
-	
+
 	/**
 	 * MathBinaryOp visitor:
 	 * - get the maximum number of required registers
 	 * - return the result
+	 * division and modulo may fail, unless the divisor is a non-zero constant
 	 */
 	public Object visit(MathBinaryOp binaryOp) {
-		int res = getSettiUlmanVal(binaryOp.getFirstOperand().accept(this),
-									binaryOp.getSecondOperand().accept(this));
+		int res = getOperandsVal(binaryOp.getFirstOperand(), binaryOp.getSecondOperand());
 		binaryOp.setRequiredRegs(res);
+
+		int effects = binaryOp.getFirstOperand().getSideEffects() | binaryOp.getSecondOperand().getSideEffects();
+		if (binaryOp.getOperator() == BinaryOps.DIVIDE || binaryOp.getOperator() == BinaryOps.MOD){
+			Integer divisor = AlgebraicSimplifier.getConstantValue(binaryOp.getSecondOperand());
+			if (divisor == null || divisor == 0) effects |= MAY_FAIL;
+		}
+		binaryOp.setSideEffects(effects);
 		return res;
 	}
 
-	
+
 	/**
 	 * LogicalBinaryOp visitor:
 	 * - get the maximum number of required registers
 	 * - return the result
 	 */
 	public Object visit(LogicalBinaryOp binaryOp) {
-		int res = getSettiUlmanVal(binaryOp.getFirstOperand().accept(this),
-				binaryOp.getSecondOperand().accept(this));
+		int res = getOperandsVal(binaryOp.getFirstOperand(), binaryOp.getSecondOperand());
 		binaryOp.setRequiredRegs(res);
+		binaryOp.setSideEffects(binaryOp.getFirstOperand().getSideEffects() | binaryOp.getSecondOperand().getSideEffects());
 		return res;
 	}
 
-	
+
 	/**
 	 * MathUnaryOp visitor:
 	 * - get the maximum number of required registers
@@ -387,10 +507,11 @@ public class RegCounterVisitor implements Visitor {
 	public Object visit(MathUnaryOp unaryOp) {
 		int res = (Integer)unaryOp.getOperand().accept(this);
 		unaryOp.setRequiredRegs(res);
+		unaryOp.setSideEffects(unaryOp.getOperand().getSideEffects());
 		return res;
 	}
 
-	
+
 	/**
 	 * LogicalUnaryOp visitor:
 	 * - get the maximum number of required registers
@@ -399,19 +520,21 @@ public class RegCounterVisitor implements Visitor {
 	public Object visit(LogicalUnaryOp unaryOp) {
 		int res = (Integer)unaryOp.getOperand().accept(this);
 		unaryOp.setRequiredRegs(res);
+		unaryOp.setSideEffects(unaryOp.getOperand().getSideEffects());
 		return res;
 	}
 
-	
+
 	/**
 	 * Literal visitor: always 0
 	 */
 	public Object visit(Literal literal) {
 		literal.setRequiredRegs(0);
+		literal.setSideEffects(0);
 		return 0;
 	}
 
-	
+
 	/**
 	 * ExpressionBlock visitor:
 	 * - get the maximum number of required registers
@@ -420,13 +543,14 @@ public class RegCounterVisitor implements Visitor {
 	public Object visit(ExpressionBlock expressionBlock) {
 		int res = (Integer)expressionBlock.getExpression().accept(this);
 		expressionBlock.setRequiredRegs(res);
+		expressionBlock.setSideEffects(expressionBlock.getExpression().getSideEffects());
 		return res;
 	}
-	
+
 	/////////////
 	// helpers //
 	/////////////
-	
+
 	/**
 	 * returns the number of registers used by the Setti-Ulman algorithm
 	 * for the given 2 values
@@ -434,9 +558,90 @@ public class RegCounterVisitor implements Visitor {
 	public static int getSettiUlmanVal(Object node1, Object node2){
 		int n1 = (Integer) node1;
 		int n2 = (Integer) node2;
-		if (n1 == n2) return (n1 == Integer.MAX_VALUE) ? Integer.MAX_VALUE : n1 + 1;
+		if (n1 == n2) return n1 + 1;
 		else return Math.max(n1, n2);
 	}
-	
+
+	/**
+	 * returns the number of registers used to evaluate the 2 operands of a binary operation:
+	 * by the Setti-Ulman algorithm if they may be evaluated in any order,
+	 * or for evaluating them in their original order otherwise
+	 * @param operand1
+	 * @param operand2
+	 * @return
+	 */
+	private int getOperandsVal(Expression operand1, Expression operand2){
+		int n1 = (Integer) operand1.accept(this);
+		int n2 = (Integer) operand2.accept(this);
+		if (n1 >= n2 || canReorder(operand1.getSideEffects(), operand2.getSideEffects()))
+			return getSettiUlmanVal(n1, n2);
+		return n2 + 1;
+	}
+
+	/**
+	 * visits the arguments of a call and returns the number of registers used to evaluate them,
+	 * where the first argument is evaluated into the register at the given offset
+	 * and every argument is kept in a register while the next ones are evaluated
+	 * (arguments side effects are added to the call's side effects)
+	 * @param call
+	 * @param firstArgOffset
+	 * @return
+	 */
+	private int argumentsHelper(Call call, int firstArgOffset){
+		int res = 0;
+		int effects = 0;
+		for (int i = 0; i < call.getArguments().size(); i++){
+			Expression arg = call.getArguments().get(i);
+			res = Math.max(res, firstArgOffset + i + (Integer) arg.accept(this));
+			effects |= arg.getSideEffects();
+		}
+		call.setSideEffects(effects);
+		return res;
+	}
+
+	/**
+	 * returns true iff two expressions with the given side effects may be evaluated
+	 * in any order without observable difference:
+	 * - none of them writes what the other one reads or writes
+	 * - they do not both fail (the program would fail with a different error)
+	 * - one does not fail after the other one did I/O
+	 * @param effects1
+	 * @param effects2
+	 * @return
+	 */
+	public static boolean canReorder(int effects1, int effects2){
+		if ((effects1 & WRITES) != 0 && effects2 != 0) return false;
+		if ((effects2 & WRITES) != 0 && effects1 != 0) return false;
+		return (effects1 & MAY_FAIL) == 0 || (effects2 & MAY_FAIL) == 0;
+	}
+
+	/**
+	 * returns true iff the given location is a field or an array element
+	 * @param location
+	 * @return
+	 */
+	private static boolean isHeapLocation(Location location){
+		if (location instanceof ArrayLocation) return true;
+		VariableLocation varLocation = (VariableLocation) location;
+		return varLocation.isExternal() ||
+			((BlockSymbolTable) varLocation.getEnclosingScope()).isVarField(varLocation.getName());
+	}
+
+	/**
+	 * returns the static method with the given name in the given class or its super classes
+	 * @param className
+	 * @param methodName
+	 * @return
+	 */
+	private Method getStaticMethod(String className, String methodName){
+		ICClass c = classes.get(className);
+		while (c != null){
+			for (Method m: c.getMethods()){
+				if (m.getName().equals(methodName)) return m;
+			}
+			c = c.hasSuperClass() ? classes.get(c.getSuperClassName()) : null;
+		}
+		return null;
+	}
 
 }
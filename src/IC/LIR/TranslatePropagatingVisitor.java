@@ -3,7 +3,6 @@ package IC.LIR;
 import IC.BinaryOps;
 import IC.AST.*;
 import IC.SymbolTable.*;
-import IC.Visitors.DefTypeSemanticChecker;
 import IC.LIR.LIRFlagEnum;
 import java.util.*;
 
@@ -23,8 +22,7 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 	}
 	
 	// runtime checks
-	protected String runtimeChecks =
-		"# Runtime checks:\n" +
+	protected String checkNullRefCode =
 		"__checkNullRef:\n" +
 		"Move a,Rc1\n" +
 		"Compare 0,Rc1\n" +
@@ -32,8 +30,9 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 		"Return 9999\n" +
 		"__checkNullRef_err:\n" +
 		"Library __println(str_null_ref),Rdummy\n" +
-		"Jump _error_exit\n\n" +
-		
+		"Jump _error_exit\n\n";
+	
+	protected String checkArrayAccessCode =
 		"__checkArrayAccess:\n" +
 		"Move a,Rc1\n" +
 		"Move i,Rc2\n" +
@@ -45,8 +44,9 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 		"Return 9999\n" +
 		"__checkArrayAccess_err:\n" +
 		"Library __println(str_array_access),Rdummy\n" +
-		"Jump _error_exit\n\n" +
-		
+		"Jump _error_exit\n\n";
+	
+	protected String checkSizeCode =
 		"__checkSize:\n" +
 		"Move n,Rc1\n" +
 		"Compare 0,Rc1\n" +
@@ -54,8 +54,9 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 		"Return 9999\n" +
 		"__checkSize_err:\n" +
 		"Library __println(str_size),Rdummy\n" +
-		"Jump _error_exit\n\n" +
-		
+		"Jump _error_exit\n\n";
+	
+	protected String checkZeroCode =
 		"__checkZero:\n" +
 		"Move b,Rc1\n" +
 		"Compare 0,Rc1\n" +
@@ -64,6 +65,19 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 		"__checkZero_err:\n" +
 		"Library __println(str_zero),Rdummy\n" +
 		"Jump _error_exit\n\n";
+	
+	protected String runtimeChecks =
+		"# Runtime checks:\n" +
+		checkNullRefCode +
+		checkArrayAccessCode +
+		checkSizeCode +
+		checkZeroCode;
+	
+	// runtime checks error messages strings
+	protected String nullRefErrorString = "str_null_ref: \"Runtime Error: Null pointer dereference!\"\n";
+	protected String arrayAccessErrorString = "str_array_access: \"Runtime Error: Array index out of bounds!\"\n";
+	protected String sizeErrorString = "str_size: \"Runtime Error: Array allocation with negative array size!\"\n";
+	protected String zeroErrorString = "str_zero: \"Runtime Error: Division by zero!\"\n";
 		
 	// current class
 	protected String currClassName = "";
@@ -83,6 +97,11 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 	protected int labelCounter = 0;
 	// identifier for current while
 	protected int currWhileID = -1;
+	// when true, every statement's translation is preceded by a line annotation (see LIRLoader)
+	protected boolean isAnnotatingLines = false;
+	// code of the method currently translated: every statement and expression visitor appends its code to it,
+	// so nested expressions are not copied again at every level
+	protected StringBuilder code = new StringBuilder();
 	
 	/**
 	 * Program propagating visitor:
@@ -124,45 +143,45 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 		}
 		
 		// return LIR representation for the IC program
-		String lirBuffer = "";
+		StringBuilder lirBuffer = new StringBuilder();
 		
 		// (1) insert all string literals
-		lirBuffer += "# string literals\n";
+		lirBuffer.append("# string literals\n");
 		// insert error messages strings
-		lirBuffer += "str_null_ref: \"Runtime Error: Null pointer dereference!\"\n";
-		lirBuffer += "str_array_access: \"Runtime Error: Array index out of bounds!\"\n";
-		lirBuffer += "str_size: \"Runtime Error: Array allocation with negative array size!\"\n";
-		lirBuffer += "str_zero: \"Runtime Error: Division by zero!\"\n";
+		lirBuffer.append(nullRefErrorString);
+		lirBuffer.append(arrayAccessErrorString);
+		lirBuffer.append(sizeErrorString);
+		lirBuffer.append(zeroErrorString);
 		
 		for (String strLiteral: this.stringLiterals.keySet()){
-			lirBuffer += this.getStringLiterals().get(strLiteral)+": \""+strLiteral+"\"\n";
+			lirBuffer.append(this.getStringLiterals().get(strLiteral)+": \""+strLiteral+"\"\n");
 		}
-		lirBuffer += "\n";
+		lirBuffer.append("\n");
 		
 		// (2) insert class dispatch tables
-		lirBuffer += "# class dispatch tables\n";
+		lirBuffer.append("# class dispatch tables\n");
 		for (String classDisTab: this.classDispatchTable){
-			lirBuffer += classDisTab+"\n";
+			lirBuffer.append(classDisTab+"\n");
 		}
-		lirBuffer += "\n";
+		lirBuffer.append("\n");
 		
 		// (3) insert all methods
 		// insert runtime check methods
-		lirBuffer += runtimeChecks;
+		lirBuffer.append(runtimeChecks);
 		// insert all user methods
-		lirBuffer += "# methods\n";
+		lirBuffer.append("# methods\n");
 		for (String methodStr: this.methods){
-			lirBuffer += methodStr+"\n";
+			lirBuffer.append(methodStr+"\n");
 		}
 		
 		// (4) insert main method
-		lirBuffer += "# main method\n";
-		lirBuffer += this.mainMethod;
+		lirBuffer.append("# main method\n");
+		lirBuffer.append(this.mainMethod);
 		
 		// (5) insert error exit label
-		lirBuffer += "\n_error_exit:\n";
+		lirBuffer.append("\n_error_exit:\n");
 		
-		return new LIRUpType(lirBuffer, LIRFlagEnum.EXPLICIT,"");
+		return new LIRUpType(lirBuffer.toString(), LIRFlagEnum.EXPLICIT,"");
 	}
 
 	/**
@@ -185,14 +204,14 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 
 		// fields: no need for recursive calls
 		
-		return new LIRUpType("", LIRFlagEnum.EXPLICIT,"");
+		return new LIRUpType(LIRFlagEnum.EXPLICIT,"");
 	}
 
 	/**
 	 * Field propagating visitor: never called
 	 */
 	public LIRUpType visit(Field field, Integer d){
-		return new LIRUpType("", LIRFlagEnum.EXPLICIT,"");
+		return new LIRUpType(LIRFlagEnum.EXPLICIT,"");
 	}
 
 	/**
@@ -204,7 +223,7 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 	 */
 	public LIRUpType visit(VirtualMethod method, Integer d){
 		methodVisitHelper(method, d, false);
-		return new LIRUpType("", LIRFlagEnum.EXPLICIT,"");
+		return new LIRUpType(LIRFlagEnum.EXPLICIT,"");
 	}
 
 	/**
@@ -221,7 +240,7 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 						 method.getFormals().size() == 1 &&
 						 method.getFormals().get(0).getType().getFullName().equals("string[]");
 		methodVisitHelper(method, d, isMain);
-		return new LIRUpType("", LIRFlagEnum.EXPLICIT,"");
+		return new LIRUpType(LIRFlagEnum.EXPLICIT,"");
 	}
 	
 	/**
@@ -233,33 +252,33 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 	 * @return
 	 */
 	public LIRUpType methodVisitHelper(Method method, Integer d, boolean isMain){
-		String methodLIRCode = "";
+		code = new StringBuilder();
 		
 		// create method label
 		String methodLabel = "_";
 		methodLabel += isMain ? "ic" : ((ClassSymbolTable) method.getEnclosingScope()).getMySymbol().getName();
 		methodLabel += "_"+method.getName();
 		
-		methodLIRCode += methodLabel+":\n";
+		code.append(methodLabel+":\n");
 		
 		// insert method's code recursively
 		for (Statement s: method.getStatements()){
-			methodLIRCode += s.accept(this,0).getLIRCode();
+			translateStatement(s, 0);
 		}
 		
 		// if method is void (but not main), concatenate a "return 9999"
 		if(method.getType().getName().equals("void") && !isMain){
-			methodLIRCode += "Return 9999\n";
+			code.append("Return 9999\n");
 		}
 		
 		// update methods list / main method
 		if (isMain){
-			mainMethod = methodLIRCode;
+			mainMethod = code.toString();
 		} else {
-			methods.add(methodLIRCode);
+			methods.add(code.toString());
 		}
 		
-		return new LIRUpType("", LIRFlagEnum.EXPLICIT,"");
+		return new LIRUpType(LIRFlagEnum.EXPLICIT,"");
 	}
 
 	/**
@@ -267,28 +286,28 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 	 * does nothing since its LIR implementation is provided externally
 	 */
 	public LIRUpType visit(LibraryMethod method, Integer d){
-		return new LIRUpType("", LIRFlagEnum.EXPLICIT,"");
+		return new LIRUpType(LIRFlagEnum.EXPLICIT,"");
 	}
 
 	/**
 	 * Formal propagating visitor: never called
 	 */
 	public LIRUpType visit(Formal formal, Integer d){
-		return new LIRUpType("", LIRFlagEnum.EXPLICIT,"");
+		return new LIRUpType(LIRFlagEnum.EXPLICIT,"");
 	}
 
 	/**
 	 * PrimitiveType propagating visitor: never called
 	 */
 	public LIRUpType visit(PrimitiveType type, Integer d){
-		return new LIRUpType("", LIRFlagEnum.EXPLICIT,"");
+		return new LIRUpType(LIRFlagEnum.EXPLICIT,"");
 	}
 
 	/**
 	 * UserType propagating visitor: never called
 	 */
 	public LIRUpType visit(UserType type, Integer d){
-		return new LIRUpType("", LIRFlagEnum.EXPLICIT,"");
+		return new LIRUpType(LIRFlagEnum.EXPLICIT,"");
 	}
 
 	/**
@@ -297,23 +316,19 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 	 * - concatenate the translations to the LIR assignment instruction
 	 */
 	public LIRUpType visit(Assignment assignment, Integer d){
-		String tr = "";
-		
 		// translate assignment
 		LIRUpType assign = assignment.getAssignment().accept(this, d);
-		tr += assign.getLIRCode();
-		tr += getMoveCommand(assign.getLIRInstType());
-		tr += assign.getTargetRegister()+",R"+d+"\n";
+		code.append(getMoveCommand(assign.getLIRInstType()));
+		code.append(assign.getTargetRegister()+",R"+d+"\n");
 		
 		// translate variable
 		LIRUpType var = assignment.getVariable().accept(this, d+1);
-		tr += var.getLIRCode();
 				
 		// handle all variable cases
-		tr += getMoveCommand(var.getLIRInstType());
-		tr += "R"+d+","+var.getTargetRegister()+"\n";
+		code.append(getMoveCommand(var.getLIRInstType()));
+		code.append("R"+d+","+var.getTargetRegister()+"\n");
 		
-		return new LIRUpType(tr, LIRFlagEnum.STATEMENT,"");
+		return new LIRUpType(LIRFlagEnum.STATEMENT,"");
 	}
 
 	/**
@@ -342,17 +357,12 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 	 * - concatenate the translations to the LIR location update instruction
 	 */
 	public LIRUpType visit(VariableLocation location, Integer d){
-		String tr = "";
-		
 		if (location.isExternal()){
 			// translate the location
 			LIRUpType loc = location.getLocation().accept(this, d);
-			// add code to translation
-			tr += loc.getLIRCode();
 			
 			// get the ClassLayout for the location
-			IC.TypeTable.Type locationClassType = 
-				(IC.TypeTable.Type)location.getLocation().accept(new IC.Visitors.DefTypeSemanticChecker(global));
+			IC.TypeTable.Type locationClassType = location.getLocation().getStaticType();
 			ClassLayout locationClassLayout = classLayouts.get(locationClassType.getName());
 			
 			// get the field offset for the variable
@@ -362,14 +372,14 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 			int fieldOffset = locationClassLayout.getFieldOffset(f);
 			
 			// translate this step
-			tr += getMoveCommand(loc.getLIRInstType());
+			code.append(getMoveCommand(loc.getLIRInstType()));
 			String locReg = "R"+d;
-			tr += loc.getTargetRegister()+","+locReg+"\n";
+			code.append(loc.getTargetRegister()+","+locReg+"\n");
 			
 			// check external location null reference
-			tr += "StaticCall __checkNullRef(a=R"+d+"),Rdummy\n";
+			code.append("StaticCall __checkNullRef(a=R"+d+"),Rdummy\n");
 			
-			return new LIRUpType(tr, LIRFlagEnum.EXT_VAR_LOCATION, locReg+"."+fieldOffset);
+			return new LIRUpType(LIRFlagEnum.EXT_VAR_LOCATION, locReg+"."+fieldOffset);
 		}else{
 			// check if the variable is a field
 			if (((BlockSymbolTable)location.getEnclosingScope()).isVarField(location.getName())){
@@ -383,15 +393,15 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 				// get the field offset
 				int fieldOffset = locationClassLayout.getFieldOffset(f);
 				
-				tr += "Move this,R"+d+"\n";
+				code.append("Move this,R"+d+"\n");
 				String tgtLoc = "R"+d+"."+fieldOffset;
 				
 				// translate only the variable name
-				return new LIRUpType(tr,LIRFlagEnum.EXT_VAR_LOCATION,tgtLoc);
+				return new LIRUpType(LIRFlagEnum.EXT_VAR_LOCATION,tgtLoc);
 
 			} else {
 				// translate only the variable name
-				return new LIRUpType("",LIRFlagEnum.LOC_VAR_LOCATION,location.getNameDepth());
+				return new LIRUpType(LIRFlagEnum.LOC_VAR_LOCATION,location.getNameDepth());
 			}
 		}
 	}
@@ -402,31 +412,27 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 	 * - concatenate the translations to the LIR array location update instruction
 	 */
 	public LIRUpType visit(ArrayLocation location, Integer d){
-		String tr = "";
-		
 		// translate array
 		LIRUpType array = location.getArray().accept(this, d);
-		tr += array.getLIRCode();
 		
 		// move result to a single register
-		tr += getMoveCommand(array.getLIRInstType());
-		tr += array.getTargetRegister()+",R"+d+"\n";
+		code.append(getMoveCommand(array.getLIRInstType()));
+		code.append(array.getTargetRegister()+",R"+d+"\n");
 		
 		// check array null reference
-		tr += "StaticCall __checkNullRef(a=R"+d+"),Rdummy\n";
+		code.append("StaticCall __checkNullRef(a=R"+d+"),Rdummy\n");
 		
 		// translate index
 		LIRUpType index = location.getIndex().accept(this, d+1);
-		tr += index.getLIRCode();
 		
 		// move result to a single register
-		tr += getMoveCommand(index.getLIRInstType());
-		tr += index.getTargetRegister()+",R"+(d+1)+"\n";
+		code.append(getMoveCommand(index.getLIRInstType()));
+		code.append(index.getTargetRegister()+",R"+(d+1)+"\n");
 		
 		// check array access
-		tr += "StaticCall __checkArrayAccess(a=R"+d+",i=R"+(d+1)+"),Rdummy\n";
+		code.append("StaticCall __checkArrayAccess(a=R"+d+",i=R"+(d+1)+"),Rdummy\n");
 		
-		return new LIRUpType(tr, LIRFlagEnum.ARR_LOCATION,"R"+d+"[R"+(d+1)+"]");
+		return new LIRUpType(LIRFlagEnum.ARR_LOCATION,"R"+d+"[R"+(d+1)+"]");
 	}
 
 	/**
@@ -443,16 +449,20 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 	 * - concatenate the translations to the LIR return statement update instruction
 	 */
 	public LIRUpType visit(Return returnStatement, Integer d){
-		String tr = "";
 		if (returnStatement.hasValue()){
 			LIRUpType returnVal = returnStatement.getValue().accept(this, d);
-			tr += returnVal.getLIRCode();
-			tr += "Return "+returnVal.getTargetRegister()+"\n";
+			if (returnVal.getLIRInstType() == LIRFlagEnum.EXT_VAR_LOCATION || returnVal.getLIRInstType() == LIRFlagEnum.ARR_LOCATION){
+				// a field or an array element is not a Return operand, move it to a register first
+				code.append(getMoveCommand(returnVal.getLIRInstType()));
+				code.append(returnVal.getTargetRegister()+",R"+d+"\n");
+				returnVal.setTargetRegister("R"+d);
+			}
+			code.append("Return "+returnVal.getTargetRegister()+"\n");
 		} else {
-			tr += "Return 9999\n";
+			code.append("Return 9999\n");
 		}
 		
-		return new LIRUpType(tr, LIRFlagEnum.STATEMENT, "");
+		return new LIRUpType(LIRFlagEnum.STATEMENT, "");
 	}
 
 	/**
@@ -461,37 +471,33 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 	 * - concatenate the translations to the LIR if statement update instruction
 	 */
 	public LIRUpType visit(If ifStatement, Integer d){
-		String tr = "";
 		String falseLabel = "_false_label"+labelCounter;
 		String endLabel = "_end_label"+(labelCounter++);
 		
 		// recursive call the condition expression
 		LIRUpType condExp = ifStatement.getCondition().accept(this, d);
-		tr += condExp.getLIRCode();
-		tr += getMoveCommand(condExp.getLIRInstType());
-		tr += condExp.getTargetRegister()+",R"+d+"\n";
+		code.append(getMoveCommand(condExp.getLIRInstType()));
+		code.append(condExp.getTargetRegister()+",R"+d+"\n");
 		
 		// check condition
-		tr += "Compare 0,R"+d+"\n";
-		if (ifStatement.hasElse()) tr += "JumpTrue "+falseLabel+"\n";
-		else tr += "JumpTrue "+endLabel+"\n";
+		code.append("Compare 0,R"+d+"\n");
+		if (ifStatement.hasElse()) code.append("JumpTrue "+falseLabel+"\n");
+		else code.append("JumpTrue "+endLabel+"\n");
 		
 		// recursive call to the then statement
-		LIRUpType thenStat = ifStatement.getOperation().accept(this, d);
-		tr += thenStat.getLIRCode();
+		translateStatement(ifStatement.getOperation(), d);
 		
 		if (ifStatement.hasElse()){
-			tr += "Jump "+endLabel+"\n";
+			code.append("Jump "+endLabel+"\n");
 
 			// recursive call to the else statement
-			tr += falseLabel+":\n";
-			LIRUpType elseStat = ifStatement.getElseOperation().accept(this, d);
-			tr += elseStat.getLIRCode();
+			code.append(falseLabel+":\n");
+			translateStatement(ifStatement.getElseOperation(), d);
 		}
 		
-		tr += endLabel+":\n";
+		code.append(endLabel+":\n");
 		
-		return new LIRUpType(tr, LIRFlagEnum.STATEMENT,"");
+		return new LIRUpType(LIRFlagEnum.STATEMENT,"");
 	}
 
 	/**
@@ -504,29 +510,27 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 		int prevWhileID = currWhileID;
 		currWhileID = labelCounter;
 		
-		String tr = "";
 		String whileLabel = "_while_cond_label"+labelCounter;
 		String endLabel = "_end_label"+(labelCounter++);
 		
-		tr += whileLabel+":\n";
+		code.append(whileLabel+":\n");
 		// recursive call to condition
 		LIRUpType condExp = whileStatement.getCondition().accept(this, d);
-		tr += condExp.getLIRCode();
-		tr += getMoveCommand(condExp.getLIRInstType());
-		tr += condExp.getTargetRegister()+",R"+d+"\n";
+		code.append(getMoveCommand(condExp.getLIRInstType()));
+		code.append(condExp.getTargetRegister()+",R"+d+"\n");
 		
 		// check condition
-		tr += "Compare 0,R"+d+"\n";
-		tr += "JumpTrue "+endLabel+"\n";
+		code.append("Compare 0,R"+d+"\n");
+		code.append("JumpTrue "+endLabel+"\n");
 		
 		// recursive call to operation statement
-		tr += whileStatement.getOperation().accept(this,d).getLIRCode();
-		tr += "Jump "+whileLabel+"\n";
-		tr += endLabel+":\n";
+		translateStatement(whileStatement.getOperation(), d);
+		code.append("Jump "+whileLabel+"\n");
+		code.append(endLabel+":\n");
 		
 		// set while id back to previous value
 		currWhileID = prevWhileID;
-		return new LIRUpType(tr, LIRFlagEnum.STATEMENT,"");
+		return new LIRUpType(LIRFlagEnum.STATEMENT,"");
 	}
 
 	/**
@@ -534,8 +538,8 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 	 * - return the break statement
 	 */
 	public LIRUpType visit(Break breakStatement, Integer d){
-		String tr = "Jump _end_label"+currWhileID+"\n";
-		return new LIRUpType(tr, LIRFlagEnum.STATEMENT,"");
+		code.append("Jump _end_label"+currWhileID+"\n");
+		return new LIRUpType(LIRFlagEnum.STATEMENT,"");
 	}
 
 	/**
@@ -543,8 +547,8 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 	 * - return the continue statement
 	 */
 	public LIRUpType visit(Continue continueStatement, Integer d){
-		String tr = "Jump _while_cond_label"+currWhileID+"\n";
-		return new LIRUpType(tr, LIRFlagEnum.STATEMENT,"");
+		code.append("Jump _while_cond_label"+currWhileID+"\n");
+		return new LIRUpType(LIRFlagEnum.STATEMENT,"");
 	}
 
 	/**
@@ -553,14 +557,12 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 	 * - concatenate the translations to the LIR code
 	 */
 	public LIRUpType visit(StatementsBlock statementsBlock, Integer d){
-		String tr = "";
-		
 		// recursive call to all statements in the block
 		for (Statement s: statementsBlock.getStatements()){
-			tr += s.accept(this, d).getLIRCode();
+			translateStatement(s, d);
 		}
 		
-		return new LIRUpType(tr, LIRFlagEnum.STATEMENT,"");
+		return new LIRUpType(LIRFlagEnum.STATEMENT,"");
 	}
 
 	/**
@@ -569,18 +571,15 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 	 * - concatenate the translations to the LIR local variable statement instruction
 	 */
 	public LIRUpType visit(LocalVariable localVariable, Integer d){
-		String tr = "";
-		
 		if (localVariable.hasInitValue()){
 			LIRUpType initVal = localVariable.getInitValue().accept(this, d);
-			tr += initVal.getLIRCode();
-			tr += getMoveCommand(initVal.getLIRInstType());
-			tr += initVal.getTargetRegister()+",R"+d+"\n";
+			code.append(getMoveCommand(initVal.getLIRInstType()));
+			code.append(initVal.getTargetRegister()+",R"+d+"\n");
 			// move register into the local var name
-			tr += "Move R"+d+","+localVariable.getNameDepth()+"\n";
+			code.append("Move R"+d+","+localVariable.getNameDepth()+"\n");
 		}
 		
-		return new LIRUpType(tr, LIRFlagEnum.STATEMENT,"");
+		return new LIRUpType(LIRFlagEnum.STATEMENT,"");
 	}
 
 	/**
@@ -589,42 +588,39 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 	 * - concatenate the translations to the LIR static call statement instruction
 	 */
 	public LIRUpType visit(StaticCall call, Integer d){
-		String tr = "";
-		
 		// recursive calls to all arguments
 		int i = d;
 		for (Expression arg: call.getArguments()){
+			code.append("# argument #"+(i-d)+":\n");
 			LIRUpType argExp = arg.accept(this, i);
-			tr += "# argument #"+(i-d)+":\n";
-			tr += argExp.getLIRCode();
-			tr += getMoveCommand(argExp.getLIRInstType());
-			tr += argExp.getTargetRegister()+",R"+i+"\n";
+			code.append(getMoveCommand(argExp.getLIRInstType()));
+			code.append(argExp.getTargetRegister()+",R"+i+"\n");
 			// increment registers count
 			i++;
 		}
 		
 		// check if the call is to a library (static) method
 		if (call.getClassName().equals("Library")){
-			return libraryCallVisit(tr,call,d);
+			return libraryCallVisit(call, d);
 		}
 		
 		// call statement
 		ClassLayout thisClassLayout = classLayouts.get(call.getClassName());
 		Method thisMethod = thisClassLayout.getMethodFromName(call.getName());
-		tr += "# call statement:\n";
+		code.append("# call statement:\n");
 		// construct method label
 		String methodName = "_"+((ClassSymbolTable) thisMethod.getEnclosingScope()).getMySymbol().getName()+
 							"_"+call.getName();
-		tr += "StaticCall "+methodName+"(";
+		code.append("StaticCall "+methodName+"(");
 		// insert <formal>=<argument register>
 		for(i = 0; i < call.getArguments().size(); i++){
-			tr += thisMethod.getFormals().get(i).getNameDepth()+"=R"+(d+i)+",";
+			code.append(thisMethod.getFormals().get(i).getNameDepth()+"=R"+(d+i)+",");
 		}
 		// remove last comma
-		if (tr.endsWith(",")) tr = tr.substring(0, tr.length()-1);
-		tr += "),R"+d+"\n";
+		removeLastComma();
+		code.append("),R"+d+"\n");
 		
-		return new LIRUpType(tr, LIRFlagEnum.REGISTER,"R"+d);
+		return new LIRUpType(LIRFlagEnum.REGISTER,"R"+d);
 	}
 	
 	/**
@@ -634,18 +630,17 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 	 * @param d
 	 * @return
 	 */
-	public LIRUpType libraryCallVisit(String argsTr, StaticCall call, Integer d){
-		String tr = argsTr; 
-		tr += "Library __"+call.getName()+"(";
+	public LIRUpType libraryCallVisit(StaticCall call, Integer d){
+		code.append("Library __"+call.getName()+"(");
 		// iterate over values (registers)
 		for(int i = 0; i < call.getArguments().size(); i++){
-			tr += "R"+(i+d)+",";
+			code.append("R"+(i+d)+",");
 		}
 		// remove last comma
-		if (tr.endsWith(",")) tr = tr.substring(0, tr.length()-1);
-		tr += "),R"+d+"\n";
+		removeLastComma();
+		code.append("),R"+d+"\n");
 		
-		return new LIRUpType(tr, LIRFlagEnum.REGISTER,"R"+d);
+		return new LIRUpType(LIRFlagEnum.REGISTER,"R"+d);
 	}
 
 	/**
@@ -654,51 +649,49 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 	 * - concatenate the translations to the LIR virtual call statement instruction
 	 */
 	public LIRUpType visit(VirtualCall call, Integer d){
-		String tr = "# virtual call location:\n";;
+		code.append("# virtual call location:\n");
 		
 		// recursive call to call location
 		if (call.isExternal()){
 			LIRUpType location = call.getLocation().accept(this, d);
-			tr += location.getLIRCode();
-			tr += getMoveCommand(location.getLIRInstType());
-			tr += location.getTargetRegister()+",R"+d+"\n";
+			code.append(getMoveCommand(location.getLIRInstType()));
+			code.append(location.getTargetRegister()+",R"+d+"\n");
 			
 			// check location null reference
-			tr += "StaticCall __checkNullRef(a=R"+d+"),Rdummy\n";
+			code.append("StaticCall __checkNullRef(a=R"+d+"),Rdummy\n");
 		} else {
-			tr += "Move this,R"+d+"\n";
+			code.append("Move this,R"+d+"\n");
 		}
 		
 		// recursive call to all arguments
 		int i = d+1;
 		for (Expression arg: call.getArguments()){
+			code.append("# argument #"+(i-d-1)+":\n");
 			LIRUpType argExp = arg.accept(this, i);
-			tr += "# argument #"+(i-d-1)+":\n";
-			tr += argExp.getLIRCode();
-			tr += getMoveCommand(argExp.getLIRInstType());
-			tr += argExp.getTargetRegister()+",R"+i+"\n";
+			code.append(getMoveCommand(argExp.getLIRInstType()));
+			code.append(argExp.getTargetRegister()+",R"+i+"\n");
 			// increment registers count
 			i++;
 		}
 		
 		// call statement
-		tr += "VirtualCall R"+d+".";
+		code.append("VirtualCall R"+d+".");
 		String className = !call.isExternal() ? currClassName :
-			((IC.TypeTable.ClassType) call.getLocation().accept(new DefTypeSemanticChecker(global))).getName();
+			((IC.TypeTable.ClassType) call.getLocation().getStaticType()).getName();
 		ClassLayout thisClassLayout = classLayouts.get(className);
 		Method thisMethod = thisClassLayout.getMethodFromName(call.getName());
 		int offset = thisClassLayout.getMethodOffset(thisMethod);
 		
-		tr += offset+"(";
+		code.append(offset+"(");
 		// insert <formal>=<argument register>
 		for(i = 0; i < call.getArguments().size(); i++){
-			tr += thisMethod.getFormals().get(i).getNameDepth()+"=R"+(d+i+1)+",";
+			code.append(thisMethod.getFormals().get(i).getNameDepth()+"=R"+(d+i+1)+",");
 		}
 		// remove last comma
-		if (tr.endsWith(",")) tr = tr.substring(0, tr.length()-1);
-		tr += "),R"+d+"\n";
+		removeLastComma();
+		code.append("),R"+d+"\n");
 		
-		return new LIRUpType(tr, LIRFlagEnum.REGISTER,"R"+d);
+		return new LIRUpType(LIRFlagEnum.REGISTER,"R"+d);
 	}
 
 	/**
@@ -707,8 +700,8 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 	 * - return translation
 	 */
 	public LIRUpType visit(This thisExpression, Integer d){
-		String tr = "Move this,R"+d+"\n";
-		return new LIRUpType(tr, LIRFlagEnum.REGISTER,"R"+d);
+		code.append("Move this,R"+d+"\n");
+		return new LIRUpType(LIRFlagEnum.REGISTER,"R"+d);
 	}
 
 	/**
@@ -719,10 +712,10 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 	public LIRUpType visit(NewClass newClass, Integer d){
 		System.out.println(newClass.getName()+"\n\n");
 		ClassLayout thisClassLayout = classLayouts.get(newClass.getName());
-		String tr = "Library __allocateObject("+thisClassLayout.getAllocSize()+"),R"+d+"\n";
-		tr += "MoveField _DV_"+thisClassLayout.getClassName()+",R"+d+".0\n";
+		code.append("Library __allocateObject("+thisClassLayout.getAllocSize()+"),R"+d+"\n");
+		code.append("MoveField _DV_"+thisClassLayout.getClassName()+",R"+d+".0\n");
 		
-		return new LIRUpType(tr, LIRFlagEnum.REGISTER,"R"+d);
+		return new LIRUpType(LIRFlagEnum.REGISTER,"R"+d);
 	}
 
 	/**
@@ -731,23 +724,20 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 	 * - return LIR code
 	 */
 	public LIRUpType visit(NewArray newArray, Integer d){
-		String tr = "";
-		
 		// recursive call to size
 		LIRUpType size = newArray.getSize().accept(this, d);
-		tr += size.getLIRCode();
-		tr += getMoveCommand(size.getLIRInstType());
-		tr += size.getTargetRegister()+",R"+d+"\n";
+		code.append(getMoveCommand(size.getLIRInstType()));
+		code.append(size.getTargetRegister()+",R"+d+"\n");
 		// multiply by 4
-		tr += "Mul 4,R"+d+"\n";
+		code.append("Mul 4,R"+d+"\n");
 		
 		// check given size n
-		tr += "StaticCall __checkSize(n=R"+d+"),Rdummy\n";
+		code.append("StaticCall __checkSize(n=R"+d+"),Rdummy\n");
 		
 		// allocate memory
-		tr += "Library __allocateArray(R"+d+"),R"+d+"\n";
+		code.append("Library __allocateArray(R"+d+"),R"+d+"\n");
 		
-		return new LIRUpType(tr, LIRFlagEnum.REGISTER,"R"+d);
+		return new LIRUpType(LIRFlagEnum.REGISTER,"R"+d);
 	}
 
 	/**
@@ -756,21 +746,18 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 	 * - return LIR code
 	 */
 	public LIRUpType visit(Length length, Integer d){
-		String tr = "";
-		
 		// recursive call to array expression
 		LIRUpType array = length.getArray().accept(this, d);
-		tr += array.getLIRCode();
-		tr += getMoveCommand(array.getLIRInstType());
-		tr += array.getTargetRegister()+",R"+d+"\n";
+		code.append(getMoveCommand(array.getLIRInstType()));
+		code.append(array.getTargetRegister()+",R"+d+"\n");
 		
 		// check array null reference
-		tr += "StaticCall __checkNullRef(a=R"+d+"),Rdummy\n";
+		code.append("StaticCall __checkNullRef(a=R"+d+"),Rdummy\n");
 		
 		// get length
-		tr += "ArrayLength R"+d+",R"+d+"\n";
+		code.append("ArrayLength R"+d+",R"+d+"\n");
 		
-		return new LIRUpType(tr, LIRFlagEnum.REGISTER,"R"+d);
+		return new LIRUpType(LIRFlagEnum.REGISTER,"R"+d);
 	}
 
 	/**
@@ -779,50 +766,46 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 	 * - return the LIR code
 	 */
 	public LIRUpType visit(MathBinaryOp binaryOp, Integer d){
-		String tr = "";
-		
 		// recursive call to operands
 		LIRUpType operand1 = binaryOp.getFirstOperand().accept(this, d);
-		tr += operand1.getLIRCode();
-		tr += getMoveCommand(operand1.getLIRInstType());
-		tr += operand1.getTargetRegister()+",R"+d+"\n";
+		code.append(getMoveCommand(operand1.getLIRInstType()));
+		code.append(operand1.getTargetRegister()+",R"+d+"\n");
 		
 		LIRUpType operand2 = binaryOp.getSecondOperand().accept(this, d+1);
-		tr += operand2.getLIRCode();
-		tr += getMoveCommand(operand2.getLIRInstType());
-		tr += operand2.getTargetRegister()+",R"+(d+1)+"\n";
+		code.append(getMoveCommand(operand2.getLIRInstType()));
+		code.append(operand2.getTargetRegister()+",R"+(d+1)+"\n");
 		
 		// operation
 		switch (binaryOp.getOperator()){
 		case PLUS:
-			// check if operation is on strings or on integers
-			IC.TypeTable.Type operandsType = (IC.TypeTable.Type) binaryOp.getFirstOperand().accept(new DefTypeSemanticChecker(global));
+			// check if operation is on strings or on integers (by the type recorded by the type checker)
+			IC.TypeTable.Type operandsType = binaryOp.getFirstOperand().getStaticType();
 			if (operandsType.subtypeOf(IC.TypeTable.TypeTable.getUniquePrimitiveTypes().get("int"))){
-				tr += "Add R"+(d+1)+",R"+d+"\n";
+				code.append("Add R"+(d+1)+",R"+d+"\n");
 			} else { // strings
-				tr += "Library __stringCat(R"+d+",R"+(d+1)+"),R"+d+"\n";
+				code.append("Library __stringCat(R"+d+",R"+(d+1)+"),R"+d+"\n");
 			}
 			break;
 		case MINUS:
-			tr += "Sub R"+(d+1)+",R"+d+"\n";
+			code.append("Sub R"+(d+1)+",R"+d+"\n");
 			break;
 		case MULTIPLY:
-			tr += "Mul R"+(d+1)+",R"+d+"\n";
+			code.append("Mul R"+(d+1)+",R"+d+"\n");
 			break;
 		case DIVIDE:
 			// check division by zero
-			tr += "StaticCall __checkZero(b=R"+(d+1)+"),Rdummy\n";
+			code.append("StaticCall __checkZero(b=R"+(d+1)+"),Rdummy\n");
 			
-			tr += "Div R"+(d+1)+",R"+d+"\n";
+			code.append("Div R"+(d+1)+",R"+d+"\n");
 			break;
 		case MOD:
-			tr += "Mod R"+(d+1)+",R"+d+"\n";
+			code.append("Mod R"+(d+1)+",R"+d+"\n");
 			break;
 		default:
 			System.err.println("*** YOUR PARSER SUCKS ***");
 		}
 		
-		return new LIRUpType(tr, LIRFlagEnum.REGISTER,"R"+d);
+		return new LIRUpType(LIRFlagEnum.REGISTER,"R"+d);
 	}
 
 	/**
@@ -834,66 +817,63 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 		String trueLabel = "_true_label"+labelCounter;
 		String falseLabel = "_false_label"+labelCounter;
 		String endLabel = "_end_label"+(labelCounter++);
-		String tr = "";
 		
 		// recursive call to operands
 		LIRUpType operand1 = binaryOp.getFirstOperand().accept(this, d);
-		tr += operand1.getLIRCode();
-		tr += getMoveCommand(operand1.getLIRInstType());
-		tr += operand1.getTargetRegister()+",R"+d+"\n";
+		code.append(getMoveCommand(operand1.getLIRInstType()));
+		code.append(operand1.getTargetRegister()+",R"+d+"\n");
 		
 		LIRUpType operand2 = binaryOp.getSecondOperand().accept(this, d+1);
-		tr += operand2.getLIRCode();
-		tr += getMoveCommand(operand2.getLIRInstType());
-		tr += operand2.getTargetRegister()+",R"+(d+1)+"\n";
+		code.append(getMoveCommand(operand2.getLIRInstType()));
+		code.append(operand2.getTargetRegister()+",R"+(d+1)+"\n");
 		
 		// operation
 		if (binaryOp.getOperator() != BinaryOps.LAND && binaryOp.getOperator() != BinaryOps.LOR){
-			tr += "Compare R"+(d+1)+",R"+d+"\n";
+			code.append("Compare R"+(d+1)+",R"+d+"\n");
 		}
 		switch (binaryOp.getOperator()){
 		case EQUAL:
-			tr += "JumpTrue "+trueLabel+"\n";
+			code.append("JumpTrue "+trueLabel+"\n");
 			break;
 		case NEQUAL:
-			tr += "JumpFalse "+trueLabel+"\n";
+			code.append("JumpFalse "+trueLabel+"\n");
 			break;
 		case GT:
-			tr += "JumpG "+trueLabel+"\n";
+			code.append("JumpG "+trueLabel+"\n");
 			break;
 		case GTE:
-			tr += "JumpGE "+trueLabel+"\n";
+			code.append("JumpGE "+trueLabel+"\n");
 			break;
 		case LT:
-			tr += "JumpL "+trueLabel+"\n";
+			code.append("JumpL "+trueLabel+"\n");
 			break;
 		case LTE:
-			tr += "JumpLE "+trueLabel+"\n";
+			code.append("JumpLE "+trueLabel+"\n");
 			break;
 		case LAND:
-			tr += "Compare 0,R"+d+"\n";
-			tr += "JumpTrue "+falseLabel+"\n";
-			tr += "Compare 0,R"+(d+1)+"\n";
-			tr += "JumpTrue "+falseLabel+"\n";
-			tr += "Jump "+trueLabel+"\n";
-			tr += falseLabel+":\n"; 
+			code.append("Compare 0,R"+d+"\n");
+			code.append("JumpTrue "+falseLabel+"\n");
+			code.append("Compare 0,R"+(d+1)+"\n");
+			code.append("JumpTrue "+falseLabel+"\n");
+			code.append("Jump "+trueLabel+"\n");
+			code.append(falseLabel+":\n"); 
 			break;
 		case LOR:
-			tr += "Compare 0,R"+d+"\n";
-			tr += "JumpFalse "+trueLabel+"\n";
-			tr += "Compare 0,R"+(d+1)+"\n";
-			tr += "JumpFalse "+trueLabel+"\n"; 
+			code.append("Compare 0,R"+d+"\n");
+			code.append("JumpFalse "+trueLabel+"\n");
+			code.append("Compare 0,R"+(d+1)+"\n");
+			code.append("JumpFalse "+trueLabel+"\n"); 
 			break;
 		default:
 			System.err.println("*** YOUR PARSER SUCKS ***");	
 		}
-		tr += "Move 0,R"+d+"\n";
-		tr += "Jump "+endLabel+"\n";
-		tr += trueLabel+":\n";
-		tr += "Move 1,R"+d+"\n";
-		tr += endLabel+":\n";
+		code.append("Move 0,R"+d+"\n");
+		code.append("Jump "+endLabel+"\n");
+		code.append(trueLabel+":\n");
+		code.append("Move 1,R"+d+"\n");
+		code.append(endLabel+":\n");
 		
-		return new LIRUpType(tr, LIRFlagEnum.REGISTER,"R"+d);
+		return new LIRUpType(LIRFlagEnum.REGISTER,"R"+d);
 	}
 
 	/**
@@ -902,16 +882,13 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 	 * - return the LIR code
 	 */
 	public LIRUpType visit(MathUnaryOp unaryOp, Integer d){
-		String tr = "";
-		
 		// recursive call to operand
 		LIRUpType operand = unaryOp.getOperand().accept(this, d);
-		tr += operand.getLIRCode();
-		tr += getMoveCommand(operand.getLIRInstType());
-		tr += operand.getTargetRegister()+",R"+d+"\n";
+		code.append(getMoveCommand(operand.getLIRInstType()));
+		code.append(operand.getTargetRegister()+",R"+d+"\n");
 		
-		tr += "Neg R"+d+"\n";
-		return new LIRUpType(tr, LIRFlagEnum.REGISTER,"R"+d);
+		code.append("Neg R"+d+"\n");
+		return new LIRUpType(LIRFlagEnum.REGISTER,"R"+d);
 	}
 
 	/**
@@ -920,25 +897,23 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 	 * - return the LIR code
 	 */
 	public LIRUpType visit(LogicalUnaryOp unaryOp, Integer d){
-		String tr = "";
 		String trueLabel = "_true_label"+labelCounter;
 		String endLabel = "_end_label"+(labelCounter++);
 		
 		// recursive call to operand
 		LIRUpType operand = unaryOp.getOperand().accept(this, d);
-		tr += operand.getLIRCode();
-		tr += getMoveCommand(operand.getLIRInstType());
-		tr += operand.getTargetRegister()+",R"+d+"\n";
-		
-		tr += "Compare 0,R"+d+"\n";
-		tr += "JumpTrue "+trueLabel+"\n";
-		tr += "Move 0,R"+d+"\n";
-		tr += "Jump "+endLabel+"\n";
-		tr += trueLabel+":\n";
-		tr += "Move 1,R"+d+"\n";
-		tr += endLabel+":\n";
-		
-		return new LIRUpType(tr, LIRFlagEnum.REGISTER,"R"+d);
+		code.append(getMoveCommand(operand.getLIRInstType()));
+		code.append(operand.getTargetRegister()+",R"+d+"\n");
+		
+		code.append("Compare 0,R"+d+"\n");
+		code.append("JumpTrue "+trueLabel+"\n");
+		code.append("Move 0,R"+d+"\n");
+		code.append("Jump "+endLabel+"\n");
+		code.append(trueLabel+":\n");
+		code.append("Move 1,R"+d+"\n");
+		code.append(endLabel+":\n");
+		
+		return new LIRUpType(LIRFlagEnum.REGISTER,"R"+d);
 	}
 
 	/**
@@ -951,7 +926,7 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 		
 		switch (literal.getType()){
 		case STRING:
-			String strVal = ((String) literal.getValue()).replaceAll("\n", "\\\\n");
+			String strVal = ((String) literal.getValue()).replace("\\", "\\\\").replace("\"", "\\\"").replace("\t", "\\t").replace("\n", "\\n");
 			if (!stringLiterals.containsKey(strVal))
 				stringLiterals.put(strVal, "str"+(stringLiteralsCounter++));
 			litStr = stringLiterals.get(strVal);
@@ -969,7 +944,7 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 			litStr = "1";
 		}
 		
-		return new LIRUpType("", LIRFlagEnum.LITERAL,litStr);
+		return new LIRUpType(LIRFlagEnum.LITERAL,litStr);
 	}
 
 	/**
@@ -1023,10 +998,34 @@ public class TranslatePropagatingVisitor implements PropagatingVisitor<Integer,
 	public void setMainMethod(String mainMethod) {
 		this.mainMethod = mainMethod;
 	}
+
+	public void setAnnotatingLines(boolean isAnnotatingLines) {
+		this.isAnnotatingLines = isAnnotatingLines;
+	}
 	
 	// helpers
 	//////////
 	
+	/**
+	 * appends the translation of the given statement to the code,
+	 * preceded by its source line annotation if annotating lines (blocks are not annotated, their statements are)
+	 * @param statement
+	 * @param d
+	 */
+	protected void translateStatement(Statement statement, Integer d){
+		if (isAnnotatingLines && !(statement instanceof StatementsBlock)){
+			code.append(LIRLoader.lineAnnotation+statement.getLine()+"\n");
+		}
+		statement.accept(this, d);
+	}
+	
+	/**
+	 * removes the last comma of the code (of a call's arguments list), if it ends with one
+	 */
+	protected void removeLastComma(){
+		if (code.charAt(code.length()-1) == ',') code.setLength(code.length()-1);
+	}
+	
 	/**
 	 * returns the correct move command for the given LIR flag enum
 	 * @param type
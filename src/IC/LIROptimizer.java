@@ -0,0 +1,147 @@
+package IC;
+
+import java.io.*;
+import java.util.*;
+
+import IC.LIR.*;
+
+/*
+ * The LIR optimizer class
+ */
+public class LIROptimizer {
+	private static String output_path;
+	private static List<LIRPass> passes = new ArrayList<LIRPass>();
+	private static boolean timepasses_flag = false;
+	private static boolean verifylir_flag = false;
+
+	/**
+	 * Reads a LIR program, optimizes it and writes the optimized LIR program
+	 * the passes sequence is run repeatedly, until the program does not change
+	 * @param args[0]: contains the input lir program file path (text, or binary LIR if it ends with .lirb)
+	 * @param optional: -o<output_path> where output_path is the optimized lir file path
+	 * (the default is <file>.opt.lir / <file>.opt.lirb; written as binary LIR if it ends with .lirb)
+	 * @param optional: -passes=<pass>,<pass>,... the optimization passes to run, in order
+	 * (the default is all the passes: check-elimination,copy-propagation,jump-threading,dead-code)
+	 * @param optional: -time-passes to print every pass's run time and instruction count delta
+	 * @param optional: -verify-lir to verify the LIR program after every pass
+	 */
+	public static void main(String[] args) {
+
+		////////////////////////////
+		// check input parameters //
+		////////////////////////////
+
+		// check that received at least one parameter (input lir program path)
+		if (args.length == 0) {
+			System.out.println("Error: Missing input file argument!");
+			printUsage();
+			System.exit(-1);
+		}
+
+		// check for options
+		boolean passes_flag = false;
+		for (int i = 1; i < args.length; i++){
+			String s = args[i];
+			if (s.startsWith("-o")){ // output path is given
+				if (output_path != null){ // already given output path
+					System.out.println("Error: Wrong usage, output path is given more than once");
+					printUsage();
+					System.exit(-1);
+				} else output_path = s.substring(2);
+			} else if (s.startsWith("-passes=")){ // passes are given
+				if (passes_flag){ // already given passes
+					System.out.println("Error: Wrong usage, -passes is given more than once");
+					printUsage();
+					System.exit(-1);
+				}
+				passes_flag = true;
+				for (String name: s.substring("-passes=".length()).split(",")){
+					LIRPass pass = LIRPassManager.getPass(name);
+					if (pass == null){
+						System.out.println("Error: Unknown optimization pass: "+name);
+						printUsage();
+						System.exit(-1);
+					}
+					passes.add(pass);
+				}
+			} else if (s.equals("-time-passes")){ // -time-passes flag is on
+				if (timepasses_flag){ // already given "-time-passes"
+					System.out.println("Error: Wrong usage, -time-passes flag is given more than once");
+					printUsage();
+					System.exit(-1);
+				} else timepasses_flag = true;
+			} else if (s.equals("-verify-lir")){ // -verify-lir flag is on
+				if (verifylir_flag){ // already given "-verify-lir"
+					System.out.println("Error: Wrong usage, -verify-lir flag is given more than once");
+					printUsage();
+					System.exit(-1);
+				} else verifylir_flag = true;
+			} else {
+				System.out.println("Error: Wrong usage");
+				printUsage();
+				System.exit(-1);
+			}
+		}
+		if (!passes_flag) passes = LIRPassManager.getAllPasses();
+		if (output_path == null){
+			int dot = args[0].lastIndexOf('.');
+			output_path = dot > 0 ? args[0].substring(0,dot)+".opt"+args[0].substring(dot) : args[0]+".opt.lir";
+		}
+
+		//////////////////////
+		// loading phase	//
+		//////////////////////
+
+		// the following is initialized only to prevent error message,
+		// real value is given in the try-catch block ahead
+		LIRProgram program = null;
+		try {
+			// may throw i/o exception or LIRSyntaxError
+			program = LIRBinaryReader.isBinaryLIR(args[0]) ? LIRBinaryReader.open(args[0]).getProgram() :
+				LIRLoader.load(args[0]);
+		} catch (Exception e){
+			System.err.println(e);
+			System.exit(-1);
+		}
+		System.out.println("Loaded " + args[0] + " successfully!");
+
+		//////////////////////////
+		// optimization phase	//
+		//////////////////////////
+
+		int before = program.getInstructionsCount();
+		LIRPassManager passManager = new LIRPassManager(passes);
+		passManager.setTiming(timepasses_flag);
+		passManager.setVerifying(verifylir_flag);
+		if (!passManager.run(program)) System.exit(-1); // in case of a verification error
+		if (timepasses_flag) System.out.println(passManager.getReport());
+		System.out.println("Optimized " + args[0] + ": " + before + " -> " +
+				program.getInstructionsCount() + " instructions");
+
+		// write the optimized program
+		try {
+			if (LIRBinaryReader.isBinaryLIR(output_path)){
+				LIRBinaryWriter.write(program, output_path);
+			} else {
+				BufferedWriter buff = new BufferedWriter(new FileWriter(output_path));
+				buff.write(program.toString());
+				buff.flush();
+				buff.close();
+			}
+		} catch (IOException e) {
+			System.err.println("Failed writing to file: "+output_path);
+			e.printStackTrace();
+			System.exit(-1);
+		}
+		System.out.println("Wrote " + output_path);
+	}
+
+	/**
+	 * Prints usage information about this application to System.out
+	 */
+	public static void printUsage() {
+		System.out.println("Usage: IC.LIROptimizer <file.lir|file.lirb> [-o<output_path>] [-passes=<pass>,<pass>,...] "+
+				"[-time-passes] [-verify-lir]");
+		System.out.println("Passes: "+LIRPassManager.getAllPassesNames());
+	}
+}
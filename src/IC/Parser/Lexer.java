@@ -1,14 +1,18 @@
-/* The following code was generated by JFlex 1.4.3 on 11/26/09 8:25 AM */
-
-package IC.Parser;
-
-import java_cup.runtime.Symbol;
-import java.lang.Math;
-
-/**
- * this class is the lexical analyzer for the IC language
- */
-
+/* The following code was generated by JFlex 1.4.3 on 10/19/26, 11:10 AM */
+
+package IC.Parser;
+
+import java_cup.runtime.Symbol;
+
+/**
+ * this class is the lexical analyzer for the IC language
+ * tokens are created without copying their text where possible:
+ * - operators, punctuation and keywords share their constant text
+ * - identifiers names are looked up in a name table (see NameTable), so repeated names share one instance
+ * - integer and string literals are read directly from the buffer, in one pass
+ * - when filling a token buffer, no Token objects are created at all (see TokenBuffer)
+ */
+
 
 public class Lexer implements java_cup.runtime.Scanner {
 
@@ -59,16 +63,16 @@ public class Lexer implements java_cup.runtime.Scanner {
     "\3\0\1\1\1\2\1\3\1\4\2\5\1\6\1\7"+
     "\1\10\1\11\1\12\1\13\1\14\1\15\1\16\1\17"+
     "\1\20\1\21\1\22\1\23\1\24\2\1\1\25\1\26"+
-    "\1\27\14\3\1\2\1\1\1\30\1\5\1\31\1\32"+
-    "\1\33\1\34\1\35\1\36\1\37\1\40\14\3\1\41"+
-    "\5\3\1\0\1\42\1\0\7\3\1\43\3\3\1\44"+
-    "\12\3\1\45\2\3\1\46\1\47\1\50\5\3\1\51"+
-    "\1\52\4\3\1\53\2\3\1\54\1\3\1\55\1\3"+
-    "\1\56\2\3\1\57\1\60\1\61\1\62\1\63\1\3"+
-    "\1\64";
+    "\1\27\14\3\1\2\1\30\1\31\1\5\1\32\1\0"+
+    "\1\33\1\34\1\35\1\36\1\37\1\40\1\41\1\42"+
+    "\14\3\1\43\5\3\1\30\1\44\1\30\7\3\1\45"+
+    "\3\3\1\46\6\3\2\30\4\3\1\47\2\3\1\50"+
+    "\1\51\1\52\5\3\1\53\2\0\1\54\4\3\1\55"+
+    "\2\3\1\56\1\3\1\57\1\3\1\60\2\3\1\61"+
+    "\1\62\1\63\1\64\1\65\1\3\1\66";
 
   private static int [] zzUnpackAction() {
-    int [] result = new int[130];
+    int [] result = new int[136];
     int offset = 0;
     offset = zzUnpackAction(ZZ_ACTION_PACKED_0, offset, result);
     return result;
@@ -98,21 +102,21 @@ public class Lexer implements java_cup.runtime.Scanner {
     "\0\237\0\237\0\237\0\237\0\u01dd\0\u0212\0\u0247\0\u027c"+
     "\0\u02b1\0\u02e6\0\237\0\237\0\237\0\u031b\0\u0350\0\u0385"+
     "\0\u03ba\0\u03ef\0\u0424\0\u0459\0\u048e\0\u04c3\0\u04f8\0\u052d"+
-    "\0\u0562\0\u0597\0\u05cc\0\237\0\u0601\0\237\0\237\0\237"+
-    "\0\237\0\237\0\237\0\237\0\237\0\u0636\0\u066b\0\u06a0"+
+    "\0\u0562\0\u0597\0\u05cc\0\237\0\u0601\0\u0636\0\u066b\0\237"+
+    "\0\237\0\237\0\237\0\237\0\237\0\237\0\237\0\u06a0"+
     "\0\u06d5\0\u070a\0\u073f\0\u0774\0\u07a9\0\u07de\0\u0813\0\u0848"+
-    "\0\u087d\0\u0109\0\u08b2\0\u08e7\0\u091c\0\u0951\0\u0986\0\u05cc"+
-    "\0\237\0\u09bb\0\u09f0\0\u0a25\0\u0a5a\0\u0a8f\0\u0ac4\0\u0af9"+
-    "\0\u0b2e\0\u0109\0\u0b63\0\u0b98\0\u0bcd\0\u0109\0\u0c02\0\u0c37"+
-    "\0\u0c6c\0\u0ca1\0\u0cd6\0\u0d0b\0\u0d40\0\u0d75\0\u0daa\0\u0ddf"+
-    "\0\u0109\0\u0e14\0\u0e49\0\u0109\0\u0109\0\u0109\0\u0e7e\0\u0eb3"+
-    "\0\u0ee8\0\u0f1d\0\u0f52\0\u0109\0\u0109\0\u0f87\0\u0fbc\0\u0ff1"+
-    "\0\u1026\0\u0109\0\u105b\0\u1090\0\u0109\0\u10c5\0\u0109\0\u10fa"+
-    "\0\u0109\0\u112f\0\u1164\0\u0109\0\u0109\0\u0109\0\u0109\0\u0109"+
-    "\0\u1199\0\u0109";
+    "\0\u087d\0\u08b2\0\u08e7\0\u0109\0\u091c\0\u0951\0\u0986\0\u09bb"+
+    "\0\u09f0\0\u0a25\0\237\0\u0a5a\0\u0a8f\0\u0ac4\0\u0af9\0\u0b2e"+
+    "\0\u0b63\0\u0b98\0\u0bcd\0\u0109\0\u0c02\0\u0c37\0\u0c6c\0\u0109"+
+    "\0\u0ca1\0\u0cd6\0\u0d0b\0\u0d40\0\u0d75\0\u0daa\0\237\0\u0ddf"+
+    "\0\u0e14\0\u0e49\0\u0e7e\0\u0eb3\0\u0109\0\u0ee8\0\u0f1d\0\u0109"+
+    "\0\u0109\0\u0109\0\u0f52\0\u0f87\0\u0fbc\0\u0ff1\0\u1026\0\u0109"+
+    "\0\u0ddf\0\u105b\0\u0109\0\u1090\0\u10c5\0\u10fa\0\u112f\0\u0109"+
+    "\0\u1164\0\u1199\0\u0109\0\u11ce\0\u0109\0\u1203\0\u0109\0\u1238"+
+    "\0\u126d\0\u0109\0\u0109\0\u0109\0\u0109\0\u0109\0\u12a2\0\u0109";
 
   private static int [] zzUnpackRowMap() {
-    int [] result = new int[130];
+    int [] result = new int[136];
     int offset = 0;
     offset = zzUnpackRowMap(ZZ_ROWMAP_PACKED_0, offset, result);
     return result;
@@ -142,67 +146,72 @@ public class Lexer implements java_cup.runtime.Scanner {
     "\1\6\1\42\1\43\1\44\3\6\1\45\1\46\1\6"+
     "\1\47\1\50\1\6\1\51\1\52\1\53\1\4\1\11"+
     "\1\4\6\11\1\54\67\11\1\55\53\11\66\0\1\5"+
-    "\64\0\4\6\27\0\25\6\5\0\4\7\27\0\25\7"+
-    "\12\0\1\11\66\0\1\56\1\57\76\0\1\60\64\0"+
-    "\1\61\64\0\1\62\64\0\1\63\70\0\1\64\65\0"+
-    "\1\65\35\0\4\6\27\0\1\6\1\66\4\6\1\67"+
-    "\16\6\5\0\4\6\27\0\2\6\1\70\22\6\5\0"+
-    "\4\6\27\0\13\6\1\71\4\6\1\72\4\6\5\0"+
-    "\4\6\27\0\6\6\1\73\11\6\1\74\4\6\5\0"+
-    "\4\6\27\0\2\6\1\75\7\6\1\76\12\6\5\0"+
-    "\4\6\27\0\1\6\1\77\15\6\1\100\5\6\5\0"+
-    "\4\6\27\0\7\6\1\101\11\6\1\102\3\6\5\0"+
-    "\4\6\27\0\10\6\1\103\14\6\5\0\4\6\27\0"+
-    "\17\6\1\104\5\6\5\0\4\6\27\0\2\6\1\105"+
-    "\22\6\5\0\4\6\27\0\3\6\1\106\21\6\5\0"+
-    "\4\6\27\0\6\6\1\107\16\6\5\0\1\52\56\0"+
-    "\1\52\5\0\4\110\3\0\51\110\1\111\2\110\1\112"+
-    "\10\0\1\54\55\0\4\6\27\0\2\6\1\113\22\6"+
-    "\5\0\4\6\27\0\6\6\1\114\16\6\5\0\4\6"+
-    "\27\0\10\6\1\115\14\6\5\0\4\6\27\0\10\6"+
-    "\1\116\14\6\5\0\4\6\27\0\15\6\1\117\7\6"+
-    "\5\0\4\6\27\0\7\6\1\120\15\6\5\0\4\6"+
-    "\27\0\3\6\1\121\21\6\5\0\4\6\27\0\16\6"+
-    "\1\122\6\6\5\0\4\6\27\0\20\6\1\123\4\6"+
-    "\5\0\4\6\27\0\12\6\1\124\12\6\5\0\4\6"+
-    "\27\0\11\6\1\125\13\6\5\0\4\6\27\0\10\6"+
-    "\1\126\14\6\5\0\4\6\27\0\1\6\1\127\1\6"+
-    "\1\130\21\6\5\0\4\6\27\0\11\6\1\131\13\6"+
-    "\5\0\4\6\27\0\7\6\1\132\15\6\5\0\4\6"+
-    "\27\0\20\6\1\133\4\6\5\0\4\6\27\0\11\6"+
-    "\1\134\13\6\47\0\2\110\14\0\1\110\2\0\1\110"+
-    "\1\0\4\6\27\0\3\6\1\135\21\6\5\0\4\6"+
-    "\27\0\20\6\1\136\4\6\5\0\4\6\27\0\12\6"+
-    "\1\137\12\6\5\0\4\6\27\0\2\6\1\140\22\6"+
-    "\5\0\4\6\27\0\2\6\1\141\22\6\5\0\4\6"+
-    "\27\0\10\6\1\142\14\6\5\0\4\6\27\0\15\6"+
-    "\1\143\7\6\5\0\4\6\27\0\20\6\1\144\4\6"+
-    "\5\0\4\6\27\0\2\6\1\145\22\6\5\0\4\6"+
-    "\27\0\15\6\1\146\7\6\5\0\4\6\27\0\11\6"+
-    "\1\147\13\6\5\0\4\6\27\0\10\6\1\150\14\6"+
-    "\5\0\4\6\27\0\20\6\1\151\4\6\5\0\4\6"+
-    "\27\0\22\6\1\152\2\6\5\0\4\6\27\0\15\6"+
-    "\1\153\7\6\5\0\4\6\27\0\14\6\1\154\10\6"+
-    "\5\0\4\6\27\0\4\6\1\155\20\6\5\0\4\6"+
-    "\27\0\2\6\1\156\22\6\5\0\4\6\27\0\1\6"+
-    "\1\157\23\6\5\0\4\6\27\0\7\6\1\160\15\6"+
-    "\5\0\4\6\27\0\11\6\1\161\13\6\5\0\4\6"+
-    "\27\0\15\6\1\162\7\6\5\0\4\6\27\0\7\6"+
-    "\1\163\15\6\5\0\4\6\27\0\11\6\1\164\13\6"+
-    "\5\0\4\6\27\0\2\6\1\165\22\6\5\0\4\6"+
-    "\27\0\10\6\1\166\14\6\5\0\4\6\27\0\2\6"+
-    "\1\167\22\6\5\0\4\6\27\0\3\6\1\170\21\6"+
-    "\5\0\4\6\27\0\7\6\1\171\15\6\5\0\4\6"+
-    "\27\0\14\6\1\172\10\6\5\0\4\6\27\0\7\6"+
-    "\1\173\15\6\5\0\4\6\27\0\22\6\1\174\2\6"+
-    "\5\0\4\6\27\0\5\6\1\175\17\6\5\0\4\6"+
-    "\27\0\17\6\1\176\5\6\5\0\4\6\27\0\7\6"+
-    "\1\177\15\6\5\0\4\6\27\0\15\6\1\200\7\6"+
-    "\5\0\4\6\27\0\12\6\1\201\12\6\5\0\4\6"+
-    "\27\0\2\6\1\202\22\6\4\0";
+    "\3\56\27\0\24\56\1\57\5\0\4\6\27\0\25\6"+
+    "\5\0\4\7\27\0\25\7\12\0\1\11\66\0\1\60"+
+    "\1\61\76\0\1\62\64\0\1\63\64\0\1\64\64\0"+
+    "\1\65\70\0\1\66\65\0\1\67\35\0\4\6\27\0"+
+    "\1\6\1\70\4\6\1\71\16\6\5\0\4\6\27\0"+
+    "\2\6\1\72\22\6\5\0\4\6\27\0\13\6\1\73"+
+    "\4\6\1\74\4\6\5\0\4\6\27\0\6\6\1\75"+
+    "\11\6\1\76\4\6\5\0\4\6\27\0\2\6\1\77"+
+    "\7\6\1\100\12\6\5\0\4\6\27\0\1\6\1\101"+
+    "\15\6\1\102\5\6\5\0\4\6\27\0\7\6\1\103"+
+    "\11\6\1\104\3\6\5\0\4\6\27\0\10\6\1\105"+
+    "\14\6\5\0\4\6\27\0\17\6\1\106\5\6\5\0"+
+    "\4\6\27\0\2\6\1\107\22\6\5\0\4\6\27\0"+
+    "\3\6\1\110\21\6\5\0\4\6\27\0\6\6\1\111"+
+    "\16\6\5\0\1\52\3\56\27\0\24\56\1\52\4\0"+
+    "\1\112\4\53\2\0\1\112\51\53\1\113\2\53\1\114"+
+    "\10\0\1\54\55\0\4\56\27\0\25\56\5\0\1\57"+
+    "\3\56\27\0\24\56\1\57\5\0\4\6\27\0\2\6"+
+    "\1\115\22\6\5\0\4\6\27\0\6\6\1\116\16\6"+
+    "\5\0\4\6\27\0\10\6\1\117\14\6\5\0\4\6"+
+    "\27\0\10\6\1\120\14\6\5\0\4\6\27\0\15\6"+
+    "\1\121\7\6\5\0\4\6\27\0\7\6\1\122\15\6"+
+    "\5\0\4\6\27\0\3\6\1\123\21\6\5\0\4\6"+
+    "\27\0\16\6\1\124\6\6\5\0\4\6\27\0\20\6"+
+    "\1\125\4\6\5\0\4\6\27\0\12\6\1\126\12\6"+
+    "\5\0\4\6\27\0\11\6\1\127\13\6\5\0\4\6"+
+    "\27\0\10\6\1\130\14\6\5\0\4\6\27\0\1\6"+
+    "\1\131\1\6\1\132\21\6\5\0\4\6\27\0\11\6"+
+    "\1\133\13\6\5\0\4\6\27\0\7\6\1\134\15\6"+
+    "\5\0\4\6\27\0\20\6\1\135\4\6\5\0\4\6"+
+    "\27\0\11\6\1\136\13\6\4\0\5\112\2\0\52\112"+
+    "\1\137\10\112\2\0\34\112\2\53\14\112\1\140\2\112"+
+    "\1\53\1\0\4\6\27\0\3\6\1\141\21\6\5\0"+
+    "\4\6\27\0\20\6\1\142\4\6\5\0\4\6\27\0"+
+    "\12\6\1\143\12\6\5\0\4\6\27\0\2\6\1\144"+
+    "\22\6\5\0\4\6\27\0\2\6\1\145\22\6\5\0"+
+    "\4\6\27\0\10\6\1\146\14\6\5\0\4\6\27\0"+
+    "\15\6\1\147\7\6\5\0\4\6\27\0\20\6\1\150"+
+    "\4\6\5\0\4\6\27\0\2\6\1\151\22\6\5\0"+
+    "\4\6\27\0\15\6\1\152\7\6\5\0\4\6\27\0"+
+    "\11\6\1\153\13\6\5\0\4\6\27\0\10\6\1\154"+
+    "\14\6\5\0\4\6\27\0\20\6\1\155\4\6\5\0"+
+    "\4\6\27\0\22\6\1\156\2\6\5\0\4\6\27\0"+
+    "\15\6\1\157\7\6\5\0\4\6\27\0\14\6\1\160"+
+    "\10\6\5\0\4\161\3\0\51\161\1\113\2\161\1\162"+
+    "\1\0\4\6\27\0\4\6\1\163\20\6\5\0\4\6"+
+    "\27\0\2\6\1\164\22\6\5\0\4\6\27\0\1\6"+
+    "\1\165\23\6\5\0\4\6\27\0\7\6\1\166\15\6"+
+    "\5\0\4\6\27\0\11\6\1\167\13\6\5\0\4\6"+
+    "\27\0\15\6\1\170\7\6\5\0\4\6\27\0\7\6"+
+    "\1\171\15\6\5\0\4\6\27\0\11\6\1\172\13\6"+
+    "\5\0\4\6\27\0\2\6\1\173\22\6\5\0\4\6"+
+    "\27\0\10\6\1\174\14\6\5\0\4\6\27\0\2\6"+
+    "\1\175\22\6\47\0\2\161\14\0\1\161\2\0\1\161"+
+    "\1\0\4\6\27\0\3\6\1\176\21\6\5\0\4\6"+
+    "\27\0\7\6\1\177\15\6\5\0\4\6\27\0\14\6"+
+    "\1\200\10\6\5\0\4\6\27\0\7\6\1\201\15\6"+
+    "\5\0\4\6\27\0\22\6\1\202\2\6\5\0\4\6"+
+    "\27\0\5\6\1\203\17\6\5\0\4\6\27\0\17\6"+
+    "\1\204\5\6\5\0\4\6\27\0\7\6\1\205\15\6"+
+    "\5\0\4\6\27\0\15\6\1\206\7\6\5\0\4\6"+
+    "\27\0\12\6\1\207\12\6\5\0\4\6\27\0\2\6"+
+    "\1\210\22\6\4\0";
 
   private static int [] zzUnpackTrans() {
-    int [] result = new int[4558];
+    int [] result = new int[4823];
     int offset = 0;
     offset = zzUnpackTrans(ZZ_TRANS_PACKED_0, offset, result);
     return result;
@@ -241,11 +250,11 @@ public class Lexer implements java_cup.runtime.Scanner {
 
   private static final String ZZ_ATTRIBUTE_PACKED_0 =
     "\3\0\1\11\4\1\1\11\1\1\12\11\6\1\3\11"+
-    "\16\1\1\11\1\1\10\11\22\1\1\0\1\11\1\0"+
-    "\70\1";
+    "\16\1\1\11\2\1\1\0\10\11\23\1\1\11\23\1"+
+    "\1\11\21\1\2\0\26\1";
 
   private static int [] zzUnpackAttribute() {
-    int [] result = new int[130];
+    int [] result = new int[136];
     int offset = 0;
     offset = zzUnpackAttribute(ZZ_ATTRIBUTE_PACKED_0, offset, result);
     return result;
@@ -312,6 +321,64 @@ public class Lexer implements java_cup.runtime.Scanner {
   /** denotes if the user-EOF-code has already been executed */
   private boolean zzEOFDone;
 
+  /* user code: */
+	// the identifiers names read so far
+	private NameTable names = new NameTable();
+	// when not null, the tokens read are added to this buffer, and next_token returns null
+	private TokenBuffer tokenBuffer = null;
+	
+	void setTokenBuffer(TokenBuffer tokenBuffer){
+		this.tokenBuffer = tokenBuffer;
+	}
+	
+	/**
+	 * returns a new token of the given kind and value at the current position,
+	 * or adds it to the token buffer (and returns null) if there is one
+	 */
+	private Token token(int kind, Object value){
+		if (tokenBuffer == null) return new Token(kind, yyline, value);
+		tokenBuffer.add(kind, yyline+1, yychar, yylength(), value);
+		return null;
+	}
+	
+	/**
+	 * returns the current identifier's name, shared with its previous occurrences
+	 */
+	private String name(){
+		return names.intern(zzBuffer, zzStartRead, zzMarkedPos-zzStartRead);
+	}
+	
+	/**
+	 * returns the value of the current integer literal
+	 * @throws LexicalError if the literal is out of the integer bounds
+	 */
+	private Integer integerValue() throws LexicalError {
+		long value = 0;
+		for (int i = zzStartRead; i < zzMarkedPos; i++){
+			value = value*10+(zzBuffer[i]-'0');
+			if (value >= 1L << 31) throw new LexicalError("Lexical error: integer out of bound",yyline,yytext());
+		}
+		return Integer.valueOf((int) value);
+	}
+	
+	/**
+	 * returns the value of the current string literal: its text without the quotes, unescaped
+	 */
+	private String stringValue(){
+		char[] value = new char[zzMarkedPos-zzStartRead-2];
+		int length = 0;
+		for (int i = zzStartRead+1; i < zzMarkedPos-1; i++){
+			char c = zzBuffer[i];
+			if (c == '\\'){
+				c = zzBuffer[++i];
+				if (c == 'n') c = '\n';
+				else if (c == 't') c = '\t';
+			}
+			value[length++] = c;
+		}
+		return new String(value, 0, length);
+	}
+
 
   /**
    * Creates a new scanner
@@ -570,6 +637,8 @@ public class Lexer implements java_cup.runtime.Scanner {
     while (true) {
       zzMarkedPosL = zzMarkedPos;
 
+      yychar+= zzMarkedPosL-zzStartRead;
+
       boolean zzR = false;
       for (zzCurrentPosL = zzStartRead; zzCurrentPosL < zzMarkedPosL;
                                                              zzCurrentPosL++) {
@@ -669,222 +738,231 @@ public class Lexer implements java_cup.runtime.Scanner {
       zzMarkedPos = zzMarkedPosL;
 
       switch (zzAction < 0 ? zzAction : ZZ_ACTION[zzAction]) {
-        case 36: 
-          { return new Token(sym.INT,yyline,yytext());
-          }
-        case 53: break;
-        case 49: 
-          { return new Token(sym.LENGTH,yyline,yytext());
-          }
-        case 54: break;
-        case 50: 
-          { return new Token(sym.BOOLEAN,yyline,yytext());
+        case 46: 
+          { return token(sym.WHILE,"while");
           }
         case 55: break;
-        case 42: 
-          { return new Token(sym.BREAK,yyline,yytext());
+        case 10: 
+          { return token(sym.MOD,"%");
           }
         case 56: break;
-        case 8: 
-          { return new Token(sym.PLUS,yyline,yytext());
+        case 14: 
+          { return token(sym.RP,")");
           }
         case 57: break;
-        case 44: 
-          { return new Token(sym.WHILE,yyline,yytext());
+        case 53: 
+          { return token(sym.EXTENDS,"extends");
           }
         case 58: break;
-        case 43: 
-          { return new Token(sym.CLASS,yyline,yytext());
+        case 12: 
+          { return token(sym.LB,"[");
           }
         case 59: break;
-        case 22: 
-          { return new Token(sym.DOT,yyline,yytext());
+        case 31: 
+          { return token(sym.LTE,"<=");
           }
         case 60: break;
-        case 21: 
-          { return new Token(sym.COMMA,yyline,yytext());
+        case 45: 
+          { return token(sym.CLASS,"class");
           }
         case 61: break;
-        case 46: 
-          { return new Token(sym.RETURN,yyline,yytext());
+        case 50: 
+          { return token(sym.STATIC,"static");
           }
         case 62: break;
-        case 18: 
-          { return new Token(sym.GT,yyline,yytext());
+        case 44: 
+          { return token(sym.BREAK,"break");
           }
         case 63: break;
-        case 47: 
-          { return new Token(sym.STRING,yyline,yytext());
+        case 11: 
+          { return token(sym.LP,"(");
           }
         case 64: break;
-        case 12: 
-          { return new Token(sym.LB,yyline,yytext());
+        case 2: 
+          { return token(sym.INTEGER,integerValue());
           }
         case 65: break;
-        case 29: 
-          { return new Token(sym.LTE,yyline,yytext());
+        case 36: 
+          { return token(sym.QUOTE,stringValue());
           }
         case 66: break;
-        case 24: 
-          { yybegin(YYINITIAL);
+        case 52: 
+          { return token(sym.BOOLEAN,"boolean");
           }
         case 67: break;
-        case 32: 
-          { return new Token(sym.LOR,yyline,yytext());
+        case 6: 
+          { return token(sym.DIVIDE,"/");
           }
         case 68: break;
-        case 11: 
-          { return new Token(sym.LP,yyline,yytext());
+        case 23: 
+          { return token(sym.SEMI,";");
           }
         case 69: break;
-        case 45: 
-          { return new Token(sym.FALSE,yyline,yytext());
+        case 51: 
+          { return token(sym.LENGTH,"length");
           }
         case 70: break;
-        case 27: 
-          { return new Token(sym.EQUAL,yyline,yytext());
+        case 34: 
+          { return token(sym.LOR,"||");
           }
         case 71: break;
-        case 13: 
-          { return new Token(sym.LCBR,yyline,yytext());
+        case 43: 
+          { return token(sym.VOID,"void");
           }
         case 72: break;
-        case 35: 
-          { return new Token(sym.NEW,yyline,yytext());
+        case 20: 
+          { return token(sym.LNEG,"!");
           }
         case 73: break;
-        case 48: 
-          { return new Token(sym.STATIC,yyline,yytext());
+        case 25: 
+          { yybegin(YYINITIAL);
           }
         case 74: break;
-        case 40: 
-          { return new Token(sym.THIS,yyline,yytext());
+        case 32: 
+          { return token(sym.NEQUAL,"!=");
           }
         case 75: break;
-        case 26: 
-          { yybegin(COMMENT2);
+        case 15: 
+          { return token(sym.RB,"]");
           }
         case 76: break;
-        case 37: 
-          { return new Token(sym.ELSE,yyline,yytext());
+        case 19: 
+          { return token(sym.LT,"<");
           }
         case 77: break;
-        case 34: 
-          { String s = (yytext().substring(1,yytext().length()-1)).replace("\\n","\n").replace("\\\\","\\").replace("\\t","\t").replace("\\\"","\"");
-	return new Token(sym.QUOTE,yyline,s);
+        case 13: 
+          { return token(sym.LCBR,"{");
           }
         case 78: break;
-        case 28: 
-          { return new Token(sym.GTE,yyline,yytext());
+        case 17: 
+          { return token(sym.ASSIGN,"=");
           }
         case 79: break;
-        case 23: 
-          { return new Token(sym.SEMI,yyline,yytext());
+        case 9: 
+          { return token(sym.MINUS,"-");
           }
         case 80: break;
-        case 39: 
-          { return new Token(sym.TRUE,yyline,yytext());
+        case 29: 
+          { return token(sym.EQUAL,"==");
           }
         case 81: break;
-        case 25: 
-          { yybegin(COMMENT1);
+        case 3: 
+          { return token(sym.ID,name());
           }
         case 82: break;
-        case 2: 
-          { if (Math.abs(Long.parseLong(yytext())) >= (long)Math.pow(2,31)) throw new LexicalError("Lexical error: integer out of bound",yyline,yytext());
-									   else return new Token(sym.INTEGER,yyline,new Integer(yytext()));
+        case 30: 
+          { return token(sym.GTE,">=");
           }
         case 83: break;
-        case 1: 
-          { throw new LexicalError("Lexical error: illegal character",yyline,yytext());
+        case 40: 
+          { return token(sym.NULL,"null");
           }
         case 84: break;
-        case 15: 
-          { return new Token(sym.RB,yyline,yytext());
+        case 39: 
+          { return token(sym.ELSE,"else");
           }
         case 85: break;
-        case 52: 
-          { return new Token(sym.CONTINUE,yyline,yytext());
+        case 16: 
+          { return token(sym.RCBR,"}");
           }
         case 86: break;
-        case 19: 
-          { return new Token(sym.LT,yyline,yytext());
+        case 28: 
+          { yybegin(COMMENT2);
           }
         case 87: break;
-        case 51: 
-          { return new Token(sym.EXTENDS,yyline,yytext());
+        case 24: 
+          { throw new LexicalError("Lexical error: illegal character",yyline,"\"");
           }
         case 88: break;
-        case 14: 
-          { return new Token(sym.RP,yyline,yytext());
+        case 48: 
+          { return token(sym.RETURN,"return");
           }
         case 89: break;
-        case 20: 
-          { return new Token(sym.LNEG,yyline,yytext());
+        case 7: 
+          { return token(sym.MULTIPLY,"*");
           }
         case 90: break;
-        case 41: 
-          { return new Token(sym.VOID,yyline,yytext());
+        case 37: 
+          { return token(sym.NEW,"new");
           }
         case 91: break;
-        case 6: 
-          { return new Token(sym.DIVIDE,yyline,yytext());
+        case 35: 
+          { return token(sym.IF,"if");
           }
         case 92: break;
-        case 16: 
-          { return new Token(sym.RCBR,yyline,yytext());
+        case 27: 
+          { yybegin(COMMENT1);
           }
         case 93: break;
-        case 3: 
-          { return new Token(sym.ID,yyline,yytext());
+        case 47: 
+          { return token(sym.FALSE,"false");
           }
         case 94: break;
-        case 30: 
-          { return new Token(sym.NEQUAL,yyline,yytext());
+        case 41: 
+          { return token(sym.TRUE,"true");
           }
         case 95: break;
-        case 17: 
-          { return new Token(sym.ASSIGN,yyline,yytext());
+        case 4: 
+          { return token(sym.CLASS_ID,name());
           }
         case 96: break;
-        case 7: 
-          { return new Token(sym.MULTIPLY,yyline,yytext());
+        case 1: 
+          { throw new LexicalError("Lexical error: illegal character",yyline,yytext());
           }
         case 97: break;
-        case 10: 
-          { return new Token(sym.MOD,yyline,yytext());
+        case 8: 
+          { return token(sym.PLUS,"+");
           }
         case 98: break;
-        case 38: 
-          { return new Token(sym.NULL,yyline,yytext());
+        case 33: 
+          { return token(sym.LAND,"&&");
           }
         case 99: break;
-        case 4: 
-          { return new Token(sym.CLASS_ID,yyline,yytext());
+        case 26: 
+          { throw new LexicalError("Lexical error: illegal identifier, cannot start with a number",yyline,yytext());
           }
         case 100: break;
-        case 31: 
-          { return new Token(sym.LAND,yyline,yytext());
+        case 38: 
+          { return token(sym.INT,"int");
           }
         case 101: break;
-        case 9: 
-          { return new Token(sym.MINUS,yyline,yytext());
+        case 21: 
+          { return token(sym.COMMA,",");
           }
         case 102: break;
-        case 33: 
-          { return new Token(sym.IF,yyline,yytext());
+        case 49: 
+          { return token(sym.STRING,"string");
           }
         case 103: break;
+        case 42: 
+          { return token(sym.THIS,"this");
+          }
+        case 104: break;
+        case 18: 
+          { return token(sym.GT,">");
+          }
+        case 105: break;
+        case 54: 
+          { return token(sym.CONTINUE,"continue");
+          }
+        case 106: break;
+        case 22: 
+          { return token(sym.DOT,".");
+          }
+        case 107: break;
         case 5: 
           { 
           }
-        case 104: break;
+        case 108: break;
         default: 
           if (zzInput == YYEOF && zzStartRead == zzCurrentPos) {
             zzAtEOF = true;
             zzDoEOF();
-              { 	if (yystate() == COMMENT2) throw new LexicalError("Lexical error: Unexpected end of file",yyline, null);
-	else return new Token(sym.EOF,yyline,"EOF");
+              { 	if (yystate() == COMMENT2){
+		yybegin(YYINITIAL);
+		throw new LexicalError("Lexical error: Unexpected end of file",yyline, null);
+	}
+	else return token(sym.EOF,"EOF");
  }
           } 
           else {
@@ -23,6 +23,13 @@ public class LexicalError extends Exception
     	this.value = value;
     }
     
+    /**
+     * returns the line of the error
+     */
+    public int getLine(){
+    	return line;
+    }
+    
     /**
      * in case there is a value to be passed, passes a concatenation of line number,
      * message and value. Else returns only line number and message.
@@ -0,0 +1,102 @@
+package IC.Parser;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+
+import IC.AST.*;
+
+/**
+ * A cache of parsed library signature files
+ * the parsed library class is written to the cache directory in the binary AST format (as a program of the
+ * library class alone, see ASTBinaryWriter), named by the hash of the library file's content, so the next
+ * compiles with the same library file read the class from there instead of lexing and parsing the file again
+ * a cache file that cannot be read (of another format version, or broken) is ignored and written again
+ */
+public class LibraryCache {
+
+	private static final Charset latin1 = Charset.forName("ISO-8859-1");
+
+	private File dir;
+
+	/**
+	 * constructor
+	 * @param dir: the cache directory (created when the first library is cached)
+	 */
+	public LibraryCache(String dir){
+		this.dir = new File(dir);
+	}
+
+	/**
+	 * returns the library class of the given library file: read from the cache if the file was cached,
+	 * parsed and cached otherwise (a failure to write the cache is ignored)
+	 * @param libraryPath
+	 * @return
+	 * @throws Exception: an i/o exception, LexicalError, SyntaxError or SemanticError of the library file
+	 */
+	public ICClass load(String libraryPath) throws Exception {
+		byte[] source = readFile(new File(libraryPath));
+		File cacheFile = new File(dir, hash(source)+".icab");
+		if (cacheFile.isFile()){
+			try {
+				return ASTBinaryReader.read(ByteBuffer.wrap(readFile(cacheFile))).getClasses().get(0);
+			} catch (Exception e){} // unreadable cache file: parse the library again
+		}
+
+		Lexer lexer = new Lexer(new InputStreamReader(new ByteArrayInputStream(source), latin1));
+		ICClass library = (ICClass) new LibraryParser(lexer).parse().value; // may throw LexicalError, SyntaxError or SemanticError
+		try {
+			store(cacheFile, ASTBinaryWriter.toByteArray(new Program(Collections.singletonList(library))));
+		} catch (IOException e){}
+		return library;
+	}
+
+	/**
+	 * writes the data to the cache file: to a temporary file first, renamed to the cache file when complete,
+	 * so a concurrent compile never reads a partly written cache file
+	 */
+	private void store(File cacheFile, byte[] data) throws IOException {
+		dir.mkdirs();
+		File temp = File.createTempFile("library", ".tmp", dir);
+		try {
+			OutputStream out = new FileOutputStream(temp);
+			try {
+				out.write(data);
+			} finally {
+				out.close();
+			}
+			if (!temp.renameTo(cacheFile)) throw new IOException("cannot write "+cacheFile);
+		} finally {
+			temp.delete();
+		}
+	}
+
+	private static byte[] readFile(File file) throws IOException {
+		DataInputStream in = new DataInputStream(new FileInputStream(file));
+		try {
+			byte[] data = new byte[(int) file.length()];
+			in.readFully(data);
+			return data;
+		} finally {
+			in.close();
+		}
+	}
+
+	/**
+	 * returns the SHA-256 hash of the data, in hexadecimal digits
+	 */
+	private static String hash(byte[] data){
+		try {
+			StringBuilder text = new StringBuilder();
+			for (byte b: MessageDigest.getInstance("SHA-256").digest(data)){
+				text.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+			}
+			return text.toString();
+		} catch (NoSuchAlgorithmException e){ // every java platform has SHA-256
+			throw new RuntimeException(e);
+		}
+	}
+}
@@ -0,0 +1,73 @@
+package IC.Parser;
+
+import java.io.*;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A reader of a source file that memory-maps the file and decodes its bytes directly
+ * into the reader's caller buffer (the lexer's buffer), with no intermediate buffering
+ * - IC sources are ASCII: every byte is read as one character (ISO-8859-1)
+ * - the file is mapped in windows of at most windowSize bytes, one at a time
+ * - use open() to get a reader of any file: files that are not regular files (pipes, devices)
+ *   are read as a stream, with a FileReader
+ */
+public class MappedFileReader extends Reader {
+
+	// maximal size of a mapped window of the file
+	private static final long windowSize = 64 << 20;
+
+	private FileChannel channel;
+	private long size;
+	// position of the current window in the file
+	private long windowStart = 0;
+	private MappedByteBuffer window;
+
+	private MappedFileReader(FileChannel channel) throws IOException {
+		this.channel = channel;
+		this.size = channel.size();
+		mapWindow(0);
+	}
+
+	/**
+	 * opens the given source file: memory-mapped if it is a regular file, streamed otherwise
+	 * @param fileName
+	 * @return
+	 * @throws IOException if the file cannot be opened
+	 */
+	public static Reader open(String fileName) throws IOException {
+		if (!new File(fileName).isFile()) return new FileReader(fileName);
+		FileChannel channel = new FileInputStream(fileName).getChannel();
+		try {
+			return new MappedFileReader(channel);
+		} catch (IOException e){
+			channel.close();
+			throw e;
+		}
+	}
+
+	private void mapWindow(long start) throws IOException {
+		windowStart = start;
+		window = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(windowSize, size-start));
+	}
+
+	public int read(char[] buffer, int offset, int length) throws IOException {
+		if (window == null) throw new IOException("Stream closed");
+		if (!window.hasRemaining()){
+			long next = windowStart+window.limit();
+			if (next >= size) return -1;
+			mapWindow(next);
+		}
+
+		int count = Math.min(length, window.remaining());
+		for (int i = offset; i < offset+count; i++){
+			buffer[i] = (char) (window.get() & 0xff);
+		}
+		return count;
+	}
+
+	public void close() throws IOException {
+		window = null;
+		channel.close();
+	}
+}
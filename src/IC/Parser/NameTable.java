@@ -0,0 +1,58 @@
+package IC.Parser;
+
+/**
+ * The table of the identifiers names read by the lexer
+ * a name is looked up directly in the lexer's buffer, so a String is created only for the
+ * first occurrence of every name, and the tokens of a repeated name share the same instance
+ */
+public class NameTable {
+
+	// open addressing hash table of the names (its size is a power of 2)
+	private String[] names = new String[256];
+	private int count = 0;
+
+	/**
+	 * returns the name in buffer[start..start+length), creating it on its first occurrence
+	 */
+	public String intern(char[] buffer, int start, int length){
+		// same hash as String.hashCode
+		int hash = 0;
+		for (int i = start; i < start+length; i++){
+			hash = 31*hash+buffer[i];
+		}
+
+		int mask = names.length-1;
+		int i = hash & mask;
+		for (; names[i] != null; i = (i+1) & mask){
+			if (names[i].hashCode() == hash && matches(names[i], buffer, start, length)) return names[i];
+		}
+
+		String name = new String(buffer, start, length);
+		names[i] = name;
+		if (++count*2 > names.length) grow();
+		return name;
+	}
+
+	private static boolean matches(String name, char[] buffer, int start, int length){
+		if (name.length() != length) return false;
+		for (int i = 0; i < length; i++){
+			if (name.charAt(i) != buffer[start+i]) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * doubles the table's size
+	 */
+	private void grow(){
+		String[] old = names;
+		names = new String[old.length*2];
+		int mask = names.length-1;
+		for (String name: old){
+			if (name == null) continue;
+			int i = name.hashCode() & mask;
+			while (names[i] != null) i = (i+1) & mask;
+			names[i] = name;
+		}
+	}
+}
@@ -0,0 +1,76 @@
+package IC.Parser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The error class thrown by the parser when the source has lexical or syntax errors
+ * the parser recovers from an error and goes on parsing, so this exception class contains
+ * all the errors found, in the source order (at most maxErrors of them)
+ */
+public class ParseErrors extends Exception {
+	private static final long serialVersionUID = 3517862870931754209L;
+
+	// maximal number of errors reported: the parser stops at the next error
+	private static int maxErrors = 20;
+
+	private List<Exception> errors = new ArrayList<Exception>();
+	// number of errors found but not reported
+	private int dropped = 0;
+
+	/**
+	 * sets the maximal number of errors reported (20 by default)
+	 * @param max
+	 */
+	public static void setMaxErrors(int max){
+		maxErrors = max;
+	}
+
+	/**
+	 * adds an error (a LexicalError or a SyntaxError)
+	 * @param error
+	 * @return false if there are too many errors to go on parsing (the error is not reported)
+	 */
+	public boolean add(Exception error){
+		if (errors.size() < maxErrors){
+			errors.add(error);
+			return true;
+		}
+		dropped++;
+		return false;
+	}
+
+	/**
+	 * returns the errors found
+	 */
+	public List<Exception> getErrors(){
+		return errors;
+	}
+
+	/**
+	 * returns the line of the last error found, or -1 if there is none
+	 */
+	public int getLastLine(){
+		if (errors.isEmpty()) return -1;
+		Exception last = errors.get(errors.size()-1);
+		if (last instanceof LexicalError) return ((LexicalError) last).getLine();
+		return ((SyntaxError) last).getLine();
+	}
+
+	public boolean isEmpty(){
+		return errors.isEmpty();
+	}
+
+	/**
+	 * returns the errors, one per line (a single error is written the same as its own toString)
+	 */
+	public String toString(){
+		StringBuffer text = new StringBuffer();
+		for (Exception error: errors){
+			if (text.length() > 0) text.append("\n");
+			text.append(error.toString());
+		}
+		if (dropped > 0) text.append("\ntoo many errors, "+dropped+" more errors not reported");
+		return text.toString();
+	}
+}
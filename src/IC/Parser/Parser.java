@@ -1,7 +1,7 @@
 
 //----------------------------------------------------
 // The following code was generated by CUP v0.11a beta 20060608
-// Sat Nov 28 18:17:40 IST 2009
+// Mon Oct 19 11:13:01 UTC 2026
 //----------------------------------------------------
 
 package IC.Parser;
@@ -13,7 +13,7 @@ import IC.AST.*;
 import java_cup.runtime.*;
 
 /** CUP v0.11a beta 20060608 generated parser.
-  * @version Sat Nov 28 18:17:40 IST 2009
+  * @version Mon Oct 19 11:13:01 UTC 2026
   */
 public class Parser extends java_cup.runtime.lr_parser {
 
@@ -29,34 +29,35 @@ public class Parser extends java_cup.runtime.lr_parser {
   /** Production table. */
   protected static final short _production_table[][] = 
     unpackFromStrings(new String[] {
-    "\000\130\000\002\002\003\000\002\002\004\000\002\005" +
+    "\000\135\000\002\002\003\000\002\002\004\000\002\005" +
     "\003\000\002\005\004\000\002\003\006\000\002\003\007" +
-    "\000\002\003\010\000\002\003\011\000\002\004\003\000" +
-    "\002\004\003\000\002\004\004\000\002\004\004\000\002" +
-    "\006\005\000\002\007\003\000\002\007\005\000\002\010" +
-    "\012\000\002\010\012\000\002\010\013\000\002\010\013" +
-    "\000\002\010\011\000\002\010\011\000\002\010\012\000" +
-    "\002\010\012\000\002\012\003\000\002\012\005\000\002" +
-    "\011\004\000\002\013\003\000\002\013\003\000\002\013" +
-    "\003\000\002\013\003\000\002\013\005\000\002\015\002" +
-    "\000\002\015\004\000\002\014\006\000\002\014\004\000" +
-    "\002\014\004\000\002\014\005\000\002\014\011\000\002" +
-    "\014\007\000\002\014\007\000\002\014\004\000\002\014" +
-    "\004\000\002\014\005\000\002\014\005\000\002\014\007" +
-    "\000\002\017\003\000\002\017\003\000\002\017\003\000" +
-    "\002\017\006\000\002\017\007\000\002\017\005\000\002" +
-    "\017\003\000\002\017\003\000\002\017\003\000\002\017" +
-    "\005\000\002\021\003\000\002\021\003\000\002\022\007" +
-    "\000\002\022\010\000\002\023\005\000\002\023\006\000" +
-    "\002\023\007\000\002\023\010\000\002\020\003\000\002" +
-    "\020\005\000\002\016\003\000\002\016\005\000\002\016" +
-    "\006\000\002\024\005\000\002\024\005\000\002\024\005" +
-    "\000\002\024\005\000\002\024\005\000\002\024\005\000" +
+    "\000\002\003\010\000\002\003\011\000\002\003\005\000" +
+    "\002\004\003\000\002\004\003\000\002\004\004\000\002" +
+    "\004\004\000\002\006\005\000\002\006\004\000\002\007" +
+    "\003\000\002\007\005\000\002\010\012\000\002\010\012" +
+    "\000\002\010\013\000\002\010\013\000\002\010\011\000" +
+    "\002\010\011\000\002\010\012\000\002\010\012\000\002" +
+    "\010\006\000\002\012\003\000\002\012\005\000\002\011" +
+    "\004\000\002\013\003\000\002\013\003\000\002\013\003" +
+    "\000\002\013\003\000\002\013\005\000\002\015\002\000" +
+    "\002\015\004\000\002\014\006\000\002\014\004\000\002" +
+    "\014\004\000\002\014\005\000\002\014\011\000\002\014" +
+    "\007\000\002\014\007\000\002\014\004\000\002\014\004" +
+    "\000\002\014\005\000\002\014\005\000\002\014\007\000" +
+    "\002\014\004\000\002\014\006\000\002\017\003\000\002" +
+    "\017\003\000\002\017\003\000\002\017\006\000\002\017" +
+    "\007\000\002\017\005\000\002\017\003\000\002\017\003" +
+    "\000\002\017\003\000\002\017\005\000\002\021\003\000" +
+    "\002\021\003\000\002\022\007\000\002\022\010\000\002" +
+    "\023\005\000\002\023\006\000\002\023\007\000\002\023" +
+    "\010\000\002\020\003\000\002\020\005\000\002\016\003" +
+    "\000\002\016\005\000\002\016\006\000\002\024\005\000" +
     "\002\024\005\000\002\024\005\000\002\024\005\000\002" +
     "\024\005\000\002\024\005\000\002\024\005\000\002\024" +
-    "\005\000\002\025\004\000\002\025\004\000\002\026\003" +
-    "\000\002\026\003\000\002\026\003\000\002\026\003\000" +
-    "\002\026\003" });
+    "\005\000\002\024\005\000\002\024\005\000\002\024\005" +
+    "\000\002\024\005\000\002\024\005\000\002\025\004\000" +
+    "\002\025\004\000\002\026\003\000\002\026\003\000\002" +
+    "\026\003\000\002\026\003\000\002\026\003" });
 
   /** Access to production table. */
   public short[][] production_table() {return _production_table;}
@@ -64,428 +65,232 @@ public class Parser extends java_cup.runtime.lr_parser {
   /** Parse-action table. */
   protected static final short[][] _action_table = 
     unpackFromStrings(new String[] {
-    "\000\313\000\004\055\007\001\002\000\006\002\001\055" +
-    "\007\001\002\000\004\002\314\001\002\000\006\002\uffff" +
-    "\055\uffff\001\002\000\004\057\010\001\002\000\006\015" +
-    "\012\036\011\001\002\000\004\057\307\001\002\000\020" +
-    "\016\023\050\015\052\017\053\016\054\014\056\021\057" +
-    "\020\001\002\000\020\016\ufff8\050\ufff8\052\ufff8\053\ufff8" +
-    "\054\ufff8\056\ufff8\057\ufff8\001\002\000\006\013\uffe7\060" +
-    "\uffe7\001\002\000\014\052\260\053\016\054\014\056\021" +
-    "\057\020\001\002\000\006\013\uffe6\060\uffe6\001\002\000" +
-    "\004\060\244\001\002\000\006\013\uffe4\060\uffe4\001\002" +
-    "\000\006\013\uffe5\060\uffe5\001\002\000\020\016\242\050" +
-    "\015\052\017\053\016\054\014\056\021\057\020\001\002" +
-    "\000\006\002\ufffd\055\ufffd\001\002\000\006\013\030\060" +
-    "\026\001\002\000\020\016\ufff9\050\ufff9\052\ufff9\053\ufff9" +
-    "\054\ufff9\056\ufff9\057\ufff9\001\002\000\010\011\035\017" +
-    "\ufff4\020\ufff4\001\002\000\006\017\033\020\032\001\002" +
-    "\000\004\014\031\001\002\000\006\013\uffe3\060\uffe3\001" +
-    "\002\000\004\060\034\001\002\000\020\016\ufff5\050\ufff5" +
-    "\052\ufff5\053\ufff5\054\ufff5\056\ufff5\057\ufff5\001\002\000" +
-    "\006\017\ufff3\020\ufff3\001\002\000\014\012\041\053\016" +
-    "\054\014\056\021\057\020\001\002\000\006\012\234\020" +
-    "\233\001\002\000\006\012\uffea\020\uffea\001\002\000\006" +
-    "\013\030\060\232\001\002\000\004\015\042\001\002\000" +
-    "\056\007\uffe2\011\uffe2\015\uffe2\016\uffe2\033\uffe2\034\uffe2" +
-    "\035\uffe2\037\uffe2\040\uffe2\042\uffe2\043\uffe2\045\uffe2\046" +
-    "\uffe2\047\uffe2\051\uffe2\053\uffe2\054\uffe2\056\uffe2\057\uffe2" +
-    "\060\uffe2\061\uffe2\062\uffe2\001\002\000\056\007\067\011" +
-    "\050\015\046\016\100\033\063\034\065\035\045\037\051" +
-    "\040\057\042\055\043\070\045\072\046\076\047\054\051" +
-    "\062\053\016\054\014\056\021\057\074\060\061\061\073" +
-    "\062\064\001\002\000\042\004\uffd4\005\uffd4\006\uffd4\007" +
-    "\uffd4\010\uffd4\013\uffd4\021\uffd4\022\uffd4\023\227\024\uffd4" +
-    "\025\uffd4\026\uffd4\027\uffd4\030\uffd4\031\uffd4\032\uffd4\001" +
-    "\002\000\004\017\226\001\002\000\056\007\uffe2\011\uffe2" +
-    "\015\uffe2\016\uffe2\033\uffe2\034\uffe2\035\uffe2\037\uffe2\040" +
-    "\uffe2\042\uffe2\043\uffe2\045\uffe2\046\uffe2\047\uffe2\051\uffe2" +
-    "\053\uffe2\054\uffe2\056\uffe2\057\uffe2\060\uffe2\061\uffe2\062" +
-    "\uffe2\001\002\000\040\004\122\005\117\006\130\007\116" +
-    "\010\124\013\133\021\131\022\125\024\120\025\132\026" +
-    "\123\027\134\030\126\031\121\032\127\001\002\000\032" +
-    "\007\067\011\050\033\063\042\055\043\070\045\072\046" +
-    "\076\051\062\057\112\060\061\061\073\062\064\001\002" +
-    "\000\004\011\216\001\002\000\006\013\030\060\211\001" +
-    "\002\000\050\004\uffc9\005\uffc9\006\uffc9\007\uffc9\010\uffc9" +
-    "\012\uffc9\013\uffc9\014\uffc9\017\uffc9\020\uffc9\021\uffc9\022" +
-    "\uffc9\024\uffc9\025\uffc9\026\uffc9\027\uffc9\030\uffc9\031\uffc9" +
-    "\032\uffc9\001\002\000\034\007\067\011\050\017\207\033" +
-    "\063\042\055\043\070\045\072\046\076\051\062\057\112" +
-    "\060\061\061\073\062\064\001\002\000\050\004\uffac\005" +
-    "\uffac\006\uffac\007\uffac\010\uffac\012\uffac\013\uffac\014\uffac" +
-    "\017\uffac\020\uffac\021\uffac\022\uffac\024\uffac\025\uffac\026" +
-    "\uffac\027\uffac\030\uffac\031\uffac\032\uffac\001\002\000\050" +
-    "\004\uffca\005\uffca\006\uffca\007\uffca\010\uffca\012\uffca\013" +
-    "\uffca\014\uffca\017\uffca\020\uffca\021\uffca\022\uffca\024\uffca" +
-    "\025\uffca\026\uffca\027\uffca\030\uffca\031\uffca\032\uffca\001" +
-    "\002\000\004\011\200\001\002\000\050\004\uffce\005\uffce" +
-    "\006\uffce\007\uffce\010\uffce\012\uffce\013\uffce\014\uffce\017" +
-    "\uffce\020\uffce\021\uffce\022\uffce\024\uffce\025\uffce\026\uffce" +
-    "\027\uffce\030\uffce\031\uffce\032\uffce\001\002\000\054\004" +
-    "\uffc0\005\uffc0\006\uffc0\007\uffc0\010\uffc0\011\174\012\uffc0" +
-    "\013\uffc0\014\uffc0\017\uffc0\020\uffc0\021\uffc0\022\uffc0\023" +
-    "\uffc0\024\uffc0\025\uffc0\026\uffc0\027\uffc0\030\uffc0\031\uffc0" +
-    "\032\uffc0\001\002\000\050\004\uffd2\005\uffd2\006\uffd2\007" +
-    "\uffd2\010\uffd2\012\uffd2\013\uffd2\014\uffd2\017\uffd2\020\uffd2" +
-    "\021\uffd2\022\uffd2\024\uffd2\025\uffd2\026\uffd2\027\uffd2\030" +
-    "\uffd2\031\uffd2\032\uffd2\001\002\000\032\007\067\011\050" +
-    "\033\063\042\055\043\070\045\072\046\076\051\062\057" +
-    "\112\060\061\061\073\062\064\001\002\000\050\004\uffad" +
-    "\005\uffad\006\uffad\007\uffad\010\uffad\012\uffad\013\uffad\014" +
-    "\uffad\017\uffad\020\uffad\021\uffad\022\uffad\024\uffad\025\uffad" +
-    "\026\uffad\027\uffad\030\uffad\031\uffad\032\uffad\001\002\000" +
-    "\004\017\172\001\002\000\050\004\uffcd\005\uffcd\006\uffcd" +
-    "\007\uffcd\010\uffcd\012\uffcd\013\uffcd\014\uffcd\017\uffcd\020" +
-    "\uffcd\021\uffcd\022\uffcd\024\uffcd\025\uffcd\026\uffcd\027\uffcd" +
-    "\030\uffcd\031\uffcd\032\uffcd\001\002\000\032\007\067\011" +
-    "\050\033\063\042\055\043\070\045\072\046\076\051\062" +
-    "\057\112\060\061\061\073\062\064\001\002\000\050\004" +
-    "\uffab\005\uffab\006\uffab\007\uffab\010\uffab\012\uffab\013\uffab" +
-    "\014\uffab\017\uffab\020\uffab\021\uffab\022\uffab\024\uffab\025" +
-    "\uffab\026\uffab\027\uffab\030\uffab\031\uffab\032\uffab\001\002" +
-    "\000\050\004\uffcc\005\uffcc\006\uffcc\007\uffcc\010\uffcc\012" +
-    "\uffcc\013\uffcc\014\uffcc\017\uffcc\020\uffcc\021\uffcc\022\uffcc" +
-    "\024\uffcc\025\uffcc\026\uffcc\027\uffcc\030\uffcc\031\uffcc\032" +
-    "\uffcc\001\002\000\012\053\016\054\014\056\021\057\162" +
-    "\001\002\000\050\004\uffae\005\uffae\006\uffae\007\uffae\010" +
-    "\uffae\012\uffae\013\uffae\014\uffae\017\uffae\020\uffae\021\uffae" +
-    "\022\uffae\024\uffae\025\uffae\026\uffae\027\uffae\030\uffae\031" +
-    "\uffae\032\uffae\001\002\000\010\013\uffe4\021\102\060\uffe4" +
-    "\001\002\000\042\004\uffd3\005\uffd3\006\uffd3\007\uffd3\010" +
-    "\uffd3\013\uffd3\017\101\021\uffd3\022\uffd3\024\uffd3\025\uffd3" +
-    "\026\uffd3\027\uffd3\030\uffd3\031\uffd3\032\uffd3\001\002\000" +
-    "\050\004\uffaa\005\uffaa\006\uffaa\007\uffaa\010\uffaa\012\uffaa" +
-    "\013\uffaa\014\uffaa\017\uffaa\020\uffaa\021\uffaa\022\uffaa\024" +
-    "\uffaa\025\uffaa\026\uffaa\027\uffaa\030\uffaa\031\uffaa\032\uffaa" +
-    "\001\002\000\056\007\uffe1\011\uffe1\015\uffe1\016\uffe1\033" +
-    "\uffe1\034\uffe1\035\uffe1\037\uffe1\040\uffe1\042\uffe1\043\uffe1" +
-    "\045\uffe1\046\uffe1\047\uffe1\051\uffe1\053\uffe1\054\uffe1\056" +
-    "\uffe1\057\uffe1\060\uffe1\061\uffe1\062\uffe1\001\002\000\020" +
-    "\016\uffed\050\uffed\052\uffed\053\uffed\054\uffed\056\uffed\057" +
-    "\uffed\001\002\000\060\007\uffdf\011\uffdf\015\uffdf\016\uffdf" +
-    "\033\uffdf\034\uffdf\035\uffdf\037\uffdf\040\uffdf\041\uffdf\042" +
-    "\uffdf\043\uffdf\045\uffdf\046\uffdf\047\uffdf\051\uffdf\053\uffdf" +
-    "\054\uffdf\056\uffdf\057\uffdf\060\uffdf\061\uffdf\062\uffdf\001" +
-    "\002\000\004\060\103\001\002\000\004\011\104\001\002" +
-    "\000\034\007\067\011\050\012\107\033\063\042\055\043" +
-    "\070\045\072\046\076\051\062\057\112\060\061\061\073" +
-    "\062\064\001\002\000\050\004\uffd4\005\uffd4\006\uffd4\007" +
-    "\uffd4\010\uffd4\012\uffd4\013\uffd4\014\uffd4\017\uffd4\020\uffd4" +
-    "\021\uffd4\022\uffd4\024\uffd4\025\uffd4\026\uffd4\027\uffd4\030" +
-    "\uffd4\031\uffd4\032\uffd4\001\002\000\044\004\122\005\117" +
-    "\006\130\007\116\010\124\012\uffc2\013\133\020\uffc2\021" +
-    "\131\022\125\024\120\025\132\026\123\027\134\030\126" +
-    "\031\121\032\127\001\002\000\050\004\uffc8\005\uffc8\006" +
-    "\uffc8\007\uffc8\010\uffc8\012\uffc8\013\uffc8\014\uffc8\017\uffc8" +
-    "\020\uffc8\021\uffc8\022\uffc8\024\uffc8\025\uffc8\026\uffc8\027" +
-    "\uffc8\030\uffc8\031\uffc8\032\uffc8\001\002\000\006\012\114" +
-    "\020\113\001\002\000\050\004\uffd3\005\uffd3\006\uffd3\007" +
-    "\uffd3\010\uffd3\012\uffd3\013\uffd3\014\uffd3\017\uffd3\020\uffd3" +
-    "\021\uffd3\022\uffd3\024\uffd3\025\uffd3\026\uffd3\027\uffd3\030" +
-    "\uffd3\031\uffd3\032\uffd3\001\002\000\004\021\102\001\002" +
-    "\000\032\007\067\011\050\033\063\042\055\043\070\045" +
-    "\072\046\076\051\062\057\112\060\061\061\073\062\064" +
-    "\001\002\000\050\004\uffc7\005\uffc7\006\uffc7\007\uffc7\010" +
-    "\uffc7\012\uffc7\013\uffc7\014\uffc7\017\uffc7\020\uffc7\021\uffc7" +
-    "\022\uffc7\024\uffc7\025\uffc7\026\uffc7\027\uffc7\030\uffc7\031" +
-    "\uffc7\032\uffc7\001\002\000\044\004\122\005\117\006\130" +
-    "\007\116\010\124\012\uffc1\013\133\020\uffc1\021\131\022" +
-    "\125\024\120\025\132\026\123\027\134\030\126\031\121" +
-    "\032\127\001\002\000\032\007\067\011\050\033\063\042" +
-    "\055\043\070\045\072\046\076\051\062\057\112\060\061" +
-    "\061\073\062\064\001\002\000\032\007\067\011\050\033" +
-    "\063\042\055\043\070\045\072\046\076\051\062\057\112" +
-    "\060\061\061\073\062\064\001\002\000\032\007\067\011" +
-    "\050\033\063\042\055\043\070\045\072\046\076\051\062" +
-    "\057\112\060\061\061\073\062\064\001\002\000\032\007" +
-    "\067\011\050\033\063\042\055\043\070\045\072\046\076" +
-    "\051\062\057\112\060\061\061\073\062\064\001\002\000" +
-    "\032\007\067\011\050\033\063\042\055\043\070\045\072" +
-    "\046\076\051\062\057\112\060\061\061\073\062\064\001" +
-    "\002\000\032\007\067\011\050\033\063\042\055\043\070" +
-    "\045\072\046\076\051\062\057\112\060\061\061\073\062" +
-    "\064\001\002\000\032\007\067\011\050\033\063\042\055" +
-    "\043\070\045\072\046\076\051\062\057\112\060\061\061" +
-    "\073\062\064\001\002\000\032\007\067\011\050\033\063" +
-    "\042\055\043\070\045\072\046\076\051\062\057\112\060" +
-    "\061\061\073\062\064\001\002\000\032\007\067\011\050" +
-    "\033\063\042\055\043\070\045\072\046\076\051\062\057" +
-    "\112\060\061\061\073\062\064\001\002\000\032\007\067" +
-    "\011\050\033\063\042\055\043\070\045\072\046\076\051" +
-    "\062\057\112\060\061\061\073\062\064\001\002\000\032" +
-    "\007\067\011\050\033\063\042\055\043\070\045\072\046" +
-    "\076\051\062\057\112\060\061\061\073\062\064\001\002" +
-    "\000\006\044\142\060\141\001\002\000\032\007\067\011" +
-    "\050\033\063\042\055\043\070\045\072\046\076\051\062" +
-    "\057\112\060\061\061\073\062\064\001\002\000\032\007" +
-    "\067\011\050\033\063\042\055\043\070\045\072\046\076" +
-    "\051\062\057\112\060\061\061\073\062\064\001\002\000" +
-    "\032\007\067\011\050\033\063\042\055\043\070\045\072" +
-    "\046\076\051\062\057\112\060\061\061\073\062\064\001" +
-    "\002\000\050\004\122\005\117\006\130\007\116\010\124" +
-    "\012\uffb6\013\133\014\uffb6\017\uffb6\020\uffb6\021\131\022" +
-    "\uffb6\024\uffb6\025\uffb6\026\uffb6\027\uffb6\030\uffb6\031\uffb6" +
-    "\032\uffb6\001\002\000\042\004\122\005\117\006\130\007" +
-    "\116\010\124\013\133\014\137\021\131\022\125\024\120" +
-    "\025\132\026\123\027\134\030\126\031\121\032\127\001" +
-    "\002\000\052\004\uffbe\005\uffbe\006\uffbe\007\uffbe\010\uffbe" +
-    "\012\uffbe\013\uffbe\014\uffbe\017\uffbe\020\uffbe\021\uffbe\022" +
-    "\uffbe\023\uffbe\024\uffbe\025\uffbe\026\uffbe\027\uffbe\030\uffbe" +
-    "\031\uffbe\032\uffbe\001\002\000\050\004\122\005\117\006" +
-    "\130\007\116\010\124\012\uffb4\013\133\014\uffb4\017\uffb4" +
-    "\020\uffb4\021\131\022\uffb4\024\uffb4\025\uffb4\026\uffb4\027" +
-    "\uffb4\030\uffb4\031\uffb4\032\uffb4\001\002\000\054\004\uffbf" +
-    "\005\uffbf\006\uffbf\007\uffbf\010\uffbf\011\143\012\uffbf\013" +
-    "\uffbf\014\uffbf\017\uffbf\020\uffbf\021\uffbf\022\uffbf\023\uffbf" +
-    "\024\uffbf\025\uffbf\026\uffbf\027\uffbf\030\uffbf\031\uffbf\032" +
-    "\uffbf\001\002\000\050\004\uffcf\005\uffcf\006\uffcf\007\uffcf" +
-    "\010\uffcf\012\uffcf\013\uffcf\014\uffcf\017\uffcf\020\uffcf\021" +
-    "\uffcf\022\uffcf\024\uffcf\025\uffcf\026\uffcf\027\uffcf\030\uffcf" +
-    "\031\uffcf\032\uffcf\001\002\000\034\007\067\011\050\012" +
-    "\144\033\063\042\055\043\070\045\072\046\076\051\062" +
-    "\057\112\060\061\061\073\062\064\001\002\000\050\004" +
-    "\uffc4\005\uffc4\006\uffc4\007\uffc4\010\uffc4\012\uffc4\013\uffc4" +
-    "\014\uffc4\017\uffc4\020\uffc4\021\uffc4\022\uffc4\024\uffc4\025" +
-    "\uffc4\026\uffc4\027\uffc4\030\uffc4\031\uffc4\032\uffc4\001\002" +
-    "\000\006\012\146\020\113\001\002\000\050\004\uffc3\005" +
-    "\uffc3\006\uffc3\007\uffc3\010\uffc3\012\uffc3\013\uffc3\014\uffc3" +
-    "\017\uffc3\020\uffc3\021\uffc3\022\uffc3\024\uffc3\025\uffc3\026" +
-    "\uffc3\027\uffc3\030\uffc3\031\uffc3\032\uffc3\001\002\000\050" +
-    "\004\122\005\117\006\uffbd\007\uffbd\010\124\012\uffbd\013" +
-    "\133\014\uffbd\017\uffbd\020\uffbd\021\131\022\uffbd\024\uffbd" +
-    "\025\uffbd\026\uffbd\027\uffbd\030\uffbd\031\uffbd\032\uffbd\001" +
-    "\002\000\050\004\122\005\117\006\130\007\116\010\124" +
-    "\012\uffb7\013\133\014\uffb7\017\uffb7\020\uffb7\021\131\022" +
-    "\125\024\120\025\132\026\123\027\134\030\126\031\121" +
-    "\032\uffb7\001\002\000\050\004\122\005\117\006\130\007" +
-    "\116\010\124\012\uffb1\013\133\014\uffb1\017\uffb1\020\uffb1" +
-    "\021\131\022\uffb1\024\120\025\132\026\123\027\134\030" +
-    "\uffb1\031\uffb1\032\uffb1\001\002\000\050\004\122\005\117" +
-    "\006\130\007\116\010\124\012\uffb2\013\133\014\uffb2\017" +
-    "\uffb2\020\uffb2\021\131\022\uffb2\024\120\025\132\026\123" +
-    "\027\134\030\uffb2\031\uffb2\032\uffb2\001\002\000\050\004" +
-    "\uffb9\005\uffb9\006\uffb9\007\uffb9\010\uffb9\012\uffb9\013\133" +
-    "\014\uffb9\017\uffb9\020\uffb9\021\131\022\uffb9\024\uffb9\025" +
-    "\uffb9\026\uffb9\027\uffb9\030\uffb9\031\uffb9\032\uffb9\001\002" +
-    "\000\050\004\122\005\117\006\130\007\116\010\124\012" +
-    "\uffb5\013\133\014\uffb5\017\uffb5\020\uffb5\021\131\022\uffb5" +
-    "\024\uffb5\025\uffb5\026\uffb5\027\uffb5\030\uffb5\031\uffb5\032" +
-    "\uffb5\001\002\000\050\004\uffbb\005\uffbb\006\uffbb\007\uffbb" +
-    "\010\uffbb\012\uffbb\013\133\014\uffbb\017\uffbb\020\uffbb\021" +
-    "\131\022\uffbb\024\uffbb\025\uffbb\026\uffbb\027\uffbb\030\uffbb" +
-    "\031\uffbb\032\uffbb\001\002\000\050\004\122\005\117\006" +
-    "\130\007\116\010\124\012\uffb8\013\133\014\uffb8\017\uffb8" +
-    "\020\uffb8\021\131\022\125\024\120\025\132\026\123\027" +
-    "\134\030\126\031\uffb8\032\uffb8\001\002\000\050\004\122" +
-    "\005\117\006\130\007\116\010\124\012\uffb3\013\133\014" +
-    "\uffb3\017\uffb3\020\uffb3\021\131\022\uffb3\024\uffb3\025\uffb3" +
-    "\026\uffb3\027\uffb3\030\uffb3\031\uffb3\032\uffb3\001\002\000" +
-    "\050\004\uffba\005\uffba\006\uffba\007\uffba\010\uffba\012\uffba" +
-    "\013\133\014\uffba\017\uffba\020\uffba\021\131\022\uffba\024" +
-    "\uffba\025\uffba\026\uffba\027\uffba\030\uffba\031\uffba\032\uffba" +
-    "\001\002\000\050\004\122\005\117\006\uffbc\007\uffbc\010" +
-    "\124\012\uffbc\013\133\014\uffbc\017\uffbc\020\uffbc\021\131" +
-    "\022\uffbc\024\uffbc\025\uffbc\026\uffbc\027\uffbc\030\uffbc\031" +
-    "\uffbc\032\uffbc\001\002\000\006\011\167\013\uffe4\001\002" +
-    "\000\004\013\164\001\002\000\034\007\067\011\050\014" +
-    "\031\033\063\042\055\043\070\045\072\046\076\051\062" +
-    "\057\112\060\061\061\073\062\064\001\002\000\042\004" +
-    "\122\005\117\006\130\007\116\010\124\013\133\014\166" +
-    "\021\131\022\125\024\120\025\132\026\123\027\134\030" +
-    "\126\031\121\032\127\001\002\000\050\004\uffd0\005\uffd0" +
-    "\006\uffd0\007\uffd0\010\uffd0\012\uffd0\013\uffd0\014\uffd0\017" +
-    "\uffd0\020\uffd0\021\uffd0\022\uffd0\024\uffd0\025\uffd0\026\uffd0" +
-    "\027\uffd0\030\uffd0\031\uffd0\032\uffd0\001\002\000\004\012" +
-    "\170\001\002\000\050\004\uffd1\005\uffd1\006\uffd1\007\uffd1" +
-    "\010\uffd1\012\uffd1\013\uffd1\014\uffd1\017\uffd1\020\uffd1\021" +
-    "\uffd1\022\uffd1\024\uffd1\025\uffd1\026\uffd1\027\uffd1\030\uffd1" +
-    "\031\uffd1\032\uffd1\001\002\000\050\004\uffb0\005\uffb0\006" +
-    "\uffb0\007\uffb0\010\uffb0\012\uffb0\013\133\014\uffb0\017\uffb0" +
-    "\020\uffb0\021\131\022\uffb0\024\uffb0\025\uffb0\026\uffb0\027" +
-    "\uffb0\030\uffb0\031\uffb0\032\uffb0\001\002\000\060\007\uffd9" +
-    "\011\uffd9\015\uffd9\016\uffd9\033\uffd9\034\uffd9\035\uffd9\037" +
-    "\uffd9\040\uffd9\041\uffd9\042\uffd9\043\uffd9\045\uffd9\046\uffd9" +
-    "\047\uffd9\051\uffd9\053\uffd9\054\uffd9\056\uffd9\057\uffd9\060" +
-    "\uffd9\061\uffd9\062\uffd9\001\002\000\050\004\uffaf\005\uffaf" +
-    "\006\uffaf\007\uffaf\010\uffaf\012\uffaf\013\133\014\uffaf\017" +
-    "\uffaf\020\uffaf\021\131\022\uffaf\024\uffaf\025\uffaf\026\uffaf" +
-    "\027\uffaf\030\uffaf\031\uffaf\032\uffaf\001\002\000\034\007" +
-    "\067\011\050\012\175\033\063\042\055\043\070\045\072" +
-    "\046\076\051\062\057\112\060\061\061\073\062\064\001" +
-    "\002\000\050\004\uffc6\005\uffc6\006\uffc6\007\uffc6\010\uffc6" +
-    "\012\uffc6\013\uffc6\014\uffc6\017\uffc6\020\uffc6\021\uffc6\022" +
-    "\uffc6\024\uffc6\025\uffc6\026\uffc6\027\uffc6\030\uffc6\031\uffc6" +
-    "\032\uffc6\001\002\000\006\012\177\020\113\001\002\000" +
-    "\050\004\uffc5\005\uffc5\006\uffc5\007\uffc5\010\uffc5\012\uffc5" +
-    "\013\uffc5\014\uffc5\017\uffc5\020\uffc5\021\uffc5\022\uffc5\024" +
-    "\uffc5\025\uffc5\026\uffc5\027\uffc5\030\uffc5\031\uffc5\032\uffc5" +
-    "\001\002\000\032\007\067\011\050\033\063\042\055\043" +
-    "\070\045\072\046\076\051\062\057\112\060\061\061\073" +
-    "\062\064\001\002\000\042\004\122\005\117\006\130\007" +
-    "\116\010\124\012\202\013\133\021\131\022\125\024\120" +
-    "\025\132\026\123\027\134\030\126\031\121\032\127\001" +
-    "\002\000\054\007\067\011\050\015\046\033\063\034\065" +
-    "\035\045\037\051\040\057\042\055\043\070\045\072\046" +
-    "\076\047\054\051\062\053\016\054\014\056\021\057\074" +
-    "\060\061\061\073\062\064\001\002\000\060\007\uffdb\011" +
-    "\uffdb\015\uffdb\016\uffdb\033\uffdb\034\uffdb\035\uffdb\037\uffdb" +
-    "\040\uffdb\041\204\042\uffdb\043\uffdb\045\uffdb\046\uffdb\047" +
-    "\uffdb\051\uffdb\053\uffdb\054\uffdb\056\uffdb\057\uffdb\060\uffdb" +
-    "\061\uffdb\062\uffdb\001\002\000\054\007\067\011\050\015" +
-    "\046\033\063\034\065\035\045\037\051\040\057\042\055" +
-    "\043\070\045\072\046\076\047\054\051\062\053\016\054" +
-    "\014\056\021\057\074\060\061\061\073\062\064\001\002" +
-    "\000\060\007\uffdc\011\uffdc\015\uffdc\016\uffdc\033\uffdc\034" +
-    "\uffdc\035\uffdc\037\uffdc\040\uffdc\041\uffdc\042\uffdc\043\uffdc" +
-    "\045\uffdc\046\uffdc\047\uffdc\051\uffdc\053\uffdc\054\uffdc\056" +
-    "\uffdc\057\uffdc\060\uffdc\061\uffdc\062\uffdc\001\002\000\042" +
-    "\004\122\005\117\006\130\007\116\010\124\013\133\017" +
-    "\210\021\131\022\125\024\120\025\132\026\123\027\134" +
-    "\030\126\031\121\032\127\001\002\000\060\007\uffde\011" +
-    "\uffde\015\uffde\016\uffde\033\uffde\034\uffde\035\uffde\037\uffde" +
-    "\040\uffde\041\uffde\042\uffde\043\uffde\045\uffde\046\uffde\047" +
-    "\uffde\051\uffde\053\uffde\054\uffde\056\uffde\057\uffde\060\uffde" +
-    "\061\uffde\062\uffde\001\002\000\060\007\uffdd\011\uffdd\015" +
-    "\uffdd\016\uffdd\033\uffdd\034\uffdd\035\uffdd\037\uffdd\040\uffdd" +
-    "\041\uffdd\042\uffdd\043\uffdd\045\uffdd\046\uffdd\047\uffdd\051" +
-    "\uffdd\053\uffdd\054\uffdd\056\uffdd\057\uffdd\060\uffdd\061\uffdd" +
-    "\062\uffdd\001\002\000\006\017\212\023\213\001\002\000" +
-    "\060\007\uffd6\011\uffd6\015\uffd6\016\uffd6\033\uffd6\034\uffd6" +
-    "\035\uffd6\037\uffd6\040\uffd6\041\uffd6\042\uffd6\043\uffd6\045" +
-    "\uffd6\046\uffd6\047\uffd6\051\uffd6\053\uffd6\054\uffd6\056\uffd6" +
-    "\057\uffd6\060\uffd6\061\uffd6\062\uffd6\001\002\000\032\007" +
-    "\067\011\050\033\063\042\055\043\070\045\072\046\076" +
-    "\051\062\057\112\060\061\061\073\062\064\001\002\000" +
-    "\042\004\122\005\117\006\130\007\116\010\124\013\133" +
-    "\017\215\021\131\022\125\024\120\025\132\026\123\027" +
-    "\134\030\126\031\121\032\127\001\002\000\060\007\uffd5" +
-    "\011\uffd5\015\uffd5\016\uffd5\033\uffd5\034\uffd5\035\uffd5\037" +
-    "\uffd5\040\uffd5\041\uffd5\042\uffd5\043\uffd5\045\uffd5\046\uffd5" +
-    "\047\uffd5\051\uffd5\053\uffd5\054\uffd5\056\uffd5\057\uffd5\060" +
-    "\uffd5\061\uffd5\062\uffd5\001\002\000\032\007\067\011\050" +
-    "\033\063\042\055\043\070\045\072\046\076\051\062\057" +
-    "\112\060\061\061\073\062\064\001\002\000\042\004\122" +
-    "\005\117\006\130\007\116\010\124\012\220\013\133\021" +
-    "\131\022\125\024\120\025\132\026\123\027\134\030\126" +
-    "\031\121\032\127\001\002\000\054\007\067\011\050\015" +
-    "\046\033\063\034\065\035\045\037\051\040\057\042\055" +
-    "\043\070\045\072\046\076\047\054\051\062\053\016\054" +
-    "\014\056\021\057\074\060\061\061\073\062\064\001\002" +
-    "\000\060\007\uffda\011\uffda\015\uffda\016\uffda\033\uffda\034" +
-    "\uffda\035\uffda\037\uffda\040\uffda\041\uffda\042\uffda\043\uffda" +
-    "\045\uffda\046\uffda\047\uffda\051\uffda\053\uffda\054\uffda\056" +
-    "\uffda\057\uffda\060\uffda\061\uffda\062\uffda\001\002\000\042" +
-    "\004\122\005\117\006\130\007\116\010\124\012\223\013" +
-    "\133\021\131\022\125\024\120\025\132\026\123\027\134" +
-    "\030\126\031\121\032\127\001\002\000\050\004\uffcb\005" +
-    "\uffcb\006\uffcb\007\uffcb\010\uffcb\012\uffcb\013\uffcb\014\uffcb" +
-    "\017\uffcb\020\uffcb\021\uffcb\022\uffcb\024\uffcb\025\uffcb\026" +
-    "\uffcb\027\uffcb\030\uffcb\031\uffcb\032\uffcb\001\002\000\056" +
-    "\007\067\011\050\015\046\016\225\033\063\034\065\035" +
-    "\045\037\051\040\057\042\055\043\070\045\072\046\076" +
-    "\047\054\051\062\053\016\054\014\056\021\057\074\060" +
-    "\061\061\073\062\064\001\002\000\060\007\uffd7\011\uffd7" +
-    "\015\uffd7\016\uffd7\033\uffd7\034\uffd7\035\uffd7\037\uffd7\040" +
-    "\uffd7\041\uffd7\042\uffd7\043\uffd7\045\uffd7\046\uffd7\047\uffd7" +
-    "\051\uffd7\053\uffd7\054\uffd7\056\uffd7\057\uffd7\060\uffd7\061" +
-    "\uffd7\062\uffd7\001\002\000\060\007\uffd8\011\uffd8\015\uffd8" +
-    "\016\uffd8\033\uffd8\034\uffd8\035\uffd8\037\uffd8\040\uffd8\041" +
-    "\uffd8\042\uffd8\043\uffd8\045\uffd8\046\uffd8\047\uffd8\051\uffd8" +
-    "\053\uffd8\054\uffd8\056\uffd8\057\uffd8\060\uffd8\061\uffd8\062" +
-    "\uffd8\001\002\000\032\007\067\011\050\033\063\042\055" +
-    "\043\070\045\072\046\076\051\062\057\112\060\061\061" +
-    "\073\062\064\001\002\000\042\004\122\005\117\006\130" +
-    "\007\116\010\124\013\133\017\231\021\131\022\125\024" +
-    "\120\025\132\026\123\027\134\030\126\031\121\032\127" +
-    "\001\002\000\060\007\uffe0\011\uffe0\015\uffe0\016\uffe0\033" +
-    "\uffe0\034\uffe0\035\uffe0\037\uffe0\040\uffe0\041\uffe0\042\uffe0" +
-    "\043\uffe0\045\uffe0\046\uffe0\047\uffe0\051\uffe0\053\uffe0\054" +
-    "\uffe0\056\uffe0\057\uffe0\060\uffe0\061\uffe0\062\uffe0\001\002" +
-    "\000\006\012\uffe8\020\uffe8\001\002\000\012\053\016\054" +
-    "\014\056\021\057\020\001\002\000\004\015\235\001\002" +
-    "\000\056\007\uffe2\011\uffe2\015\uffe2\016\uffe2\033\uffe2\034" +
-    "\uffe2\035\uffe2\037\uffe2\040\uffe2\042\uffe2\043\uffe2\045\uffe2" +
-    "\046\uffe2\047\uffe2\051\uffe2\053\uffe2\054\uffe2\056\uffe2\057" +
-    "\uffe2\060\uffe2\061\uffe2\062\uffe2\001\002\000\056\007\067" +
-    "\011\050\015\046\016\237\033\063\034\065\035\045\037" +
-    "\051\040\057\042\055\043\070\045\072\046\076\047\054" +
-    "\051\062\053\016\054\014\056\021\057\074\060\061\061" +
-    "\073\062\064\001\002\000\020\016\uffeb\050\uffeb\052\uffeb" +
-    "\053\uffeb\054\uffeb\056\uffeb\057\uffeb\001\002\000\006\012" +
-    "\uffe9\020\uffe9\001\002\000\020\016\ufff6\050\ufff6\052\ufff6" +
-    "\053\ufff6\054\ufff6\056\ufff6\057\ufff6\001\002\000\006\002" +
-    "\ufffc\055\ufffc\001\002\000\020\016\ufff7\050\ufff7\052\ufff7" +
-    "\053\ufff7\054\ufff7\056\ufff7\057\ufff7\001\002\000\004\011" +
-    "\245\001\002\000\014\012\247\053\016\054\014\056\021" +
-    "\057\020\001\002\000\006\012\253\020\233\001\002\000" +
-    "\004\015\250\001\002\000\056\007\uffe2\011\uffe2\015\uffe2" +
-    "\016\uffe2\033\uffe2\034\uffe2\035\uffe2\037\uffe2\040\uffe2\042" +
-    "\uffe2\043\uffe2\045\uffe2\046\uffe2\047\uffe2\051\uffe2\053\uffe2" +
-    "\054\uffe2\056\uffe2\057\uffe2\060\uffe2\061\uffe2\062\uffe2\001" +
-    "\002\000\056\007\067\011\050\015\046\016\252\033\063" +
-    "\034\065\035\045\037\051\040\057\042\055\043\070\045" +
-    "\072\046\076\047\054\051\062\053\016\054\014\056\021" +
-    "\057\074\060\061\061\073\062\064\001\002\000\020\016" +
-    "\uffee\050\uffee\052\uffee\053\uffee\054\uffee\056\uffee\057\uffee" +
-    "\001\002\000\004\015\254\001\002\000\056\007\uffe2\011" +
-    "\uffe2\015\uffe2\016\uffe2\033\uffe2\034\uffe2\035\uffe2\037\uffe2" +
-    "\040\uffe2\042\uffe2\043\uffe2\045\uffe2\046\uffe2\047\uffe2\051" +
-    "\uffe2\053\uffe2\054\uffe2\056\uffe2\057\uffe2\060\uffe2\061\uffe2" +
-    "\062\uffe2\001\002\000\056\007\067\011\050\015\046\016" +
-    "\256\033\063\034\065\035\045\037\051\040\057\042\055" +
-    "\043\070\045\072\046\076\047\054\051\062\053\016\054" +
-    "\014\056\021\057\074\060\061\061\073\062\064\001\002" +
-    "\000\020\016\uffec\050\uffec\052\uffec\053\uffec\054\uffec\056" +
-    "\uffec\057\uffec\001\002\000\006\013\030\060\274\001\002" +
-    "\000\004\060\261\001\002\000\004\011\262\001\002\000" +
-    "\014\012\264\053\016\054\014\056\021\057\020\001\002" +
-    "\000\006\012\270\020\233\001\002\000\004\015\265\001" +
-    "\002\000\056\007\uffe2\011\uffe2\015\uffe2\016\uffe2\033\uffe2" +
-    "\034\uffe2\035\uffe2\037\uffe2\040\uffe2\042\uffe2\043\uffe2\045" +
-    "\uffe2\046\uffe2\047\uffe2\051\uffe2\053\uffe2\054\uffe2\056\uffe2" +
-    "\057\uffe2\060\uffe2\061\uffe2\062\uffe2\001\002\000\056\007" +
-    "\067\011\050\015\046\016\267\033\063\034\065\035\045" +
-    "\037\051\040\057\042\055\043\070\045\072\046\076\047" +
-    "\054\051\062\053\016\054\014\056\021\057\074\060\061" +
-    "\061\073\062\064\001\002\000\020\016\ufff2\050\ufff2\052" +
-    "\ufff2\053\ufff2\054\ufff2\056\ufff2\057\ufff2\001\002\000\004" +
-    "\015\271\001\002\000\056\007\uffe2\011\uffe2\015\uffe2\016" +
-    "\uffe2\033\uffe2\034\uffe2\035\uffe2\037\uffe2\040\uffe2\042\uffe2" +
-    "\043\uffe2\045\uffe2\046\uffe2\047\uffe2\051\uffe2\053\uffe2\054" +
-    "\uffe2\056\uffe2\057\uffe2\060\uffe2\061\uffe2\062\uffe2\001\002" +
-    "\000\056\007\067\011\050\015\046\016\273\033\063\034" +
-    "\065\035\045\037\051\040\057\042\055\043\070\045\072" +
-    "\046\076\047\054\051\062\053\016\054\014\056\021\057" +
-    "\074\060\061\061\073\062\064\001\002\000\020\016\ufff0" +
-    "\050\ufff0\052\ufff0\053\ufff0\054\ufff0\056\ufff0\057\ufff0\001" +
-    "\002\000\004\011\275\001\002\000\014\012\277\053\016" +
-    "\054\014\056\021\057\020\001\002\000\006\012\303\020" +
-    "\233\001\002\000\004\015\300\001\002\000\056\007\uffe2" +
-    "\011\uffe2\015\uffe2\016\uffe2\033\uffe2\034\uffe2\035\uffe2\037" +
-    "\uffe2\040\uffe2\042\uffe2\043\uffe2\045\uffe2\046\uffe2\047\uffe2" +
-    "\051\uffe2\053\uffe2\054\uffe2\056\uffe2\057\uffe2\060\uffe2\061" +
-    "\uffe2\062\uffe2\001\002\000\056\007\067\011\050\015\046" +
-    "\016\302\033\063\034\065\035\045\037\051\040\057\042" +
-    "\055\043\070\045\072\046\076\047\054\051\062\053\016" +
-    "\054\014\056\021\057\074\060\061\061\073\062\064\001" +
-    "\002\000\020\016\ufff1\050\ufff1\052\ufff1\053\ufff1\054\ufff1" +
-    "\056\ufff1\057\ufff1\001\002\000\004\015\304\001\002\000" +
-    "\056\007\uffe2\011\uffe2\015\uffe2\016\uffe2\033\uffe2\034\uffe2" +
-    "\035\uffe2\037\uffe2\040\uffe2\042\uffe2\043\uffe2\045\uffe2\046" +
-    "\uffe2\047\uffe2\051\uffe2\053\uffe2\054\uffe2\056\uffe2\057\uffe2" +
-    "\060\uffe2\061\uffe2\062\uffe2\001\002\000\056\007\067\011" +
-    "\050\015\046\016\306\033\063\034\065\035\045\037\051" +
-    "\040\057\042\055\043\070\045\072\046\076\047\054\051" +
-    "\062\053\016\054\014\056\021\057\074\060\061\061\073" +
-    "\062\064\001\002\000\020\016\uffef\050\uffef\052\uffef\053" +
-    "\uffef\054\uffef\056\uffef\057\uffef\001\002\000\004\015\310" +
-    "\001\002\000\020\016\312\050\015\052\017\053\016\054" +
-    "\014\056\021\057\020\001\002\000\020\016\313\050\015" +
-    "\052\017\053\016\054\014\056\021\057\020\001\002\000" +
-    "\006\002\ufffb\055\ufffb\001\002\000\006\002\ufffa\055\ufffa" +
-    "\001\002\000\004\002\000\001\002\000\006\002\ufffe\055" +
-    "\ufffe\001\002" });
+    "\000\326\000\004\055\007\001\002\000\004\055\007\001" +
+    "\001\000\004\002\327\001\002\000\002\001\uffff\000\006" +
+    "\003\010\057\011\001\002\000\004\016\326\001\002\000" +
+    "\006\015\013\036\012\001\002\000\004\057\321\001\002" +
+    "\000\022\003\026\016\024\050\016\052\020\053\017\054" +
+    "\015\056\022\057\021\001\002\000\002\001\ufff7\000\002" +
+    "\001\uffe4\000\014\052\272\053\017\054\015\056\022\057" +
+    "\021\001\002\000\002\001\uffe3\000\004\060\256\001\002" +
+    "\000\002\001\uffe1\000\002\001\uffe2\000\022\003\026\016" +
+    "\254\050\016\052\020\053\017\054\015\056\022\057\021" +
+    "\001\002\000\002\001\ufffd\000\006\013\210\060\227\001" +
+    "\002\000\006\015\030\017\031\001\002\000\002\001\ufff8" +
+    "\000\002\001\uffdf\000\002\001\ufff3\000\060\003\060\007" +
+    "\057\011\037\015\035\016\070\033\052\034\054\035\034" +
+    "\037\041\040\046\042\044\043\056\045\062\046\066\047" +
+    "\043\051\051\053\017\054\015\056\022\057\065\060\050" +
+    "\061\063\062\053\001\002\000\004\023\224\001\uffcf\000" +
+    "\004\017\223\001\002\000\002\001\uffdf\000\040\004\111" +
+    "\005\106\006\117\007\105\010\113\013\122\021\120\022" +
+    "\114\024\107\025\121\026\112\027\123\030\115\031\110" +
+    "\032\116\001\002\000\032\007\057\011\037\033\052\042" +
+    "\044\043\056\045\062\046\066\051\051\057\100\060\050" +
+    "\061\063\062\053\001\002\000\006\013\210\060\207\001" +
+    "\002\000\004\011\203\001\002\000\002\001\uffc4\000\034" +
+    "\007\057\011\037\017\201\033\052\042\044\043\056\045" +
+    "\062\046\066\051\051\057\100\060\050\061\063\062\053" +
+    "\001\002\000\002\001\uffa7\000\002\001\uffc5\000\004\011" +
+    "\172\001\002\000\002\001\uffc9\000\004\011\166\001\uffbb" +
+    "\000\002\001\uffcd\000\032\007\057\011\037\033\052\042" +
+    "\044\043\056\045\062\046\066\051\051\057\100\060\050" +
+    "\061\063\062\053\001\002\000\002\001\uffa8\000\004\017" +
+    "\164\001\002\000\002\001\uffc8\000\002\001\uffa6\000\032" +
+    "\007\057\011\037\033\052\042\044\043\056\045\062\046" +
+    "\066\051\051\057\100\060\050\061\063\062\053\001\002" +
+    "\000\004\017\162\001\002\000\002\001\uffc7\000\012\053" +
+    "\017\054\015\056\022\057\152\001\002\000\002\001\uffa9" +
+    "\000\004\017\151\001\uffce\000\004\021\071\001\uffe1\000" +
+    "\002\001\uffa5\000\002\001\uffde\000\002\001\uffe8\000\004" +
+    "\060\072\001\002\000\004\011\073\001\002\000\034\007" +
+    "\057\011\037\012\076\033\052\042\044\043\056\045\062" +
+    "\046\066\051\051\057\100\060\050\061\063\062\053\001" +
+    "\002\000\002\001\uffcf\000\040\004\111\005\106\006\117" +
+    "\007\105\010\113\013\122\021\120\022\114\024\107\025" +
+    "\121\026\112\027\123\030\115\031\110\032\116\001\uffbd" +
+    "\000\002\001\uffc3\000\006\012\103\020\102\001\002\000" +
+    "\004\021\071\001\002\000\002\001\uffce\000\032\007\057" +
+    "\011\037\033\052\042\044\043\056\045\062\046\066\051" +
+    "\051\057\100\060\050\061\063\062\053\001\002\000\002" +
+    "\001\uffc2\000\040\004\111\005\106\006\117\007\105\010" +
+    "\113\013\122\021\120\022\114\024\107\025\121\026\112" +
+    "\027\123\030\115\031\110\032\116\001\uffbc\000\032\007" +
+    "\057\011\037\033\052\042\044\043\056\045\062\046\066" +
+    "\051\051\057\100\060\050\061\063\062\053\001\002\000" +
+    "\032\007\057\011\037\033\052\042\044\043\056\045\062" +
+    "\046\066\051\051\057\100\060\050\061\063\062\053\001" +
+    "\002\000\032\007\057\011\037\033\052\042\044\043\056" +
+    "\045\062\046\066\051\051\057\100\060\050\061\063\062" +
+    "\053\001\002\000\032\007\057\011\037\033\052\042\044" +
+    "\043\056\045\062\046\066\051\051\057\100\060\050\061" +
+    "\063\062\053\001\002\000\032\007\057\011\037\033\052" +
+    "\042\044\043\056\045\062\046\066\051\051\057\100\060" +
+    "\050\061\063\062\053\001\002\000\032\007\057\011\037" +
+    "\033\052\042\044\043\056\045\062\046\066\051\051\057" +
+    "\100\060\050\061\063\062\053\001\002\000\032\007\057" +
+    "\011\037\033\052\042\044\043\056\045\062\046\066\051" +
+    "\051\057\100\060\050\061\063\062\053\001\002\000\032" +
+    "\007\057\011\037\033\052\042\044\043\056\045\062\046" +
+    "\066\051\051\057\100\060\050\061\063\062\053\001\002" +
+    "\000\032\007\057\011\037\033\052\042\044\043\056\045" +
+    "\062\046\066\051\051\057\100\060\050\061\063\062\053" +
+    "\001\002\000\032\007\057\011\037\033\052\042\044\043" +
+    "\056\045\062\046\066\051\051\057\100\060\050\061\063" +
+    "\062\053\001\002\000\032\007\057\011\037\033\052\042" +
+    "\044\043\056\045\062\046\066\051\051\057\100\060\050" +
+    "\061\063\062\053\001\002\000\006\044\131\060\130\001" +
+    "\002\000\032\007\057\011\037\033\052\042\044\043\056" +
+    "\045\062\046\066\051\051\057\100\060\050\061\063\062" +
+    "\053\001\002\000\032\007\057\011\037\033\052\042\044" +
+    "\043\056\045\062\046\066\051\051\057\100\060\050\061" +
+    "\063\062\053\001\002\000\032\007\057\011\037\033\052" +
+    "\042\044\043\056\045\062\046\066\051\051\057\100\060" +
+    "\050\061\063\062\053\001\002\000\020\004\111\005\106" +
+    "\006\117\007\105\010\113\013\122\021\120\001\uffb1\000" +
+    "\042\004\111\005\106\006\117\007\105\010\113\013\122" +
+    "\014\126\021\120\022\114\024\107\025\121\026\112\027" +
+    "\123\030\115\031\110\032\116\001\002\000\002\001\uffb9" +
+    "\000\020\004\111\005\106\006\117\007\105\010\113\013" +
+    "\122\021\120\001\uffaf\000\004\011\132\001\uffba\000\002" +
+    "\001\uffca\000\034\007\057\011\037\012\133\033\052\042" +
+    "\044\043\056\045\062\046\066\051\051\057\100\060\050" +
+    "\061\063\062\053\001\002\000\002\001\uffbf\000\006\012" +
+    "\135\020\102\001\002\000\002\001\uffbe\000\014\004\111" +
+    "\005\106\010\113\013\122\021\120\001\uffb8\000\036\004" +
+    "\111\005\106\006\117\007\105\010\113\013\122\021\120" +
+    "\022\114\024\107\025\121\026\112\027\123\030\115\031" +
+    "\110\001\uffb2\000\030\004\111\005\106\006\117\007\105" +
+    "\010\113\013\122\021\120\024\107\025\121\026\112\027" +
+    "\123\001\uffac\000\030\004\111\005\106\006\117\007\105" +
+    "\010\113\013\122\021\120\024\107\025\121\026\112\027" +
+    "\123\001\uffad\000\006\013\122\021\120\001\uffb4\000\020" +
+    "\004\111\005\106\006\117\007\105\010\113\013\122\021" +
+    "\120\001\uffb0\000\006\013\122\021\120\001\uffb6\000\034" +
+    "\004\111\005\106\006\117\007\105\010\113\013\122\021" +
+    "\120\022\114\024\107\025\121\026\112\027\123\030\115" +
+    "\001\uffb3\000\020\004\111\005\106\006\117\007\105\010" +
+    "\113\013\122\021\120\001\uffae\000\006\013\122\021\120" +
+    "\001\uffb5\000\014\004\111\005\106\010\113\013\122\021" +
+    "\120\001\uffb7\000\002\001\uffdc\000\004\011\160\001\uffe1" +
+    "\000\004\013\154\001\002\000\034\007\057\011\037\014" +
+    "\156\033\052\042\044\043\056\045\062\046\066\051\051" +
+    "\057\100\060\050\061\063\062\053\001\002\000\042\004" +
+    "\111\005\106\006\117\007\105\010\113\013\122\014\157" +
+    "\021\120\022\114\024\107\025\121\026\112\027\123\030" +
+    "\115\031\110\032\116\001\002\000\002\001\uffe0\000\002" +
+    "\001\uffcb\000\004\012\161\001\002\000\002\001\uffcc\000" +
+    "\002\001\uffd1\000\006\013\122\021\120\001\uffab\000\002" +
+    "\001\uffd6\000\006\013\122\021\120\001\uffaa\000\034\007" +
+    "\057\011\037\012\167\033\052\042\044\043\056\045\062" +
+    "\046\066\051\051\057\100\060\050\061\063\062\053\001" +
+    "\002\000\002\001\uffc1\000\006\012\171\020\102\001\002" +
+    "\000\002\001\uffc0\000\032\007\057\011\037\033\052\042" +
+    "\044\043\056\045\062\046\066\051\051\057\100\060\050" +
+    "\061\063\062\053\001\002\000\042\004\111\005\106\006" +
+    "\117\007\105\010\113\012\174\013\122\021\120\022\114" +
+    "\024\107\025\121\026\112\027\123\030\115\031\110\032" +
+    "\116\001\002\000\056\003\060\007\057\011\037\015\035" +
+    "\033\052\034\054\035\034\037\041\040\046\042\044\043" +
+    "\056\045\062\046\066\047\043\051\051\053\017\054\015" +
+    "\056\022\057\065\060\050\061\063\062\053\001\002\000" +
+    "\004\041\176\001\uffd8\000\056\003\060\007\057\011\037" +
+    "\015\035\033\052\034\054\035\034\037\041\040\046\042" +
+    "\044\043\056\045\062\046\066\047\043\051\051\053\017" +
+    "\054\015\056\022\057\065\060\050\061\063\062\053\001" +
+    "\002\000\002\001\uffd9\000\042\004\111\005\106\006\117" +
+    "\007\105\010\113\013\122\017\202\021\120\022\114\024" +
+    "\107\025\121\026\112\027\123\030\115\031\110\032\116" +
+    "\001\002\000\002\001\uffdb\000\002\001\uffda\000\032\007" +
+    "\057\011\037\033\052\042\044\043\056\045\062\046\066" +
+    "\051\051\057\100\060\050\061\063\062\053\001\002\000" +
+    "\042\004\111\005\106\006\117\007\105\010\113\012\205" +
+    "\013\122\021\120\022\114\024\107\025\121\026\112\027" +
+    "\123\030\115\031\110\032\116\001\002\000\056\003\060" +
+    "\007\057\011\037\015\035\033\052\034\054\035\034\037" +
+    "\041\040\046\042\044\043\056\045\062\046\066\047\043" +
+    "\051\051\053\017\054\015\056\022\057\065\060\050\061" +
+    "\063\062\053\001\002\000\002\001\uffd7\000\006\017\211" +
+    "\023\212\001\002\000\004\014\156\001\002\000\002\001" +
+    "\uffd3\000\032\007\057\011\037\033\052\042\044\043\056" +
+    "\045\062\046\066\051\051\057\100\060\050\061\063\062" +
+    "\053\001\002\000\042\004\111\005\106\006\117\007\105" +
+    "\010\113\013\122\017\214\021\120\022\114\024\107\025" +
+    "\121\026\112\027\123\030\115\031\110\032\116\001\002" +
+    "\000\002\001\uffd2\000\042\004\111\005\106\006\117\007" +
+    "\105\010\113\012\216\013\122\021\120\022\114\024\107" +
+    "\025\121\026\112\027\123\030\115\031\110\032\116\001" +
+    "\002\000\002\001\uffc6\000\060\003\220\007\057\011\037" +
+    "\015\035\016\221\033\052\034\054\035\034\037\041\040" +
+    "\046\042\044\043\056\045\062\046\066\047\043\051\051" +
+    "\053\017\054\015\056\022\057\065\060\050\061\063\062" +
+    "\053\001\002\000\006\016\222\017\162\001\002\000\002" +
+    "\001\uffd4\000\002\001\uffd0\000\002\001\uffd5\000\032\007" +
+    "\057\011\037\033\052\042\044\043\056\045\062\046\066" +
+    "\051\051\057\100\060\050\061\063\062\053\001\002\000" +
+    "\042\004\111\005\106\006\117\007\105\010\113\013\122" +
+    "\017\226\021\120\022\114\024\107\025\121\026\112\027" +
+    "\123\030\115\031\110\032\116\001\002\000\002\001\uffdd" +
+    "\000\004\011\234\001\ufff2\000\006\017\232\020\231\001" +
+    "\002\000\004\060\233\001\002\000\002\001\ufff4\000\002" +
+    "\001\ufff1\000\014\012\240\053\017\054\015\056\022\057" +
+    "\021\001\002\000\006\012\246\020\245\001\002\000\002" +
+    "\001\uffe7\000\006\013\210\060\244\001\002\000\004\015" +
+    "\241\001\002\000\002\001\uffdf\000\060\003\060\007\057" +
+    "\011\037\015\035\016\243\033\052\034\054\035\034\037" +
+    "\041\040\046\042\044\043\056\045\062\046\066\047\043" +
+    "\051\051\053\017\054\015\056\022\057\065\060\050\061" +
+    "\063\062\053\001\002\000\002\001\uffeb\000\002\001\uffe5" +
+    "\000\012\053\017\054\015\056\022\057\021\001\002\000" +
+    "\004\015\247\001\002\000\002\001\uffdf\000\060\003\060" +
+    "\007\057\011\037\015\035\016\251\033\052\034\054\035" +
+    "\034\037\041\040\046\042\044\043\056\045\062\046\066" +
+    "\047\043\051\051\053\017\054\015\056\022\057\065\060" +
+    "\050\061\063\062\053\001\002\000\002\001\uffe9\000\002" +
+    "\001\uffe6\000\002\001\ufff5\000\002\001\ufffc\000\002\001" +
+    "\ufff6\000\004\011\257\001\002\000\014\012\261\053\017" +
+    "\054\015\056\022\057\021\001\002\000\006\012\265\020" +
+    "\245\001\002\000\004\015\262\001\002\000\002\001\uffdf" +
+    "\000\060\003\060\007\057\011\037\015\035\016\264\033" +
+    "\052\034\054\035\034\037\041\040\046\042\044\043\056" +
+    "\045\062\046\066\047\043\051\051\053\017\054\015\056" +
+    "\022\057\065\060\050\061\063\062\053\001\002\000\002" +
+    "\001\uffec\000\004\015\266\001\002\000\002\001\uffdf\000" +
+    "\060\003\060\007\057\011\037\015\035\016\270\033\052" +
+    "\034\054\035\034\037\041\040\046\042\044\043\056\045" +
+    "\062\046\066\047\043\051\051\053\017\054\015\056\022" +
+    "\057\065\060\050\061\063\062\053\001\002\000\002\001" +
+    "\uffea\000\006\013\210\060\306\001\002\000\004\060\273" +
+    "\001\002\000\004\011\274\001\002\000\014\012\276\053" +
+    "\017\054\015\056\022\057\021\001\002\000\006\012\302" +
+    "\020\245\001\002\000\004\015\277\001\002\000\002\001" +
+    "\uffdf\000\060\003\060\007\057\011\037\015\035\016\301" +
+    "\033\052\034\054\035\034\037\041\040\046\042\044\043" +
+    "\056\045\062\046\066\047\043\051\051\053\017\054\015" +
+    "\056\022\057\065\060\050\061\063\062\053\001\002\000" +
+    "\002\001\ufff0\000\004\015\303\001\002\000\002\001\uffdf" +
+    "\000\060\003\060\007\057\011\037\015\035\016\305\033" +
+    "\052\034\054\035\034\037\041\040\046\042\044\043\056" +
+    "\045\062\046\066\047\043\051\051\053\017\054\015\056" +
+    "\022\057\065\060\050\061\063\062\053\001\002\000\002" +
+    "\001\uffee\000\004\011\307\001\002\000\014\012\311\053" +
+    "\017\054\015\056\022\057\021\001\002\000\006\012\315" +
+    "\020\245\001\002\000\004\015\312\001\002\000\002\001" +
+    "\uffdf\000\060\003\060\007\057\011\037\015\035\016\314" +
+    "\033\052\034\054\035\034\037\041\040\046\042\044\043" +
+    "\056\045\062\046\066\047\043\051\051\053\017\054\015" +
+    "\056\022\057\065\060\050\061\063\062\053\001\002\000" +
+    "\002\001\uffef\000\004\015\316\001\002\000\002\001\uffdf" +
+    "\000\060\003\060\007\057\011\037\015\035\016\320\033" +
+    "\052\034\054\035\034\037\041\040\046\042\044\043\056" +
+    "\045\062\046\066\047\043\051\051\053\017\054\015\056" +
+    "\022\057\065\060\050\061\063\062\053\001\002\000\002" +
+    "\001\uffed\000\004\015\322\001\002\000\022\003\026\016" +
+    "\324\050\016\052\020\053\017\054\015\056\022\057\021" +
+    "\001\002\000\022\003\026\016\325\050\016\052\020\053" +
+    "\017\054\015\056\022\057\021\001\002\000\002\001\ufffb" +
+    "\000\002\001\ufffa\000\002\001\ufff9\000\002\001\000\000" +
+    "\002\001\ufffe" });
 
   /** Access to parse-action table. */
   public short[][] action_table() {return _action_table;}
@@ -493,128 +298,133 @@ public class Parser extends java_cup.runtime.lr_parser {
   /** <code>reduce_goto</code> table. */
   protected static final short[][] _reduce_table = 
     unpackFromStrings(new String[] {
-    "\000\313\000\010\002\004\003\005\005\003\001\001\000" +
-    "\004\003\314\001\001\000\002\001\001\000\002\001\001" +
+    "\000\326\000\010\002\004\003\005\005\003\001\001\000" +
+    "\004\003\327\001\001\000\002\001\001\000\002\001\001" +
     "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\012\004\021\006\024\010\012\013\023\001\001\000\002" +
-    "\001\001\000\002\001\001\000\004\013\256\001\001\000" +
+    "\002\001\001\000\012\004\022\006\026\010\013\013\024" +
+    "\001\001\000\002\001\001\000\002\001\001\000\004\013" +
+    "\270\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\010\006\254\010\252\013" +
+    "\024\001\001\000\002\001\001\000\004\007\227\001\001" +
+    "\000\002\001\001\000\002\001\001\000\004\015\031\001" +
+    "\001\000\002\001\001\000\026\013\037\014\066\016\032" +
+    "\017\035\021\063\022\044\023\041\024\046\025\054\026" +
+    "\060\001\001\000\002\001\001\000\002\001\001\000\004" +
+    "\015\216\001\001\000\002\001\001\000\022\016\073\017" +
+    "\214\021\100\022\044\023\041\024\046\025\054\026\060" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\022\016\073\017\177\021\100\022\044\023\041" +
+    "\024\046\025\054\026\060\001\001\000\002\001\001\000" +
     "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
-    "\001\001\000\010\006\242\010\240\013\023\001\001\000" +
-    "\002\001\001\000\004\007\026\001\001\000\002\001\001" +
+    "\001\001\000\002\001\001\000\022\016\073\017\164\021" +
+    "\100\022\044\023\041\024\046\025\054\026\060\001\001" +
     "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
-    "\001\001\000\010\011\036\012\035\013\037\001\001\000" +
-    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
-    "\001\001\000\004\015\042\001\001\000\026\013\051\014" +
-    "\076\016\043\017\046\021\074\022\055\023\052\024\057" +
-    "\025\065\026\070\001\001\000\002\001\001\000\002\001" +
-    "\001\000\004\015\223\001\001\000\002\001\001\000\022" +
-    "\016\104\017\221\021\110\022\055\023\052\024\057\025" +
-    "\065\026\070\001\001\000\002\001\001\000\002\001\001" +
-    "\000\002\001\001\000\022\016\104\017\205\021\110\022" +
-    "\055\023\052\024\057\025\065\026\070\001\001\000\002" +
+    "\002\001\001\000\022\016\073\017\162\021\100\022\044" +
+    "\023\041\024\046\025\054\026\060\001\001\000\002\001" +
+    "\001\000\002\001\001\000\004\013\152\001\001\000\002" +
     "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-    "\001\000\002\001\001\000\002\001\001\000\022\016\104" +
-    "\017\172\021\110\022\055\023\052\024\057\025\065\026" +
-    "\070\001\001\000\002\001\001\000\002\001\001\000\002" +
-    "\001\001\000\022\016\104\017\170\021\110\022\055\023" +
-    "\052\024\057\025\065\026\070\001\001\000\002\001\001" +
-    "\000\002\001\001\000\004\013\162\001\001\000\002\001" +
     "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\024\016\073\017\074\020\076\021" +
+    "\100\022\044\023\041\024\046\025\054\026\060\001\001" +
     "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\024\016\104\017\105" +
-    "\020\107\021\110\022\055\023\052\024\057\025\065\026" +
-    "\070\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\022" +
+    "\016\073\017\103\021\100\022\044\023\041\024\046\025" +
+    "\054\026\060\001\001\000\002\001\001\000\002\001\001" +
+    "\000\022\016\073\017\147\021\100\022\044\023\041\024" +
+    "\046\025\054\026\060\001\001\000\022\016\073\017\146" +
+    "\021\100\022\044\023\041\024\046\025\054\026\060\001" +
+    "\001\000\022\016\073\017\145\021\100\022\044\023\041" +
+    "\024\046\025\054\026\060\001\001\000\022\016\073\017" +
+    "\144\021\100\022\044\023\041\024\046\025\054\026\060" +
+    "\001\001\000\022\016\073\017\143\021\100\022\044\023" +
+    "\041\024\046\025\054\026\060\001\001\000\022\016\073" +
+    "\017\142\021\100\022\044\023\041\024\046\025\054\026" +
+    "\060\001\001\000\022\016\073\017\141\021\100\022\044" +
+    "\023\041\024\046\025\054\026\060\001\001\000\022\016" +
+    "\073\017\140\021\100\022\044\023\041\024\046\025\054" +
+    "\026\060\001\001\000\022\016\073\017\137\021\100\022" +
+    "\044\023\041\024\046\025\054\026\060\001\001\000\022" +
+    "\016\073\017\136\021\100\022\044\023\041\024\046\025" +
+    "\054\026\060\001\001\000\022\016\073\017\135\021\100" +
+    "\022\044\023\041\024\046\025\054\026\060\001\001\000" +
+    "\002\001\001\000\022\016\073\017\126\021\100\022\044" +
+    "\023\041\024\046\025\054\026\060\001\001\000\022\016" +
+    "\073\017\124\021\100\022\044\023\041\024\046\025\054" +
+    "\026\060\001\001\000\022\016\073\017\123\021\100\022" +
+    "\044\023\041\024\046\025\054\026\060\001\001\000\002" +
     "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-    "\001\000\022\016\104\017\114\021\110\022\055\023\052" +
-    "\024\057\025\065\026\070\001\001\000\002\001\001\000" +
-    "\002\001\001\000\022\016\104\017\160\021\110\022\055" +
-    "\023\052\024\057\025\065\026\070\001\001\000\022\016" +
-    "\104\017\157\021\110\022\055\023\052\024\057\025\065" +
-    "\026\070\001\001\000\022\016\104\017\156\021\110\022" +
-    "\055\023\052\024\057\025\065\026\070\001\001\000\022" +
-    "\016\104\017\155\021\110\022\055\023\052\024\057\025" +
-    "\065\026\070\001\001\000\022\016\104\017\154\021\110" +
-    "\022\055\023\052\024\057\025\065\026\070\001\001\000" +
-    "\022\016\104\017\153\021\110\022\055\023\052\024\057" +
-    "\025\065\026\070\001\001\000\022\016\104\017\152\021" +
-    "\110\022\055\023\052\024\057\025\065\026\070\001\001" +
-    "\000\022\016\104\017\151\021\110\022\055\023\052\024" +
-    "\057\025\065\026\070\001\001\000\022\016\104\017\150" +
-    "\021\110\022\055\023\052\024\057\025\065\026\070\001" +
-    "\001\000\022\016\104\017\147\021\110\022\055\023\052" +
-    "\024\057\025\065\026\070\001\001\000\022\016\104\017" +
-    "\146\021\110\022\055\023\052\024\057\025\065\026\070" +
-    "\001\001\000\002\001\001\000\022\016\104\017\137\021" +
-    "\110\022\055\023\052\024\057\025\065\026\070\001\001" +
-    "\000\022\016\104\017\135\021\110\022\055\023\052\024" +
-    "\057\025\065\026\070\001\001\000\022\016\104\017\134" +
-    "\021\110\022\055\023\052\024\057\025\065\026\070\001" +
-    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\001\000\002\001\001\000\002\001\001\000\024\016\073" +
+    "\017\074\020\133\021\100\022\044\023\041\024\046\025" +
+    "\054\026\060\001\001\000\002\001\001\000\002\001\001" +
     "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\024\016\104\017\105\020\144\021\110\022\055\023\052" +
-    "\024\057\025\065\026\070\001\001\000\002\001\001\000" +
     "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
     "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
     "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\022\016\104\017\164" +
-    "\021\110\022\055\023\052\024\057\025\065\026\070\001" +
+    "\000\002\001\001\000\002\001\001\000\022\016\073\017" +
+    "\154\021\100\022\044\023\041\024\046\025\054\026\060" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
     "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
     "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\024\016\104\017\105\020\175\021\110" +
-    "\022\055\023\052\024\057\025\065\026\070\001\001\000" +
-    "\002\001\001\000\002\001\001\000\002\001\001\000\022" +
-    "\016\104\017\200\021\110\022\055\023\052\024\057\025" +
-    "\065\026\070\001\001\000\002\001\001\000\026\013\051" +
-    "\014\202\016\043\017\046\021\074\022\055\023\052\024" +
-    "\057\025\065\026\070\001\001\000\002\001\001\000\026" +
-    "\013\051\014\204\016\043\017\046\021\074\022\055\023" +
-    "\052\024\057\025\065\026\070\001\001\000\002\001\001" +
-    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\022\016\104\017\213" +
-    "\021\110\022\055\023\052\024\057\025\065\026\070\001" +
-    "\001\000\002\001\001\000\002\001\001\000\022\016\104" +
-    "\017\216\021\110\022\055\023\052\024\057\025\065\026" +
-    "\070\001\001\000\002\001\001\000\026\013\051\014\220" +
-    "\016\043\017\046\021\074\022\055\023\052\024\057\025" +
-    "\065\026\070\001\001\000\002\001\001\000\002\001\001" +
-    "\000\002\001\001\000\026\013\051\014\076\016\043\017" +
-    "\046\021\074\022\055\023\052\024\057\025\065\026\070" +
-    "\001\001\000\002\001\001\000\002\001\001\000\022\016" +
-    "\104\017\227\021\110\022\055\023\052\024\057\025\065" +
-    "\026\070\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\006\011\237\013\037\001\001\000\002" +
-    "\001\001\000\004\015\235\001\001\000\026\013\051\014" +
-    "\076\016\043\017\046\021\074\022\055\023\052\024\057" +
-    "\025\065\026\070\001\001\000\002\001\001\000\002\001" +
+    "\024\016\073\017\074\020\167\021\100\022\044\023\041" +
+    "\024\046\025\054\026\060\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\022\016\073\017\172" +
+    "\021\100\022\044\023\041\024\046\025\054\026\060\001" +
+    "\001\000\002\001\001\000\026\013\037\014\174\016\032" +
+    "\017\035\021\063\022\044\023\041\024\046\025\054\026" +
+    "\060\001\001\000\002\001\001\000\026\013\037\014\176" +
+    "\016\032\017\035\021\063\022\044\023\041\024\046\025" +
+    "\054\026\060\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\022\016\073\017" +
+    "\203\021\100\022\044\023\041\024\046\025\054\026\060" +
+    "\001\001\000\002\001\001\000\026\013\037\014\205\016" +
+    "\032\017\035\021\063\022\044\023\041\024\046\025\054" +
+    "\026\060\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\022\016\073\017\212" +
+    "\021\100\022\044\023\041\024\046\025\054\026\060\001" +
     "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-    "\000\002\001\001\000\010\011\036\012\245\013\037\001" +
-    "\001\000\002\001\001\000\002\001\001\000\004\015\250" +
-    "\001\001\000\026\013\051\014\076\016\043\017\046\021" +
-    "\074\022\055\023\052\024\057\025\065\026\070\001\001" +
-    "\000\002\001\001\000\002\001\001\000\004\015\254\001" +
-    "\001\000\026\013\051\014\076\016\043\017\046\021\074" +
-    "\022\055\023\052\024\057\025\065\026\070\001\001\000" +
+    "\000\002\001\001\000\026\013\037\014\066\016\032\017" +
+    "\035\021\063\022\044\023\041\024\046\025\054\026\060" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\022\016\073\017\224\021\100" +
+    "\022\044\023\041\024\046\025\054\026\060\001\001\000" +
     "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
-    "\001\001\000\010\011\036\012\262\013\037\001\001\000" +
-    "\002\001\001\000\002\001\001\000\004\015\265\001\001" +
-    "\000\026\013\051\014\076\016\043\017\046\021\074\022" +
-    "\055\023\052\024\057\025\065\026\070\001\001\000\002" +
-    "\001\001\000\002\001\001\000\004\015\271\001\001\000" +
-    "\026\013\051\014\076\016\043\017\046\021\074\022\055" +
-    "\023\052\024\057\025\065\026\070\001\001\000\002\001" +
-    "\001\000\002\001\001\000\010\011\036\012\275\013\037" +
-    "\001\001\000\002\001\001\000\002\001\001\000\004\015" +
-    "\300\001\001\000\026\013\051\014\076\016\043\017\046" +
-    "\021\074\022\055\023\052\024\057\025\065\026\070\001" +
-    "\001\000\002\001\001\000\002\001\001\000\004\015\304" +
-    "\001\001\000\026\013\051\014\076\016\043\017\046\021" +
-    "\074\022\055\023\052\024\057\025\065\026\070\001\001" +
-    "\000\002\001\001\000\002\001\001\000\012\004\310\006" +
-    "\024\010\012\013\023\001\001\000\010\006\242\010\240" +
-    "\013\023\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001" });
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\010\011\235\012\234\013\236\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\004\015\241\001\001\000\026\013\037\014\066" +
+    "\016\032\017\035\021\063\022\044\023\041\024\046\025" +
+    "\054\026\060\001\001\000\002\001\001\000\002\001\001" +
+    "\000\006\011\251\013\236\001\001\000\002\001\001\000" +
+    "\004\015\247\001\001\000\026\013\037\014\066\016\032" +
+    "\017\035\021\063\022\044\023\041\024\046\025\054\026" +
+    "\060\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\010\011\235\012\257\013\236\001\001\000\002" +
+    "\001\001\000\002\001\001\000\004\015\262\001\001\000" +
+    "\026\013\037\014\066\016\032\017\035\021\063\022\044" +
+    "\023\041\024\046\025\054\026\060\001\001\000\002\001" +
+    "\001\000\002\001\001\000\004\015\266\001\001\000\026" +
+    "\013\037\014\066\016\032\017\035\021\063\022\044\023" +
+    "\041\024\046\025\054\026\060\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\010\011\235\012\274\013\236\001\001\000\002\001\001" +
+    "\000\002\001\001\000\004\015\277\001\001\000\026\013" +
+    "\037\014\066\016\032\017\035\021\063\022\044\023\041" +
+    "\024\046\025\054\026\060\001\001\000\002\001\001\000" +
+    "\002\001\001\000\004\015\303\001\001\000\026\013\037" +
+    "\014\066\016\032\017\035\021\063\022\044\023\041\024" +
+    "\046\025\054\026\060\001\001\000\002\001\001\000\002" +
+    "\001\001\000\010\011\235\012\307\013\236\001\001\000" +
+    "\002\001\001\000\002\001\001\000\004\015\312\001\001" +
+    "\000\026\013\037\014\066\016\032\017\035\021\063\022" +
+    "\044\023\041\024\046\025\054\026\060\001\001\000\002" +
+    "\001\001\000\002\001\001\000\004\015\316\001\001\000" +
+    "\026\013\037\014\066\016\032\017\035\021\063\022\044" +
+    "\023\041\024\046\025\054\026\060\001\001\000\002\001" +
+    "\001\000\002\001\001\000\012\004\322\006\026\010\013" +
+    "\013\024\001\001\000\010\006\254\010\252\013\024\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001" });
 
   /** Access to <code>reduce_goto</code> table. */
   public short[][] reduce_table() {return _reduce_table;}
@@ -652,16 +462,58 @@ public class Parser extends java_cup.runtime.lr_parser {
   public int error_sym() {return 1;}
 
 
-
-
-	// override method call in case of a (unrecovered) syntax error
-	public void unrecovered_syntax_error(Symbol current_token) throws SyntaxError{
-		throw new SyntaxError(current_token.left, (String)current_token.value);
-	}
-	
-	// override method call in case of a syntax error, to avoid duplicate error messages
-	public void syntax_error(Symbol current_token){}
-	
+
+
+	// the errors found so far: the parser recovers from lexical and syntax errors and goes on parsing,
+	// and all the errors are thrown together when the parsing ends (see parse_all)
+	private ParseErrors errors = new ParseErrors();
+	// false when there are too many errors to go on parsing
+	private boolean recovering = true;
+	
+	/**
+	 * parses the whole source
+	 * @throws ParseErrors if the source has lexical or syntax errors
+	 */
+	public Symbol parse_all() throws Exception {
+		Symbol result = null;
+		try {
+			result = parse();
+		} catch (ParseErrors e){}
+		if (!errors.isEmpty()) throw errors;
+		return result;
+	}
+	
+	// override method call to read the next token: a lexical error is recorded and the
+	// token is skipped
+	public Symbol scan() throws Exception {
+		while (true){
+			try {
+				return super.scan();
+			} catch (LexicalError e){
+				recovering = errors.add(e);
+				if (!recovering) throw errors;
+			}
+		}
+	}
+	
+	// override method call in case of a syntax error: the error is recorded, unless it is on the line
+	// of the previous error (most likely, it is caused by the previous error)
+	public void syntax_error(Symbol current_token){
+		if (current_token.left == errors.getLastLine()) return;
+		recovering = errors.add(new SyntaxError(current_token.left, String.valueOf(current_token.value)));
+	}
+	
+	// override method call to recover from a syntax error, unless there are too many errors
+	protected boolean error_recovery(boolean debug) throws Exception {
+		return recovering && super.error_recovery(debug);
+	}
+	
+	// override method call in case of a (unrecovered) syntax error
+	public void unrecovered_syntax_error(Symbol current_token) throws ParseErrors{
+		if (errors.isEmpty()) errors.add(new SyntaxError(current_token.left, String.valueOf(current_token.value)));
+		throw errors;
+	}
+	
 
 }
 
@@ -689,788 +541,812 @@ class CUP$Parser$actions {
       switch (CUP$Parser$act_num)
         {
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 87: // literal ::= NULL 
+          case 92: // literal ::= NULL 
             {
               Literal RESULT =null;
-		int nleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int nright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Object n = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Object n = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 			RESULT = new Literal(nleft, LiteralTypes.NULL); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("literal",20, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 86: // literal ::= FALSE 
+          case 91: // literal ::= FALSE 
             {
               Literal RESULT =null;
-		int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int fright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Object f = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int fright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Object f = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 			RESULT = new Literal(fleft, LiteralTypes.FALSE); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("literal",20, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 85: // literal ::= TRUE 
+          case 90: // literal ::= TRUE 
             {
               Literal RESULT =null;
-		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Object t = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Object t = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 			RESULT = new Literal(tleft, LiteralTypes.TRUE); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("literal",20, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 84: // literal ::= QUOTE 
+          case 89: // literal ::= QUOTE 
             {
               Literal RESULT =null;
-		int qleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int qright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		String q = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int qleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int qright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		String q = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 			RESULT = new Literal(qleft, LiteralTypes.STRING, q); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("literal",20, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 83: // literal ::= INTEGER 
+          case 88: // literal ::= INTEGER 
             {
               Literal RESULT =null;
-		int ileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int iright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Integer i = (Integer)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int ileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int iright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Integer i = (Integer)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 			RESULT = new Literal(ileft, LiteralTypes.INTEGER, i); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("literal",20, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 82: // unop ::= LNEG expr 
+          case 87: // unop ::= LNEG expr 
             {
               UnaryOp RESULT =null;
-		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 			RESULT = new LogicalUnaryOp(UnaryOps.LNEG, e); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("unop",19, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 81: // unop ::= MINUS expr 
+          case 86: // unop ::= MINUS expr 
             {
               UnaryOp RESULT =null;
-		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 			RESULT = new MathUnaryOp(UnaryOps.UMINUS, e); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("unop",19, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 80: // binop ::= expr NEQUAL expr 
+          case 85: // binop ::= expr NEQUAL expr 
             {
               BinaryOp RESULT =null;
-		int e1left = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int e1right = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-		int e2left = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int e2right = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int e1left = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int e1right = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int e2left = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int e2right = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 			RESULT = new LogicalBinaryOp(e1, BinaryOps.NEQUAL, e2); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("binop",18, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 79: // binop ::= expr EQUAL expr 
+          case 84: // binop ::= expr EQUAL expr 
             {
               BinaryOp RESULT =null;
-		int e1left = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int e1right = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-		int e2left = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int e2right = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int e1left = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int e1right = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int e2left = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int e2right = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 			RESULT = new LogicalBinaryOp(e1, BinaryOps.EQUAL, e2); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("binop",18, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 78: // binop ::= expr GTE expr 
+          case 83: // binop ::= expr GTE expr 
             {
               BinaryOp RESULT =null;
-		int e1left = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int e1right = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-		int e2left = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int e2right = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int e1left = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int e1right = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int e2left = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int e2right = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 			RESULT = new LogicalBinaryOp(e1, BinaryOps.GTE, e2); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("binop",18, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 77: // binop ::= expr GT expr 
+          case 82: // binop ::= expr GT expr 
             {
               BinaryOp RESULT =null;
-		int e1left = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int e1right = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-		int e2left = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int e2right = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int e1left = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int e1right = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int e2left = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int e2right = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 			RESULT = new LogicalBinaryOp(e1, BinaryOps.GT, e2); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("binop",18, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 76: // binop ::= expr LTE expr 
+          case 81: // binop ::= expr LTE expr 
             {
               BinaryOp RESULT =null;
-		int e1left = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int e1right = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-		int e2left = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int e2right = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int e1left = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int e1right = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int e2left = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int e2right = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 			RESULT = new LogicalBinaryOp(e1, BinaryOps.LTE, e2); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("binop",18, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 75: // binop ::= expr LT expr 
+          case 80: // binop ::= expr LT expr 
             {
               BinaryOp RESULT =null;
-		int e1left = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int e1right = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-		int e2left = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int e2right = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int e1left = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int e1right = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int e2left = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int e2right = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 			RESULT = new LogicalBinaryOp(e1, BinaryOps.LT, e2); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("binop",18, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 74: // binop ::= expr LOR expr 
+          case 79: // binop ::= expr LOR expr 
             {
               BinaryOp RESULT =null;
-		int e1left = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int e1right = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-		int e2left = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int e2right = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int e1left = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int e1right = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int e2left = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int e2right = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 			RESULT = new LogicalBinaryOp(e1, BinaryOps.LOR, e2); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("binop",18, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 73: // binop ::= expr LAND expr 
+          case 78: // binop ::= expr LAND expr 
             {
               BinaryOp RESULT =null;
-		int e1left = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int e1right = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-		int e2left = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int e2right = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int e1left = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int e1right = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int e2left = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int e2right = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 			RESULT = new LogicalBinaryOp(e1, BinaryOps.LAND, e2); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("binop",18, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 72: // binop ::= expr MOD expr 
+          case 77: // binop ::= expr MOD expr 
             {
               BinaryOp RESULT =null;
-		int e1left = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int e1right = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-		int e2left = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int e2right = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int e1left = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int e1right = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int e2left = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int e2right = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 			RESULT = new MathBinaryOp(e1, BinaryOps.MOD, e2); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("binop",18, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 71: // binop ::= expr DIVIDE expr 
+          case 76: // binop ::= expr DIVIDE expr 
             {
               BinaryOp RESULT =null;
-		int e1left = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int e1right = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-		int e2left = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int e2right = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int e1left = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int e1right = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int e2left = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int e2right = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 			RESULT = new MathBinaryOp(e1, BinaryOps.DIVIDE, e2); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("binop",18, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 70: // binop ::= expr MULTIPLY expr 
+          case 75: // binop ::= expr MULTIPLY expr 
             {
               BinaryOp RESULT =null;
-		int e1left = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int e1right = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-		int e2left = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int e2right = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int e1left = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int e1right = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int e2left = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int e2right = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 			RESULT = new MathBinaryOp(e1, BinaryOps.MULTIPLY, e2); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("binop",18, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 69: // binop ::= expr MINUS expr 
+          case 74: // binop ::= expr MINUS expr 
             {
               BinaryOp RESULT =null;
-		int e1left = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int e1right = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-		int e2left = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int e2right = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int e1left = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int e1right = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int e2left = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int e2right = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 			RESULT = new MathBinaryOp(e1, BinaryOps.MINUS, e2); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("binop",18, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 68: // binop ::= expr PLUS expr 
+          case 73: // binop ::= expr PLUS expr 
             {
               BinaryOp RESULT =null;
-		int e1left = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int e1right = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-		int e2left = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int e2right = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int e1left = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int e1right = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int e2left = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int e2right = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 			RESULT = new MathBinaryOp(e1, BinaryOps.PLUS, e2); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("binop",18, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 67: // location ::= expr LB expr RB 
+          case 72: // location ::= expr LB expr RB 
             {
               Location RESULT =null;
-		int e1left = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
-		int e1right = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
-		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
-		int e2left = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int e2right = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int e1left = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
+		int e1right = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
+		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
+		int e2left = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int e2right = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 			RESULT = new ArrayLocation(e1, e2); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("location",12, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 66: // location ::= expr DOT ID 
+          case 71: // location ::= expr DOT ID 
             {
               Location RESULT =null;
-		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 			RESULT = new VariableLocation(idleft, e, id); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("location",12, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 65: // location ::= ID 
+          case 70: // location ::= ID 
             {
               Location RESULT =null;
-		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 			RESULT = new VariableLocation(idleft, id); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("location",12, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 64: // expr_list ::= expr_list COMMA expr 
+          case 69: // expr_list ::= expr_list COMMA expr 
             {
               List<Expression> RESULT =null;
-		int elleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int elright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		List<Expression> el = (List<Expression>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-			el.add(e);
+		int elleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int elright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		List<Expression> el = (List<Expression>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+			el.add(e);
 		RESULT = el; 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("expr_list",14, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 63: // expr_list ::= expr 
+          case 68: // expr_list ::= expr 
             {
               List<Expression> RESULT =null;
-		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-			List<Expression> l = new ArrayList<Expression>();
-		l.add(e);
+		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+			List<Expression> l = new ArrayList<Expression>();
+		l.add(e);
 		RESULT = l; 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("expr_list",14, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 62: // virtual_call ::= expr DOT ID LP expr_list RP 
+          case 67: // virtual_call ::= expr DOT ID LP expr_list RP 
             {
               VirtualCall RESULT =null;
-		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
-		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).right;
-		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
-		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
-		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
-		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
-		int elleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int elright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		List<Expression> el = (List<Expression>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).right;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
+		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
+		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
+		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
+		int elleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int elright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		List<Expression> el = (List<Expression>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 			RESULT = new VirtualCall(idleft, e, id, el); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("virtual_call",17, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 61: // virtual_call ::= expr DOT ID LP RP 
+          case 66: // virtual_call ::= expr DOT ID LP RP 
             {
               VirtualCall RESULT =null;
-		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
-		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).right;
-		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
-		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).right;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
+		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
 			RESULT = new VirtualCall(idleft, e, id, new ArrayList<Expression>()); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("virtual_call",17, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 60: // virtual_call ::= ID LP expr_list RP 
+          case 65: // virtual_call ::= ID LP expr_list RP 
             {
               VirtualCall RESULT =null;
-		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
-		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
-		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
-		int elleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int elright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		List<Expression> el = (List<Expression>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
+		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
+		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
+		int elleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int elright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		List<Expression> el = (List<Expression>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 			RESULT = new VirtualCall(idleft, id, el); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("virtual_call",17, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 59: // virtual_call ::= ID LP RP 
+          case 64: // virtual_call ::= ID LP RP 
             {
               VirtualCall RESULT =null;
-		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
 			RESULT = new VirtualCall(idleft, id, new ArrayList<Expression>()); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("virtual_call",17, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 58: // static_call ::= CLASS_ID DOT ID LP expr_list RP 
+          case 63: // static_call ::= CLASS_ID DOT ID LP expr_list RP 
             {
               StaticCall RESULT =null;
-		int cileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
-		int ciright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).right;
-		String ci = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
-		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
-		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
-		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
-		int elleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int elright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		List<Expression> el = (List<Expression>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int cileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
+		int ciright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).right;
+		String ci = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
+		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
+		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
+		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
+		int elleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int elright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		List<Expression> el = (List<Expression>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 			RESULT = new StaticCall(cileft, ci, id, el); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("static_call",16, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 57: // static_call ::= CLASS_ID DOT ID LP RP 
+          case 62: // static_call ::= CLASS_ID DOT ID LP RP 
             {
               StaticCall RESULT =null;
-		int cileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
-		int ciright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).right;
-		String ci = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
-		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int cileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
+		int ciright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).right;
+		String ci = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
+		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
 			RESULT = new StaticCall(cileft, ci, id, new ArrayList<Expression>()); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("static_call",16, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 56: // call ::= virtual_call 
+          case 61: // call ::= virtual_call 
             {
               Call RESULT =null;
-		int vcleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int vcright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		VirtualCall vc = (VirtualCall)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int vcleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int vcright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		VirtualCall vc = (VirtualCall)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 			RESULT = vc; 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("call",15, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 55: // call ::= static_call 
+          case 60: // call ::= static_call 
             {
               Call RESULT =null;
-		int scleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int scright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		StaticCall sc = (StaticCall)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int scleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int scright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		StaticCall sc = (StaticCall)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 			RESULT = sc; 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("call",15, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 54: // expr ::= LP expr RP 
+          case 59: // expr ::= LP expr RP 
             {
               Expression RESULT =null;
-		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 			RESULT = e; 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("expr",13, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 53: // expr ::= literal 
+          case 58: // expr ::= literal 
             {
               Expression RESULT =null;
-		int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int lright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Literal l = (Literal)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int lright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Literal l = (Literal)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 			RESULT = l; 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("expr",13, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 52: // expr ::= unop 
+          case 57: // expr ::= unop 
             {
               Expression RESULT =null;
-		int uleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int uright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		UnaryOp u = (UnaryOp)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int uleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int uright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		UnaryOp u = (UnaryOp)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 			RESULT = u; 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("expr",13, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 51: // expr ::= binop 
+          case 56: // expr ::= binop 
             {
               Expression RESULT =null;
-		int bleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int bright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		BinaryOp b = (BinaryOp)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		BinaryOp b = (BinaryOp)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 			RESULT = b; 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("expr",13, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 50: // expr ::= expr DOT LENGTH 
+          case 55: // expr ::= expr DOT LENGTH 
             {
               Expression RESULT =null;
-		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
 			RESULT = new Length(e); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("expr",13, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 49: // expr ::= NEW type LB expr RB 
+          case 54: // expr ::= NEW type LB expr RB 
             {
               Expression RESULT =null;
-		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
-		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
-		Type t = (Type)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
-		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
+		Type t = (Type)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 			RESULT = new NewArray(t, e); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("expr",13, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 48: // expr ::= NEW CLASS_ID LP RP 
+          case 53: // expr ::= NEW CLASS_ID LP RP 
             {
               Expression RESULT =null;
-		int cileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int ciright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		String ci = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int cileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int ciright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		String ci = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
 			RESULT = new NewClass(cileft, ci); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("expr",13, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 47: // expr ::= THIS 
+          case 52: // expr ::= THIS 
             {
               Expression RESULT =null;
-		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Object t = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Object t = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 			RESULT = new This(tleft); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("expr",13, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 46: // expr ::= call 
+          case 51: // expr ::= call 
             {
               Expression RESULT =null;
-		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Call c = (Call)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Call c = (Call)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 			RESULT = c; 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("expr",13, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 45: // expr ::= location 
+          case 50: // expr ::= location 
             {
               Expression RESULT =null;
-		int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int lright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Location l = (Location)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int lright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Location l = (Location)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 			RESULT = l; 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("expr",13, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 44: // stmt ::= type ID ASSIGN expr SEMI 
+          case 49: // stmt ::= LCBR stmt_list error RCBR 
+            {
+              Statement RESULT =null;
+		int lcbrleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
+		int lcbrright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
+		Object lcbr = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
+		int slleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int slright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		List<Statement> sl = (List<Statement>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+			RESULT = new StatementsBlock(lcbrleft, sl); 
+              CUP$Parser$result = parser.getSymbolFactory().newSymbol("stmt",10, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 48: // stmt ::= error SEMI 
             {
               Statement RESULT =null;
-		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
-		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).right;
-		Type t = (Type)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
-		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
-		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
-		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
-		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+			RESULT = null; 
+              CUP$Parser$result = parser.getSymbolFactory().newSymbol("stmt",10, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 47: // stmt ::= type ID ASSIGN expr SEMI 
+            {
+              Statement RESULT =null;
+		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).right;
+		Type t = (Type)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
+		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
+		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
+		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 			RESULT = new LocalVariable(t, id, e); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("stmt",10, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 43: // stmt ::= type ID SEMI 
+          case 46: // stmt ::= type ID SEMI 
             {
               Statement RESULT =null;
-		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		Type t = (Type)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Type t = (Type)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 			RESULT = new LocalVariable(t, id); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("stmt",10, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 42: // stmt ::= LCBR stmt_list RCBR 
+          case 45: // stmt ::= LCBR stmt_list RCBR 
             {
               Statement RESULT =null;
-		int lcbrleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int lcbrright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		Object lcbr = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-		int slleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int slright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		List<Statement> sl = (List<Statement>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int lcbrleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int lcbrright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Object lcbr = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int slleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int slright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		List<Statement> sl = (List<Statement>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 			RESULT = new StatementsBlock(lcbrleft, sl); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("stmt",10, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 41: // stmt ::= CONTINUE SEMI 
+          case 44: // stmt ::= CONTINUE SEMI 
             {
               Statement RESULT =null;
-		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		Object c = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		Object c = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 			RESULT = new Continue(cleft); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("stmt",10, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 40: // stmt ::= BREAK SEMI 
+          case 43: // stmt ::= BREAK SEMI 
             {
               Statement RESULT =null;
-		int bleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int bright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		Object b = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		Object b = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 			RESULT = new Break(bleft); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("stmt",10, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 39: // stmt ::= WHILE LP expr RP stmt 
+          case 42: // stmt ::= WHILE LP expr RP stmt 
             {
               Statement RESULT =null;
-		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-		int sleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int sright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Statement s = (Statement)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int sleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int sright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Statement s = (Statement)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 			RESULT = new While(e, s); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("stmt",10, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 38: // stmt ::= IF LP expr RP stmt 
+          case 41: // stmt ::= IF LP expr RP stmt 
             {
               Statement RESULT =null;
-		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-		int sleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int sright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Statement s = (Statement)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int sleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int sright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Statement s = (Statement)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 			RESULT = new If(e, s); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("stmt",10, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 37: // stmt ::= IF LP expr RP stmt ELSE stmt 
+          case 40: // stmt ::= IF LP expr RP stmt ELSE stmt 
             {
               Statement RESULT =null;
-		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
-		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).right;
-		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
-		int sleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int sright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		Statement s = (Statement)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-		int esleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int esright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Statement es = (Statement)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).right;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
+		int sleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int sright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Statement s = (Statement)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int esleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int esright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Statement es = (Statement)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 			RESULT = new If(e, s, es); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("stmt",10, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 36: // stmt ::= RETURN expr SEMI 
+          case 39: // stmt ::= RETURN expr SEMI 
             {
               Statement RESULT =null;
-		int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		Object r = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Object r = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 			RESULT = new Return(rleft, e); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("stmt",10, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 35: // stmt ::= RETURN SEMI 
+          case 38: // stmt ::= RETURN SEMI 
             {
               Statement RESULT =null;
-		int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		Object r = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		Object r = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 			RESULT = new Return(rleft); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("stmt",10, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 34: // stmt ::= call SEMI 
+          case 37: // stmt ::= call SEMI 
             {
               Statement RESULT =null;
-		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		Call c = (Call)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		Call c = (Call)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 			RESULT = new CallStatement(c); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("stmt",10, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 33: // stmt ::= location ASSIGN expr SEMI 
+          case 36: // stmt ::= location ASSIGN expr SEMI 
             {
               Statement RESULT =null;
-		int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
-		int lright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
-		Location l = (Location)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
-		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
+		int lright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
+		Location l = (Location)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 			RESULT = new Assignment(l, e); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("stmt",10, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 32: // stmt_list ::= stmt_list stmt 
+          case 35: // stmt_list ::= stmt_list stmt 
             {
               List<Statement> RESULT =null;
-		int slleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int slright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		List<Statement> sl = (List<Statement>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		int sleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int sright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Statement s = (Statement)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-			sl.add(s);
+		int slleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int slright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		List<Statement> sl = (List<Statement>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int sleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int sright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Statement s = (Statement)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+			sl.add(s);
 		RESULT = sl; 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("stmt_list",11, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 31: // stmt_list ::= 
+          case 34: // stmt_list ::= 
             {
               List<Statement> RESULT =null;
 		 RESULT = new ArrayList<Statement>(); 
@@ -1479,387 +1355,414 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 30: // type ::= type LB RB 
+          case 33: // type ::= type LB RB 
             {
               Type RESULT =null;
-		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		Type t = (Type)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Type t = (Type)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
 		 t.incrementDimension(); RESULT = t; 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("type",9, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 29: // type ::= CLASS_ID 
+          case 32: // type ::= CLASS_ID 
             {
               Type RESULT =null;
-		int cileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int ciright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		String ci = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int cileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int ciright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		String ci = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 		 RESULT = new UserType(cileft, ci); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("type",9, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 28: // type ::= STRING 
+          case 31: // type ::= STRING 
             {
               Type RESULT =null;
-		int sleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int sright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Object s = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int sleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int sright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Object s = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 		 RESULT = new PrimitiveType(sleft, DataTypes.STRING); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("type",9, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 27: // type ::= BOOLEAN 
+          case 30: // type ::= BOOLEAN 
             {
               Type RESULT =null;
-		int bleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int bright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Object b = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Object b = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 		 RESULT = new PrimitiveType(bleft, DataTypes.BOOLEAN); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("type",9, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 26: // type ::= INT 
+          case 29: // type ::= INT 
             {
               Type RESULT =null;
-		int ileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int iright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Object i = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int ileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int iright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Object i = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 		 RESULT = new PrimitiveType(ileft, DataTypes.INT); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("type",9, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 25: // formal ::= type ID 
+          case 28: // formal ::= type ID 
             {
               Formal RESULT =null;
-		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		Type t = (Type)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-		 RESULT = new Formal(t, id);
+		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		Type t = (Type)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new Formal(t, id);
 	   // System.out.println("Reduced rule t id for t=" + t + " and id=" + id); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("formal",7, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 24: // formal_list ::= formal_list COMMA formal 
+          case 27: // formal_list ::= formal_list COMMA formal 
             {
               List<Formal> RESULT =null;
-		int flleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int flright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		List<Formal> fl = (List<Formal>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-		int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int fright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Formal f = (Formal)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-		 fl.add(f);
-	   RESULT = fl;
+		int flleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int flright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		List<Formal> fl = (List<Formal>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int fright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Formal f = (Formal)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 fl.add(f);
+	   RESULT = fl;
 	   // System.out.println("Added f to list of Formal for f=" + f); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("formal_list",8, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 23: // formal_list ::= formal 
+          case 26: // formal_list ::= formal 
             {
               List<Formal> RESULT =null;
-		int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int fright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Formal f = (Formal)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-		 List<Formal> l = new ArrayList<Formal>();
-	   l.add(f);
-	   RESULT = l;
+		int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int fright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Formal f = (Formal)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 List<Formal> l = new ArrayList<Formal>();
+	   l.add(f);
+	   RESULT = l;
 	   // System.out.println("Created new list of Formal, added f=" + f); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("formal_list",8, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 22: // method ::= type ID LP formal_list RP LCBR stmt_list RCBR 
+          case 25: // method ::= error LCBR stmt_list RCBR 
+            {
+              Method RESULT =null;
+		 RESULT = null; 
+              CUP$Parser$result = parser.getSymbolFactory().newSymbol("method",6, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 24: // method ::= type ID LP formal_list RP LCBR stmt_list RCBR 
             {
               Method RESULT =null;
-		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-7)).left;
-		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-7)).right;
-		Type t = (Type)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-7)).value;
-		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).left;
-		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).right;
-		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-6)).value;
-		int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
-		int fright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).right;
-		List<Formal> f = (List<Formal>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
-		int slleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int slright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		List<Statement> sl = (List<Statement>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		 RESULT = new VirtualMethod(t, id, f, sl);
+		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-7)).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-7)).right;
+		Type t = (Type)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-7)).value;
+		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).left;
+		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).right;
+		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-6)).value;
+		int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
+		int fright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).right;
+		List<Formal> f = (List<Formal>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
+		int slleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int slright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		List<Statement> sl = (List<Statement>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 RESULT = new VirtualMethod(t, id, f, sl);
 	   // System.out.println("Reduced rule t id(f){sl} for t=" + t + ", id=" + id + ", f=" + f + " and sl=" + sl); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("method",6, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-7)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 21: // method ::= VOID ID LP formal_list RP LCBR stmt_list RCBR 
+          case 23: // method ::= VOID ID LP formal_list RP LCBR stmt_list RCBR 
             {
               Method RESULT =null;
-		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).left;
-		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).right;
-		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-6)).value;
-		int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
-		int fright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).right;
-		List<Formal> f = (List<Formal>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
-		int slleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int slright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		List<Statement> sl = (List<Statement>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		 RESULT = new VirtualMethod(new PrimitiveType(idleft, DataTypes.VOID), id, f, sl);
+		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).left;
+		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).right;
+		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-6)).value;
+		int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
+		int fright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).right;
+		List<Formal> f = (List<Formal>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
+		int slleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int slright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		List<Statement> sl = (List<Statement>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 RESULT = new VirtualMethod(new PrimitiveType(idleft, DataTypes.VOID), id, f, sl);
 	   // System.out.println("Reduced rule void id(f){sl} for id=" + id + ", f=" + f + " and sl=" + sl); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("method",6, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-7)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 20: // method ::= type ID LP RP LCBR stmt_list RCBR 
+          case 22: // method ::= type ID LP RP LCBR stmt_list RCBR 
             {
               Method RESULT =null;
-		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).left;
-		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).right;
-		Type t = (Type)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-6)).value;
-		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
-		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).right;
-		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
-		int slleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int slright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		List<Statement> sl = (List<Statement>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		 RESULT = new VirtualMethod(t, id, new ArrayList<Formal>(), sl);
+		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).right;
+		Type t = (Type)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-6)).value;
+		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
+		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).right;
+		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
+		int slleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int slright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		List<Statement> sl = (List<Statement>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 RESULT = new VirtualMethod(t, id, new ArrayList<Formal>(), sl);
 	   // System.out.println("Reduced rule t id(){sl} for t=" + t + ", id=" + id + " and sl=" + sl); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("method",6, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 19: // method ::= VOID ID LP RP LCBR stmt_list RCBR 
+          case 21: // method ::= VOID ID LP RP LCBR stmt_list RCBR 
             {
               Method RESULT =null;
-		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
-		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).right;
-		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
-		int slleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int slright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		List<Statement> sl = (List<Statement>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		 RESULT = new VirtualMethod(new PrimitiveType(idleft, DataTypes.VOID), id, new ArrayList<Formal>(), sl);
+		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
+		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).right;
+		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
+		int slleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int slright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		List<Statement> sl = (List<Statement>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 RESULT = new VirtualMethod(new PrimitiveType(idleft, DataTypes.VOID), id, new ArrayList<Formal>(), sl);
 	   // System.out.println("Reduced rule void id(){sl} for id=" + id + " and sl=" + sl); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("method",6, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 18: // method ::= STATIC type ID LP formal_list RP LCBR stmt_list RCBR 
+          case 20: // method ::= STATIC type ID LP formal_list RP LCBR stmt_list RCBR 
             {
               Method RESULT =null;
-		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-7)).left;
-		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-7)).right;
-		Type t = (Type)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-7)).value;
-		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).left;
-		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).right;
-		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-6)).value;
-		int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
-		int fright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).right;
-		List<Formal> f = (List<Formal>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
-		int slleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int slright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		List<Statement> sl = (List<Statement>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		 RESULT = new StaticMethod(t, id, f, sl);
+		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-7)).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-7)).right;
+		Type t = (Type)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-7)).value;
+		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).left;
+		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).right;
+		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-6)).value;
+		int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
+		int fright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).right;
+		List<Formal> f = (List<Formal>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
+		int slleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int slright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		List<Statement> sl = (List<Statement>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 RESULT = new StaticMethod(t, id, f, sl);
 	   // System.out.println("Reduced rule static t id(f){sl} for t=" + t + ", id=" + id + ", f=" + f + " and sl=" + sl); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("method",6, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-8)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 17: // method ::= STATIC VOID ID LP formal_list RP LCBR stmt_list RCBR 
+          case 19: // method ::= STATIC VOID ID LP formal_list RP LCBR stmt_list RCBR 
             {
               Method RESULT =null;
-		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).left;
-		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).right;
-		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-6)).value;
-		int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
-		int fright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).right;
-		List<Formal> f = (List<Formal>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
-		int slleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int slright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		List<Statement> sl = (List<Statement>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		 RESULT = new StaticMethod(new PrimitiveType(idleft, DataTypes.VOID), id, f, sl);
+		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).left;
+		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).right;
+		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-6)).value;
+		int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
+		int fright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).right;
+		List<Formal> f = (List<Formal>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
+		int slleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int slright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		List<Statement> sl = (List<Statement>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 RESULT = new StaticMethod(new PrimitiveType(idleft, DataTypes.VOID), id, f, sl);
 	   // System.out.println("Reduced rule static void id(f){sl} for id=" + id + ", f=" + f + " and sl=" + sl); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("method",6, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-8)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 16: // method ::= STATIC type ID LP RP LCBR stmt_list RCBR 
+          case 18: // method ::= STATIC type ID LP RP LCBR stmt_list RCBR 
             {
               Method RESULT =null;
-		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).left;
-		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).right;
-		Type t = (Type)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-6)).value;
-		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
-		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).right;
-		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
-		int slleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int slright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		List<Statement> sl = (List<Statement>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		 RESULT = new StaticMethod(t, id, new ArrayList<Formal>(), sl);
+		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).right;
+		Type t = (Type)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-6)).value;
+		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
+		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).right;
+		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
+		int slleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int slright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		List<Statement> sl = (List<Statement>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 RESULT = new StaticMethod(t, id, new ArrayList<Formal>(), sl);
 	   // System.out.println("Reduced rule static t id(){sl} for t=" + t + ", id=" + id + " and sl=" + sl); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("method",6, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-7)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 15: // method ::= STATIC VOID ID LP RP LCBR stmt_list RCBR 
+          case 17: // method ::= STATIC VOID ID LP RP LCBR stmt_list RCBR 
             {
               Method RESULT =null;
-		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
-		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).right;
-		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
-		int slleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int slright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		List<Statement> sl = (List<Statement>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		 RESULT = new StaticMethod(new PrimitiveType(idleft, DataTypes.VOID), id, new ArrayList<Formal>(), sl);
+		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
+		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).right;
+		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
+		int slleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int slright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		List<Statement> sl = (List<Statement>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 RESULT = new StaticMethod(new PrimitiveType(idleft, DataTypes.VOID), id, new ArrayList<Formal>(), sl);
 	   // System.out.println("Reduced rule static void id(){sl} for id=" + id + " and sl=" + sl); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("method",6, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-7)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 14: // id_list ::= id_list COMMA ID 
+          case 16: // id_list ::= id_list COMMA ID 
             {
               List<String> RESULT =null;
-		int idlleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int idlright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		List<String> idl = (List<String>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-		 idl.add(id);
+		int idlleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int idlright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		List<String> idl = (List<String>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 idl.add(id);
 	   RESULT = idl; 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("id_list",5, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 13: // id_list ::= ID 
+          case 15: // id_list ::= ID 
             {
               List<String> RESULT =null;
-		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-		 List<String> idl = new ArrayList<String>();
-	   idl.add(id);
+		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 List<String> idl = new ArrayList<String>();
+	   idl.add(id);
 	   RESULT = idl; 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("id_list",5, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 12: // field ::= type id_list SEMI 
+          case 14: // field ::= error SEMI 
             {
               List<Field> RESULT =null;
-		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		Type t = (Type)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-		int idlleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int idlright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		List<String> idl = (List<String>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		 List<Field> lf = new ArrayList<Field>();
-	   for (String id: idl){
-	      lf.add(new Field(t, id));
-	   }
+		 RESULT = new ArrayList<Field>(); 
+              CUP$Parser$result = parser.getSymbolFactory().newSymbol("field",4, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 13: // field ::= type id_list SEMI 
+            {
+              List<Field> RESULT =null;
+		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Type t = (Type)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int idlleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int idlright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		List<String> idl = (List<String>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 List<Field> lf = new ArrayList<Field>();
+	   for (String id: idl){
+	      lf.add(new Field(t, id));
+	   }
 	   RESULT = lf; 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("field",4, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 11: // field_or_method ::= field_or_method method 
+          case 12: // field_or_method ::= field_or_method method 
             {
               FieldOrMethod RESULT =null;
-		int fomleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int fomright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		FieldOrMethod fom = (FieldOrMethod)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		int mleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int mright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Method m = (Method)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-		 fom.addMethod(m);
-	   RESULT = fom;
+		int fomleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int fomright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		FieldOrMethod fom = (FieldOrMethod)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int mleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int mright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Method m = (Method)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 fom.addMethod(m);
+	   RESULT = fom;
 	   // System.out.println("Added m to list of fields and methods for m=" + m); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("field_or_method",2, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 10: // field_or_method ::= field_or_method field 
+          case 11: // field_or_method ::= field_or_method field 
             {
               FieldOrMethod RESULT =null;
-		int fomleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int fomright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		FieldOrMethod fom = (FieldOrMethod)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int fright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		List<Field> f = (List<Field>)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-		 fom.addField(f);
-	   RESULT = fom;
+		int fomleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int fomright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		FieldOrMethod fom = (FieldOrMethod)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int fright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		List<Field> f = (List<Field>)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 fom.addField(f);
+	   RESULT = fom;
 	   // System.out.println("Added f to list of fields and methods for f=" + f); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("field_or_method",2, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 9: // field_or_method ::= method 
+          case 10: // field_or_method ::= method 
             {
               FieldOrMethod RESULT =null;
-		int mleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int mright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		Method m = (Method)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-		 RESULT = new FieldOrMethod(m);
+		int mleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int mright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Method m = (Method)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new FieldOrMethod(m);
 	   // System.out.println("Created new list of fields and methods, added m=" + m); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("field_or_method",2, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 8: // field_or_method ::= field 
+          case 9: // field_or_method ::= field 
             {
               FieldOrMethod RESULT =null;
-		int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int fright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		List<Field> f = (List<Field>)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-		 RESULT = new FieldOrMethod(f);
+		int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int fright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		List<Field> f = (List<Field>)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new FieldOrMethod(f);
 	   // System.out.println("Created new list of fields and methods, added f=" + f); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("field_or_method",2, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
           return CUP$Parser$result;
 
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 8: // classDecl ::= CLASS error RCBR 
+            {
+              ICClass RESULT =null;
+		 RESULT = null; 
+              CUP$Parser$result = parser.getSymbolFactory().newSymbol("classDecl",1, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
+            }
+          return CUP$Parser$result;
+
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 7: // classDecl ::= CLASS CLASS_ID EXTENDS CLASS_ID LCBR field_or_method RCBR 
             {
               ICClass RESULT =null;
-		int cileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
-		int ciright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).right;
-		String ci = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
-		int ecileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
-		int eciright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
-		String eci = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
-		int fomleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int fomright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		FieldOrMethod fom = (FieldOrMethod)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int cileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
+		int ciright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).right;
+		String ci = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
+		int ecileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
+		int eciright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
+		String eci = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
+		int fomleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int fomright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		FieldOrMethod fom = (FieldOrMethod)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 		 RESULT = new ICClass(cileft, ci, eci, fom.getFieldList(), fom.getMethodList()); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("classDecl",1, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
@@ -1869,12 +1772,12 @@ class CUP$Parser$actions {
           case 6: // classDecl ::= CLASS CLASS_ID EXTENDS CLASS_ID LCBR RCBR 
             {
               ICClass RESULT =null;
-		int cileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
-		int ciright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).right;
-		String ci = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
-		int ecileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int eciright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		String eci = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int cileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
+		int ciright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).right;
+		String ci = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
+		int ecileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int eciright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		String eci = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
 		 RESULT = new ICClass(cileft, ci, eci, new ArrayList<Field>(), new ArrayList<Method>()); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("classDecl",1, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
@@ -1884,12 +1787,12 @@ class CUP$Parser$actions {
           case 5: // classDecl ::= CLASS CLASS_ID LCBR field_or_method RCBR 
             {
               ICClass RESULT =null;
-		int cileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
-		int ciright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
-		String ci = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
-		int fomleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int fomright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		FieldOrMethod fom = (FieldOrMethod)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int cileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
+		int ciright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
+		String ci = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
+		int fomleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int fomright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		FieldOrMethod fom = (FieldOrMethod)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 		 RESULT = new ICClass(cileft, ci, fom.getFieldList(), fom.getMethodList()); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("classDecl",1, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
@@ -1899,9 +1802,9 @@ class CUP$Parser$actions {
           case 4: // classDecl ::= CLASS CLASS_ID LCBR RCBR 
             {
               ICClass RESULT =null;
-		int cileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int ciright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		String ci = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int cileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int ciright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		String ci = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
 		 RESULT = new ICClass(cileft, ci, new ArrayList<Field>(), new ArrayList<Method>()); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("classDecl",1, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
@@ -1911,14 +1814,14 @@ class CUP$Parser$actions {
           case 3: // classDecl_list ::= classDecl_list classDecl 
             {
               List<ICClass> RESULT =null;
-		int cdlstleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int cdlstright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		List<ICClass> cdlst = (List<ICClass>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		int cdleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int cdright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		ICClass cd = (ICClass)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-		 cdlst.add(cd);
-	   RESULT = cdlst;
+		int cdlstleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int cdlstright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		List<ICClass> cdlst = (List<ICClass>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int cdleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int cdright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		ICClass cd = (ICClass)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 cdlst.add(cd);
+	   RESULT = cdlst;
 	   // System.out.println("Added cd to list of ICClass for cd=" + cd); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("classDecl_list",3, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
@@ -1928,12 +1831,12 @@ class CUP$Parser$actions {
           case 2: // classDecl_list ::= classDecl 
             {
               List<ICClass> RESULT =null;
-		int cdleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int cdright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		ICClass cd = (ICClass)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-		 List<ICClass> l = new ArrayList<ICClass>();
-	   l.add(cd);
-	   RESULT = l;
+		int cdleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int cdright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		ICClass cd = (ICClass)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 List<ICClass> l = new ArrayList<ICClass>();
+	   l.add(cd);
+	   RESULT = l;
 	   // System.out.println("Created new list of ICClass, added cd=" + cd); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("classDecl_list",3, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
@@ -1943,9 +1846,9 @@ class CUP$Parser$actions {
           case 1: // $START ::= program EOF 
             {
               Object RESULT =null;
-		int start_valleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int start_valright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		Program start_val = (Program)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int start_valleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int start_valright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		Program start_val = (Program)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 		RESULT = start_val;
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("$START",0, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
@@ -1957,9 +1860,9 @@ class CUP$Parser$actions {
           case 0: // program ::= classDecl_list 
             {
               Program RESULT =null;
-		int cdlstleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-		int cdlstright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-		List<ICClass> cdlst = (List<ICClass>)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		int cdlstleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int cdlstright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		List<ICClass> cdlst = (List<ICClass>)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 		 RESULT = new Program(cdlst); 
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("program",0, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
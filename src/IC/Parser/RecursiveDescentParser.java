@@ -0,0 +1,462 @@
+package IC.Parser;
+
+import java.util.List;
+import java.util.ArrayList;
+import IC.*;
+import IC.AST.*;
+
+/**
+ * A hand-written recursive descent parser for the IC language, an alternative to the CUP generated Parser
+ * it accepts the grammar in IC.cup and builds the same AST (with the same line numbers):
+ * - binary expressions are parsed by precedence climbing, with the precedences and associativity of IC.cup
+ * - the parser looks at most two tokens ahead (CLASS_ID DOT starts a static call, otherwise a type)
+ * - the tokens are read through a TokenBuffer, by index, with no Token objects
+ * - a syntax error is reported at the first token that cannot continue the program, as a SyntaxError
+ */
+public class RecursiveDescentParser {
+
+	private TokenBuffer tokens;
+	// index of the current token
+	private int pos = 0;
+	// the last expression read in parentheses (it is not a location or a call statement)
+	private Expression parenthesized;
+
+	public RecursiveDescentParser(Lexer lexer){
+		this(new TokenBuffer(lexer));
+	}
+
+	public RecursiveDescentParser(TokenBuffer tokens){
+		this.tokens = tokens;
+	}
+
+	/**
+	 * parses the whole input
+	 * @return the program's AST
+	 * @throws LexicalError
+	 * @throws SyntaxError
+	 */
+	public Program parse() throws LexicalError, SyntaxError {
+		List<ICClass> classes = new ArrayList<ICClass>();
+		do {
+			classes.add(parseClass());
+		} while (kind() != sym.EOF);
+		return new Program(classes);
+	}
+
+	// tokens
+	/////////
+
+	/**
+	 * returns the kind of the current token
+	 */
+	private int kind() throws LexicalError {
+		return tokens.getKind(pos);
+	}
+
+	/**
+	 * returns the kind of the token after the current token
+	 */
+	private int peek() throws LexicalError {
+		return tokens.getKind(pos+1);
+	}
+
+	private void advance(){
+		pos++;
+	}
+
+	/**
+	 * skips the current token, which must be of the given kind
+	 * @return the skipped token's index
+	 */
+	private int expect(int kind) throws LexicalError, SyntaxError {
+		if (kind() != kind) throw error();
+		return pos++;
+	}
+
+	/**
+	 * returns the line of the given token
+	 */
+	private int line(int token){
+		return tokens.getLine(token);
+	}
+
+	/**
+	 * returns the name of the given identifier / class identifier token, or the value of a string literal token
+	 */
+	private String text(int token){
+		return (String) tokens.getValue(token);
+	}
+
+	/**
+	 * returns a syntax error at the current token
+	 */
+	private SyntaxError error(){
+		Object value = tokens.getValue(pos);
+		return new SyntaxError(line(pos), value == null ? null : value.toString());
+	}
+
+	// declarations
+	///////////////
+
+	private ICClass parseClass() throws LexicalError, SyntaxError {
+		expect(sym.CLASS);
+		int name = expect(sym.CLASS_ID);
+		String superClassName = null;
+		if (kind() == sym.EXTENDS){
+			advance();
+			superClassName = text(expect(sym.CLASS_ID));
+		}
+		expect(sym.LCBR);
+
+		List<Field> fields = new ArrayList<Field>();
+		List<Method> methods = new ArrayList<Method>();
+		while (kind() != sym.RCBR){
+			parseFieldOrMethod(fields, methods);
+		}
+		advance();
+
+		if (superClassName == null) return new ICClass(line(name), text(name), fields, methods);
+		return new ICClass(line(name), text(name), superClassName, fields, methods);
+	}
+
+	/**
+	 * parses a field declaration (of one or more fields) or a method, and adds them to the given lists
+	 */
+	private void parseFieldOrMethod(List<Field> fields, List<Method> methods) throws LexicalError, SyntaxError {
+		boolean isStatic = kind() == sym.STATIC;
+		if (isStatic) advance();
+
+		// the void type takes the line of the method's name
+		Type type = null;
+		boolean isVoid = kind() == sym.VOID;
+		if (isVoid) advance();
+		else type = parseType();
+		int name = expect(sym.ID);
+		if (isVoid) type = new PrimitiveType(line(name), DataTypes.VOID);
+
+		if (isStatic || isVoid || kind() == sym.LP){
+			expect(sym.LP);
+			List<Formal> formals = new ArrayList<Formal>();
+			if (kind() != sym.RP){
+				formals.add(parseFormal());
+				while (kind() == sym.COMMA){
+					advance();
+					formals.add(parseFormal());
+				}
+			}
+			expect(sym.RP);
+			List<Statement> statements = parseBlock();
+			if (isStatic) methods.add(new StaticMethod(type, text(name), formals, statements));
+			else methods.add(new VirtualMethod(type, text(name), formals, statements));
+			return;
+		}
+
+		fields.add(new Field(type, text(name)));
+		while (kind() == sym.COMMA){
+			advance();
+			fields.add(new Field(type, text(expect(sym.ID))));
+		}
+		expect(sym.SEMI);
+	}
+
+	private Formal parseFormal() throws LexicalError, SyntaxError {
+		Type type = parseType();
+		return new Formal(type, text(expect(sym.ID)));
+	}
+
+	/**
+	 * parses a type, with its array dimensions
+	 */
+	private Type parseType() throws LexicalError, SyntaxError {
+		Type type = parseBaseType();
+		while (kind() == sym.LB){
+			advance();
+			expect(sym.RB);
+			type.incrementDimension();
+		}
+		return type;
+	}
+
+	private Type parseBaseType() throws LexicalError, SyntaxError {
+		int token = pos;
+		switch (kind()){
+		case sym.INT: advance(); return new PrimitiveType(line(token), DataTypes.INT);
+		case sym.BOOLEAN: advance(); return new PrimitiveType(line(token), DataTypes.BOOLEAN);
+		case sym.STRING: advance(); return new PrimitiveType(line(token), DataTypes.STRING);
+		case sym.CLASS_ID: advance(); return new UserType(line(token), text(token));
+		default: throw error();
+		}
+	}
+
+	// statements
+	/////////////
+
+	/**
+	 * parses statements in curly brackets
+	 */
+	private List<Statement> parseBlock() throws LexicalError, SyntaxError {
+		expect(sym.LCBR);
+		List<Statement> statements = new ArrayList<Statement>();
+		while (kind() != sym.RCBR){
+			statements.add(parseStatement());
+		}
+		advance();
+		return statements;
+	}
+
+	private Statement parseStatement() throws LexicalError, SyntaxError {
+		int token = pos;
+		switch (kind()){
+		case sym.RETURN:
+			advance();
+			if (kind() == sym.SEMI){
+				advance();
+				return new Return(line(token));
+			}
+			Expression value = parseExpression(1);
+			expect(sym.SEMI);
+			return new Return(line(token), value);
+		case sym.IF:
+			advance();
+			expect(sym.LP);
+			Expression condition = parseExpression(1);
+			expect(sym.RP);
+			Statement operation = parseStatement();
+			// an else belongs to the nearest if
+			if (kind() != sym.ELSE) return new If(condition, operation);
+			advance();
+			return new If(condition, operation, parseStatement());
+		case sym.WHILE:
+			advance();
+			expect(sym.LP);
+			condition = parseExpression(1);
+			expect(sym.RP);
+			return new While(condition, parseStatement());
+		case sym.BREAK:
+			advance();
+			expect(sym.SEMI);
+			return new Break(line(token));
+		case sym.CONTINUE:
+			advance();
+			expect(sym.SEMI);
+			return new Continue(line(token));
+		case sym.LCBR:
+			return new StatementsBlock(line(token), parseBlock());
+		case sym.INT:
+		case sym.BOOLEAN:
+		case sym.STRING:
+			return parseLocalVariable();
+		default:
+			// a local variable of a class type, unless a static call (CLASS_ID DOT)
+			if (kind() == sym.CLASS_ID && peek() != sym.DOT) return parseLocalVariable();
+			// an assignment or a call statement
+			Expression expression = parseExpression(1);
+			boolean isParenthesized = expression == parenthesized;
+			if (kind() == sym.ASSIGN && expression instanceof Location && !isParenthesized){
+				advance();
+				Expression assignment = parseExpression(1);
+				expect(sym.SEMI);
+				return new Assignment((Location) expression, assignment);
+			}
+			if (kind() == sym.SEMI && expression instanceof Call && !isParenthesized){
+				advance();
+				return new CallStatement((Call) expression);
+			}
+			throw error();
+		}
+	}
+
+	private Statement parseLocalVariable() throws LexicalError, SyntaxError {
+		Type type = parseType();
+		String name = text(expect(sym.ID));
+		if (kind() != sym.ASSIGN){
+			expect(sym.SEMI);
+			return new LocalVariable(type, name);
+		}
+		advance();
+		Expression initValue = parseExpression(1);
+		expect(sym.SEMI);
+		return new LocalVariable(type, name, initValue);
+	}
+
+	// expressions
+	//////////////
+
+	/**
+	 * returns the precedence of the given binary operator token (higher binds tighter), or 0 if it is not one
+	 */
+	private static int getPrecedence(int kind){
+		switch (kind){
+		case sym.LOR: return 1;
+		case sym.LAND: return 2;
+		case sym.EQUAL: case sym.NEQUAL: return 3;
+		case sym.LT: case sym.LTE: case sym.GT: case sym.GTE: return 4;
+		case sym.PLUS: case sym.MINUS: return 5;
+		case sym.MULTIPLY: case sym.DIVIDE: case sym.MOD: return 6;
+		default: return 0;
+		}
+	}
+
+	/**
+	 * parses an expression by precedence climbing: the binary operators read are those
+	 * with at least the given precedence (all binary operators are left associative)
+	 */
+	private Expression parseExpression(int minPrecedence) throws LexicalError, SyntaxError {
+		Expression expression = parseUnary();
+		for (int precedence = getPrecedence(kind()); precedence >= minPrecedence;
+				precedence = getPrecedence(kind())){
+			int operator = kind();
+			advance();
+			expression = newBinaryOp(expression, operator, parseExpression(precedence+1));
+		}
+		return expression;
+	}
+
+	private static BinaryOp newBinaryOp(Expression operand1, int operator, Expression operand2){
+		switch (operator){
+		case sym.PLUS: return new MathBinaryOp(operand1, BinaryOps.PLUS, operand2);
+		case sym.MINUS: return new MathBinaryOp(operand1, BinaryOps.MINUS, operand2);
+		case sym.MULTIPLY: return new MathBinaryOp(operand1, BinaryOps.MULTIPLY, operand2);
+		case sym.DIVIDE: return new MathBinaryOp(operand1, BinaryOps.DIVIDE, operand2);
+		case sym.MOD: return new MathBinaryOp(operand1, BinaryOps.MOD, operand2);
+		case sym.LAND: return new LogicalBinaryOp(operand1, BinaryOps.LAND, operand2);
+		case sym.LOR: return new LogicalBinaryOp(operand1, BinaryOps.LOR, operand2);
+		case sym.LT: return new LogicalBinaryOp(operand1, BinaryOps.LT, operand2);
+		case sym.LTE: return new LogicalBinaryOp(operand1, BinaryOps.LTE, operand2);
+		case sym.GT: return new LogicalBinaryOp(operand1, BinaryOps.GT, operand2);
+		case sym.GTE: return new LogicalBinaryOp(operand1, BinaryOps.GTE, operand2);
+		case sym.EQUAL: return new LogicalBinaryOp(operand1, BinaryOps.EQUAL, operand2);
+		default: return new LogicalBinaryOp(operand1, BinaryOps.NEQUAL, operand2);
+		}
+	}
+
+	/**
+	 * parses a unary expression (unary operators bind tighter than binary operators,
+	 * and looser than member access, calls and array access)
+	 */
+	private Expression parseUnary() throws LexicalError, SyntaxError {
+		if (kind() == sym.MINUS){
+			advance();
+			return new MathUnaryOp(UnaryOps.UMINUS, parseUnary());
+		}
+		if (kind() == sym.LNEG){
+			advance();
+			return new LogicalUnaryOp(UnaryOps.LNEG, parseUnary());
+		}
+		return parsePostfix(parsePrimary());
+	}
+
+	/**
+	 * parses the member accesses, virtual calls, array accesses and lengths following the given expression
+	 */
+	private Expression parsePostfix(Expression expression) throws LexicalError, SyntaxError {
+		while (true){
+			if (kind() == sym.LB){
+				advance();
+				Expression index = parseExpression(1);
+				expect(sym.RB);
+				expression = new ArrayLocation(expression, index);
+			} else if (kind() == sym.DOT){
+				advance();
+				if (kind() == sym.LENGTH){
+					advance();
+					expression = new Length(expression);
+					continue;
+				}
+				int name = expect(sym.ID);
+				if (kind() == sym.LP){
+					expression = new VirtualCall(line(name), expression, text(name), parseArguments());
+				} else {
+					expression = new VariableLocation(line(name), expression, text(name));
+				}
+			} else return expression;
+		}
+	}
+
+	private Expression parsePrimary() throws LexicalError, SyntaxError {
+		int token = pos;
+		switch (kind()){
+		case sym.ID:
+			advance();
+			if (kind() == sym.LP) return new VirtualCall(line(token), text(token), parseArguments());
+			return new VariableLocation(line(token), text(token));
+		case sym.CLASS_ID:
+			advance();
+			expect(sym.DOT);
+			String name = text(expect(sym.ID));
+			if (kind() != sym.LP) throw error();
+			return new StaticCall(line(token), text(token), name, parseArguments());
+		case sym.THIS:
+			advance();
+			return new This(line(token));
+		case sym.NEW:
+			advance();
+			return parseNew();
+		case sym.INTEGER:
+			advance();
+			return new Literal(line(token), LiteralTypes.INTEGER, tokens.getValue(token));
+		case sym.QUOTE:
+			advance();
+			return new Literal(line(token), LiteralTypes.STRING, tokens.getValue(token));
+		case sym.TRUE:
+			advance();
+			return new Literal(line(token), LiteralTypes.TRUE);
+		case sym.FALSE:
+			advance();
+			return new Literal(line(token), LiteralTypes.FALSE);
+		case sym.NULL:
+			advance();
+			return new Literal(line(token), LiteralTypes.NULL);
+		case sym.LP:
+			advance();
+			Expression expression = parseExpression(1);
+			expect(sym.RP);
+			parenthesized = expression;
+			return expression;
+		default:
+			throw error();
+		}
+	}
+
+	/**
+	 * parses an object or array allocation (after the new keyword)
+	 */
+	private Expression parseNew() throws LexicalError, SyntaxError {
+		if (kind() == sym.CLASS_ID && peek() == sym.LP){
+			int name = pos;
+			advance();
+			advance();
+			expect(sym.RP);
+			return new NewClass(line(name), text(name));
+		}
+
+		// the array's element type is followed by its size in square brackets
+		Type type = parseBaseType();
+		while (true){
+			expect(sym.LB);
+			if (kind() != sym.RB) break;
+			advance();
+			type.incrementDimension();
+		}
+		Expression size = parseExpression(1);
+		expect(sym.RB);
+		return new NewArray(type, size);
+	}
+
+	/**
+	 * parses a call's arguments, in parentheses
+	 */
+	private List<Expression> parseArguments() throws LexicalError, SyntaxError {
+		expect(sym.LP);
+		List<Expression> arguments = new ArrayList<Expression>();
+		if (kind() != sym.RP){
+			arguments.add(parseExpression(1));
+			while (kind() == sym.COMMA){
+				advance();
+				arguments.add(parseExpression(1));
+			}
+		}
+		expect(sym.RP);
+		return arguments;
+	}
+}
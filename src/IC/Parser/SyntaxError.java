@@ -15,6 +15,13 @@ public class SyntaxError extends Exception {
     	this.value = value;
     }
     
+    /**
+     * returns the line of the error
+     */
+    public int getLine(){
+    	return line;
+    }
+    
     /**
      * returns a string representation for the error with line number, message and the token that
      * caused the syntax error
@@ -0,0 +1,236 @@
+package IC.Parser;
+
+import java.io.*;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * A packed buffer of the tokens of a source, filled by the lexer without creating a Token object per token
+ * - the tokens are kept in parallel arrays: kind (a sym constant), line, start offset and length in the source
+ *   (the arrays are allocated in fixed size blocks, so they are never copied as the buffer grows)
+ * - the tokens values (names, integers, strings and the keywords and operators texts) are kept in a values table,
+ *   and every token keeps the index of its value: a value instance shared by several tokens (a keyword's text,
+ *   an identifier's name - see NameTable) is kept once
+ * - the buffer is filled on demand: a token is read from the lexer when it is first requested
+ *   (readAll reads the whole source at once), so a lexical error is thrown only when the token it stands
+ *   for is requested
+ */
+public class TokenBuffer {
+
+	// names of the tokens kinds, by sym constant
+	private static final String[] kindsNames = readKindsNames();
+
+	private Lexer lexer;
+	// the lexical error that ended the tokens, if any
+	private LexicalError error = null;
+
+	// number of tokens in a block (a power of 2)
+	private static final int blockBits = 12;
+	private static final int blockSize = 1 << blockBits;
+	private static final int blockMask = blockSize-1;
+
+	private int count = 0;
+	// the tokens arrays, by block
+	private int[][] kinds = new int[16][];
+	private int[][] lines = new int[16][];
+	private int[][] starts = new int[16][];
+	private int[][] lengths = new int[16][];
+	private int[][] values = new int[16][];
+
+	// values table, and the index of every value instance in it
+	private List<Object> valuesTable = new ArrayList<Object>();
+	private Map<Object,Integer> valuesIndexes = new IdentityHashMap<Object,Integer>();
+	// the index of the last value of every token kind (most kinds have a single value)
+	private int[] lastValues = new int[64];
+
+	/**
+	 * constructor
+	 * @param lexer: the lexer to read the tokens from (its tokens are read only through the buffer)
+	 */
+	public TokenBuffer(Lexer lexer){
+		this.lexer = lexer;
+		lexer.setTokenBuffer(this);
+		Arrays.fill(lastValues, -1);
+	}
+
+	/**
+	 * adds a token, called by the lexer
+	 */
+	void add(int kind, int line, int start, int length, Object value){
+		int block = count >> blockBits, i = count & blockMask;
+		if (i == 0){
+			if (block == kinds.length){
+				int size = 2*block;
+				kinds = Arrays.copyOf(kinds, size);
+				lines = Arrays.copyOf(lines, size);
+				starts = Arrays.copyOf(starts, size);
+				lengths = Arrays.copyOf(lengths, size);
+				values = Arrays.copyOf(values, size);
+			}
+			kinds[block] = new int[blockSize];
+			lines[block] = new int[blockSize];
+			starts[block] = new int[blockSize];
+			lengths[block] = new int[blockSize];
+			values[block] = new int[blockSize];
+		}
+		int index = kind < lastValues.length ? lastValues[kind] : -1;
+		if (index < 0 || valuesTable.get(index) != value){
+			Integer valueIndex = valuesIndexes.get(value);
+			if (valueIndex == null){
+				valueIndex = valuesTable.size();
+				valuesTable.add(value);
+				valuesIndexes.put(value, valueIndex);
+			}
+			index = valueIndex;
+			if (kind < lastValues.length) lastValues[kind] = index;
+		}
+		kinds[block][i] = kind;
+		lines[block][i] = line;
+		starts[block][i] = start;
+		lengths[block][i] = length;
+		values[block][i] = index;
+		count++;
+	}
+
+	/**
+	 * reads tokens until the i-th token is read, the source ends or a lexical error occurs
+	 * @throws LexicalError if the i-th token is not read because of a lexical error
+	 */
+	private void fill(int i) throws LexicalError {
+		while (count <= i && lexer != null){
+			try {
+				lexer.next_token();
+			} catch (LexicalError e){
+				error = e;
+				lexer = null;
+			} catch (IOException e){
+				error = new LexicalError("Lexical error: "+e.getMessage());
+				lexer = null;
+			}
+			if (count > 0 && get(kinds, count-1) == sym.EOF) lexer = null;
+		}
+		if (count <= i && error != null) throw error;
+	}
+
+	/**
+	 * reads all the tokens of the source
+	 * @throws LexicalError if the source has a lexical error (the tokens before it are read)
+	 */
+	public void readAll() throws LexicalError {
+		fill(Integer.MAX_VALUE-1);
+	}
+
+	/**
+	 * returns the number of tokens read so far
+	 */
+	public int size(){
+		return count;
+	}
+
+	/**
+	 * returns the kind of the i-th token (the tokens after the EOF token are EOF tokens)
+	 * @throws LexicalError if a lexical error occurs before the i-th token
+	 */
+	public int getKind(int i) throws LexicalError {
+		if (i >= count) fill(i);
+		return get(kinds, i);
+	}
+
+	/**
+	 * the following getters take the index of a token already read (see getKind)
+	 */
+	public int getLine(int i){
+		return get(lines, i);
+	}
+
+	public int getStart(int i){
+		return get(starts, i);
+	}
+
+	public int getLength(int i){
+		return get(lengths, i);
+	}
+
+	public Object getValue(int i){
+		return valuesTable.get(get(values, i));
+	}
+
+	/**
+	 * returns the i-th element of the given tokens array (the last token's, for an index past the last token)
+	 */
+	private int get(int[][] array, int i){
+		if (i >= count) i = count-1;
+		return array[i >> blockBits][i & blockMask];
+	}
+
+	/**
+	 * returns the names of the tokens kinds: the names of the sym constants, by value
+	 */
+	private static String[] readKindsNames(){
+		String[] names = new String[64];
+		for (Field f: sym.class.getFields()){
+			if (!Modifier.isStatic(f.getModifiers()) || f.getType() != int.class) continue;
+			try {
+				int value = f.getInt(null);
+				if (value >= names.length) names = Arrays.copyOf(names, value+1);
+				names[value] = f.getName();
+			} catch (IllegalAccessException e){}
+		}
+		return names;
+	}
+
+	/**
+	 * returns the name of the given token kind (the name of its sym constant)
+	 */
+	public static String getKindName(int kind){
+		return kind >= 0 && kind < kindsNames.length && kindsNames[kind] != null ? kindsNames[kind] : ""+kind;
+	}
+
+	/**
+	 * writes all the tokens, a token per line as "<line>: <kind>" or "<line>: <kind>(<value>)" for
+	 * identifiers and literals (string literals are written quoted and escaped, as in the source)
+	 * - the tokens are written up to the lexical error, if any (the error is thrown by readAll or getKind)
+	 * @param out
+	 * @throws IOException
+	 */
+	public void dump(Writer out) throws IOException {
+		try {
+			readAll();
+		} catch (LexicalError e){}
+
+		StringBuilder line = new StringBuilder();
+		for (int i = 0; i < count; i++){
+			line.setLength(0);
+			int kind = get(kinds, i);
+			line.append(getLine(i)).append(": ").append(getKindName(kind));
+			switch (kind){
+			case sym.ID:
+			case sym.CLASS_ID:
+			case sym.INTEGER:
+				line.append('(').append(getValue(i)).append(')');
+				break;
+			case sym.QUOTE:
+				line.append("(\"");
+				appendEscaped(line, (String) getValue(i));
+				line.append("\")");
+				break;
+			}
+			out.append(line).append('\n');
+		}
+		out.flush();
+	}
+
+	private static void appendEscaped(StringBuilder text, String value){
+		for (int i = 0; i < value.length(); i++){
+			char c = value.charAt(i);
+			switch (c){
+			case '\\': text.append("\\\\"); break;
+			case '"': text.append("\\\""); break;
+			case '\n': text.append("\\n"); break;
+			case '\t': text.append("\\t"); break;
+			default: text.append(c);
+			}
+		}
+	}
+}
@@ -72,6 +72,15 @@ public class BlockSymbolTable extends SymbolTable {
 		this.varEntries.put(name, new VarSymbol(name,typeName));
 	}
 	
+	/**
+	 * a local variable symbol adder, for a variable of a resolved type
+	 * @param name
+	 * @param type
+	 */
+	public void addVarSymbol(String name, Type type){
+		this.varEntries.put(name, new VarSymbol(name,type));
+	}
+	
 	/**
 	 * a BlockSymbolTable adder
 	 */
@@ -151,6 +151,15 @@ public class ClassSymbolTable extends SymbolTable {
 		this.fieldEntries.put(name,new FieldSymbol(name,typeName));
 	}
 	
+	/**
+	 * a field symbol adder, for a field of a resolved type
+	 * @param name
+	 * @param type
+	 */
+	public void addFieldSymbol(String name, Type type){
+		this.fieldEntries.put(name,new FieldSymbol(name,type));
+	}
+	
 	/**
 	 * a getter for the current class symbol table's symbol in the global symbol table
 	 * @return
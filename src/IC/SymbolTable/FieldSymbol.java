@@ -1,6 +1,7 @@
 package IC.SymbolTable;
 
 import IC.TypeTable.SemanticError;
+import IC.TypeTable.Type;
 import IC.TypeTable.TypeTable;
 
 /**
@@ -13,6 +14,10 @@ public class FieldSymbol extends VarSymbol {
 		super(symName, typeName);
 	}
 	
+	public FieldSymbol(String symName, Type type){
+		super(symName, type);
+	}
+	
 	@Override
 	public String getKind(){
 		return "FIELD"; 
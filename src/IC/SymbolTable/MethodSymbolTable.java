@@ -50,6 +50,15 @@ public class MethodSymbolTable extends BlockSymbolTable {
 		this.varEntries.put(name, new ParamSymbol(name, typeName));
 	}
 	
+	/**
+	 * a parameter symbol adder, for a parameter of a resolved type
+	 * @param name
+	 * @param type
+	 */
+	public void addParamSymbol(String name, Type type){
+		this.varEntries.put(name, new ParamSymbol(name, type));
+	}
+	
  	/**
 	 * a return variable symbol getter
 	 * @return
@@ -72,6 +81,14 @@ public class MethodSymbolTable extends BlockSymbolTable {
 		this.varEntries.put("_ret", new ReturnVarSymbol("_ret", typeName));
 	}
 	
+	/**
+	 * a return variable symbol setter, for a resolved return type
+	 * @param type
+	 */
+	public void setReturnVarSymbol(Type type){
+		this.varEntries.put("_ret", new ReturnVarSymbol("_ret", type));
+	}
+	
 	/**
 	 * a local variable recursive symbol getter
 	 * returns the variable from the first scope it encounters it in, or throws
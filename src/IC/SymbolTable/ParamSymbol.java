@@ -1,6 +1,7 @@
 package IC.SymbolTable;
 
 import IC.TypeTable.SemanticError;
+import IC.TypeTable.Type;
 
 /**
  * Dynamic class for symbol of type method parameter (for MethodSymbolTable only)
@@ -12,6 +13,10 @@ public class ParamSymbol extends VarSymbol {
 		super(symName,typeName);
 	}
 	
+	public ParamSymbol(String symName, Type type){
+		super(symName,type);
+	}
+	
 	/**
 	 * @override
 	 */
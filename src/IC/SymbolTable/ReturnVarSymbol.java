@@ -1,6 +1,7 @@
 package IC.SymbolTable;
 
 import IC.TypeTable.SemanticError;
+import IC.TypeTable.Type;
 import IC.TypeTable.TypeTable;
 
 /**
@@ -13,6 +14,10 @@ public class ReturnVarSymbol extends VarSymbol {
 		super(symName, typeName);
 	}
 	
+	public ReturnVarSymbol(String symName, Type type){
+		super(symName, type);
+	}
+	
 	public String getKind(){
 		return "RET_VAR"; 
 	}
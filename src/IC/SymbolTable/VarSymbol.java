@@ -1,6 +1,7 @@
 package IC.SymbolTable;
 
 import IC.TypeTable.SemanticError;
+import IC.TypeTable.Type;
 import IC.TypeTable.TypeTable;
 
 /**
@@ -14,6 +15,11 @@ public class VarSymbol extends Symbol {
 		this.type = TypeTable.getType(typeName);
 	}
 	
+	public VarSymbol(String symName, Type type){
+		super(symName);
+		this.type = type;
+	}
+	
 	public String getKind(){
 		return "VAR"; 
 	}
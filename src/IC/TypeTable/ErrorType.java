@@ -0,0 +1,16 @@
+package IC.TypeTable;
+
+/**
+ * Error Type
+ * the type of an expression or a symbol whose type could not be resolved because of a semantic error:
+ * it is compatible with every type, so an error is reported once and causes no further errors
+ */
+public class ErrorType extends Type {
+	public ErrorType(){
+		super("error");
+	}
+	
+	public boolean subtypeOf(Type t){
+		return true;
+	}
+}
@@ -10,6 +10,7 @@ public class SemanticError extends Exception {
 	
 	private int line;
 	private String value;
+	private String file = null;
 	
 	public SemanticError(String message, int line, String value){
 		super(message);
@@ -28,9 +29,32 @@ public class SemanticError extends Exception {
      * caused the syntax error
      */
 	public String toString(){
+		if (file != null) return file+": Semantic error at line "+line+": "+this.getMessage()+": "+value;
 		return "Semantic error at line "+line+": "+this.getMessage()+": "+value;
 	}
 	
+	/**
+	 * getter for the error's line
+	 */
+	public int getLine(){
+		return this.line;
+	}
+	
+	/**
+	 * getter for the error's source file (null unless the program has several source files)
+	 */
+	public String getFile(){
+		return this.file;
+	}
+	
+	/**
+	 * set the error's source file
+	 * @param file
+	 */
+	public void setFile(String file){
+		this.file = file;
+	}
+	
 	/**
 	 * set the error's line
 	 * @param line
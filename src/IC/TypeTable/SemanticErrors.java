@@ -0,0 +1,86 @@
+package IC.TypeTable;
+
+import java.util.*;
+
+/**
+ * The list of the semantic errors of a program
+ * the semantic checks record their errors here and go on checking the rest of the program,
+ * and the errors are reported together, sorted by line
+ * - an error already recorded (same line, message and value) is not recorded again
+ * - at most maxErrors errors are reported
+ */
+public class SemanticErrors {
+	private int maxErrors;
+	private List<SemanticError> errors = new ArrayList<SemanticError>();
+	private Set<String> errorsTexts = new HashSet<String>();
+	// the source file of the errors recorded now, and the order of the source files
+	private String file = null;
+	private Map<String,Integer> filesOrder = new HashMap<String,Integer>();
+	
+	/**
+	 * constructor
+	 * @param maxErrors: the maximal number of errors reported
+	 */
+	public SemanticErrors(int maxErrors){
+		this.maxErrors = maxErrors;
+	}
+	
+	/**
+	 * sets the source file of the errors recorded from now on (for a program of several source files,
+	 * the checks set it to the source file of every class they check)
+	 * @param file: the source file, or null for errors of no source file
+	 */
+	public void setFile(String file){
+		this.file = file;
+		if (file != null && !filesOrder.containsKey(file)) filesOrder.put(file, filesOrder.size());
+	}
+	
+	/**
+	 * records an error (in the current source file, see setFile)
+	 * @param error
+	 */
+	public void add(SemanticError error){
+		if (error.getFile() == null) error.setFile(file);
+		if (errorsTexts.add(error.toString())) errors.add(error);
+	}
+	
+	public boolean isEmpty(){
+		return errors.isEmpty();
+	}
+	
+	public int size(){
+		return errors.size();
+	}
+	
+	/**
+	 * returns the order of the error's source file (the errors of no source file come first)
+	 */
+	private int fileIndex(SemanticError error){
+		return error.getFile() == null ? -1 : filesOrder.get(error.getFile());
+	}
+	
+	/**
+	 * returns the errors, one per line, sorted by source file and line (errors on the same line are in the order
+	 * they were found)
+	 */
+	public String toString(){
+		List<SemanticError> sorted = new ArrayList<SemanticError>(errors);
+		Collections.sort(sorted, new Comparator<SemanticError>(){
+			public int compare(SemanticError e1, SemanticError e2){
+				int file1 = fileIndex(e1), file2 = fileIndex(e2);
+				if (file1 != file2) return file1 < file2 ? -1 : 1;
+				return e1.getLine() < e2.getLine() ? -1 : (e1.getLine() == e2.getLine() ? 0 : 1);
+			}
+		});
+		
+		StringBuffer text = new StringBuffer();
+		for (int i = 0; i < sorted.size() && i < maxErrors; i++){
+			if (i > 0) text.append("\n");
+			text.append(sorted.get(i).toString());
+		}
+		if (sorted.size() > maxErrors){
+			text.append("\ntoo many errors, "+(sorted.size()-maxErrors)+" more errors not reported");
+		}
+		return text.toString();
+	}
+}
@@ -9,9 +9,12 @@ import IC.AST.*;
  */
 public class TypeTable {
     private static Map<String,ClassType> uniqueClassTypes = new HashMap<String,ClassType>();
-    private static Map<Type,ArrayType> uniqueArrayTypes = new HashMap<Type,ArrayType>();
+    // (in creation order: the element types are hashed by identity, which differs from run to run)
+    private static Map<Type,ArrayType> uniqueArrayTypes = new LinkedHashMap<Type,ArrayType>();
     private static Map<String,MethodType> uniqueMethodTypes = new HashMap<String,MethodType>();
     private static Map<String,Type> uniquePrimitiveTypes = new HashMap<String,Type>();
+    // the type of the symbols and expressions with a semantic error, created on the first error
+    private static ErrorType errorType = null;
     
     public static Map<String, Type> getUniquePrimitiveTypes() {
 		return uniquePrimitiveTypes;
@@ -32,6 +35,15 @@ public class TypeTable {
     	TypeTable.icFileName = icFileName;
     }
     
+    /**
+     * returns the error type (see ErrorType), the type given to a symbol or an expression
+     * whose type is unknown because of a semantic error
+     */
+    public static ErrorType getErrorType(){
+    	if (errorType == null) errorType = new ErrorType();
+    	return errorType;
+    }
+    
     /**
      * getter for the ic program file name
      */
@@ -11,45 +11,85 @@ import IC.BinaryOps;
  * - check illegal use of undefined symbols
  * - Type checks
  * - other semantic checks: "this" scope rules, "break" and "continue" scope rules
+ * the errors found are recorded (see SemanticErrors) and the checks go on, so all the errors are found
+ * in one pass: an expression with an error gets the error type (see ErrorType), which passes all the checks
+ * of the expressions and statements using it, so an error is reported once
  */
 public class DefTypeSemanticChecker implements Visitor {
 	private IC.SymbolTable.GlobalSymbolTable global;
 	private boolean inStatic = false;
 	private int inLoop = 0;
+	private SemanticErrors errors;
 	
 	/**
 	 * constructor
 	 * @param global: the program's global symbol table
+	 * @param errors: the list to record the semantic errors in
 	 */
-	public DefTypeSemanticChecker(IC.SymbolTable.GlobalSymbolTable global){
+	public DefTypeSemanticChecker(IC.SymbolTable.GlobalSymbolTable global, SemanticErrors errors){
 		this.global = global;
+		this.errors = errors;
+	}
+
+	/**
+	 * constructor, for computing the types of the expressions of a checked program
+	 * @param global: the program's global symbol table
+	 */
+	public DefTypeSemanticChecker(IC.SymbolTable.GlobalSymbolTable global){
+		this(global, new SemanticErrors(0));
+	}
+
+	/**
+	 * records the given error and returns the error type
+	 */
+	private IC.TypeTable.Type error(SemanticError se){
+		errors.add(se);
+		return TypeTable.getErrorType();
+	}
+
+	/**
+	 * returns true iff the given type is the error type (the type of an expression with an error)
+	 */
+	private static boolean isError(IC.TypeTable.Type type){
+		return type instanceof ErrorType;
+	}
+
+	/**
+	 * checks the given expression, and records its type on it (see Expression.getStaticType)
+	 * returns the expression's type
+	 */
+	private IC.TypeTable.Type typeOf(Expression expr){
+		IC.TypeTable.Type type = (IC.TypeTable.Type) expr.accept(this);
+		expr.setStaticType(type);
+		return type;
 	}
 
 	
 	/**
 	 * Program Visitor:
 	 * - recursive calls to all classes
-	 * returns null if encountered an error, true otherwise
+	 * returns null if encountered an error (in this checker or before it), true otherwise
 	 */
 	public Object visit(Program program) {
 		// recursive call to class 
 		for(ICClass c: program.getClasses()){
-			if (c.accept(this) == null) return null;
+			c.accept(this);
 		}
-		return true;
+		return errors.isEmpty() ? true : null;
 	}
 
 	
 	/**
 	 * ICClass Visitor:
 	 * - recursive calls to all methods
-	 * returns null if encountered an error, true otherwise
+	 * returns true
 	 */
 	public Object visit(ICClass icClass) {
 		// by now all fields are defined legally
 		// check only methods
+		errors.setFile(icClass.getSourceFile());
 		for(Method m: icClass.getMethods()){
-			if (m.accept(this) == null) return null;
+			m.accept(this);
 		}
 		return true;
 	}
@@ -65,12 +105,12 @@ public class DefTypeSemanticChecker implements Visitor {
 	/**
 	 * Method Visitor:
 	 * - recursive calls to all statements (used by static, virtual and library method)
-	 * returns null if encountered an error, true otherwise
+	 * returns true
 	 */
 	public Object methodVisitHelper(Method method){
 		// recursive call to all statements in method
 		for(Statement s: method.getStatements()){
-			if (s.accept(this) == null) return null;
+			s.accept(this);
 		}
 		return true;
 	}
@@ -131,23 +171,21 @@ public class DefTypeSemanticChecker implements Visitor {
 	 * Assignment visitor:
 	 * - recursive calls to location and assignment
 	 * - type check: check that the assignment type <= location type
-	 * returns null if encountered an error, true otherwise
+	 * returns true
 	 */
 	public Object visit(Assignment assignment) {
 		// check location recursively
-		IC.TypeTable.Type locationType = (IC.TypeTable.Type) assignment.getVariable().accept(this);
-		if (locationType == null) return null;
+		IC.TypeTable.Type locationType = typeOf(assignment.getVariable());
 		// check assignment recursively
-		IC.TypeTable.Type assignmentType = (IC.TypeTable.Type) assignment.getAssignment().accept(this);
-		if (assignmentType == null) return null;
+		IC.TypeTable.Type assignmentType = typeOf(assignment.getAssignment());
+		if (isError(locationType) || isError(assignmentType)) return true;
 		
 		// type check
 		// check that the assignment is of the same type / subtype of the location type
 		if (!assignmentType.subtypeOf(locationType)){
-			System.err.println(new SemanticError("type mismatch, not of type "+locationType.getName(),
+			errors.add(new SemanticError("type mismatch, not of type "+locationType.getName(),
 					assignment.getLine(),
 					assignmentType.getName()));
-			return null;
 		}
 		
 		return true;
@@ -157,11 +195,11 @@ public class DefTypeSemanticChecker implements Visitor {
 	/**
 	 * CallStatement visitor:
 	 * - recursive calls to call
-	 * returns null if encountered an error, true otherwise
+	 * returns true
 	 */
 	public Object visit(CallStatement callStatement) {
-		if (callStatement.getCall().accept(this) == null) return null;
-		else return true;
+		typeOf(callStatement.getCall());
+		return true;
 	}
 
 	
@@ -169,14 +207,13 @@ public class DefTypeSemanticChecker implements Visitor {
 	 * returnStatement visitor:
 	 * - recursive call to call (static or virtual call)
 	 * - type check: check that the returned call type <= enclosing method's type
-	 * returns null if encountered an error, true otherwise
+	 * returns true
 	 */
 	public Object visit(Return returnStatement) {
 		// check return statement recursively
 		IC.TypeTable.Type returnedValueType = null; // dummy initialization
 		if (returnStatement.hasValue()){
-			returnedValueType = (IC.TypeTable.Type) returnStatement.getValue().accept(this);
-			if (returnedValueType == null) return null;
+			returnedValueType = typeOf(returnStatement.getValue());
 		} else try{
 			returnedValueType = TypeTable.getType("void");
 		} catch(SemanticError se){System.err.println("*** BUG: DefTypeCheckingVisitor, Return visitor");} // will never get here
@@ -185,11 +222,11 @@ public class DefTypeSemanticChecker implements Visitor {
 		// check that the return type is the same type / subtype of the enclosing method's type
 		try{
 			IC.TypeTable.Type returnType = ((BlockSymbolTable) returnStatement.getEnclosingScope()).getVarSymbolRec("_ret").getType();
+			if (isError(returnedValueType) || isError(returnType)) return true;
 			if (!returnedValueType.subtypeOf(returnType)){
-				System.err.println(new SemanticError("type mismatch, not of type "+returnType.getName(),
+				errors.add(new SemanticError("type mismatch, not of type "+returnType.getName(),
 						returnStatement.getLine(),
 						returnedValueType.getName()));
-				return null;
 			}
 		} catch (SemanticError se){System.err.println("*** BUG: DefTypeCheckingVisitor, Return visitor");} // will never get here
 		
@@ -201,28 +238,26 @@ public class DefTypeSemanticChecker implements Visitor {
 	 * If visitor:
 	 * - recursive calls condition, operation and elseOperation
 	 * - type check: check that the condition type is of type boolean
-	 * returns null if encountered an error, true otherwise
+	 * returns true
 	 */
 	public Object visit(If ifStatement) {
 		// check condition recursively
-		IC.TypeTable.Type conditionType = (IC.TypeTable.Type) ifStatement.getCondition().accept(this);
-		if (conditionType == null) return null;
+		IC.TypeTable.Type conditionType = typeOf(ifStatement.getCondition());
 		
 		// type check
 		// check that the condition is of type boolean
 		try{
-			if (!conditionType.subtypeOf(TypeTable.getType("boolean"))){
-				System.err.println(new SemanticError("condition in if statement not of type boolean",
+			if (!isError(conditionType) && !conditionType.subtypeOf(TypeTable.getType("boolean"))){
+				errors.add(new SemanticError("condition in if statement not of type boolean",
 						ifStatement.getCondition().getLine(),
 						conditionType.getName()));
-				return null;
 			}
 		} catch (SemanticError se){System.err.println("*** BUG: DefTypeCheckingVisitor, If visitor");} // will never get here
 		
 		// check operation, elseOperation recursively
-		if (ifStatement.getOperation().accept(this) == null) return null;
+		ifStatement.getOperation().accept(this);
 		if (ifStatement.hasElse()){
-			if (ifStatement.getElseOperation().accept(this) == null) return null;
+			ifStatement.getElseOperation().accept(this);
 		}
 		
 		return true;
@@ -233,30 +268,25 @@ public class DefTypeSemanticChecker implements Visitor {
 	 * While visitor:
 	 * - recursive calls condition and operation
 	 * - type check: check that the condition type is of type boolean
-	 * returns null if encountered an error, true otherwise
+	 * returns true
 	 */
 	public Object visit(While whileStatement) {
 		// check condition recursively
-		IC.TypeTable.Type conditionType = (IC.TypeTable.Type) whileStatement.getCondition().accept(this);
-		if (conditionType == null) return null;
+		IC.TypeTable.Type conditionType = typeOf(whileStatement.getCondition());
 		
 		// type check
 		// check that the condition is of type boolean
 		try{
-			if (!conditionType.subtypeOf(TypeTable.getType("boolean"))){
-				System.err.println(new SemanticError("condition in while statement not of type boolean",
+			if (!isError(conditionType) && !conditionType.subtypeOf(TypeTable.getType("boolean"))){
+				errors.add(new SemanticError("condition in while statement not of type boolean",
 						whileStatement.getCondition().getLine(),
 						conditionType.getName()));
-				return null;
 			}
 		} catch (SemanticError se){System.err.println("*** BUG: DefTypeCheckingVisitor, While visitor");} // will never get here
 		
 		// check operation recursively
 		inLoop++;
-		if (whileStatement.getOperation().accept(this) == null) {
-			inLoop--;
-			return null;
-		}
+		whileStatement.getOperation().accept(this);
 		inLoop--;
 		
 		return true;
@@ -268,10 +298,9 @@ public class DefTypeSemanticChecker implements Visitor {
 	 */
 	public Object visit(Break breakStatement) {
 		if (inLoop == 0){
-			System.err.println(new SemanticError("'break' statement not in loop",
+			errors.add(new SemanticError("'break' statement not in loop",
 					breakStatement.getLine(),
 					"break"));
-			return null;
 		}
 		
 		return true;
@@ -283,10 +312,9 @@ public class DefTypeSemanticChecker implements Visitor {
 	 */
 	public Object visit(Continue continueStatement) {
 		if (inLoop == 0){
-			System.err.println(new SemanticError("'continue' statement not in loop",
+			errors.add(new SemanticError("'continue' statement not in loop",
 					continueStatement.getLine(),
 					"continue"));
-			return null;
 		}
 
 		return true;
@@ -296,12 +324,12 @@ public class DefTypeSemanticChecker implements Visitor {
 	/**
 	 * StatementsBlock visitor:
 	 * - recursive calls to all statements
-	 * returns null if encountered an error, true otherwise
+	 * returns true
 	 */
 	public Object visit(StatementsBlock statementsBlock) {
 		// recursive call to all statements
 		for(Statement s: statementsBlock.getStatements()){
-			if (s.accept(this) == null) return null;
+			s.accept(this);
 		}
 		return true;
 	}
@@ -311,24 +339,23 @@ public class DefTypeSemanticChecker implements Visitor {
 	 * LocalVariable visitor:
 	 * - recursive call to initValue (if exists)
 	 * - type check: check that the initValue type is a subtype of the local variable's type
-	 * returns null if encountered an error, true otherwise
+	 * returns true
 	 */
 	public Object visit(LocalVariable localVariable) {
 		// recursive call to initValue
 		if (localVariable.hasInitValue()){
-			IC.TypeTable.Type initValueType = (IC.TypeTable.Type) localVariable.getInitValue().accept(this);
-			if (initValueType == null) return null;
+			IC.TypeTable.Type initValueType = typeOf(localVariable.getInitValue());
 			
 			try{
 				// type check
 				// check that the initValue type is a subtype of the local variable's type
 				IC.TypeTable.Type localVariableType = ((BlockSymbolTable) localVariable.getEnclosingScope()).getVarSymbol(localVariable.getName()).getType();
+				if (isError(initValueType) || isError(localVariableType)) return true;
 			
 				if (!initValueType.subtypeOf(localVariableType)){
-					System.err.println(new SemanticError("type mismatch, not of type "+localVariableType.getName(),
+					errors.add(new SemanticError("type mismatch, not of type "+localVariableType.getName(),
 							localVariable.getLine(),
 							initValueType.getName()));
-					return null;
 				}
 			} catch (SemanticError se){System.err.println("*** BUG: DefTypeCheckingVisitor, LocalVariable visitor");} // will never get here
 		}
@@ -340,13 +367,13 @@ public class DefTypeSemanticChecker implements Visitor {
 	/**
 	 * VariableLocation visitor:
 	 * - recursive call to location (if exists)
-	 * returns null if encountered an error, and the location type otherwise
+	 * returns the location type, or the error type if encountered an error
 	 */
 	public Object visit(VariableLocation location) {
 		// recursive call to location (if exists)
 		if (location.isExternal()){
-			IC.TypeTable.Type locationType = (IC.TypeTable.Type) location.getLocation().accept(this);
-			if (locationType == null) return null;
+			IC.TypeTable.Type locationType = typeOf(location.getLocation());
+			if (isError(locationType)) return locationType;
 			// check if the location is a class type
 			try{
 				TypeTable.getClassType(locationType.getName());
@@ -358,14 +385,12 @@ public class DefTypeSemanticChecker implements Visitor {
 					return fs.getType(); // this line will never throw error
 				} catch(SemanticError se){ // the external location has no field with this name 
 					se.setLine(location.getLine());
-					System.err.println(se);
-					return null;
+					return error(se);
 				}
 			} catch(SemanticError se){ // in case the external location is not a user defined class 
-				System.err.println(new SemanticError("location of type "+locationType.getName()+" does not have field",
+				return error(new SemanticError("location of type "+locationType.getName()+" does not have field",
 						location.getLine(),
 						location.getName()));
-				return null;
 			}
 		} else { // this location is not external
 			try{
@@ -373,8 +398,7 @@ public class DefTypeSemanticChecker implements Visitor {
 				return thisLocationType;
 			} catch(SemanticError se){ // in case this location is not defined
 				se.setLine(location.getLine());
-				System.err.println(se);
-				return null;
+				return error(se);
 			}
 		}
 	}
@@ -383,91 +407,116 @@ public class DefTypeSemanticChecker implements Visitor {
 	/**
 	 * ArrayLocation visitor:
 	 * - recursive call to array and index
-	 * - type check: check that the index is of type int
-	 * returns null if encountered an error, and the array element type otherwise
+	 * - type check: check that the array is of an array type, and the index is of type int
+	 * returns the array element type, or the error type if encountered an error
 	 */
 	public Object visit(ArrayLocation location) {
 		// recursive call to array
-		IC.TypeTable.ArrayType arrayType = (IC.TypeTable.ArrayType) location.getArray().accept(this);
-		if (arrayType == null) return null;
+		IC.TypeTable.Type arrayType = typeOf(location.getArray());
 		//recursive call to index
-		IC.TypeTable.Type indexType = (IC.TypeTable.Type) location.getIndex().accept(this);
-		if (indexType == null) return null;
+		IC.TypeTable.Type indexType = typeOf(location.getIndex());
+		if (isError(arrayType)) return arrayType;
+		if (!(arrayType instanceof IC.TypeTable.ArrayType)){ // not array type
+			return error(new SemanticError("Not of array type",
+					location.getLine(),
+					arrayType.getName()));
+		}
 		// type check
 		// check that index is of type int
 		try{
-			if (!indexType.subtypeOf(TypeTable.getType("int"))){
-				System.err.println(new SemanticError("Array index must be of type int, type is",
+			if (!isError(indexType) && !indexType.subtypeOf(TypeTable.getType("int"))){
+				errors.add(new SemanticError("Array index must be of type int, type is",
 						location.getLine(),
 						arrayType.getName()));
-				return null;
 			}
 		}catch(SemanticError se){System.err.println("*** BUG: DefTypeCheckingVisitor, ArrayLocation visitor");} // will never get here
 		
-		return arrayType.getElemType();
+		return ((IC.TypeTable.ArrayType) arrayType).getElemType();
 	}
 
+
+	/**
+	 * call arguments check helper:
+	 * - recursive call to arguments
+	 * - type checks: check that all argument correspond to the method's arguments types
+	 * used for StaticCall and VirtualCall
+	 */
+	private void argumentsCheck(Call call, IC.TypeTable.MethodType methodType){
+		Iterator<IC.TypeTable.Type> methodArgsTypeIter = methodType.getParamTypes().iterator();
+		boolean tooMany = false;
+		for(Expression arg: call.getArguments()){
+			IC.TypeTable.Type argType = typeOf(arg);
+			if (!methodArgsTypeIter.hasNext()){ // method's parameters list is shorter than the arguments list
+				tooMany = true;
+				continue;
+			}
+			IC.TypeTable.Type paramType = methodArgsTypeIter.next();
+			if (isError(argType) || isError(paramType)) continue;
+
+			if (!argType.subtypeOf(paramType)){ // wrong argument type sent to method
+				errors.add(new SemanticError("Wrong argument type passed to method",
+						call.getLine(),
+						argType.getName()));
+			}
+		}
+		if (tooMany){
+			errors.add(new SemanticError("Too many arguments passed to method",
+					call.getLine(),
+					call.getName()));
+		}
+		// check if method expects more parameters
+		if (methodArgsTypeIter.hasNext()){
+			errors.add(new SemanticError("Too few arguments passed to method",
+					call.getLine(),
+					call.getName()));
+		}
+	}
+
+	/**
+	 * visits the arguments of a call to an unknown method (for their own errors)
+	 */
+	private void argumentsVisit(Call call){
+		for(Expression arg: call.getArguments()){
+			typeOf(arg);
+		}
+	}
 	
 	/**
 	 * StaticCall visitor:
 	 * - recursive call to arguments
 	 * - check that the method is defined in the enclosing class
 	 * - type checks: check that all argument correspond to the method's arguments types
-	 * returns null if encountered an error, and the method return type otherwise
+	 * returns the method return type, or the error type if the method is not found
 	 */
 	public Object visit(StaticCall call) {
 		// check if the class in the static call exists
 		IC.SymbolTable.ClassSymbolTable cst = global.getClassSymbolTableRec(call.getClassName());
 		if (cst == null){ // class does not exist
-			System.err.println(new SemanticError("Class does not exist",
+			argumentsVisit(call);
+			return error(new SemanticError("Class does not exist",
 					call.getLine(),
 					call.getClassName()));
-			return null;
 		}
 		// check that the method is defined (as static) in enclosing class
+		IC.SymbolTable.MethodSymbol ms = null;
 		try{
-			IC.SymbolTable.MethodSymbol ms = cst.getMethodSymbolRec(call.getName());
-			// check if the method is static
-			if (!ms.isStatic()){
-				System.err.println(new SemanticError("Method is not static",
-						call.getLine(),
-						call.getName()));
-				return null;
-			}
-			// otherwise (method exists in class and is static) check arguments types
-			Iterator<IC.TypeTable.Type> methodArgsTypeIter = ((IC.TypeTable.MethodType) ms.getType()).getParamTypes().iterator();
-			for(Expression arg: call.getArguments()){
-				IC.TypeTable.Type argType = (IC.TypeTable.Type) arg.accept(this);
-				
-				if (argType == null) return null;
-				
-				if (!argType.subtypeOf(methodArgsTypeIter.next())){ // wrong argument type sent to method
-					System.err.println(new SemanticError("Wrong argument type passed to method",
-							call.getLine(),
-							argType.getName()));
-					return null;
-				}
-			}
-			// check if method expects more parameters
-			if (methodArgsTypeIter.hasNext()){
-				System.err.println(new SemanticError("Too few arguments passed to method",
-						call.getLine(),
-						call.getName()));
-				return null;
-			}
-			// Finally if got here, return the method's return type
-			///////////////////////////////////////////////////////
-			return ((IC.TypeTable.MethodType) ms.getType()).getReturnType();
+			ms = cst.getMethodSymbolRec(call.getName());
 		}catch (SemanticError se) { // class (or its supers) doesn't have this method
+			argumentsVisit(call);
 			se.setLine(call.getLine());
-			System.err.println(se);
-			return null;
-		}catch (NoSuchElementException nsee){ // method's parameters list is shorter than the arguments list
-			System.err.println(new SemanticError("Too many arguments passed to method",
+			return error(se);
+		}
+		// check if the method is static
+		if (!ms.isStatic()){
+			errors.add(new SemanticError("Method is not static",
 					call.getLine(),
 					call.getName()));
-			return null;
 		}
+		// check arguments types
+		argumentsCheck(call, (IC.TypeTable.MethodType) ms.getType());
+		// Finally if got here, return the method's return type
+		///////////////////////////////////////////////////////
+		return ((IC.TypeTable.MethodType) ms.getType()).getReturnType();
 	}
 
 	
@@ -476,30 +525,33 @@ public class DefTypeSemanticChecker implements Visitor {
 	 * - recursive call to arguments
 	 * - check that the method is defined in the enclosing class
 	 * - type checks: check that all argument correspond to the method's arguments types
-	 * returns null if encountered an error, and the method return type otherwise
+	 * returns the method return type, or the error type if the method is not found
 	 */
 	public Object visit(VirtualCall call) {
 		
 		IC.SymbolTable.ClassSymbolTable cst = null;
 		
 		if (call.isExternal()){// call has an external location
-			IC.TypeTable.Type locType = (IC.TypeTable.Type) call.getLocation().accept(this); 
-			if (locType == null) return null; // visitor of the location encountered an error.
+			IC.TypeTable.Type locType = typeOf(call.getLocation()); 
+			if (isError(locType)){ // visitor of the location encountered an error.
+				argumentsVisit(call);
+				return locType;
+			}
 			
 			cst = global.getClassSymbolTableRec(locType.getName());
 			if (cst == null){ // Location not a class
-				System.err.println(new SemanticError("Location not of a user defined type",
+				argumentsVisit(call);
+				return error(new SemanticError("Location not of a user defined type",
 						call.getLine(),
 						locType.getName()));
-				return null;
 			}
 		}else { // not an external call, check you are not in a static scope, and check the enclosing class you are in now
 			cst = ((BlockSymbolTable)call.getEnclosingScope()).getEnclosingClassSymbolTable();
-			if (inStatic){
-				System.err.println(new SemanticError("Calling a local virtual method from a static scope",
+			if (inStatic){ // the call's only error: its method is not checked further
+				argumentsVisit(call);
+				return error(new SemanticError("Calling a local virtual method from a static scope",
 						call.getLine(),
 						call.getName()));
-				return null;
 			}
 		}
 		
@@ -507,44 +559,18 @@ public class DefTypeSemanticChecker implements Visitor {
 		try{
 			ms = cst.getMethodSymbolRec(call.getName());
 		} catch (SemanticError se) {// When method name is invalid.
+			argumentsVisit(call);
 			se.setLine(call.getLine());
-			System.err.println(se);
-			return null;
+			return error(se);
 		}
 		
 		if (ms.isStatic()){
-			System.err.println(new SemanticError("Static method is called virtually",
+			errors.add(new SemanticError("Static method is called virtually",
 					call.getLine(),
 					call.getName()));
-			return null;
-		}
-		// otherwise (method exists in class and is virtual) check arguments types
-		Iterator<IC.TypeTable.Type> methodArgsTypeIter = ((IC.TypeTable.MethodType) ms.getType()).getParamTypes().iterator();
-		for(Expression arg: call.getArguments()){
-			IC.TypeTable.Type argType = (IC.TypeTable.Type) arg.accept(this);
-			
-			if (argType == null) return null;
-			try{
-				if (!argType.subtypeOf(methodArgsTypeIter.next())){ // wrong argument type sent to method
-					System.err.println(new SemanticError("Wrong argument type passed to method",
-							call.getLine(),
-							argType.getName()));
-					return null;
-				}
-			}catch (NoSuchElementException nsee){
-				System.err.println(new SemanticError("Too many arguments passed to method",
-						call.getLine(),
-						call.getName()));
-				return null;
-			}
-		}
-		// check if method expects more parameters
-		if (methodArgsTypeIter.hasNext()){
-			System.err.println(new SemanticError("Too few arguments passed to method",
-					call.getLine(),
-					call.getName()));
-			return null;
 		}
+		// check arguments types
+		argumentsCheck(call, (IC.TypeTable.MethodType) ms.getType());
 		// Finally if got here, return the method's return type
 		///////////////////////////////////////////////////////
 		return ((IC.TypeTable.MethodType) ms.getType()).getReturnType();
@@ -558,10 +584,9 @@ public class DefTypeSemanticChecker implements Visitor {
 	 */
 	public Object visit(This thisExpression) {
 		if (inStatic) {
-			System.err.println(new SemanticError("'this' referenced in static method",
+			return error(new SemanticError("'this' referenced in static method",
 					thisExpression.getLine(),
 					"this"));
-			return null;
 		}
 		return ((BlockSymbolTable) thisExpression.getEnclosingScope()).getEnclosingClassSymbolTable().getMySymbol().getType();
 	}
@@ -577,8 +602,7 @@ public class DefTypeSemanticChecker implements Visitor {
 			ct = IC.TypeTable.TypeTable.getClassType(newClass.getName());
 		}catch (SemanticError se){ // No such class exists
 			se.setLine(newClass.getLine());
-			System.err.println(se);
-			return null;
+			return error(se);
 		}
 		
 		return ct;
@@ -598,22 +622,20 @@ public class DefTypeSemanticChecker implements Visitor {
 			elemType = TypeTable.getType(newArray.getType().getFullName());
 		}catch (SemanticError se){ // illegal array elem type
 			se.setLine(newArray.getLine());
-			System.err.println(se);
-			return null;
+			errors.add(se);
 		}
 		
-		IC.TypeTable.Type sizeType = (IC.TypeTable.Type) newArray.getSize().accept(this);
+		IC.TypeTable.Type sizeType = typeOf(newArray.getSize());
 		
-		if (sizeType == null) return null; // size type visitor has encountered an error
 		try {
-			if (!sizeType.subtypeOf(TypeTable.getType("int"))){
-				System.err.println(new SemanticError("Array size not of int type",
+			if (!isError(sizeType) && !sizeType.subtypeOf(TypeTable.getType("int"))){
+				errors.add(new SemanticError("Array size not of int type",
 						newArray.getLine(),
 						sizeType.getName()));
-				return null;
 			}
 		} catch (SemanticError se) {System.err.println("*** BUG1: DefTypeCheckingVisitor, newArray visitor");} // will never get here
 		
+		if (elemType == null) return TypeTable.getErrorType();
 		try{
 			return TypeTable.getType(elemType.getName()+"[]");
 		}catch (SemanticError se) {System.err.println("*** BUG2: DefTypeCheckingVisitor, newArray visitor");} // will never get here
@@ -628,18 +650,15 @@ public class DefTypeSemanticChecker implements Visitor {
 	 * returns the type int.
 	 */
 	public Object visit(Length length) {
-		IC.TypeTable.Type arrType = (IC.TypeTable.Type) length.getArray().accept(this);
-		
-		if (arrType == null) return null;
+		IC.TypeTable.Type arrType = typeOf(length.getArray());
 		
-		if (!arrType.getName().endsWith("[]")){ // not array type.
-			System.err.println(new SemanticError("Not of array type",
+		if (!isError(arrType) && !arrType.getName().endsWith("[]")){ // not array type.
+			errors.add(new SemanticError("Not of array type",
 					length.getLine(),
 					arrType.getName()));
-			return null;			
 		}
 				
-		try { // array type. length is legal - return int type.
+		try { // length is of type int (even for an illegal array)
 			return TypeTable.getType("int");
 		} catch (SemanticError se) {System.err.println("*** BUG: DefTypeCheckingVisitor, Length visitor");} // will never get here
 		
@@ -650,35 +669,33 @@ public class DefTypeSemanticChecker implements Visitor {
 	/**
 	 * a Visitor for MathBinaryOp
 	 * checks that types are legal (int or string for +, int for everything else)
-	 * returns the type of the operation.
+	 * returns the type of the operation, or the error type if encountered an error
 	 */
 	public Object visit(MathBinaryOp binaryOp) {
-		IC.TypeTable.Type op1Type = (IC.TypeTable.Type) binaryOp.getFirstOperand().accept(this);
-		IC.TypeTable.Type op2Type = (IC.TypeTable.Type) binaryOp.getSecondOperand().accept(this);
-		if ((op1Type == null) || (op2Type == null)) return null;
+		IC.TypeTable.Type op1Type = typeOf(binaryOp.getFirstOperand());
+		IC.TypeTable.Type op2Type = typeOf(binaryOp.getSecondOperand());
+		if (isError(op1Type)) return op1Type;
+		if (isError(op2Type)) return op2Type;
 		if (op1Type != op2Type){ // check that both operands are of the same type
-			System.err.println(new SemanticError("Math operation on different types",
+			return error(new SemanticError("Math operation on different types",
 					binaryOp.getLine(),
 					binaryOp.getOperator().getOperatorString()));
-			return null;
 		}
 
 		if (binaryOp.getOperator() != IC.BinaryOps.PLUS){// operator is one of "-","*","/","%"			
 			try{
 				if (!op1Type.subtypeOf(TypeTable.getType("int"))){// enough to check only one of the operands' type, since they are of the same type
-					System.err.println(new SemanticError("Math operation on a non int type",
+					return error(new SemanticError("Math operation on a non int type",
 							binaryOp.getLine(),
 							op1Type.getName())); // returns the name of the type.
-					return null;
 				}
 			} catch (SemanticError se){System.err.println("*** BUG1: DefTypeCheckingVisitor, MathBinaryOP visitor");} // will never get here
 		}else{
 			try{
 				if (!op1Type.subtypeOf(TypeTable.getType("int")) && !op1Type.subtypeOf(TypeTable.getType("string"))){
-					System.err.println(new SemanticError("+ operation on an illegal type",
+					return error(new SemanticError("+ operation on an illegal type",
 							binaryOp.getLine(),
 							op1Type.getName()));
-					return null;
 				}
 			}catch (SemanticError se){System.err.println("*** BUG2: DefTypeCheckingVisitor, MathBinaryOP visitor");} // will never get here
 		}
@@ -690,104 +707,105 @@ public class DefTypeSemanticChecker implements Visitor {
 	/**
 	 * a Visitor for LogicalBinaryOp
 	 * checks that operands are of the correct type
-	 * returns boolean type.
+	 * returns boolean type (also if encountered an error, as the operation's type is known).
 	 */
 	public Object visit(LogicalBinaryOp binaryOp) {
-		IC.TypeTable.Type op1Type = (IC.TypeTable.Type) binaryOp.getFirstOperand().accept(this);
-		IC.TypeTable.Type op2Type = (IC.TypeTable.Type) binaryOp.getSecondOperand().accept(this);
-		if ((op1Type == null) || (op2Type == null)) return null;
+		IC.TypeTable.Type op1Type = typeOf(binaryOp.getFirstOperand());
+		IC.TypeTable.Type op2Type = typeOf(binaryOp.getSecondOperand());
+		// types are checked only if both are known
+		if (!isError(op1Type) && !isError(op2Type)) logicalBinaryOpCheck(binaryOp, op1Type, op2Type);
+		
+		// return boolean type.
+		IC.TypeTable.Type ret = null;
+		try{
+			ret = TypeTable.getType("boolean");
+		}catch (SemanticError se){System.err.println("*** BUG3: DefTypeCheckingVisitor, LogicalBinaryOP visitor");} // will never get here
+		
+		return ret;
+	}
+
+	/**
+	 * LogicalBinaryOp type checks helper
+	 */
+	private void logicalBinaryOpCheck(LogicalBinaryOp binaryOp, IC.TypeTable.Type op1Type, IC.TypeTable.Type op2Type){
 		if (!op1Type.subtypeOf(op2Type) && !op2Type.subtypeOf(op1Type)){ // neither operand is a subtype of the other operand
-			if (binaryOp.getOperator() == IC.BinaryOps.LAND || 
-					binaryOp.getOperator() == IC.BinaryOps.LOR){ // operator is one of "||","&&" 
-				System.err.println(new SemanticError("Logical operation on non boolean type",
+			if (binaryOp.getOperator() == IC.BinaryOps.LAND ||
+					binaryOp.getOperator() == IC.BinaryOps.LOR){ // operator is one of "||","&&"
+				errors.add(new SemanticError("Logical operation on non boolean type",
 						binaryOp.getLine(),
 						binaryOp.getOperator().getOperatorString()));
-				return null;
-			} else if (binaryOp.getOperator() == IC.BinaryOps.EQUAL || 
-					binaryOp.getOperator() == IC.BinaryOps.NEQUAL) { // operator is one of "==", "!=" 
-				System.err.println(new SemanticError("Comparing foreign types (at least one has to be subtype of another, or of the same type)",
+			} else if (binaryOp.getOperator() == IC.BinaryOps.EQUAL ||
+					binaryOp.getOperator() == IC.BinaryOps.NEQUAL) { // operator is one of "==", "!="
+				errors.add(new SemanticError("Comparing foreign types (at least one has to be subtype of another, or of the same type)",
 						binaryOp.getLine(),
 						binaryOp.getOperator().getOperatorString()));
-				return null;				
 			}else { // operator is one of "<=",">=","<",">"
-				System.err.println(new SemanticError("Comparing non int values",
+				errors.add(new SemanticError("Comparing non int values",
 						binaryOp.getLine(),
 						binaryOp.getOperator().getOperatorString()));
-				return null;
 			}
+			return;
 		}
-		
+
 		if ((binaryOp.getOperator() == IC.BinaryOps.LAND) ||
 				(binaryOp.getOperator() == IC.BinaryOps.LOR)){// operator is one of "||","&&"
 			try{
 				if (!op1Type.subtypeOf(TypeTable.getType("boolean"))){
-					System.err.println(new SemanticError("Logical operation on non boolean values",
+					errors.add(new SemanticError("Logical operation on non boolean values",
 							binaryOp.getLine(),
 							op1Type.getName()));
-					return null;
 				}
 			} catch (SemanticError se){System.err.println("*** BUG1: DefTypeCheckingVisitor, LogicalBinaryOP visitor");} // will never get here
-		} else if (binaryOp.getOperator() != IC.BinaryOps.EQUAL && 
+		} else if (binaryOp.getOperator() != IC.BinaryOps.EQUAL &&
 				binaryOp.getOperator() != IC.BinaryOps.NEQUAL) {// operator is one of "<=",">=", "<", ">"
 			try{
 				if (!op1Type.subtypeOf(TypeTable.getType("int"))){
-					System.err.println(new SemanticError("Comparing non int values",
+					errors.add(new SemanticError("Comparing non int values",
 							binaryOp.getLine(),
 							op1Type.getName()));
-					return null;
 				}
 			} catch (SemanticError se){System.err.println("*** BUG2: DefTypeCheckingVisitor, LogicalBinaryOP visitor");} // will never get here
 		}
-		
-		// types are legal. return boolean type.
-		IC.TypeTable.Type ret = null;
-		try{
-			ret = TypeTable.getType("boolean");
-		}catch (SemanticError se){System.err.println("*** BUG3: DefTypeCheckingVisitor, LogicalBinaryOP visitor");} // will never get here
-		
-		return ret;
 	}
 
 	
 	/**
 	 * a Visitor for MathUnaryOp - only one math unary operation - unary minus. 
 	 * checks that the operand is of type int.
-	 * returns type int.
+	 * returns type int (also if encountered an error).
 	 */
 	public Object visit(MathUnaryOp unaryOp) {
-		IC.TypeTable.Type opType = (IC.TypeTable.Type) unaryOp.getOperand().accept(this);
-		if (opType == null) return null;
+		IC.TypeTable.Type opType = typeOf(unaryOp.getOperand());
 		
 		try{
-			if (!opType.subtypeOf(TypeTable.getType("int"))){// opType is not an integer
-				System.err.println(new SemanticError("Mathematical unary operation on a non int type",
+			if (!isError(opType) && !opType.subtypeOf(TypeTable.getType("int"))){// opType is not an integer
+				errors.add(new SemanticError("Mathematical unary operation on a non int type",
 						unaryOp.getLine(),
 						opType.getName()));
-				return null;
 			}
+			return TypeTable.getType("int");
 		}catch  (SemanticError se){System.err.println("*** BUG: DefTypeCheckingVisitor, MathUnaryOP visitor");} // will never get here
-		return opType; // int
+		return null;
 	}
 
 	
 	/**
 	 * a Visitor for LogicalUnaryOp - only one logic unary operation - unary logical negation. 
 	 * checks that the operand is of type boolean.
-	 * returns type boolean.
+	 * returns type boolean (also if encountered an error).
 	 */
 	public Object visit(LogicalUnaryOp unaryOp) {
-		IC.TypeTable.Type opType = (IC.TypeTable.Type) unaryOp.getOperand().accept(this);
-		if (opType == null) return null;
+		IC.TypeTable.Type opType = typeOf(unaryOp.getOperand());
 		
 		try{
-			if (!opType.subtypeOf(TypeTable.getType("boolean"))){// opType is not a boolean
-				System.err.println(new SemanticError("Logical unary operation on a non boolean type",
+			if (!isError(opType) && !opType.subtypeOf(TypeTable.getType("boolean"))){// opType is not a boolean
+				errors.add(new SemanticError("Logical unary operation on a non boolean type",
 						unaryOp.getLine(),
 						opType.getName()));
-				return null;
 			}
+			return TypeTable.getType("boolean");
 		}catch  (SemanticError se){System.err.println("*** BUG: DefTypeCheckingVisitor, LogicalUnaryOP visitor");} // will never get here
-		return opType; // boolean
+		return null;
 	}
 
 	
@@ -814,10 +832,10 @@ public class DefTypeSemanticChecker implements Visitor {
 	/**
 	 * ExpressionBlock visitor:
 	 * - recursive call to expression
-	 * returns null if encountered an error, and the type of the expression otherwise 
+	 * returns the type of the expression (the error type if it has an error)
 	 */
 	public Object visit(ExpressionBlock expressionBlock) {
-		return (IC.TypeTable.Type) expressionBlock.getExpression().accept(this);  // will return null if encounters an error
+		return typeOf(expressionBlock.getExpression());
 	}
 
 }
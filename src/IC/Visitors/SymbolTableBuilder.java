@@ -11,18 +11,26 @@ import IC.TypeTable.*;
  * - illegal shadowing
  * - illegal methods overriding
  * - existence and uniqueness of "main" method
+ * the errors found are recorded (see SemanticErrors) and the build goes on, so all the errors are found
+ * in one pass: a symbol whose type is undefined gets the error type (see ErrorType), and a symbol
+ * that is previously defined keeps its first definition
+ * only errors in the classes definitions (a class defined twice, an undefined super class) stop the build,
+ * as the class symbol tables cannot be built
  */
 public class SymbolTableBuilder implements IC.AST.Visitor{
 	private String icFileName;
 	private boolean hasMain = false;
+	private SemanticErrors errors;
 	
 	/**
 	 * constructor
 	 * @param icFileName
+	 * @param errors: the list to record the semantic errors in
 	 */
-	public SymbolTableBuilder(String icFilePath){
+	public SymbolTableBuilder(String icFilePath, SemanticErrors errors){
 		String[] path = icFilePath.split("\\\\");
 		this.icFileName = path[path.length-1];
+		this.errors = errors;
 		TypeTable.initTypeTable(icFileName);
 	}
 	
@@ -53,6 +61,23 @@ public class SymbolTableBuilder implements IC.AST.Visitor{
 		return true;
 	}
 	
+	/**
+	 * returns the type of the given type node, or the error type if it is undefined
+	 * @param type
+	 * @param line: the line to report an undefined type in, or -1 if the error is reported elsewhere
+	 */
+	private IC.TypeTable.Type resolveType(IC.AST.Type type, int line){
+		try{
+			return TypeTable.getType(type.getFullName());
+		} catch (SemanticError se){
+			if (line >= 0){
+				se.setLine(line);
+				errors.add(se);
+			}
+			return TypeTable.getErrorType();
+		}
+	}
+	
 	
 	/**
 	 * Program visitor:
@@ -61,43 +86,48 @@ public class SymbolTableBuilder implements IC.AST.Visitor{
 	 * - recursive calls to class visitor for building ClassSymbolTable
 	 * - adds class symbol tables to global
 	 * Program is the only node with a NULL enclosingScope
-	 * returns GlobalSymbolTable, or null if encountered an error
+	 * returns GlobalSymbolTable, or null if encountered an error in the classes definitions
 	 */
 	public Object visit(Program program){
 		// create a new global symbol table, to be returned at the end of construction
 		GlobalSymbolTable global = new GlobalSymbolTable(icFileName);
 
 		// add classes to global and updates the type table
+		boolean classesErrors = false;
+		// the classes that are not added: a class extending one of them is not reported again
+		Set<String> undefinedClasses = new HashSet<String>();
 		for (ICClass c: program.getClasses()){
+			errors.setFile(c.getSourceFile());
 			try{
 				global.addClass(c);
 			} catch (SemanticError se){
 				// class is previously defined or super class is not defined
+				classesErrors = true;
+				boolean reported = c.hasSuperClass() && undefinedClasses.contains(c.getSuperClassName());
+				if (global.getClass(c.getName()) == null) undefinedClasses.add(c.getName());
+				if (reported) continue;
 				se.setLine(c.getLine());
-				System.err.println(se);
-				return null; // run will be killed in the compiler in this case
+				errors.add(se);
 			}
 		}
+		if (classesErrors) return null; // run will be killed in the compiler in this case
 		
 		// recursive class symbol tables build
 		for (ICClass c: program.getClasses()){
 			// set enclosing scope
 			c.setEnclosingScope(global);
 			ClassSymbolTable cst = (ClassSymbolTable) c.accept(this);
-			if (cst == null) return null; // If anywhere in the recursion an error has been encountered, the run will terminate.
-			else {
-				if(c.hasSuperClass()){
-					global.getClassSymbolTableRec(c.getSuperClassName()).addClassSymbolTable(cst);
-				} else {
-					global.addClassSymbolTable(cst);
-				}
+			if(c.hasSuperClass()){
+				global.getClassSymbolTableRec(c.getSuperClassName()).addClassSymbolTable(cst);
+			} else {
+				global.addClassSymbolTable(cst);
 			}
 		}
 		
 		// check if has main method
+		errors.setFile(null);
 		if (!hasMain){
-			System.err.println(new SemanticError("Program has no main method",0,""));
-			return null;
+			errors.add(new SemanticError("Program has no main method",0,""));
 		}
 		return global;
 	}
@@ -109,11 +139,12 @@ public class SymbolTableBuilder implements IC.AST.Visitor{
 	 * - adds fields and methods to the symbol table, while checking semantic rules
 	 * - recursive calls to method visitor for building MethodSymbolTable
 	 * - adds method symbol tables to this class symbol table
-	 * returns ClassSymbolTable, or null if encountered an error
+	 * returns ClassSymbolTable
 	 */
 	public Object visit(ICClass icClass) {
 		ClassSymbolTable cst;
 		GlobalSymbolTable global = (GlobalSymbolTable) icClass.getEnclosingScope();
+		errors.setFile(icClass.getSourceFile());
 		
 		// create suitable class symbol table
 		if (icClass.hasSuperClass()) {
@@ -132,28 +163,20 @@ public class SymbolTableBuilder implements IC.AST.Visitor{
 			// check if previously defined
 			try{
 				cst.getFieldSymbolRec(f.getName());
-				// if got till here, field is previously defined as field, print error
-				System.err.println(new SemanticError("field is previously defined",f.getLine(),f.getName()));
-				return null;
+				// if got till here, field is previously defined as field, record error
+				errors.add(new SemanticError("field is previously defined",f.getLine(),f.getName()));
 			} catch (SemanticError se){
 				try{
 					cst.getMethodSymbolRec(f.getName());
-					// if got till here, field is previously defined as method, print error
-					System.err.println(new SemanticError("field is previously defined",f.getLine(),f.getName()));
-					return null;
+					// if got till here, field is previously defined as method, record error
+					errors.add(new SemanticError("field is previously defined",f.getLine(),f.getName()));
 				} catch (SemanticError se2){ // field is not previously defined
-					try{
-						cst.addFieldSymbol(f.getName(), f.getType().getFullName());
-					} catch (SemanticError se3){
-						// the field's type is undefined
-						se3.setLine(f.getLine());
-						System.err.println(se3);
-						return null;
-					}
+					// an undefined field's type is recorded, and the field gets the error type
+					cst.addFieldSymbol(f.getName(), resolveType(f.getType(), f.getLine()));
 				}
 			}
 			// recursively call visitor
-			if (f.accept(this) == null) return null;
+			f.accept(this);
 		}
 		
 		// methods:
@@ -161,26 +184,22 @@ public class SymbolTableBuilder implements IC.AST.Visitor{
 			// set enclosing scope
 			m.setEnclosingScope(cst);
 			// create MethodSymbol
-			MethodSymbol ms;
-			try{
-				ms = new MethodSymbol(m);
-				// check if this method is "main" and check uniqueness
-				if (isMainMethod(ms, m)){
-					if (hasMain){
-						// already have "main" method, throw error
-						System.err.println(new SemanticError("Program already has main method",
-								m.getLine(),
-								ms.getName()));
-						return null;
-					} else {
-						hasMain = true;
-					}
+			// undefined parameters and return types are recorded, and replaced by the error type
+			List<IC.TypeTable.Type> paramTypes = new ArrayList<IC.TypeTable.Type>();
+			for (Formal f: m.getFormals()){
+				paramTypes.add(resolveType(f.getType(), m.getLine()));
+			}
+			MethodSymbol ms = new MethodSymbol(m.getName(), resolveType(m.getType(), m.getLine()), paramTypes, m.isStatic());
+			// check if this method is "main" and check uniqueness
+			if (isMainMethod(ms, m)){
+				if (hasMain){
+					// already have "main" method, record error
+					errors.add(new SemanticError("Program already has main method",
+							m.getLine(),
+							ms.getName()));
+				} else {
+					hasMain = true;
 				}
-			} catch (SemanticError se){
-				// semantic error while creating the method symbol (some semantic type error)
-				se.setLine(m.getLine());
-				System.err.println(se);
-				return null;
 			}
 			
 			// check if previously defined as field or method
@@ -188,25 +207,22 @@ public class SymbolTableBuilder implements IC.AST.Visitor{
 			// a different signature (including if it's static or not), error. else, add a new MethodSymbol to the Symbol Table.
 			try{
 				cst.getFieldSymbolRec(m.getName());
-				// if got here, method is previously defined as field, print error
-				System.err.println(new SemanticError("method is previously defined",m.getLine(),m.getName()));
-				return null;
+				// if got here, method is previously defined as field, record error
+				errors.add(new SemanticError("method is previously defined",m.getLine(),m.getName()));
 			} catch (SemanticError e){ // e will not be handled
 				try{
 					cst.getMethodSymbol(m.getName());
-					// if got here, method is previously defined in this class, print error
-					System.err.println(new SemanticError("method is previously defined",m.getLine(),m.getName()));
-					return null;
+					// if got here, method is previously defined in this class, record error
+					errors.add(new SemanticError("method is previously defined",m.getLine(),m.getName()));
 				} catch (SemanticError e2){ // e2 will not be handled
 					try{
 						MethodSymbol prevMS = cst.getMethodSymbolRec(m.getName());
 						if (!prevMS.getType().equals(ms.getType()) || (prevMS.isStatic() != ms.isStatic())){
-							// if got here, method is previously defined in super-class with a different signature, print error
-							System.err.println(new SemanticError(
+							// if got here, method is previously defined in super-class with a different signature, record error
+							errors.add(new SemanticError(
 									"method is previously defined, overloading not allowed",
 									m.getLine(),
 									m.getName()));
-							return null;
 						} else { // overriding method
 							cst.addMethodSymbol(m.getName(), ms);
 						}
@@ -221,8 +237,8 @@ public class SymbolTableBuilder implements IC.AST.Visitor{
 		// recursive method symbol table build
 		for (Method m: icClass.getMethods()){
 			MethodSymbolTable mst = (MethodSymbolTable) m.accept(this);
-			if (mst == null) return null;
-			else cst.addMethodSymbolTable(mst);
+			// a previously defined method keeps the symbol table of its first definition
+			if (cst.getMethodSymbolTable(m.getName()) == null) cst.addMethodSymbolTable(mst);
 		}
 		
 		return cst;
@@ -234,7 +250,7 @@ public class SymbolTableBuilder implements IC.AST.Visitor{
 	 * - adds returned type symbol and parameters symbols to the symbol table, while checking semantic rules 
 	 * - recursive calls to all other statements, in which local variables and block symbol tables will be
 	 *   added to this method's symbol table
-	 * returns MethodSymbolTable, or null if encountered an error
+	 * returns MethodSymbolTable
 	 */
 	public MethodSymbolTable methodVisit(Method method){
 		// create method symbol table
@@ -243,15 +259,9 @@ public class SymbolTableBuilder implements IC.AST.Visitor{
 		
 		// add return type symbol
 		// set enclosing scope for return type
+		// (an undefined return type or parameter type is recorded with the method symbol, see the class visitor)
 		method.getType().setEnclosingScope(mst);
-		try{
-			mst.setReturnVarSymbol(method.getType().getFullName());
-		} catch (SemanticError se){
-			// semantic error while creating the return type symbol (some semantic type error)
-			se.setLine(method.getLine());
-			System.err.println(se);
-			return null;
-		}
+		mst.setReturnVarSymbol(resolveType(method.getType(), -1));
 		
 		// fill method symbol table with parameters (formals)
 		for (Formal f: method.getFormals()){
@@ -260,30 +270,22 @@ public class SymbolTableBuilder implements IC.AST.Visitor{
 			try{
 				mst.getVarParamSymbol(f.getName());
 				// if got here, parameter is previously defined in this method
-				System.err.println(new SemanticError("parameter is previously defined in method "+method.getName(),
+				errors.add(new SemanticError("parameter is previously defined in method "+method.getName(),
 						f.getLine(),
 						f.getName()));
-				return null;
 			} catch (SemanticError e){ // e will not be handled
 				// parameter is undefined, insert its symbol to this method symbol table
-				try{
-					mst.addParamSymbol(f.getName(), f.getType().getFullName());
-				} catch (SemanticError se){
-					// semantic error while creating the parameter type symbol (some semantic type error)
-					se.setLine(f.getLine());
-					System.err.println(se);
-					return null;
-				}
+				mst.addParamSymbol(f.getName(), resolveType(f.getType(), -1));
 			}
 			// recursive call to visitor
-			if (f.accept(this) == null) return null;
+			f.accept(this);
 		}
 		
 		// recursive call to visitor
 		for (Statement s: method.getStatements()){
 			// set enclosing scope
 			s.setEnclosingScope(mst);
-			if (s.accept(this) == null) return null; 
+			s.accept(this);
 		}
 
 		return mst;
@@ -294,9 +296,7 @@ public class SymbolTableBuilder implements IC.AST.Visitor{
 	 * StaticMethod visitor: see methodVisit documentation
 	 */
 	public Object visit(StaticMethod method) {
-		MethodSymbolTable mst = methodVisit(method);
-		if (mst == null) return null;
-		else return mst;
+		return methodVisit(method);
 	}
 	
 	
@@ -304,9 +304,7 @@ public class SymbolTableBuilder implements IC.AST.Visitor{
 	 * VirtualMethod visitor: see methodVisit documentation
 	 */
 	public Object visit(VirtualMethod method) {
-		MethodSymbolTable mst = methodVisit(method);
-		if (mst == null) return null;
-		else return mst;
+		return methodVisit(method);
 	}
 	
 	
@@ -314,9 +312,7 @@ public class SymbolTableBuilder implements IC.AST.Visitor{
 	 * LibraryMethod visitor: see methodVisit documentation
 	 */
 	public Object visit(LibraryMethod method) {
-		MethodSymbolTable mst = methodVisit(method);
-		if (mst == null) return null;
-		else return mst;
+		return methodVisit(method);
 	}
 	
 	
@@ -326,7 +322,7 @@ public class SymbolTableBuilder implements IC.AST.Visitor{
 	 * - updates its father (method / block) to include this block symbol table in its bst list
 	 * - recursive calls to all statements in this block, in which local variables will be added
 	 *   to this block symbol table 
-	 * returns BlockSymbolTable, or null if encountered an error
+	 * returns BlockSymbolTable
 	 */
 	public Object visit(StatementsBlock statementsBlock) {
 		BlockSymbolTable bst = new BlockSymbolTable(statementsBlock.getEnclosingScope());
@@ -337,7 +333,7 @@ public class SymbolTableBuilder implements IC.AST.Visitor{
 		for (Statement s: statementsBlock.getStatements()){
 			// set enclosing scope
 			s.setEnclosingScope(bst);
-			if (s.accept(this) == null) return null;
+			s.accept(this);
 		}
 		
 		// add this block symbol table to its father's (method/block symbol table) bst list
@@ -351,36 +347,29 @@ public class SymbolTableBuilder implements IC.AST.Visitor{
 	 * LocalVariable visitor:
 	 * - creates symbol for this local variable and updates its father's symbol table (method / block)
 	 * - updates enclosing scope for initValue and type, and calls their visitors recursively
-	 * returns true, or null if encountered an error
+	 * returns true
 	 */
 	public Object visit(LocalVariable localVariable) {
 		BlockSymbolTable bst = (BlockSymbolTable)localVariable.getEnclosingScope();
 		try{
 			bst.getVarSymbol(localVariable.getName());
 			// if got here, local variable is previously defined in this method / block
-			System.err.println(new SemanticError("variable is previously defined",
+			errors.add(new SemanticError("variable is previously defined",
 					localVariable.getLine(),
 					localVariable.getName()));
-			return null;
 		} catch (SemanticError e){ // e will not be handled
 			// local variable is undefined, insert its symbol to block/method symbol table
-			try{
-				bst.addVarSymbol(localVariable.getName(), localVariable.getType().getFullName());
-			} catch (SemanticError se){
-				// semantic error while creating the local variable type symbol (some semantic type error)
-				se.setLine(localVariable.getLine());
-				System.err.println(se);
-				return null;
-			}
+			// (an undefined type is recorded, and the variable gets the error type)
+			bst.addVarSymbol(localVariable.getName(), resolveType(localVariable.getType(), localVariable.getLine()));
 		}
 		// recursive call to visitor
 		if (localVariable.hasInitValue()){
 			localVariable.getInitValue().setEnclosingScope(localVariable.getEnclosingScope());
-			if (localVariable.getInitValue().accept(this) == null) return null;
+			localVariable.getInitValue().accept(this);
 		}
 		
 		localVariable.getType().setEnclosingScope(localVariable.getEnclosingScope());
-		if (localVariable.getType().accept(this) == null) return null;
+		localVariable.getType().accept(this);
 		
 		return true;
 	}
@@ -389,15 +378,15 @@ public class SymbolTableBuilder implements IC.AST.Visitor{
 	/**
 	 * Assignment visitor:
 	 *  - updates enclosing scope for location and value, and calls their visitors recursively
-	 *  returns true, or null if encountered an error
+	 *  returns true
 	 */
 	public Object visit(Assignment assignment) {
 		// recursive call to visitor
 		assignment.getVariable().setEnclosingScope(assignment.getEnclosingScope());
-		if (assignment.getVariable().accept(this) == null) return null;
+		assignment.getVariable().accept(this);
 		
 		assignment.getAssignment().setEnclosingScope(assignment.getEnclosingScope());
-		if (assignment.getAssignment().accept(this) == null) return null;
+		assignment.getAssignment().accept(this);
 		
 		return true;
 	}
@@ -414,11 +403,11 @@ public class SymbolTableBuilder implements IC.AST.Visitor{
 	/**
 	 * CallStatement visitor:
 	 * - updates enclosing scope for call, and calls its visitor recursively
-	 * returns true, or null if encountered an error
+	 * returns true
 	 */
 	public Object visit(CallStatement callStatement) {
 		callStatement.getCall().setEnclosingScope(callStatement.getEnclosingScope());
-		if (callStatement.getCall().accept(this) == null) return null;
+		callStatement.getCall().accept(this);
 		
 		return true;
 	}
@@ -436,11 +425,11 @@ public class SymbolTableBuilder implements IC.AST.Visitor{
 	 * If visitor:
 	 * - updates enclosing scope for condition, operation and else-operation, and calls their visitors recursively
 	 * - if operation or else-operation are a LocalVariable statement, creates new block symbol table (for each)
-	 * returns true, or null if encountered an error
+	 * returns true
 	 */
 	public Object visit(If ifStatement) {
 		ifStatement.getCondition().setEnclosingScope(ifStatement.getEnclosingScope());
-		if (ifStatement.getCondition().accept(this) == null) return null;
+		ifStatement.getCondition().accept(this);
 		
 		// in case of a LocalVariable statement, create new BlockSymbolTable
 		Statement operation = ifStatement.getOperation();
@@ -449,7 +438,7 @@ public class SymbolTableBuilder implements IC.AST.Visitor{
 			((BlockSymbolTable)ifStatement.getEnclosingScope()).addBlockSymbolTable(bst);
 			operation.setEnclosingScope(bst);	
 		} else operation.setEnclosingScope(ifStatement.getEnclosingScope());
-		if (operation.accept(this) == null) return null;
+		operation.accept(this);
 		
 		if (ifStatement.hasElse()){
 			// in case of a LocalVariable statement, create new BlockSymbolTable
@@ -459,7 +448,7 @@ public class SymbolTableBuilder implements IC.AST.Visitor{
 				((BlockSymbolTable)ifStatement.getEnclosingScope()).addBlockSymbolTable(bst);
 				elseOperation.setEnclosingScope(bst);	
 			} else elseOperation.setEnclosingScope(ifStatement.getEnclosingScope());
-			if (elseOperation.accept(this) == null) return null;
+			elseOperation.accept(this);
 		}
 		
 		return true;
@@ -469,12 +458,12 @@ public class SymbolTableBuilder implements IC.AST.Visitor{
 	/**
 	 * Return visitor:
 	 * - updates enclosing scope for value, and calls its visitor recursively
-	 * returns true, or null if encountered an error
+	 * returns true
 	 */
 	public Object visit(Return returnStatement) {
 		if (returnStatement.hasValue()){
 			returnStatement.getValue().setEnclosingScope(returnStatement.getEnclosingScope());
-			if (returnStatement.getValue().accept(this) == null) return null;
+			returnStatement.getValue().accept(this);
 		}
 		
 		return true;
@@ -485,11 +474,11 @@ public class SymbolTableBuilder implements IC.AST.Visitor{
 	 * While visitor:
 	 * - updates enclosing scope for condition and operation, and calls their visitors recursively
 	 * - if operation is a LocalVariable statement, creates new block symbol table
-	 * returns true, or null if encountered an error
+	 * returns true
 	 */
 	public Object visit(While whileStatement) {
 		whileStatement.getCondition().setEnclosingScope(whileStatement.getEnclosingScope());
-		if (whileStatement.getCondition().accept(this) == null) return null;
+		whileStatement.getCondition().accept(this);
 		
 		// in case of a LocalVariable statement, create new BlockSymbolTable
 		Statement operation = whileStatement.getOperation();
@@ -498,7 +487,7 @@ public class SymbolTableBuilder implements IC.AST.Visitor{
 			((BlockSymbolTable)whileStatement.getEnclosingScope()).addBlockSymbolTable(bst);
 			operation.setEnclosingScope(bst);	
 		} else operation.setEnclosingScope(whileStatement.getEnclosingScope());
-		if (operation.accept(this) == null) return null;
+		operation.accept(this);
 		
 		return true;
 	}
@@ -507,14 +496,14 @@ public class SymbolTableBuilder implements IC.AST.Visitor{
 	/**
 	 * ArrayLocation visitor:
 	 * - updates enclosing scope for array and index, and calls their visitors recursively
-	 * returns true, or null if encountered an error
+	 * returns true
 	 */
 	public Object visit(ArrayLocation location) {
 		location.getArray().setEnclosingScope(location.getEnclosingScope());
-		if (location.getArray().accept(this) == null) return null;
+		location.getArray().accept(this);
 		
 		location.getIndex().setEnclosingScope(location.getEnclosingScope());
-		if (location.getIndex().accept(this) == null) return null;
+		location.getIndex().accept(this);
 		
 		return true;
 	}
@@ -523,11 +512,11 @@ public class SymbolTableBuilder implements IC.AST.Visitor{
 	/**
 	 * ExpressionBlock visitor:
 	 * - updates enclosing scope for expression, and calls its visitor recursively
-	 * returns true, or null if encountered an error
+	 * returns true
 	 */
 	public Object visit(ExpressionBlock expressionBlock) {
 		expressionBlock.getExpression().setEnclosingScope(expressionBlock.getEnclosingScope());
-		if (expressionBlock.getExpression().accept(this) == null) return null;
+		expressionBlock.getExpression().accept(this);
 		
 		return true;
 	}
@@ -537,11 +526,11 @@ public class SymbolTableBuilder implements IC.AST.Visitor{
 	 * Field visitor:
 	 * - updates enclosing scope for type, and calls its visitor recursively
 	 * adding field to class symbol table is handled in the class's visitor
-	 * returns true, or null if encountered an error
+	 * returns true
 	 */
 	public Object visit(Field field) {
 		field.getType().setEnclosingScope(field.getEnclosingScope());
-		if (field.getType().accept(this) == null) return null;
+		field.getType().accept(this);
 		
 		return true;
 	}
@@ -551,11 +540,11 @@ public class SymbolTableBuilder implements IC.AST.Visitor{
 	 * Formal visitor:
 	 * - updates enclosing scope for type, and calls its visitor recursively
 	 * adding formal (parameter) to method symbol table is handled in the method's visitor
-	 * returns true, or null if encountered an error
+	 * returns true
 	 */
 	public Object visit(Formal formal) {
 		formal.getType().setEnclosingScope(formal.getEnclosingScope());
-		if (formal.getType().accept(this) == null) return null;
+		formal.getType().accept(this);
 		
 		return true;
 	}
@@ -564,11 +553,11 @@ public class SymbolTableBuilder implements IC.AST.Visitor{
 	/**
 	 * Length visitor:
 	 * - updates enclosing scope for array, and calls its visitor recursively
-	 * returns true, or null if encountered an error
+	 * returns true
 	 */
 	public Object visit(Length length) {
 		length.getArray().setEnclosingScope(length.getEnclosingScope());
-		if (length.getArray().accept(this) == null) return null;
+		length.getArray().accept(this);
 		
 		return true;
 	}
@@ -585,14 +574,14 @@ public class SymbolTableBuilder implements IC.AST.Visitor{
 	 * BinaryOp visit helper:
 	 * - updates enclosing scope for operand1 and operand2, and calls their visitors recursively
 	 * used for LogicalBinaryOp and MathBinaryOp
-	 * returns true, or null if encountered an error
+	 * returns true
 	 */
 	public Object binaryOpVisit(BinaryOp binaryOp){
 		binaryOp.getFirstOperand().setEnclosingScope(binaryOp.getEnclosingScope());
-		if (binaryOp.getFirstOperand().accept(this) == null) return null;
+		binaryOp.getFirstOperand().accept(this);
 		
 		binaryOp.getSecondOperand().setEnclosingScope(binaryOp.getEnclosingScope());
-		if (binaryOp.getSecondOperand().accept(this) == null) return null;
+		binaryOp.getSecondOperand().accept(this);
 		
 		return true;
 	}
@@ -617,11 +606,11 @@ public class SymbolTableBuilder implements IC.AST.Visitor{
 	 * UnaryOp visit helper:
 	 * - updates enclosing scope for operand, and calls its visitor recursively
 	 * used for LogicalUnaryOp and MathUnaryOp
-	 * returns true, or null if encountered an error
+	 * returns true
 	 */
 	public Object unaryOpVisit(UnaryOp unaryOp){
 		unaryOp.getOperand().setEnclosingScope(unaryOp.getEnclosingScope());
-		if (unaryOp.getOperand().accept(this) == null) return null;
+		unaryOp.getOperand().accept(this);
 		
 		return true;
 	}
@@ -646,14 +635,14 @@ public class SymbolTableBuilder implements IC.AST.Visitor{
 	/**
 	 * NewArray visitor:
 	 * - updates enclosing scope for type and size, and calls their visitors recursively
-	 * returns true, or null if encountered an error
+	 * returns true
 	 */
 	public Object visit(NewArray newArray) {
 		newArray.getType().setEnclosingScope(newArray.getEnclosingScope());
-		if (newArray.getType().accept(this) == null) return null;
+		newArray.getType().accept(this);
 		
 		newArray.getSize().setEnclosingScope(newArray.getEnclosingScope());
-		if (newArray.getSize().accept(this) == null) return null;
+		newArray.getSize().accept(this);
 		
 		return true;
 	}
@@ -694,19 +683,18 @@ public class SymbolTableBuilder implements IC.AST.Visitor{
 	/**
 	 * VariableLocation visitor:
 	 * - updates enclosing scope for location, and calls its visitor recursively
-	 * returns true, or null if encountered an error
+	 * returns true
 	 */
 	public Object visit(VariableLocation location) {
 		if (location.isExternal()){ // field location is not null
 			location.getLocation().setEnclosingScope(location.getEnclosingScope());
-			if (location.getLocation().accept(this) == null) return null;
+			location.getLocation().accept(this);
 		}else try{
 			// check that the location is a previously defined variable
 			((BlockSymbolTable) location.getEnclosingScope()).getVarSymbolRec(location.getName());
 		} catch (SemanticError se){
 			se.setLine(location.getLine());
-			System.err.println(se);
-			return null;
+			errors.add(se);
 		}
 		
 		return true;
@@ -716,12 +704,12 @@ public class SymbolTableBuilder implements IC.AST.Visitor{
 	/**
 	 * StaticCall visitor:
 	 * - updates enclosing scope for arguments, and calls their visitors recursively
-	 * returns true, or null if encountered an error
+	 * returns true
 	 */
 	public Object visit(StaticCall call) {
 		for (Expression e: call.getArguments()){
 			e.setEnclosingScope(call.getEnclosingScope());
-			if (e.accept(this) == null) return null;
+			e.accept(this);
 		}
 		
 		return true;
@@ -731,17 +719,17 @@ public class SymbolTableBuilder implements IC.AST.Visitor{
 	/**
 	 * VirtualCall visitor:
 	 * - updates enclosing scope for location and arguments, and calls their visitors recursively
-	 * returns true, or null if encountered an error
+	 * returns true
 	 */
 	public Object visit(VirtualCall call) {
 		if (call.isExternal()) { // field location is not null
 			call.getLocation().setEnclosingScope(call.getEnclosingScope());
-			if (call.getLocation().accept(this) == null) return null;
+			call.getLocation().accept(this);
 		}
 		
 		for (Expression e: call.getArguments()){
 			e.setEnclosingScope(call.getEnclosingScope());
-			if (e.accept(this) == null) return null;
+			e.accept(this);
 		}
 		
 		return true;
@@ -0,0 +1,60 @@
+package IC.X86;
+
+import java.io.*;
+
+/**
+ * Builds a native executable from the x86-64 (or C) translation of an IC program:
+ * assembles (or compiles) and links it with the runtime (the C source in X86Runtime)
+ * using the system's gcc
+ */
+public class X86Linker {
+
+	// the C compiler driver, used to assemble / compile and link
+	private static final String compiler = "gcc";
+
+	/**
+	 * assembles / compiles the given assembly or C file and links it with the runtime into an executable
+	 * @param sourceFileName
+	 * @param exeFileName
+	 * @return true iff the executable was built
+	 */
+	public static boolean link(String sourceFileName, String exeFileName){
+		File runtimeFile = null;
+		try {
+			runtimeFile = writeRuntime();
+			Process gcc = new ProcessBuilder(compiler, "-O2", "-o", exeFileName,
+					sourceFileName, runtimeFile.getPath()).redirectErrorStream(true).start();
+
+			// forward the compiler's messages
+			BufferedReader output = new BufferedReader(new InputStreamReader(gcc.getInputStream()));
+			String line;
+			while ((line = output.readLine()) != null){
+				System.err.println(line);
+			}
+			return gcc.waitFor() == 0;
+		} catch (IOException e) {
+			System.err.println(e.getMessage());
+			return false;
+		} catch (InterruptedException e) {
+			return false;
+		} finally {
+			if (runtimeFile != null) runtimeFile.delete();
+		}
+	}
+
+	/**
+	 * writes the runtime source into a temporary file
+	 * @return the temporary file
+	 * @throws IOException
+	 */
+	private static File writeRuntime() throws IOException {
+		File runtimeFile = File.createTempFile("ic_runtime", ".c");
+		Writer out = new FileWriter(runtimeFile);
+		try {
+			out.write(X86Runtime.source);
+		} finally {
+			out.close();
+		}
+		return runtimeFile;
+	}
+}
@@ -0,0 +1,186 @@
+package IC.X86;
+
+/**
+ * The runtime linked with every native executable (see X86Linker), as C source:
+ * kept in a class so it is compiled into the class directory with the rest of the compiler
+ * (a plain resource file is not copied there by javac)
+ */
+class X86Runtime {
+
+	static final String source =
+		"/*\n" +
+		" * Runtime support for IC programs compiled to x86-64 by IC.X86.X86Translator\n" +
+		" *\n" +
+		" * data representation (all values are 8 byte words):\n" +
+		" * - object: pointer to [dispatch vector, field1, field2, ...]\n" +
+		" * - array:  pointer to [elem0, elem1, ...], the length is kept in the word before elem0\n" +
+		" * - string: pointer to [length, chars...] (not null terminated)\n" +
+		" * sizes passed to __allocateObject / __allocateArray are LIR sizes (4 bytes per word)\n" +
+		" *\n" +
+		" * the generated code calls the library functions with the System V calling convention,\n" +
+		" * and provides __ic_start(args) which calls the program's main method\n" +
+		" */\n" +
+		"#include <stdio.h>\n" +
+		"#include <stdlib.h>\n" +
+		"#include <string.h>\n" +
+		"#include <sys/time.h>\n" +
+		"\n" +
+		"typedef long word;\n" +
+		"\n" +
+		"typedef struct {\n" +
+		"\tword length;\n" +
+		"\tchar chars[];\n" +
+		"} ic_string;\n" +
+		"\n" +
+		"extern void __ic_start(word *args);\n" +
+		"\n" +
+		"static struct timeval ic_start_time;\n" +
+		"\n" +
+		"/* allocation */\n" +
+		"\n" +
+		"static void *ic_alloc(word bytes) {\n" +
+		"\tvoid *p = calloc(1, bytes);\n" +
+		"\tif (p == NULL) {\n" +
+		"\t\tfprintf(stderr, \"Runtime Error: Out of memory!\\n\");\n" +
+		"\t\texit(1);\n" +
+		"\t}\n" +
+		"\treturn p;\n" +
+		"}\n" +
+		"\n" +
+		"static word *ic_new_array(word length) {\n" +
+		"\tword *block = ic_alloc((length + 1) * sizeof(word));\n" +
+		"\tblock[0] = length;\n" +
+		"\treturn block + 1;\n" +
+		"}\n" +
+		"\n" +
+		"static ic_string *ic_new_string(const char *chars, word length) {\n" +
+		"\tic_string *s = ic_alloc(sizeof(ic_string) + length + 1);\n" +
+		"\ts->length = length;\n" +
+		"\tmemcpy(s->chars, chars, length);\n" +
+		"\treturn s;\n" +
+		"}\n" +
+		"\n" +
+		"void *__allocateObject(word lirBytes) {\n" +
+		"\treturn ic_alloc((lirBytes / 4) * sizeof(word));\n" +
+		"}\n" +
+		"\n" +
+		"word *__allocateArray(word lirBytes) {\n" +
+		"\treturn ic_new_array(lirBytes / 4);\n" +
+		"}\n" +
+		"\n" +
+		"ic_string *__stringCat(ic_string *a, ic_string *b) {\n" +
+		"\tic_string *s = ic_alloc(sizeof(ic_string) + a->length + b->length + 1);\n" +
+		"\ts->length = a->length + b->length;\n" +
+		"\tmemcpy(s->chars, a->chars, a->length);\n" +
+		"\tmemcpy(s->chars + a->length, b->chars, b->length);\n" +
+		"\treturn s;\n" +
+		"}\n" +
+		"\n" +
+		"/* Library class */\n" +
+		"\n" +
+		"void __print(ic_string *s) {\n" +
+		"\tfwrite(s->chars, 1, s->length, stdout);\n" +
+		"}\n" +
+		"\n" +
+		"void __println(ic_string *s) {\n" +
+		"\t__print(s);\n" +
+		"\tputchar('\\n');\n" +
+		"}\n" +
+		"\n" +
+		"void __printi(word i) {\n" +
+		"\tprintf(\"%d\", (int) i);\n" +
+		"}\n" +
+		"\n" +
+		"void __printb(word b) {\n" +
+		"\tfputs(b ? \"true\" : \"false\", stdout);\n" +
+		"}\n" +
+		"\n" +
+		"word __readi(void) {\n" +
+		"\tint i = 0;\n" +
+		"\tfflush(stdout);\n" +
+		"\tif (scanf(\"%d\", &i) != 1) return 0;\n" +
+		"\treturn i;\n" +
+		"}\n" +
+		"\n" +
+		"ic_string *__readln(void) {\n" +
+		"\tword capacity = 64, length = 0;\n" +
+		"\tchar *buffer = ic_alloc(capacity);\n" +
+		"\tint c;\n" +
+		"\tfflush(stdout);\n" +
+		"\twhile ((c = getchar()) != EOF && c != '\\n') {\n" +
+		"\t\tif (length == capacity) {\n" +
+		"\t\t\tcapacity *= 2;\n" +
+		"\t\t\tbuffer = realloc(buffer, capacity);\n" +
+		"\t\t}\n" +
+		"\t\tbuffer[length++] = (char) c;\n" +
+		"\t}\n" +
+		"\tic_string *s = ic_new_string(buffer, length);\n" +
+		"\tfree(buffer);\n" +
+		"\treturn s;\n" +
+		"}\n" +
+		"\n" +
+		"word __eof(void) {\n" +
+		"\tint c = getchar();\n" +
+		"\tif (c == EOF) return 1;\n" +
+		"\tungetc(c, stdin);\n" +
+		"\treturn 0;\n" +
+		"}\n" +
+		"\n" +
+		"word __stoi(ic_string *s, word n) {\n" +
+		"\tchar *chars = ic_alloc(s->length + 1);\n" +
+		"\tchar *end;\n" +
+		"\tmemcpy(chars, s->chars, s->length);\n" +
+		"\tlong value = strtol(chars, &end, 10);\n" +
+		"\tword ok = s->length > 0 && *end == '\\0';\n" +
+		"\tfree(chars);\n" +
+		"\treturn ok ? (int) value : n;\n" +
+		"}\n" +
+		"\n" +
+		"ic_string *__itos(word i) {\n" +
+		"\tchar buffer[16];\n" +
+		"\tint length = sprintf(buffer, \"%d\", (int) i);\n" +
+		"\treturn ic_new_string(buffer, length);\n" +
+		"}\n" +
+		"\n" +
+		"word *__stoa(ic_string *s) {\n" +
+		"\tword *array = ic_new_array(s->length);\n" +
+		"\tfor (word i = 0; i < s->length; i++) array[i] = (unsigned char) s->chars[i];\n" +
+		"\treturn array;\n" +
+		"}\n" +
+		"\n" +
+		"ic_string *__atos(word *array) {\n" +
+		"\tword length = array[-1];\n" +
+		"\tic_string *s = ic_alloc(sizeof(ic_string) + length + 1);\n" +
+		"\ts->length = length;\n" +
+		"\tfor (word i = 0; i < length; i++) s->chars[i] = (char) array[i];\n" +
+		"\treturn s;\n" +
+		"}\n" +
+		"\n" +
+		"word __random(word n) {\n" +
+		"\treturn n > 0 ? rand() % n : 0;\n" +
+		"}\n" +
+		"\n" +
+		"word __time(void) {\n" +
+		"\tstruct timeval now;\n" +
+		"\tgettimeofday(&now, NULL);\n" +
+		"\treturn (now.tv_sec - ic_start_time.tv_sec) * 1000 + (now.tv_usec - ic_start_time.tv_usec) / 1000;\n" +
+		"}\n" +
+		"\n" +
+		"void __exit(word n) {\n" +
+		"\tfflush(stdout);\n" +
+		"\texit((int) n);\n" +
+		"}\n" +
+		"\n" +
+		"/* entry point: pass the command line arguments to main as a string array */\n" +
+		"\n" +
+		"int main(int argc, char **argv) {\n" +
+		"\tgettimeofday(&ic_start_time, NULL);\n" +
+		"\tword *args = ic_new_array(argc - 1);\n" +
+		"\tfor (int i = 1; i < argc; i++) {\n" +
+		"\t\targs[i - 1] = (word) ic_new_string(argv[i], strlen(argv[i]));\n" +
+		"\t}\n" +
+		"\t__ic_start(args);\n" +
+		"\t__exit(0);\n" +
+		"\treturn 0;\n" +
+		"}\n";
+}
@@ -0,0 +1,546 @@
+package IC.X86;
+
+import java.util.*;
+
+import IC.AST.*;
+import IC.LIR.ReachabilityVisitor;
+import IC.SymbolTable.ClassSymbolTable;
+
+/**
+ * Translator from the LIR translation of an IC program to x86-64 assembly (GNU as, AT&T syntax)
+ * the generated code is linked with the runtime in X86Runtime (see X86Linker)
+ * - every LIR method becomes a function with its own frame,
+ *   all the method's LIR registers and variables are kept in the frame
+ * - arguments are pushed on the stack (last argument first), the this reference of
+ *   a virtual call is pushed last, the returned value is passed in %rax
+ * - Library calls are calls to the runtime with the System V calling convention
+ * - dispatch tables and string literals are placed in the data section
+ * LIR words are 4 bytes and x86-64 words are 8 bytes, so all field offsets and
+ * array indices are scaled to 8 byte words
+ */
+public class X86Translator {
+
+	// formals of every method, by its label (the this reference first for virtual methods)
+	private Map<String,List<String>> methodsFormals;
+
+	// labels of string literals and dispatch tables
+	private Set<String> dataLabels = new HashSet<String>();
+	// labels of all methods (LIR functions)
+	private Set<String> methodLabels = new LinkedHashSet<String>();
+
+	// frame offsets of the variables of the method currently translated
+	private Map<String,Integer> frameOffsets = new HashMap<String,Integer>();
+	// counter for local labels generated by the translation
+	private int labelCounter = 0;
+
+	// label of the program's main method and the end of the program
+	private static final String mainLabel = "_ic_main";
+	private static final String exitLabel = "_error_exit";
+
+	/**
+	 * constructor
+	 * @param methodsFormals: formals of every method by its label (see getMethodsFormals)
+	 */
+	public X86Translator(Map<String,List<String>> methodsFormals){
+		this.methodsFormals = new HashMap<String,List<String>>(methodsFormals);
+	}
+
+	/**
+	 * returns the formals (names as used in the LIR translation) of all the program's methods,
+	 * by the method's LIR label, the this reference is the first formal of virtual methods
+	 * @param program
+	 * @return
+	 */
+	public static Map<String,List<String>> getMethodsFormals(Program program){
+		Map<String,List<String>> formals = new HashMap<String,List<String>>();
+		for (ICClass c: program.getClasses()){
+			if (c.getName().equals("Library")) continue;
+			for (Method m: c.getMethods()){
+				String label = ReachabilityVisitor.isMainMethod(m) ? mainLabel :
+					"_"+((ClassSymbolTable) m.getEnclosingScope()).getMySymbol().getName()+"_"+m.getName();
+				List<String> names = new ArrayList<String>();
+				if (!m.isStatic()) names.add("this");
+				for (Formal f: m.getFormals()){
+					names.add(f.getNameDepth());
+				}
+				formals.put(label, names);
+			}
+		}
+		return formals;
+	}
+
+	/**
+	 * translates the given LIR program to x86-64 assembly
+	 * @param lirCode
+	 * @return
+	 */
+	public String translate(String lirCode){
+		List<String> lines = new ArrayList<String>();
+		for (String line: lirCode.split("\n")){
+			line = line.trim();
+			// skip empty lines and comments
+			if (line.length() == 0 || line.startsWith("#")) continue;
+			lines.add(line);
+		}
+
+		StringBuilder data = new StringBuilder();
+		StringBuilder text = new StringBuilder();
+
+		// data section: string literals and dispatch tables
+		for (String line: lines){
+			if (isStringLiteral(line)){
+				String label = line.substring(0, line.indexOf(':'));
+				dataLabels.add(label);
+				data.append(translateStringLiteral(label, line.substring(line.indexOf('"')+1, line.lastIndexOf('"'))));
+			} else if (isDispatchTable(line)){
+				String label = line.substring(0, line.indexOf(':'));
+				dataLabels.add(label);
+				data.append("\t.p2align 3\n");
+				data.append(label+":\n");
+				for (String method: splitList(line.substring(line.indexOf('[')+1, line.lastIndexOf(']')))){
+					data.append("\t.quad "+method+"\n");
+					methodLabels.add(method);
+				}
+			}
+		}
+
+		// find all methods: dispatch tables entries, static calls targets and main
+		methodLabels.add(mainLabel);
+		for (String line: lines){
+			if (getOpcode(line).equals("StaticCall")){
+				String target = getCallTarget(line);
+				methodLabels.add(target);
+				// formals of methods that are not part of the program (runtime checks) are taken from the call
+				if (!methodsFormals.containsKey(target)){
+					List<String> formals = new ArrayList<String>();
+					for (String arg: getCallArguments(line)){
+						formals.add(arg.substring(0, arg.indexOf('=')));
+					}
+					methodsFormals.put(target, formals);
+				}
+			}
+		}
+
+		// text section: split the code into methods
+		List<String> methodCode = null;
+		String methodLabel = null;
+		for (String line: lines){
+			if (isStringLiteral(line) || isDispatchTable(line)) continue;
+			if (isLabel(line) && methodLabels.contains(getLabel(line))){
+				if (methodLabel != null) text.append(translateMethod(methodLabel, methodCode));
+				methodLabel = getLabel(line);
+				methodCode = new ArrayList<String>();
+			} else if (methodLabel != null){
+				methodCode.add(line);
+			}
+		}
+		if (methodLabel != null) text.append(translateMethod(methodLabel, methodCode));
+
+		String asm = "# x86-64 translation of the IC program\n\n";
+		asm += "\t.data\n";
+		asm += data;
+		asm += "\n\t.text\n";
+		// program entry point, called by the runtime with the arguments array
+		asm += "\t.globl __ic_start\n";
+		asm += "__ic_start:\n";
+		asm += "\tpushq %rbp\n";
+		asm += "\tmovq %rsp, %rbp\n";
+		asm += "\tpushq %rdi\n";
+		asm += "\tcall "+mainLabel+"\n";
+		asm += "\tleave\n";
+		asm += "\tret\n\n";
+		asm += text;
+		asm += "\t.section .note.GNU-stack,\"\",@progbits\n";
+		return asm;
+	}
+
+	/**
+	 * translates the code of a single method
+	 * @param label: the method's label
+	 * @param code: the method's LIR instructions and internal labels
+	 * @return
+	 */
+	private String translateMethod(String label, List<String> code){
+		// formals are above the return address
+		frameOffsets.clear();
+		List<String> formals = methodsFormals.containsKey(label) ? methodsFormals.get(label) : new ArrayList<String>();
+		for (int i = 0; i < formals.size(); i++){
+			frameOffsets.put(formals.get(i), 16 + 8*i);
+		}
+		// all other variables are below the frame pointer
+		int localsCount = 0;
+		for (String line: code){
+			if (isLabel(line)) continue;
+			for (String var: getVariables(line)){
+				if (!frameOffsets.containsKey(var)) frameOffsets.put(var, -8 * (++localsCount));
+			}
+		}
+
+		StringBuilder tr = new StringBuilder();
+		tr.append(label+":\n");
+		tr.append("\tpushq %rbp\n");
+		tr.append("\tmovq %rsp, %rbp\n");
+		if (localsCount > 0){
+			// allocate and clear the variables, keep the stack 16 bytes aligned for runtime calls
+			tr.append("\tsubq $"+(8*localsCount)+", %rsp\n");
+			tr.append("\tmovq %rsp, %rdi\n");
+			tr.append("\tmovl $"+localsCount+", %ecx\n");
+			tr.append("\txorl %eax, %eax\n");
+			tr.append("\trep stosq\n");
+		}
+		tr.append("\tandq $-16, %rsp\n");
+
+		String lastOpcode = "";
+		for (String line: code){
+			if (isLabel(line)){
+				tr.append(getLabel(line)+":\n");
+				if (getLabel(line).equals(exitLabel)){
+					// normal end of the program
+					tr.append("\txorl %edi, %edi\n");
+					tr.append("\tcall __exit\n");
+				}
+				lastOpcode = "";
+			} else {
+				tr.append(translateInstruction(line));
+				lastOpcode = getOpcode(line);
+			}
+		}
+		// method that does not end with a return
+		if (!lastOpcode.equals("Return") && !lastOpcode.equals("Jump")){
+			tr.append("\tleave\n");
+			tr.append("\tret\n");
+		}
+		tr.append("\n");
+		return tr.toString();
+	}
+
+	/**
+	 * translates a single LIR instruction
+	 * @param line
+	 * @return
+	 */
+	private String translateInstruction(String line){
+		String opcode = getOpcode(line);
+		String args = line.substring(opcode.length()).trim();
+		String tr = "";
+
+		if (opcode.equals("Move")){
+			String[] ops = splitOperands(args);
+			tr += load(ops[0], "%rax");
+			tr += store("%rax", ops[1]);
+		} else if (opcode.equals("MoveField")){
+			String[] ops = splitOperands(args);
+			if (ops[0].indexOf('.') > 0){
+				// load field
+				String[] field = ops[0].split("\\.");
+				tr += load(field[0], "%rax");
+				tr += "\tmovq "+(8*Integer.parseInt(field[1]))+"(%rax), %rax\n";
+				tr += store("%rax", ops[1]);
+			} else {
+				// store field
+				String[] field = ops[1].split("\\.");
+				tr += load(ops[0], "%rcx");
+				tr += load(field[0], "%rax");
+				tr += "\tmovq %rcx, "+(8*Integer.parseInt(field[1]))+"(%rax)\n";
+			}
+		} else if (opcode.equals("MoveArray")){
+			String[] ops = splitOperands(args);
+			if (ops[0].indexOf('[') > 0){
+				// load array element
+				tr += loadArrayAddress(ops[0]);
+				tr += "\tmovq (%rax,%rdx,8), %rax\n";
+				tr += store("%rax", ops[1]);
+			} else {
+				// store array element
+				tr += load(ops[0], "%rcx");
+				tr += loadArrayAddress(ops[1]);
+				tr += "\tmovq %rcx, (%rax,%rdx,8)\n";
+			}
+		} else if (opcode.equals("ArrayLength")){
+			String[] ops = splitOperands(args);
+			tr += load(ops[0], "%rax");
+			tr += "\tmovq -8(%rax), %rax\n";
+			tr += store("%rax", ops[1]);
+		} else if (opcode.equals("Add") || opcode.equals("Sub") || opcode.equals("Mul") ||
+				opcode.equals("And") || opcode.equals("Or") || opcode.equals("Xor")){
+			// 32 bit integer operation, the result is kept sign extended
+			String[] ops = splitOperands(args);
+			String inst = opcode.equals("Add") ? "addl" : opcode.equals("Sub") ? "subl" : opcode.equals("Mul") ? "imull" :
+				opcode.equals("And") ? "andl" : opcode.equals("Or") ? "orl" : "xorl";
+			tr += load(ops[1], "%rax");
+			tr += load(ops[0], "%rcx");
+			tr += "\t"+inst+" %ecx, %eax\n";
+			tr += "\tcltq\n";
+			tr += store("%rax", ops[1]);
+		} else if (opcode.equals("Div") || opcode.equals("Mod")){
+			String[] ops = splitOperands(args);
+			String negLabel = ".Ldiv_neg"+labelCounter;
+			String endLabel = ".Ldiv_end"+(labelCounter++);
+			tr += load(ops[1], "%rax");
+			tr += load(ops[0], "%rcx");
+			// division by -1 would overflow for the minimal integer
+			tr += "\tcmpl $-1, %ecx\n";
+			tr += "\tje "+negLabel+"\n";
+			tr += "\tcltd\n";
+			tr += "\tidivl %ecx\n";
+			if (opcode.equals("Mod")) tr += "\tmovl %edx, %eax\n";
+			tr += "\tjmp "+endLabel+"\n";
+			tr += negLabel+":\n";
+			tr += opcode.equals("Div") ? "\tnegl %eax\n" : "\txorl %eax, %eax\n";
+			tr += endLabel+":\n";
+			tr += "\tcltq\n";
+			tr += store("%rax", ops[1]);
+		} else if (opcode.equals("Inc") || opcode.equals("Dec") || opcode.equals("Neg") || opcode.equals("Not")){
+			String inst = opcode.equals("Inc") ? "incl %eax" : opcode.equals("Dec") ? "decl %eax" :
+				opcode.equals("Neg") ? "negl %eax" : "xorl $1, %eax";
+			tr += load(args, "%rax");
+			tr += "\t"+inst+"\n";
+			tr += "\tcltq\n";
+			tr += store("%rax", args);
+		} else if (opcode.equals("Compare")){
+			// flags are set by the second operand minus the first operand
+			String[] ops = splitOperands(args);
+			tr += load(ops[1], "%rax");
+			tr += load(ops[0], "%rcx");
+			tr += "\tcmpq %rcx, %rax\n";
+		} else if (opcode.startsWith("Jump")){
+			if (args.equals(exitLabel)){
+				// runtime error
+				tr += "\tmovl $1, %edi\n";
+				tr += "\tcall __exit\n";
+			} else {
+				String cond = opcode.substring(4);
+				String inst = cond.equals("") ? "jmp" : cond.equals("True") ? "je" : cond.equals("False") ? "jne" :
+					cond.equals("G") ? "jg" : cond.equals("GE") ? "jge" : cond.equals("L") ? "jl" : "jle";
+				tr += "\t"+inst+" "+args+"\n";
+			}
+		} else if (opcode.equals("Library")){
+			String[] argRegs = {"%rdi", "%rsi", "%rdx", "%rcx", "%r8", "%r9"};
+			List<String> callArgs = getCallArguments(line);
+			for (int i = 0; i < callArgs.size(); i++){
+				tr += load(callArgs.get(i), argRegs[i]);
+			}
+			tr += "\tcall "+getCallTarget(line)+"\n";
+			tr += store("%rax", getCallResult(line));
+		} else if (opcode.equals("StaticCall")){
+			String target = getCallTarget(line);
+			// arrange the arguments by the called method's formals
+			Map<String,String> argValues = new HashMap<String,String>();
+			for (String arg: getCallArguments(line)){
+				argValues.put(arg.substring(0, arg.indexOf('=')), arg.substring(arg.indexOf('=')+1));
+			}
+			List<String> formals = methodsFormals.get(target);
+			for (int i = formals.size()-1; i >= 0; i--){
+				tr += load(argValues.containsKey(formals.get(i)) ? argValues.get(formals.get(i)) : "0", "%rax");
+				tr += "\tpushq %rax\n";
+			}
+			tr += "\tcall "+target+"\n";
+			if (formals.size() > 0) tr += "\taddq $"+(8*formals.size())+", %rsp\n";
+			tr += store("%rax", getCallResult(line));
+		} else if (opcode.equals("VirtualCall")){
+			// arguments are given in the order of the method's formals
+			String[] target = getCallTarget(line).split("\\.");
+			List<String> callArgs = getCallArguments(line);
+			for (int i = callArgs.size()-1; i >= 0; i--){
+				String arg = callArgs.get(i);
+				tr += load(arg.substring(arg.indexOf('=')+1), "%rax");
+				tr += "\tpushq %rax\n";
+			}
+			tr += load(target[0], "%rax");
+			tr += "\tpushq %rax\n";
+			tr += "\tmovq (%rax), %rax\n";
+			tr += "\tcall *"+(8*Integer.parseInt(target[1]))+"(%rax)\n";
+			tr += "\taddq $"+(8*(callArgs.size()+1))+", %rsp\n";
+			tr += store("%rax", getCallResult(line));
+		} else if (opcode.equals("Return")){
+			tr += load(args, "%rax");
+			tr += "\tleave\n";
+			tr += "\tret\n";
+		} else {
+			throw new IllegalStateException("X86Translator: unknown LIR instruction: "+line);
+		}
+		return tr;
+	}
+
+	/////////////
+	// helpers //
+	/////////////
+
+	/**
+	 * returns the code for loading an operand (immediate, label or variable) into a register
+	 * @param operand
+	 * @param reg
+	 * @return
+	 */
+	private String load(String operand, String reg){
+		if (isImmediate(operand)) return "\tmovq $"+operand+", "+reg+"\n";
+		if (dataLabels.contains(operand)) return "\tleaq "+operand+"(%rip), "+reg+"\n";
+		return "\tmovq "+frameOffset(operand)+"(%rbp), "+reg+"\n";
+	}
+
+	/**
+	 * returns the code for storing a register into a variable
+	 * @param reg
+	 * @param var
+	 * @return
+	 */
+	private String store(String reg, String var){
+		if (var.equals("Rdummy")) return "";
+		return "\tmovq "+reg+", "+frameOffset(var)+"(%rbp)\n";
+	}
+
+	/**
+	 * returns the frame offset of a variable (formal, local or register) of the current method
+	 * @param var
+	 * @return
+	 */
+	private int frameOffset(String var){
+		Integer offset = frameOffsets.get(var);
+		if (offset == null) throw new IllegalStateException("X86Translator: no frame slot for operand: "+var);
+		return offset;
+	}
+
+	/**
+	 * returns the code for loading an array element operand (array[index])
+	 * into %rax (the array) and %rdx (the index)
+	 * @param operand
+	 * @return
+	 */
+	private String loadArrayAddress(String operand){
+		String array = operand.substring(0, operand.indexOf('['));
+		String index = operand.substring(operand.indexOf('[')+1, operand.lastIndexOf(']'));
+		return load(array, "%rax") + load(index, "%rdx");
+	}
+
+	/**
+	 * returns the variables (LIR registers, locals and formals) used by an instruction
+	 * @param line
+	 * @return
+	 */
+	private List<String> getVariables(String line){
+		List<String> vars = new ArrayList<String>();
+		String opcode = getOpcode(line);
+		List<String> operands = new ArrayList<String>();
+
+		if (opcode.equals("Library") || opcode.equals("StaticCall") || opcode.equals("VirtualCall")){
+			for (String arg: getCallArguments(line)){
+				operands.add(arg.substring(arg.indexOf('=')+1));
+			}
+			if (opcode.equals("VirtualCall")) operands.add(getCallTarget(line));
+			operands.add(getCallResult(line));
+		} else if (!opcode.startsWith("Jump")){
+			operands.addAll(Arrays.asList(splitOperands(line.substring(opcode.length()).trim())));
+		}
+
+		for (String op: operands){
+			// field and array element operands
+			for (String part: op.split("[.\\[\\]]")){
+				if (part.length() == 0 || isImmediate(part) || dataLabels.contains(part) || part.equals("Rdummy")) continue;
+				vars.add(part);
+			}
+		}
+		return vars;
+	}
+
+	/**
+	 * translates a string literal to its runtime representation: the length followed by the characters
+	 * @param label
+	 * @param value: the value as written in the LIR translation
+	 * @return
+	 */
+	private String translateStringLiteral(String label, String value){
+		StringBuilder chars = new StringBuilder();
+		int length = 0;
+		for (int i = 0; i < value.length(); i++){
+			char c = value.charAt(i);
+			if (c == '\\' && i+1 < value.length()){
+				char next = value.charAt(++i);
+				c = (next == 'n') ? '\n' : (next == 't') ? '\t' : next;
+			}
+			if (c >= ' ' && c < 127 && c != '"' && c != '\\'){
+				chars.append(c);
+			} else {
+				chars.append(String.format("\\%03o", (int) c & 0xff));
+			}
+			length++;
+		}
+		return "\t.p2align 3\n" +
+			label+":\n" +
+			"\t.quad "+length+"\n" +
+			"\t.ascii \""+chars+"\"\n";
+	}
+
+	private static boolean isStringLiteral(String line){
+		return line.matches("^\\w+:\\s*\".*\"$");
+	}
+
+	private static boolean isDispatchTable(String line){
+		return line.startsWith("_DV_") && line.endsWith("]");
+	}
+
+	private static boolean isLabel(String line){
+		return line.endsWith(":") && line.indexOf(' ') < 0;
+	}
+
+	private static String getLabel(String line){
+		return line.substring(0, line.length()-1);
+	}
+
+	private static boolean isImmediate(String operand){
+		return operand.matches("-?\\d+");
+	}
+
+	private static String getOpcode(String line){
+		int space = line.indexOf(' ');
+		return (space < 0) ? line : line.substring(0, space);
+	}
+
+	/**
+	 * splits the operands of a simple instruction ("a,b")
+	 * @param args
+	 * @return
+	 */
+	private static String[] splitOperands(String args){
+		return args.split(",");
+	}
+
+	/**
+	 * splits a comma separated list, ignoring empty elements
+	 * @param list
+	 * @return
+	 */
+	private static List<String> splitList(String list){
+		List<String> elements = new ArrayList<String>();
+		for (String s: list.split(",")){
+			if (s.trim().length() > 0) elements.add(s.trim());
+		}
+		return elements;
+	}
+
+	/**
+	 * returns the target of a call instruction ("Call target(args),result")
+	 * @param line
+	 * @return
+	 */
+	private static String getCallTarget(String line){
+		return line.substring(getOpcode(line).length(), line.indexOf('(')).trim();
+	}
+
+	/**
+	 * returns the arguments of a call instruction ("Call target(args),result")
+	 * @param line
+	 * @return
+	 */
+	private static List<String> getCallArguments(String line){
+		return splitList(line.substring(line.indexOf('(')+1, line.lastIndexOf(')')));
+	}
+
+	/**
+	 * returns the result variable of a call instruction ("Call target(args),result")
+	 * @param line
+	 * @return
+	 */
+	private static String getCallResult(String line){
+		return line.substring(line.lastIndexOf(',')+1).trim();
+	}
+}